@@ -0,0 +1,149 @@
+/* * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ *
+ *              C E D A R
+ *          S O L U T I O N S       "Software done right."
+ *           S O F T W A R E
+ *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ *
+ * Copyright (c) 2026 Kenneth J. Pronovici.
+ * All rights reserved.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the Apache License, Version 2.0.
+ * See LICENSE for more information about the licensing terms.
+ *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ *
+ * Author   : Kenneth J. Pronovici <pronovic@ieee.org>
+ * Language : Java 6
+ * Project  : Common Java Functionality
+ *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * */
+package com.cedarsolutions.tools.copyright;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.cedarsolutions.util.BenchmarkData;
+import com.cedarsolutions.util.FilesystemUtils;
+import com.cedarsolutions.util.StringUtils;
+
+/**
+ * Benchmarks for the copyright tool's per-file and per-repository hot paths.
+ * @author Kenneth J. Pronovici <pronovic@ieee.org>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+public class CopyrightToolBenchmark {
+
+    /** Number of lines in the source file. */
+    private static final int LINES = 10000;
+
+    /** Number of changesets in the Mercurial log. */
+    private static final int CHANGESETS = 10000;
+
+    /** Number of tracked files in the Mercurial log. */
+    private static final int FILES = 2000;
+
+    /** Years that the source file was modified in, unsorted as they come out of history. */
+    private List<Integer> years;
+
+    /** The same years, as a year set. */
+    private YearSet yearSet;
+
+    /** Path to a source file whose statement is already up to date. */
+    private String path;
+
+    /** Tracked files referenced by the Mercurial log. */
+    private List<String> trackedFiles;
+
+    /** Mercurial log, as XML. */
+    private byte[] log;
+
+    /** Generate the input. */
+    @Setup
+    public void setup() throws IOException {
+        this.years = new ArrayList<Integer>();
+        for (int year : new int[] { 2016, 2015, 2014, 2012, 2011, 2009, 2008, 2007, 2005 }) {
+            this.years.add(year);
+        }
+        this.yearSet = new YearSet(this.years);
+
+        File file = File.createTempFile("benchmark", ".java");
+        this.path = file.getPath();
+        FilesystemUtils.writeFileContents(this.path, BenchmarkData.generateSourceFile(LINES, "\n"));
+        CopyrightTool.updateCopyrightStatement(this.path, this.yearSet, false);
+
+        this.trackedFiles = BenchmarkData.generateTrackedFiles(FILES);
+        this.log = StringUtils.getBytes(BenchmarkData.generateMercurialLog(CHANGESETS, FILES));
+    }
+
+    /** Remove the temporary file. */
+    @TearDown
+    public void tearDown() {
+        FilesystemUtils.removeFile(this.path);
+    }
+
+    /** Render a range from an unsorted list of years. */
+    @Benchmark
+    public String generateCopyrightRange() {
+        return CopyrightTool.generateCopyrightRange(new ArrayList<Integer>(this.years));
+    }
+
+    /** Render a range from a year set. */
+    @Benchmark
+    public String toRange() {
+        return this.yearSet.toRange();
+    }
+
+    /** Update a statement that is already current, which is the common case on every build. */
+    @Benchmark
+    public int updateCopyrightStatement() {
+        return CopyrightTool.updateCopyrightStatement(this.path, this.yearSet, false);
+    }
+
+    /** Check a statement, as the checkCopyright task does. */
+    @Benchmark
+    public int checkCopyrightStatement() {
+        return CopyrightTool.updateCopyrightStatement(this.path, this.yearSet, true);
+    }
+
+    /** Build the file to years map from a large log in a single pass. */
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public Map<String, YearSet> addLogentries() {
+        MercurialHistoryIndex index = new MercurialHistoryIndex(this.trackedFiles);
+        CopyrightTool.addLogentries(index, new ByteArrayInputStream(this.log));
+        return index.getFileYearsMap();
+    }
+
+    /** Extract years from a large log, as for a single file's history. */
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public YearSet extractYears() {
+        return MercurialYearExtractor.extractYears(new ByteArrayInputStream(this.log));
+    }
+
+}
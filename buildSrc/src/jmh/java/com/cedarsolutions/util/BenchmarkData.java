@@ -0,0 +1,191 @@
+/* * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ *
+ *              C E D A R
+ *          S O L U T I O N S       "Software done right."
+ *           S O F T W A R E
+ *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ *
+ * Copyright (c) 2026 Kenneth J. Pronovici.
+ * All rights reserved.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the Apache License, Version 2.0.
+ * See LICENSE for more information about the licensing terms.
+ *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ *
+ * Author   : Kenneth J. Pronovici <pronovic@ieee.org>
+ * Language : Java 6
+ * Project  : Common Java Functionality
+ *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * */
+package com.cedarsolutions.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Generates realistic synthetic inputs for the JMH benchmarks.
+ *
+ * <p>
+ * All of the generators are deterministic, so results stay comparable from
+ * one run (and one release) to the next.
+ * </p>
+ *
+ * @author Kenneth J. Pronovici <pronovic@ieee.org>
+ */
+public class BenchmarkData {
+
+    /** Seed for the random number generator, so output is repeatable. */
+    private static final long SEED = 20120403L;
+
+    /** Standard source file header, containing a copyright statement. */
+    private static final String[] HEADER = {
+        "/* * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *",
+        " *",
+        " *              C E D A R",
+        " *          S O L U T I O N S       \"Software done right.\"",
+        " *           S O F T W A R E",
+        " *",
+        " * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *",
+        " *",
+        " * Copyright (c) 2011-2012,2014 Kenneth J. Pronovici.",
+        " * All rights reserved.",
+        " *",
+        " * This program is free software; you can redistribute it and/or",
+        " * modify it under the terms of the Apache License, Version 2.0.",
+        " * See LICENSE for more information about the licensing terms.",
+        " *",
+        " * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *",
+        " *",
+        " * Author   : Kenneth J. Pronovici <pronovic@ieee.org>",
+        " * Language : Java 6",
+        " * Project  : Common Java Functionality",
+        " *",
+        " * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * */",
+    };
+
+    /**
+     * Convert a line ending name into the line ending itself.
+     * @param name  One of "lf", "crlf" or "cr"
+     * @return The line ending.
+     */
+    public static String getLineEnding(String name) {
+        if ("crlf".equals(name)) {
+            return "\r\n";
+        } else if ("cr".equals(name)) {
+            return "\r";
+        } else {
+            return "\n";
+        }
+    }
+
+    /**
+     * Generate the contents of a Java source file, including the standard header.
+     * @param lines       Total number of lines
+     * @param lineEnding  Line ending to use
+     * @return Contents of the source file.
+     */
+    public static String generateSourceFile(int lines, String lineEnding) {
+        StringBuffer buffer = new StringBuffer(lines * 48);
+
+        for (int i = 0; i < lines; i++) {
+            if (i < HEADER.length) {
+                buffer.append(HEADER[i]);
+            } else if (i == HEADER.length) {
+                buffer.append("package com.cedarsolutions.benchmark;");
+            } else if (i % 10 == 0) {
+                buffer.append("    /** Return the value at index ").append(i).append(". */");
+            } else {
+                buffer.append("        result = StringUtils.substring(value").append(i).append(", 0, ").append(i % 80).append(");");
+            }
+            buffer.append(lineEnding);
+        }
+
+        return buffer.toString();
+    }
+
+    /**
+     * Generate output like a long-running build or version control command writes to stdout.
+     * @param lines       Number of lines
+     * @param lineEnding  Line ending to use
+     * @return Generated output.
+     */
+    public static String generateProcessOutput(int lines, String lineEnding) {
+        StringBuffer buffer = new StringBuffer(lines * 64);
+
+        for (int i = 0; i < lines; i++) {
+            buffer.append("[").append(i % 8).append("] ");
+            buffer.append("src/main/java/com/cedarsolutions/module").append(i % 97).append("/File").append(i).append(".java");
+            buffer.append(": processed ").append(i * 31 % 1000).append(" bytes");
+            buffer.append(lineEnding);
+        }
+
+        return buffer.toString();
+    }
+
+    /**
+     * Generate a list of tracked file names.
+     * @param count  Number of files
+     * @return List of paths relative to the repository root.
+     */
+    public static List<String> generateTrackedFiles(int count) {
+        List<String> files = new ArrayList<String>(count);
+
+        for (int i = 0; i < count; i++) {
+            files.add("src/main/java/com/cedarsolutions/module" + (i % 97) + "/File" + i + ".java");
+        }
+
+        return files;
+    }
+
+    /**
+     * Generate a Mercurial XML log, as from <code>hg log --verbose --copies --style xml</code>.
+     *
+     * <p>
+     * Changesets are newest-first and spread evenly across the years from 2005
+     * through 2016.  Each one touches a handful of files chosen from the list
+     * returned by generateTrackedFiles(), and roughly one in a hundred copies a
+     * file.
+     * </p>
+     *
+     * @param changesets  Number of changesets
+     * @param files       Number of distinct files touched across the history
+     * @return XML log output.
+     */
+    public static String generateMercurialLog(int changesets, int files) {
+        Random random = new Random(SEED);
+        List<String> trackedFiles = generateTrackedFiles(files);
+        StringBuffer buffer = new StringBuffer(changesets * 512);
+
+        buffer.append("<?xml version=\"1.0\"?>\n");
+        buffer.append("<log>\n");
+        for (int revision = changesets - 1; revision >= 0; revision--) {
+            int year = 2005 + (int) ((long) revision * 12 / changesets);
+            buffer.append("<logentry revision=\"").append(revision).append("\" node=\"");
+            buffer.append(String.format("%040x", (long) revision * 2654435761L)).append("\">\n");
+            buffer.append("<author email=\"pronovic@ieee.org\">Kenneth J. Pronovici</author>\n");
+            buffer.append("<date>").append(year).append("-06-15T12:00:00-05:00</date>\n");
+            buffer.append("<msg xml:space=\"preserve\">Change number ").append(revision).append(".</msg>\n");
+            buffer.append("<paths>\n");
+            int touched = 1 + random.nextInt(5);
+            for (int i = 0; i < touched; i++) {
+                buffer.append("<path action=\"M\">").append(trackedFiles.get(random.nextInt(files))).append("</path>\n");
+            }
+            buffer.append("</paths>\n");
+            if (revision % 100 == 99) {
+                buffer.append("<copies>\n");
+                buffer.append("<copy source=\"").append(trackedFiles.get(random.nextInt(files))).append("\">");
+                buffer.append(trackedFiles.get(random.nextInt(files))).append("</copy>\n");
+                buffer.append("</copies>\n");
+            }
+            buffer.append("</logentry>\n");
+        }
+        buffer.append("</log>\n");
+
+        return buffer.toString();
+    }
+
+}
@@ -0,0 +1,73 @@
+/* * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ *
+ *              C E D A R
+ *          S O L U T I O N S       "Software done right."
+ *           S O F T W A R E
+ *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ *
+ * Copyright (c) 2026 Kenneth J. Pronovici.
+ * All rights reserved.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the Apache License, Version 2.0.
+ * See LICENSE for more information about the licensing terms.
+ *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ *
+ * Author   : Kenneth J. Pronovici <pronovic@ieee.org>
+ * Language : Java 6
+ * Project  : Common Java Functionality
+ *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * */
+package com.cedarsolutions.util;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.cedarsolutions.xml.bindings.hg.log.Log;
+
+/**
+ * Benchmarks for JaxbUtils, unmarshalling large Mercurial logs.
+ * @author Kenneth J. Pronovici <pronovic@ieee.org>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+public class JaxbUtilsBenchmark {
+
+    /** Number of changesets in the log. */
+    @Param({ "1000", "10000" })
+    public int changesets;
+
+    /** Mercurial log, as XML. */
+    private String xml;
+
+    /** Generate the log, and make sure the JAXB context is already cached. */
+    @Setup
+    public void setup() {
+        this.xml = BenchmarkData.generateMercurialLog(this.changesets, 2000);
+        JaxbUtils.getInstance().getJaxbContext(Log.class);
+    }
+
+    /** Unmarshal the whole log. */
+    @Benchmark
+    public Log unmarshalDocument() {
+        return JaxbUtils.getInstance().unmarshalDocument(Log.class, this.xml);
+    }
+
+}
@@ -0,0 +1,104 @@
+/* * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ *
+ *              C E D A R
+ *          S O L U T I O N S       "Software done right."
+ *           S O F T W A R E
+ *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ *
+ * Copyright (c) 2026 Kenneth J. Pronovici.
+ * All rights reserved.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the Apache License, Version 2.0.
+ * See LICENSE for more information about the licensing terms.
+ *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ *
+ * Author   : Kenneth J. Pronovici <pronovic@ieee.org>
+ * Language : Java 6
+ * Project  : Common Java Functionality
+ *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * */
+package com.cedarsolutions.util;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.cedarsolutions.xml.bindings.hg.log.Log;
+
+/**
+ * Benchmarks for JaxbUtils throughput as the number of threads grows.
+ *
+ * <p>
+ * Each benchmark round-trips a small Mercurial log, so the cost is dominated
+ * by context lookup and (un)marshaller setup rather than parsing.  Throughput
+ * should scale with the thread count, up to the number of available cores.
+ * </p>
+ *
+ * @author Kenneth J. Pronovici <pronovic@ieee.org>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+public class JaxbUtilsScalingBenchmark {
+
+    /** Mercurial log, as XML. */
+    private String xml;
+
+    /** Generate the log, and make sure the JAXB context is already cached. */
+    @Setup
+    public void setup() {
+        this.xml = BenchmarkData.generateMercurialLog(5, 20);
+        JaxbUtils.getInstance().getJaxbContext(Log.class);
+    }
+
+    /** Round-trip the log on 1 thread. */
+    @Benchmark
+    @Threads(1)
+    public String roundTrip1() {
+        return this.roundTrip();
+    }
+
+    /** Round-trip the log on 2 threads. */
+    @Benchmark
+    @Threads(2)
+    public String roundTrip2() {
+        return this.roundTrip();
+    }
+
+    /** Round-trip the log on 4 threads. */
+    @Benchmark
+    @Threads(4)
+    public String roundTrip4() {
+        return this.roundTrip();
+    }
+
+    /** Round-trip the log on 8 threads. */
+    @Benchmark
+    @Threads(8)
+    public String roundTrip8() {
+        return this.roundTrip();
+    }
+
+    /** Unmarshal the log and marshal it again. */
+    private String roundTrip() {
+        JaxbUtils jaxbUtils = JaxbUtils.getInstance();
+        return jaxbUtils.marshalDocument(jaxbUtils.unmarshalDocument(Log.class, this.xml));
+    }
+
+}
@@ -0,0 +1,229 @@
+/* * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ *
+ *              C E D A R
+ *          S O L U T I O N S       "Software done right."
+ *           S O F T W A R E
+ *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ *
+ * Copyright (c) 2026 Kenneth J. Pronovici.
+ * All rights reserved.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the Apache License, Version 2.0.
+ * See LICENSE for more information about the licensing terms.
+ *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ *
+ * Author   : Kenneth J. Pronovici <pronovic@ieee.org>
+ * Language : Java 6
+ * Project  : Common Java Functionality
+ *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * */
+package com.cedarsolutions.util;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.Charset;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for StringUtils, using source files and process output.
+ * @author Kenneth J. Pronovici <pronovic@ieee.org>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+public class StringUtilsBenchmark {
+
+    /** Character set of the process output. */
+    private static final Charset US_ASCII = Charset.forName("US-ASCII");
+
+    /** Regular expression used to split source lines into words. */
+    private static final String WORDS_REGEX = "\\s+";
+
+    /** Compiled pattern used to split source lines into words. */
+    private static final Pattern WORDS_PATTERN = Pattern.compile(WORDS_REGEX);
+
+    /** Number of lines of input. */
+    @Param({ "10000" })
+    public int lines;
+
+    /** Line ending used in the input. */
+    @Param({ "lf", "crlf" })
+    public String lineEnding;
+
+    /** Contents of a source file. */
+    private String sourceFile;
+
+    /** Lines of the source file. */
+    private List<String> sourceLines;
+
+    /** Process output, as raw bytes. */
+    private byte[] processOutput;
+
+    /** Generate the input. */
+    @Setup
+    public void setup() {
+        String ending = BenchmarkData.getLineEnding(this.lineEnding);
+        this.sourceFile = BenchmarkData.generateSourceFile(this.lines, ending);
+        this.sourceLines = StringUtils.splitLines(this.sourceFile);
+        this.processOutput = StringUtils.getBytes(BenchmarkData.generateProcessOutput(this.lines, ending));
+    }
+
+    /** Split a source file into lines. */
+    @Benchmark
+    public List<String> splitLinesSourceFile() {
+        return StringUtils.splitLines(this.sourceFile);
+    }
+
+    /** Collect process output into a string, as CommandLineUtils does. */
+    @Benchmark
+    public String convertStreamToString() {
+        return StringUtils.convertStreamToString(new ByteArrayInputStream(this.processOutput));
+    }
+
+    /** Collect process output into a string and then split it into lines. */
+    @Benchmark
+    public List<String> splitLinesProcessOutput() {
+        return StringUtils.splitLines(StringUtils.convertStreamToString(new ByteArrayInputStream(this.processOutput)));
+    }
+
+    /** Iterate over the lines in a source file as views, for comparison with splitLines(). */
+    @Benchmark
+    public int lineIteratorSourceFile() {
+        int length = 0;
+        for (CharSequence line : LineIterator.forChars(this.sourceFile)) {
+            length += line.length();
+        }
+
+        return length;
+    }
+
+    /** Iterate over the lines in process output as views over the raw bytes, without building a string. */
+    @Benchmark
+    public int lineIteratorProcessOutput() {
+        int length = 0;
+        for (CharSequence line : LineIterator.forBytes(this.processOutput, US_ASCII)) {
+            length += line.length();
+        }
+
+        return length;
+    }
+
+    /** Stream process output through a reader one line at a time. */
+    @Benchmark
+    public int lineIteratorProcessReader() {
+        int length = 0;
+        Reader reader = new InputStreamReader(new ByteArrayInputStream(this.processOutput), US_ASCII);
+        for (CharSequence line : LineIterator.forReader(reader)) {
+            length += line.length();
+        }
+
+        return length;
+    }
+
+    /** Split source lines into words with String.split(), compiling the regex every time. */
+    @Benchmark
+    public int splitWordsUncompiled() {
+        int words = 0;
+        for (String line : this.sourceLines) {
+            words += line.split(WORDS_REGEX).length;
+        }
+
+        return words;
+    }
+
+    /** Split source lines into words via splitToList(), which uses the pattern cache. */
+    @Benchmark
+    public int splitWordsCached() {
+        int words = 0;
+        for (String line : this.sourceLines) {
+            words += StringUtils.splitToList(line, WORDS_REGEX).size();
+        }
+
+        return words;
+    }
+
+    /** Split source lines into words via splitToList() with a precompiled pattern. */
+    @Benchmark
+    public int splitWordsPrecompiled() {
+        int words = 0;
+        for (String line : this.sourceLines) {
+            words += StringUtils.splitToList(line, WORDS_PATTERN).size();
+        }
+
+        return words;
+    }
+
+    /** Count source lines containing a word, ignoring case; should allocate nothing (check with -prof gc). */
+    @Benchmark
+    public int containsIgnoreCase() {
+        int matches = 0;
+        for (String line : this.sourceLines) {
+            if (StringUtils.contains(line, "VALUE5", false)) {
+                matches++;
+            }
+        }
+
+        return matches;
+    }
+
+    /** Count source lines containing a word by upper-casing copies, as contains() used to. */
+    @Benchmark
+    public int containsUpperCased() {
+        int matches = 0;
+        for (String line : this.sourceLines) {
+            if (line.toUpperCase().contains("VALUE5".toUpperCase())) {
+                matches++;
+            }
+        }
+
+        return matches;
+    }
+
+    /** Count source lines starting with a prefix, ignoring case; should allocate nothing (check with -prof gc). */
+    @Benchmark
+    public int startsWithIgnoreCase() {
+        int matches = 0;
+        for (String line : this.sourceLines) {
+            if (StringUtils.startsWith(line, "        RESULT", false)) {
+                matches++;
+            }
+        }
+
+        return matches;
+    }
+
+    /** Count source lines starting with a prefix by upper-casing copies, as startsWith() used to. */
+    @Benchmark
+    public int startsWithUpperCased() {
+        int matches = 0;
+        for (String line : this.sourceLines) {
+            if (line.toUpperCase().startsWith("        RESULT".toUpperCase())) {
+                matches++;
+            }
+        }
+
+        return matches;
+    }
+
+}
@@ -1,82 +1,175 @@
-// vim: set ft=groovy ts=4 sw=4:
-// * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
-// *
-// *              C E D A R
-// *          S O L U T I O N S       "Software done right."
-// *           S O F T W A R E
-// *
-// * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
-// *
-// * Copyright (c) 2013,2015 Kenneth J. Pronovici.
-// * All rights reserved.
-// *
-// * This program is free software; you can redistribute it and/or
-// * modify it under the terms of the Apache License, Version 2.0.
-// * See LICENSE for more information about the licensing terms.
-// *
-// * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
-// *
-// * Author   : Kenneth J. Pronovici <pronovic@ieee.org>
-// * Language : Gradle (>= 2.5)
-// * Project  : Common Gradle Build Functionality
-// *
-// * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * */
-
-package com.cedarsolutions.gradle
-
-import org.gradle.api.Project
-import org.gradle.api.InvalidUserDataException
-
-/** 
- * Plugin convention for cedarCopyright. 
- * @author Kenneth J. Pronovici <pronovic@ieee.org>
- */
-class CedarCopyrightPluginConvention {
-
-    /** The project tied to this convention. */
-    private Project project;
-
-    /** Create a convention tied to a project. */
-    public CedarCopyrightPluginConvention(Project project) {
-        this.project = project
-    }
-
-    /** Update copyright statements, using the copyright tool. */
-    def updateCopyrightStatements() {
-        def repositories = project.cedarCopyright.getRepositories()
-        def mercurialPath = project.cedarCopyright.getMercurialPath()
-
-        def licensePattern = '"' + project.cedarCopyright.getLicensePattern() + '"'
-
-        def sourcePatterns = ""
-        project.cedarCopyright.getSourcePatterns().each { pattern ->
-            sourcePatterns += ' "' + pattern + '"'
-        }
-
-        if (repositories == null || repositories.isEmpty()) {
-            project.logger.lifecycle("CedarBuild copyright tool: no Mercurial repositories to update")
-        } else {
-            project.logger.lifecycle("CedarBuild copyright tool: updating copyright statements")
-
-            // This is a hack, but there's apparently no other way to get at our buildSrc jar
-            def cp = project.buildscript.configurations.classpath.asPath
-            if (cp.length() == 0 && project.name == "CedarBuild") {
-                cp = "buildSrc/build/libs/buildSrc.jar"
-            }
-
-            repositories.each { repository ->
-                project.logger.lifecycle(" --> ${repository}")
-                project.ant.java(classname : "com.cedarsolutions.tools.copyright.CopyrightTool", fork: "true", failonerror: "true") {
-                    arg(value : project.cedarCopyright.getMercurialPath())
-                    arg(value : repository)
-                    arg(value : licensePattern)
-                    arg(line  : sourcePatterns)
-                    classpath() {
-                        pathelement(path: cp)
-                    }
-                }
-            }
-        } 
-    }
-
-}
+// vim: set ft=groovy ts=4 sw=4:
+// * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+// *
+// *              C E D A R
+// *          S O L U T I O N S       "Software done right."
+// *           S O F T W A R E
+// *
+// * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+// *
+// * Copyright (c) 2013,2015 Kenneth J. Pronovici.
+// * All rights reserved.
+// *
+// * This program is free software; you can redistribute it and/or
+// * modify it under the terms of the Apache License, Version 2.0.
+// * See LICENSE for more information about the licensing terms.
+// *
+// * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+// *
+// * Author   : Kenneth J. Pronovici <pronovic@ieee.org>
+// * Language : Gradle (>= 2.5)
+// * Project  : Common Gradle Build Functionality
+// *
+// * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * */
+
+package com.cedarsolutions.gradle
+
+import org.gradle.api.Project
+import org.gradle.api.InvalidUserDataException
+import java.util.concurrent.Callable
+import java.util.concurrent.Executors
+import com.cedarsolutions.tools.copyright.CopyrightTool
+import com.cedarsolutions.tools.copyright.CopyrightToolArguments
+
+/** 
+ * Plugin convention for cedarCopyright. 
+ * @author Kenneth J. Pronovici <pronovic@ieee.org>
+ */
+class CedarCopyrightPluginConvention {
+
+    /** The project tied to this convention. */
+    private Project project;
+
+    /** Create a convention tied to a project. */
+    public CedarCopyrightPluginConvention(Project project) {
+        this.project = project
+    }
+
+    /** Update copyright statements, using the copyright tool. */
+    def updateCopyrightStatements() {
+        runCopyrightTool(false)
+    }
+
+    /** Check that copyright statements are up to date, failing the build if any are stale. */
+    def checkCopyrightStatements() {
+        runCopyrightTool(true)
+    }
+
+    /**
+     * Run the copyright tool, optionally in check-only mode.
+     *
+     * The tool runs in-process rather than in a forked JVM, so we only pay
+     * for JVM startup and JAXB initialization once no matter how many
+     * repositories there are.  Repositories are processed concurrently.
+     * Each one gets its own output buffer, and the output is logged per
+     * repository, in configured order, once all of them are done.
+     */
+    def runCopyrightTool(boolean check) {
+        def repositories = project.cedarCopyright.getRepositories()
+
+        if (repositories == null || repositories.isEmpty()) {
+            project.logger.lifecycle("CedarBuild copyright tool: no repositories to update")
+        } else {
+            project.logger.lifecycle("CedarBuild copyright tool: " + (check ? "checking" : "updating") + " copyright statements")
+
+            def threads = project.cedarCopyright.getRepositoryParallelism()
+            if (threads == null) {
+                threads = Math.min(repositories.size(), Runtime.getRuntime().availableProcessors())
+            }
+
+            def results = new LinkedHashMap()
+            def executor = Executors.newFixedThreadPool(threads)
+            try {
+                repositories.each { repository ->
+                    def args = getArguments(repository, check)
+                    results.put(repository, executor.submit({ runRepository(args) } as Callable))
+                }
+
+                def failed = []
+                results.each { repository, future ->
+                    def result = future.get()
+                    project.logger.lifecycle(" --> ${repository}")
+                    result.output.eachLine { line ->
+                        project.logger.lifecycle("     " + line)
+                    }
+
+                    if (result.error != null) {
+                        project.logger.error("     " + result.error.toString())
+                        failed.add(repository)
+                    } else if (result.status != 0) {
+                        failed.add(repository)
+                    }
+                }
+
+                if (!failed.isEmpty()) {
+                    def reason = check ? "stale copyright statements" : "copyright tool failed"
+                    throw new InvalidUserDataException("Copyright error: ${reason} in: " + failed.join(", "))
+                }
+            } finally {
+                executor.shutdownNow()
+            }
+        } 
+    }
+
+    /** Run the copyright tool for a single repository, capturing its output. */
+    def runRepository(String[] args) {
+        def buffer = new ByteArrayOutputStream()
+        def out = new PrintStream(buffer, true)
+        def status = 1
+        def error = null
+
+        try {
+            def arguments = new CopyrightToolArguments(args)
+            status = new CopyrightTool(arguments, out).internalMain()
+        } catch (Exception e) {
+            error = e
+        } finally {
+            out.close()
+        }
+
+        return [ output: buffer.toString(), status: status, error: error, ]
+    }
+
+    /** Get the copyright tool arguments for a repository. */
+    def getArguments(repository, boolean check) {
+        def args = []
+
+        args.add("--vcs")
+        args.add(project.cedarCopyright.getVcs())
+
+        if (check) {
+            args.add("--check")
+        }
+
+        if (project.cedarCopyright.isSinglePass()) {
+            args.add("--single-pass")
+        }
+
+        if (project.cedarCopyright.getParallelism() != null) {
+            args.add("--parallelism")
+            args.add(String.valueOf(project.cedarCopyright.getParallelism()))
+        }
+
+        if (project.cedarCopyright.isIncremental()) {
+            args.add("--cache")
+            args.add(getCacheFile(repository))
+        }
+
+        args.add(project.cedarCopyright.getVcsPath())
+        args.add(project.file(repository).path)  // relative to the project, not the Gradle daemon's working directory
+        args.add(project.cedarCopyright.getLicensePattern())
+        project.cedarCopyright.getSourcePatterns().each { pattern ->
+            args.add(String.valueOf(pattern))
+        }
+
+        return args as String[]
+    }
+
+    /** Get the path to the copyright cache for a repository, which is unique to the repository's location. */
+    def getCacheFile(repository) {
+        def location = project.file(repository).canonicalFile
+        def name = "copyright-" + location.name + "-" + Integer.toHexString(location.path.hashCode()) + ".xml"
+        return new File(project.buildDir, "tmp/copyright/" + name).path
+    }
+
+}
@@ -1,95 +1,181 @@
-// vim: set ft=groovy ts=4 sw=4:
-// * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
-// *
-// *              C E D A R
-// *          S O L U T I O N S       "Software done right."
-// *           S O F T W A R E
-// *
-// * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
-// *
-// * Copyright (c) 2013,2015 Kenneth J. Pronovici.
-// * All rights reserved.
-// *
-// * This program is free software; you can redistribute it and/or
-// * modify it under the terms of the Apache License, Version 2.0.
-// * See LICENSE for more information about the licensing terms.
-// *
-// * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
-// *
-// * Author   : Kenneth J. Pronovici <pronovic@ieee.org>
-// * Language : Gradle (>= 2.5)
-// * Project  : Common Gradle Build Functionality
-// *
-// * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * */
-
-package com.cedarsolutions.gradle
-
-import org.gradle.api.Project 
-import org.gradle.api.InvalidUserDataException
-import java.util.concurrent.Callable
-
-/** 
- * Plugin extension for cedarCopyright. 
- * @author Kenneth J. Pronovici <pronovic@ieee.org>
- */
-class CedarCopyrightPluginExtension {
-
-    /** Project tied to this extension. */
-    private Project project;
-
-    /** Create an extension for a project. */
-    public CedarCopyrightPluginExtension(Project project) {
-        this.project = project;
-    }
-
-    /** Regex pattern used to identify license files. */
-    def licensePattern;
-
-    /** List of regex patterns used to identify source files. */
-    def sourcePatterns;
-
-    /** List of Mercurial directories that should be labeled. */
-    def repositories 
-
-    /** Path to the Mercurial exectuable. */
-    def mercurialPath
-
-    /** Get the license patterns, allowing for closure assignment. */
-    String getLicensePattern() {
-        return licensePattern != null && licensePattern instanceof Callable ? licensePattern.call() : licensePattern
-    }  
-
-    /** Get the source patterns, allowing for closure assignment. */
-    def getSourcePatterns() {
-        return sourcePatterns != null && sourcePatterns instanceof Callable ? sourcePatterns.call() : sourcePatterns
-    }  
-
-    /** Get the repositories list, allowing for closure assignment. */
-    def getRepositories() {
-        return repositories != null && repositories instanceof Callable ? repositories.call() : repositories
-    }
-
-    /** Get the Mercurial path, allowing for closure assignment. */
-    String getMercurialPath() {
-        return mercurialPath != null && mercurialPath instanceof Callable ? mercurialPath.call() : mercurialPath
-    } 
-
-    /** Validate the copyright configuration. */
-    def validateCopyrightConfig() {
-        if (getRepositories() != null && !getRepositories().isEmpty()) { 
-            if (getLicensePattern() == null || getLicensePattern() == "unset") {
-                throw new InvalidUserDataException("Copyright error: licensePattern is unset")
-            }
-
-            if (getSourcePatterns() == null || getSourcePatterns().isEmpty()) {
-                throw new InvalidUserDataException("Copyright error: sourcePatterns is unset")
-            }
-
-            if (getMercurialPath() == null || getMercurialPath() == "unset") {
-                throw new InvalidUserDataException("Copyright error: mercurialPath is unset")
-            } 
-        }
-    }
-
-}
-
+// vim: set ft=groovy ts=4 sw=4:
+// * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+// *
+// *              C E D A R
+// *          S O L U T I O N S       "Software done right."
+// *           S O F T W A R E
+// *
+// * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+// *
+// * Copyright (c) 2013,2015 Kenneth J. Pronovici.
+// * All rights reserved.
+// *
+// * This program is free software; you can redistribute it and/or
+// * modify it under the terms of the Apache License, Version 2.0.
+// * See LICENSE for more information about the licensing terms.
+// *
+// * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+// *
+// * Author   : Kenneth J. Pronovici <pronovic@ieee.org>
+// * Language : Gradle (>= 2.5)
+// * Project  : Common Gradle Build Functionality
+// *
+// * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * */
+
+package com.cedarsolutions.gradle
+
+import org.gradle.api.Project 
+import org.gradle.api.InvalidUserDataException
+import java.util.concurrent.Callable
+
+/** 
+ * Plugin extension for cedarCopyright. 
+ * @author Kenneth J. Pronovici <pronovic@ieee.org>
+ */
+class CedarCopyrightPluginExtension {
+
+    /** Project tied to this extension. */
+    private Project project;
+
+    /** Create an extension for a project. */
+    public CedarCopyrightPluginExtension(Project project) {
+        this.project = project;
+    }
+
+    /** Regex pattern used to identify license files. */
+    def licensePattern;
+
+    /** List of regex patterns used to identify source files. */
+    def sourcePatterns;
+
+    /** List of repository directories whose copyrights should be updated. */
+    def repositories 
+
+    /** Path to the Mercurial exectuable. */
+    def mercurialPath
+
+    /** Version control system for the repositories, either "hg" (the default) or "git". */
+    def vcs
+
+    /** Path to the git executable, used when vcs is "git". */
+    def gitPath
+
+    /** Whether to analyze history with a single pass over each repository, rather than once per file. */
+    def singlePass
+
+    /** Number of per-file history lookups to run concurrently, like "8". */
+    def parallelism
+
+    /** Number of repositories to process concurrently, like "4"; defaults to one per processor. */
+    def repositoryParallelism
+
+    /** Whether to keep a persistent cache of copyright years, so only new changesets are analyzed. */
+    def incremental
+
+    /** Get the license patterns, allowing for closure assignment. */
+    String getLicensePattern() {
+        return licensePattern != null && licensePattern instanceof Callable ? licensePattern.call() : licensePattern
+    }  
+
+    /** Get the source patterns, allowing for closure assignment. */
+    def getSourcePatterns() {
+        return sourcePatterns != null && sourcePatterns instanceof Callable ? sourcePatterns.call() : sourcePatterns
+    }  
+
+    /** Get the repositories list, allowing for closure assignment. */
+    def getRepositories() {
+        return repositories != null && repositories instanceof Callable ? repositories.call() : repositories
+    }
+
+    /** Get the Mercurial path, allowing for closure assignment. */
+    String getMercurialPath() {
+        return mercurialPath != null && mercurialPath instanceof Callable ? mercurialPath.call() : mercurialPath
+    } 
+
+    /** Get the version control system, allowing for a default (null="hg") and closure assignment. */
+    String getVcs() {
+        def value = vcs != null && vcs instanceof Callable ? vcs.call() : vcs
+        return value == null ? "hg" : value   // default of Mercurial for backwards compatibility
+    }
+
+    /** Get the git path, allowing for closure assignment. */
+    String getGitPath() {
+        return gitPath != null && gitPath instanceof Callable ? gitPath.call() : gitPath
+    }
+
+    /** Get the path to the executable for the configured version control system. */
+    String getVcsPath() {
+        return getVcs() == "git" ? getGitPath() : getMercurialPath()
+    }
+
+    /** Get the single pass flag, allowing for a default (null=false) and closure assignment. */
+    boolean isSinglePass() {
+        def value = singlePass != null && singlePass instanceof Callable ? singlePass.call() : singlePass
+        return value == null ? false : value   // default of false for backwards compatibility
+    }
+
+    /** Get the parallelism, allowing for closure assignment. */
+    Integer getParallelism() {
+        try {
+           String result = parallelism != null && parallelism instanceof Callable ? parallelism.call() : parallelism
+           return result == null ? null : Integer.parseInt(result.trim())
+        } catch (NumberFormatException e) {
+           throw new NumberFormatException("parallelism is not an integer: " + e.getMessage());
+        }
+    }
+
+    /** Get the repository parallelism, allowing for closure assignment. */
+    Integer getRepositoryParallelism() {
+        try {
+           String result = repositoryParallelism != null && repositoryParallelism instanceof Callable ? repositoryParallelism.call() : repositoryParallelism
+           return result == null ? null : Integer.parseInt(result.trim())
+        } catch (NumberFormatException e) {
+           throw new NumberFormatException("repositoryParallelism is not an integer: " + e.getMessage());
+        }
+    }
+
+    /** Get the incremental flag, allowing for a default (null=false) and closure assignment. */
+    boolean isIncremental() {
+        def value = incremental != null && incremental instanceof Callable ? incremental.call() : incremental
+        return value == null ? false : value   // default of false for backwards compatibility
+    }
+
+    /** Validate the copyright configuration. */
+    def validateCopyrightConfig() {
+        if (getRepositories() != null && !getRepositories().isEmpty()) { 
+            if (getLicensePattern() == null || getLicensePattern() == "unset") {
+                throw new InvalidUserDataException("Copyright error: licensePattern is unset")
+            }
+
+            if (getSourcePatterns() == null || getSourcePatterns().isEmpty()) {
+                throw new InvalidUserDataException("Copyright error: sourcePatterns is unset")
+            }
+
+            if (getVcs() != "hg" && getVcs() != "git") {
+                throw new InvalidUserDataException("Copyright error: vcs must be hg or git")
+            }
+
+            if (getVcs() == "git") {
+                if (getGitPath() == null || getGitPath() == "unset") {
+                    throw new InvalidUserDataException("Copyright error: gitPath is unset")
+                }
+
+                if (isIncremental()) {
+                    throw new InvalidUserDataException("Copyright error: incremental is not supported for git")
+                }
+            } else if (getMercurialPath() == null || getMercurialPath() == "unset") {
+                throw new InvalidUserDataException("Copyright error: mercurialPath is unset")
+            } 
+
+            if (getParallelism() != null && getParallelism() < 1) {
+                throw new InvalidUserDataException("Copyright error: parallelism must be at least 1")
+            }
+
+            if (getRepositoryParallelism() != null && getRepositoryParallelism() < 1) {
+                throw new InvalidUserDataException("Copyright error: repositoryParallelism must be at least 1")
+            }
+        }
+    }
+
+}
+
@@ -0,0 +1,184 @@
+/* * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ *
+ *              C E D A R
+ *          S O L U T I O N S       "Software done right."
+ *           S O F T W A R E
+ *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ *
+ * Copyright (c) 2026 Kenneth J. Pronovici.
+ * All rights reserved.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the Apache License, Version 2.0.
+ * See LICENSE for more information about the licensing terms.
+ *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ *
+ * Author   : Kenneth J. Pronovici <pronovic@ieee.org>
+ * Language : Java 6
+ * Project  : Common Java Functionality
+ *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * */
+package com.cedarsolutions.tools.copyright;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlAttribute;
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlRootElement;
+
+import com.cedarsolutions.util.FilesystemUtils;
+import com.cedarsolutions.util.JaxbUtils;
+
+/**
+ * Persistent cache of copyright years, keyed by the last analyzed changeset.
+ *
+ * <p>
+ * The cache records the file-to-years map along with the revision and node
+ * of the newest changeset that was analyzed to build it.  On a later run,
+ * only changesets after that revision need to be examined.  The node is kept
+ * so we can tell if history has been rewritten underneath us (i.e. via strip
+ * or rebase), in which case the cache can't be trusted.
+ * </p>
+ *
+ * @author Kenneth J. Pronovici <pronovic@ieee.org>
+ */
+@XmlRootElement(name = "copyrightCache")
+@XmlAccessorType(XmlAccessType.FIELD)
+public class CopyrightCache {
+
+    /** Revision number of the last analyzed changeset. */
+    @XmlAttribute(name = "revision")
+    private int revision;
+
+    /** Node (changeset hash) of the last analyzed changeset. */
+    @XmlAttribute(name = "node")
+    private String node;
+
+    /** Regular expression patterns that were used to select tracked files. */
+    @XmlElement(name = "pattern")
+    private List<String> patterns = new ArrayList<String>();
+
+    /** Years for each tracked file. */
+    @XmlElement(name = "file")
+    private List<CopyrightCacheEntry> entries = new ArrayList<CopyrightCacheEntry>();
+
+    // There *must* a no-args constructor for the underlying JAXB functionality to work.
+    public CopyrightCache() {
+    }
+
+    /**
+     * Create a cache.
+     * @param revision      Revision number of the last analyzed changeset
+     * @param node          Node (changeset hash) of the last analyzed changeset
+     * @param patterns      Regular expression patterns that were used to select tracked files
+     * @param fileYearsMap  Map from tracked file to years
+     */
+    public CopyrightCache(int revision, String node, List<String> patterns, Map<String, YearSet> fileYearsMap) {
+        this.revision = revision;
+        this.node = node;
+        this.patterns.addAll(patterns);
+        for (String file : fileYearsMap.keySet()) {
+            this.entries.add(new CopyrightCacheEntry(file, fileYearsMap.get(file)));
+        }
+    }
+
+    /** Revision number of the last analyzed changeset. */
+    public int getRevision() {
+        return this.revision;
+    }
+
+    /** Node (changeset hash) of the last analyzed changeset. */
+    public String getNode() {
+        return this.node;
+    }
+
+    /** Regular expression patterns that were used to select tracked files. */
+    public List<String> getPatterns() {
+        return this.patterns;
+    }
+
+    /** Get the cached map from tracked file to years, sorted by file name. */
+    public Map<String, YearSet> getFileYearsMap() {
+        Map<String, YearSet> map = new TreeMap<String, YearSet>();
+
+        for (CopyrightCacheEntry entry : this.entries) {
+            map.put(entry.getFile(), new YearSet(entry.getYears()));
+        }
+
+        return map;
+    }
+
+    /**
+     * Load a cache from disk.
+     * @param path  Path to the cache file
+     * @return Cache read from disk, or null if the file does not exist or cannot be read.
+     */
+    public static CopyrightCache load(String path) {
+        if (!FilesystemUtils.fileExists(path)) {
+            return null;
+        }
+
+        try {
+            String xml = FilesystemUtils.getFileContentsAsString(path);
+            return JaxbUtils.getInstance().unmarshalDocument(CopyrightCache.class, xml);
+        } catch (RuntimeException e) {
+            return null;  // a corrupt cache is no worse than a missing one
+        }
+    }
+
+    /**
+     * Save the cache to disk, creating the parent directory if necessary.
+     * @param path  Path to the cache file
+     */
+    public void save(String path) {
+        String parent = FilesystemUtils.getDirname(path);
+        if (parent != null) {
+            FilesystemUtils.createDir(parent);
+        }
+
+        String xml = JaxbUtils.getInstance().marshalDocument(this);
+        FilesystemUtils.writeFileContents(path, xml);
+    }
+
+    /** Cached years for a single tracked file. */
+    @XmlAccessorType(XmlAccessType.FIELD)
+    public static class CopyrightCacheEntry {
+
+        /** Path of the tracked file, relative to the repository root. */
+        @XmlAttribute(name = "path")
+        private String file;
+
+        /** Years the file was modified in. */
+        @XmlElement(name = "year")
+        private List<Integer> years = new ArrayList<Integer>();
+
+        // There *must* a no-args constructor for the underlying JAXB functionality to work.
+        public CopyrightCacheEntry() {
+        }
+
+        /** Create an entry. */
+        public CopyrightCacheEntry(String file, YearSet years) {
+            this.file = file;
+            this.years.addAll(years.toList());
+        }
+
+        /** Path of the tracked file, relative to the repository root. */
+        public String getFile() {
+            return this.file;
+        }
+
+        /** Years the file was modified in. */
+        public List<Integer> getYears() {
+            return this.years;
+        }
+
+    }
+
+}
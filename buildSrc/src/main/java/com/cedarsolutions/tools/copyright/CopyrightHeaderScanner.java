@@ -0,0 +1,231 @@
+/* * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ *
+ *              C E D A R
+ *          S O L U T I O N S       "Software done right."
+ *           S O F T W A R E
+ *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ *
+ * Copyright (c) 2026 Kenneth J. Pronovici.
+ * All rights reserved.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the Apache License, Version 2.0.
+ * See LICENSE for more information about the licensing terms.
+ *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ *
+ * Author   : Kenneth J. Pronovici <pronovic@ieee.org>
+ * Language : Java 6
+ * Project  : Common Java Functionality
+ *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * */
+package com.cedarsolutions.tools.copyright;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import com.cedarsolutions.util.AtomicFileWriter;
+
+/**
+ * Scans and rewrites the copyright statement in the header of a source file.
+ *
+ * <p>
+ * Copyright statements always live in the standard file header, so only a
+ * bounded leading region of each file is read, no matter how large the file
+ * is.  The region is cut back to the last complete line, so a statement is
+ * never split.  Bytes are decoded as ISO-8859-1, which maps every byte to
+ * exactly one character, so the file's own encoding and line endings are
+ * preserved exactly when the header is written back.
+ * </p>
+ *
+ * <p>
+ * A file is only written when its range actually changes.  If the new
+ * statement is the same length as the old one (which is the common case,
+ * like "2011-2015" becoming "2011-2016"), just the header region is
+ * overwritten in place.  Otherwise, the whole file is rewritten.
+ * </p>
+ *
+ * @author Kenneth J. Pronovici <pronovic@ieee.org>
+ */
+public class CopyrightHeaderScanner {
+
+    /** Default size of the leading region to scan, in bytes. */
+    public static final int DEFAULT_LIMIT = 8192;
+
+    /** Pattern matching a copyright statement, within a single line. */
+    private static final Pattern STATEMENT = Pattern.compile("(Copyright \\(c\\) )(.*)( Kenneth J. Pronovici)");
+
+    /** Charset used to decode the header, chosen because it round-trips any byte. */
+    private static final String CHARSET = "ISO-8859-1";
+
+    /** Size of the leading region to scan, in bytes. */
+    private int limit;
+
+    /** Create a scanner with the default limit. */
+    public CopyrightHeaderScanner() {
+        this(DEFAULT_LIMIT);
+    }
+
+    /**
+     * Create a scanner with a specific limit.
+     * @param limit  Size of the leading region to scan, in bytes
+     */
+    public CopyrightHeaderScanner(int limit) {
+        this.limit = limit;
+    }
+
+    /** Size of the leading region to scan, in bytes. */
+    public int getLimit() {
+        return this.limit;
+    }
+
+    /**
+     * Check whether the copyright statement in a file needs to be updated.
+     * @param file   File to check
+     * @param range  Copyright year range, as from CopyrightTool.generateCopyrightRange()
+     * @return True if the header contains a statement with a different range, false otherwise.
+     * @throws RuntimeException If the file cannot be read.
+     */
+    public boolean isStale(String file, String range) throws RuntimeException {
+        try {
+            String header = this.readHeader(file);
+            return replaceRange(header, range) != null;
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to read file: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Update the copyright statement in a file, if it needs to be updated.
+     * @param file   File to update
+     * @param range  Copyright year range, as from CopyrightTool.generateCopyrightRange()
+     * @return True if the file was changed, false otherwise.
+     * @throws RuntimeException If the file cannot be read or written.
+     */
+    public boolean update(String file, String range) throws RuntimeException {
+        try {
+            String header = this.readHeader(file);
+            String replaced = replaceRange(header, range);
+            if (replaced == null) {
+                return false;
+            }
+
+            byte[] original = header.getBytes(CHARSET);
+            byte[] updated = replaced.getBytes(CHARSET);
+            if (updated.length == original.length) {
+                overwriteHeader(file, updated);
+            } else {
+                rewriteFile(file, original.length, updated);
+            }
+
+            return true;
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to update file: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Replace the range in every copyright statement in a header.
+     * @param header  Header to modify
+     * @param range   Copyright year range, possibly null
+     * @return Modified header, or null if nothing would change.
+     */
+    protected static String replaceRange(String header, String range) {
+        if (range == null) {
+            return null;  // no history, so there's nothing sensible to put in the statement
+        }
+
+        Matcher matcher = STATEMENT.matcher(header);
+        if (!matcher.find()) {
+            return null;
+        }
+
+        boolean changed = false;
+        StringBuffer buffer = new StringBuffer(header.length() + 16);
+        do {
+            changed |= !range.equals(matcher.group(2));
+            matcher.appendReplacement(buffer, Matcher.quoteReplacement(matcher.group(1) + range + matcher.group(3)));
+        } while (matcher.find());
+        matcher.appendTail(buffer);
+
+        return changed ? buffer.toString() : null;
+    }
+
+    /**
+     * Read the leading region of a file, cut back to the last complete line.
+     * @param file  File to read
+     * @return Header region, decoded as ISO-8859-1.
+     */
+    protected String readHeader(String file) throws IOException {
+        InputStream stream = new FileInputStream(file);
+        try {
+            byte[] buffer = new byte[this.limit];
+            int length = 0;
+            int read = 0;
+            while (length < buffer.length && (read = stream.read(buffer, length, buffer.length - length)) != -1) {
+                length += read;
+            }
+
+            if (length == buffer.length && stream.read() != -1) {
+                int end = length;
+                while (end > 0 && buffer[end - 1] != '\n') {
+                    end -= 1;
+                }
+                length = end;  // the last line is incomplete, so leave it out
+            }
+
+            return new String(buffer, 0, length, CHARSET);
+        } finally {
+            stream.close();
+        }
+    }
+
+    /** Overwrite the leading region of a file with a header of the same length. */
+    private static void overwriteHeader(String file, byte[] header) throws IOException {
+        RandomAccessFile raf = new RandomAccessFile(file, "rw");
+        try {
+            raf.seek(0);
+            raf.write(header);
+        } finally {
+            raf.close();
+        }
+    }
+
+    /** Rewrite a file atomically, replacing its leading region with a header of a different length. */
+    private static void rewriteFile(String file, int originalLength, byte[] header) throws IOException {
+        AtomicFileWriter writer = new AtomicFileWriter(file);
+        try {
+            writer.write(header, 0, header.length);
+
+            InputStream input = new FileInputStream(file);
+            try {
+                long skipped = 0;
+                while (skipped < originalLength) {
+                    long count = input.skip(originalLength - skipped);
+                    if (count <= 0) {
+                        throw new IOException("File was truncated while updating: " + file);
+                    }
+                    skipped += count;
+                }
+
+                byte[] buffer = new byte[8192];
+                int read;
+                while ((read = input.read(buffer)) != -1) {
+                    writer.write(buffer, 0, read);
+                }
+            } finally {
+                input.close();
+            }
+
+            writer.commit();
+        } finally {
+            writer.close();
+        }
+    }
+
+}
@@ -1,392 +1,896 @@
-/* * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
- *
- *              C E D A R
- *          S O L U T I O N S       "Software done right."
- *           S O F T W A R E
- *
- * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
- *
- * Copyright (c) 2013,2015 Kenneth J. Pronovici.
- * All rights reserved.
- *
- * This program is free software; you can redistribute it and/or
- * modify it under the terms of the Apache License, Version 2.0.
- * See LICENSE for more information about the licensing terms.
- *
- * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
- *
- * Author   : Kenneth J. Pronovici <pronovic@ieee.org>
- * Language : Java 6
- * Project  : Common Java Functionality
- *
- * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * */
-package com.cedarsolutions.tools.copyright;
-
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
-import java.util.regex.Pattern;
-
-import com.cedarsolutions.util.StringUtils;
-import com.cedarsolutions.util.FilesystemUtils;
-import com.cedarsolutions.util.CommandLine;
-import com.cedarsolutions.util.CommandLineArguments;
-import com.cedarsolutions.util.CommandLineUtils;
-import com.cedarsolutions.util.CommandLineResult;
-import com.cedarsolutions.util.JaxbUtils;
-import com.cedarsolutions.xml.bindings.hg.log.Log;
-import com.cedarsolutions.xml.bindings.hg.log.Logentry;
-
-/**
- * Cedar Solutions copyright tool.
- *
- * <p>
- * This tool updates copyright statements in Cedar Solutions source files that
- * follow the file header standard.  The update is based on information in the
- * Mercurial revision control repository.  Every source file with a standard
- * header will be updated to include every year that exists in revision
- * control.
- * </p>
- *
- * @author Kenneth J. Pronovici <pronovic@ieee.org>
- */
-public class CopyrightTool {
-
-    /** Command-line arguments. */
-    private CopyrightToolArguments arguments;
-
-    /**
-     * Constructor in terms of command-line arguments.
-     *
-     * <p>
-     * Note: This constructor calls system.exit(2) if command-line arguments
-     * are invalid.  It does this to strictly control the output from the
-     * program (we want to make sure that the usage is displayed simply and
-     * prominently).
-     * </p>
-     *
-     * @param args     Array of command-line arguments, as from main()
-     */
-    public CopyrightTool(String[] args) {
-        try {
-            this.arguments = new CopyrightToolArguments(args);
-        } catch (RuntimeException e) {
-            System.err.println(generateHelp());
-            System.exit(2);
-        }
-    }
-
-    /** Java entry point. */
-    public static void main(String[] args) throws Exception {
-        new CopyrightTool(args).internalMain();
-    }
-
-    /** Command-line arguments. */
-    public CopyrightToolArguments getArguments() {
-        return this.arguments;
-    }
-
-    /** Internal implementation of the main routine. */
-    public void internalMain() {
-        String mercurial = this.arguments.getMercurial();
-        String repository = this.arguments.getRepository();
-        Pattern licensePattern = this.arguments.getLicensePattern();
-        List<Pattern> patterns = this.arguments.getPatterns();
-
-        System.out.println("");
-        System.out.println("Copyright Tool");
-
-        System.out.println("");
-        System.out.println("Mercurial......: " + mercurial);
-        System.out.println("Repository.....: " + repository);
-        System.out.println("License Pattern: " + licensePattern);
-        System.out.println("Patterns.......: ");
-        for (Pattern pattern : patterns) {
-            System.out.println("   " + pattern);
-        }
-
-        System.out.println("");
-        System.out.println("Analyzing Mercurial repository...");
-        Map<String, List<Integer>> map = generateFileYearsMap(mercurial, repository, patterns);
-
-        int source = updateSourceFiles(repository, map);
-        int license = updateLicenseFiles(mercurial, repository, licensePattern, map);
-
-        if (source + license > 0) {
-            System.out.println("Note: you must review and commit these changes.");
-        }
-
-        System.out.println("");
-    }
-
-    /**
-     * Update copyright statements in source files.
-     * @param repository   Mercurial repository to be modified
-     * @param fileYearsMap Map as from generateFileYearsMap()
-     * @return Number of files that were updated.
-     */
-    private static int updateSourceFiles(String repository, Map<String, List<Integer>> fileYearsMap) {
-        int updated = 0;
-
-        System.out.println("Updating copyright statements in source files...");
-        for (String trackedFile : fileYearsMap.keySet()) {
-            String path = FilesystemUtils.join(repository, trackedFile);
-            updated += updateCopyrightStatement(path, fileYearsMap.get(trackedFile));
-        }
-
-        System.out.println("Updated " + updated + " out of " + fileYearsMap.size() + " source files.");
-        return updated;
-    }
-
-    /**
-     * Update copyright statements in license files.
-     * @param mercurial      Path to the Mercurial (hg) executable.
-     * @param repository     Mercurial repository to be modified
-     * @param licensePattern Regular expression pattern for license files
-     * @param fileYearsMap   Map as from generateFileYearsMap()
-     * @return Number of files that were updated.
-     */
-    private static int updateLicenseFiles(String mercurial, String repository, Pattern licensePattern, Map<String, List<Integer>> fileYearsMap) {
-        int updated = 0;
-        List<Integer> overallYears = generateOverallYears(fileYearsMap);
-        List<String> trackedFiles = getTrackedFiles(mercurial, repository, licensePattern);
-
-        System.out.println("Updating copyright statements in license files...");
-        for (String trackedFile : trackedFiles) {
-            String path = FilesystemUtils.join(repository, trackedFile);
-            updated += updateCopyrightStatement(path, overallYears);
-        }
-
-        System.out.println("Updated " + updated + " out of " + trackedFiles.size() + " license files.");
-        return updated;
-    }
-
-    /**
-     * Generate a map from file name to years that file was modified in.
-     * @param mercurial  Path to the Mercurial (hg) executable.
-     * @param repository Mercurial repository to be modified
-     * @param patterns   Regular expression patterns which specify the files to update.
-     * @return Map from file name to years.
-     */
-    protected static Map<String, List<Integer>> generateFileYearsMap(String mercurial, String repository, List<Pattern> patterns) {
-        Map<String, List<Integer>> map = new HashMap<String, List<Integer>>();
-
-        List<String> trackedFiles = getTrackedFiles(mercurial, repository, patterns);
-        for (String trackedFile : trackedFiles) {
-            List<Integer> years = getYearsForTrackedFile(mercurial, repository, trackedFile);
-            map.put(trackedFile, years);
-        }
-
-        return map;
-    }
-
-    /**
-     * Generate an overall range of years among all files in the repository.
-     * @param fileYearsMap  Map as from generateFileYearsMap()
-     * @return Range of years that files were modified in, sorted.
-     */
-    protected static List<Integer> generateOverallYears(Map<String, List<Integer>> fileYearsMap) {
-        List<Integer> overallYears = new ArrayList<Integer>();
-
-        for (String file : fileYearsMap.keySet()) {
-            for (Integer year : fileYearsMap.get(file)) {
-                if (!overallYears.contains(year)) {
-                    overallYears.add(year);
-                }
-            }
-        }
-
-        Collections.sort(overallYears);
-        return overallYears;
-    }
-
-    /**
-     * Get a list of the files tracked in the repository, filtered down to the ones which match a pattern.
-     * @param mercurial  Path to the Mercurial (hg) executable.
-     * @param repository Mercurial repository to be modified
-     * @param pattern    Regular expression pattern which specifies the files to update.
-     * @return List of tracked files.
-     */
-    protected static List<String> getTrackedFiles(String mercurial, String repository, Pattern pattern) {
-        List<Pattern> patterns = new ArrayList<Pattern>();
-        patterns.add(pattern);
-        return getTrackedFiles(mercurial, repository, patterns);
-    }
-
-    /**
-     * Get a list of the files tracked in the repository, filtered down to the ones which match a set of patterns.
-     * @param mercurial  Path to the Mercurial (hg) executable.
-     * @param repository Mercurial repository to be modified
-     * @param patterns   Regular expression patterns which specify the files to update.
-     * @return List of tracked files.
-     */
-    protected static List<String> getTrackedFiles(String mercurial, String repository, List<Pattern> patterns) {
-        List<String> trackedFiles = new ArrayList<String>();
-
-        CommandLine command = new CommandLine(mercurial);
-        command.addArg("locate");
-
-        // It works best to execute the command from within the repository location.
-        // Mercurial is not always consistent about behavior if you specify the path to the repo.
-        CommandLineResult result = CommandLineUtils.executeCommand(command, repository, true);
-        if (result.getExitCode() != 0) {
-            throw new RuntimeException("Command failed: " + command.toString());
-        }
-
-        for (String file : StringUtils.splitLines(result.getOutput())) {
-            String normalized = FilesystemUtils.normalize(file);
-            for (Pattern pattern : patterns) {
-                if (StringUtils.matches(normalized, pattern)) {
-                    trackedFiles.add(normalized);
-                    break;
-                }
-            }
-        }
-
-        return trackedFiles;
-    }
-
-    /**
-     * Get the years in which a tracked file was modified in Mercurial.
-     * @param mercurial   Path to the Mercurial (hg) executable.
-     * @param repository  Mercurial repository to be modified
-     * @param trackedFile Tracked file to analyze
-     * @return List of years in which the tracked file was modified.
-     */
-    protected static List<Integer> getYearsForTrackedFile(String mercurial, String repository, String trackedFile) {
-        List<Integer> years = new ArrayList<Integer>();
-
-        CommandLine command = new CommandLine(mercurial);
-        command.addArg("log");
-        command.addArg("--follow");
-        command.addArg("--style");
-        command.addArg("xml");
-        command.addArg(trackedFile);
-
-        // It works best to execute the command from within the repository location.
-        // Mercurial is not always consistent about behavior if you specify the path to the repo.
-        CommandLineResult result = CommandLineUtils.executeCommand(command, repository, true);
-        if (result.getExitCode() != 0) {
-            throw new RuntimeException("Command failed: " + command.toString());
-        }
-
-        String xml = StringUtils.trimToNull(result.getOutput());
-        if (xml != null) {
-            Log log = JaxbUtils.getInstance().unmarshalDocument(Log.class, xml, false);
-            for (Logentry logentry : log.getLogentry()) {
-                try {
-                    Integer year = Integer.valueOf(StringUtils.substring(logentry.getDate(), 0, 4));
-                    if (!years.contains(year)) {
-                        years.add(year);
-                    }
-                } catch (Exception e) { }
-            }
-        }
-
-        return years;
-    }
-
-    /**
-     * Update the copyright statement in a file.
-     * @param file   File to modify
-     * @param years  List of years that the file was edited in
-     * @return Number of files updated (either 0 or 1).
-     */
-    protected static int updateCopyrightStatement(String file, List<Integer> years) {
-        String contents = FilesystemUtils.getFileContentsAsString(file);
-        String range = generateCopyrightRange(years);
-        String regex = "(Copyright \\(c\\) )(.*)( Kenneth J. Pronovici)";
-        String replacement = "$1" + range + "$3";
-
-        String result = contents.replaceAll(regex, replacement);
-        if (!result.equals(contents)) {
-            // No point in writing the file unless something has changed
-            FilesystemUtils.writeFileContents(file, result);
-            return 1;
-        }
-
-        return 0;
-    }
-
-    /**
-     * Generate a copyright year range from a list of years.
-     *
-     * <p>
-     * A range is something like "2011,2013-2015,2017".  Consecutive
-     * years are bundled together with a "-" and other years are just
-     * added with a comma.
-     * </p>
-     *
-     * @param years   List of years
-     * @return Copyright year range for the list of years, or null if no range can be derived.
-     */
-    protected static String generateCopyrightRange(List<Integer> years) {
-        if (years == null || years.size() == 0) {
-            return null;
-        } else {
-            Integer lastYear = null;
-            int rangeStart = 0;
-            int last = 0;
-            int current = 0;
-            boolean firstTime = true;
-            StringBuffer buffer = new StringBuffer();
-
-            Collections.sort(years);
-            for (Integer currentYear : years) {
-                if (firstTime) {
-                    current = currentYear.intValue();
-                    buffer.append(currentYear.toString());
-                    rangeStart = current;
-                    lastYear = currentYear;
-                    firstTime = false;
-                } else {
-                    last = lastYear.intValue();
-                    current = currentYear.intValue();
-
-                    if (current - last > 1) {
-                        if (last > rangeStart) {
-                            buffer.append("-");
-                            buffer.append(lastYear.toString());
-                        }
-
-                        buffer.append(",");
-                        buffer.append(currentYear.toString());
-                        rangeStart = current;
-                    }
-
-                    lastYear = currentYear;
-                }
-            }
-
-            if (lastYear != null) {
-                last = lastYear.intValue();
-                if (last > rangeStart) {
-                    buffer.append("-");
-                    buffer.append(lastYear.toString());
-                }
-            }
-
-            return buffer.toString();
-        }
-    }
-
-    /** Generate a command-line help statement. */
-    protected static String generateHelp() {
-        return "Usage: CopyrightTool hgpath repository pattern [pattern, ...]\n" +
-               "\n" +
-               "   hgpath      Path to the Mercurial executable, including .exe on Windows\n" +
-               "   repository  Path to the Mercurial repository to be updated\n" +
-               "   pattern     Regular expression pattern matching files to be updated" +
-               "\n" +
-               "Update copyright statements in the indicated Mercurial repositories.\n" +
-               "The code is assumed to follow Cedar Solutions standards.  After running\n" +
-               "the tool, you'll need to review changes and commit them.\n" +
-               "\n" +
-               "The regular expression patterns must be designed to match paths that are\n" +
-               "relative to the repository root.  These patterns can assume that the path " +
-               "separator has been normalized to / on both Windows and UNIX-like systems.";
-    }
-
-}
+/* * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ *
+ *              C E D A R
+ *          S O L U T I O N S       "Software done right."
+ *           S O F T W A R E
+ *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ *
+ * Copyright (c) 2013,2015 Kenneth J. Pronovici.
+ * All rights reserved.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the Apache License, Version 2.0.
+ * See LICENSE for more information about the licensing terms.
+ *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ *
+ * Author   : Kenneth J. Pronovici <pronovic@ieee.org>
+ * Language : Java 6
+ * Project  : Common Java Functionality
+ *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * */
+package com.cedarsolutions.tools.copyright;
+
+import java.io.BufferedReader;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.regex.Pattern;
+
+import com.cedarsolutions.util.StringUtils;
+import com.cedarsolutions.util.FilesystemUtils;
+import com.cedarsolutions.util.CommandLine;
+import com.cedarsolutions.util.CommandLineArguments;
+import com.cedarsolutions.util.CommandLineOutputHandler;
+import com.cedarsolutions.util.CommandLineUtils;
+import com.cedarsolutions.util.CommandLineResult;
+import com.cedarsolutions.util.MercurialCommandServer;
+import com.cedarsolutions.xml.bindings.hg.log.Logentry;
+
+/**
+ * Cedar Solutions copyright tool.
+ *
+ * <p>
+ * This tool updates copyright statements in Cedar Solutions source files that
+ * follow the file header standard.  The update is based on information in the
+ * revision control repository, either Mercurial or git.  Every source file with a standard
+ * header will be updated to include every year that exists in revision
+ * control.
+ * </p>
+ *
+ * @author Kenneth J. Pronovici <pronovic@ieee.org>
+ */
+public class CopyrightTool {
+
+    /** Scanner used to find and rewrite copyright statements in file headers. */
+    private static final CopyrightHeaderScanner HEADER_SCANNER = new CopyrightHeaderScanner();
+
+    /** Command-line arguments. */
+    private CopyrightToolArguments arguments;
+
+    /** Stream that progress messages are written to. */
+    private PrintStream out;
+
+    /**
+     * Constructor in terms of command-line arguments.
+     *
+     * <p>
+     * Note: This constructor calls system.exit(2) if command-line arguments
+     * are invalid.  It does this to strictly control the output from the
+     * program (we want to make sure that the usage is displayed simply and
+     * prominently).
+     * </p>
+     *
+     * @param args     Array of command-line arguments, as from main()
+     */
+    public CopyrightTool(String[] args) {
+        try {
+            this.arguments = new CopyrightToolArguments(args);
+            this.out = System.out;
+        } catch (RuntimeException e) {
+            System.err.println(generateHelp());
+            System.exit(2);
+        }
+    }
+
+    /**
+     * Constructor in terms of parsed arguments, for running the tool in-process.
+     *
+     * <p>
+     * Unlike the other constructor, this never calls System.exit(), and all
+     * progress messages are written to the passed-in stream rather than to
+     * stdout.  That makes it safe to run several instances at once within a
+     * single JVM, like from the Gradle plugin.
+     * </p>
+     *
+     * @param arguments  Parsed command-line arguments
+     * @param out        Stream that progress messages are written to
+     */
+    public CopyrightTool(CopyrightToolArguments arguments, PrintStream out) {
+        this.arguments = arguments;
+        this.out = out;
+    }
+
+    /** Java entry point. */
+    public static void main(String[] args) throws Exception {
+        int status = new CopyrightTool(args).internalMain();
+        if (status != 0) {
+            System.exit(status);
+        }
+    }
+
+    /** Command-line arguments. */
+    public CopyrightToolArguments getArguments() {
+        return this.arguments;
+    }
+
+    /**
+     * Internal implementation of the main routine.
+     * @return Exit status, which is 1 if check mode found stale copyright statements, or 0 otherwise.
+     */
+    public int internalMain() {
+        String vcs = this.arguments.getVcs();
+        String mercurial = this.arguments.getMercurial();
+        String repository = this.arguments.getRepository();
+        Pattern licensePattern = this.arguments.getLicensePattern();
+        List<Pattern> patterns = this.arguments.getPatterns();
+        boolean singlePass = this.arguments.isSinglePass();
+        int parallelism = this.arguments.getParallelism();
+        String cacheFile = this.arguments.getCacheFile();
+        boolean check = this.arguments.isCheck();
+
+        this.out.println("");
+        this.out.println("Copyright Tool");
+
+        this.out.println("");
+        this.out.println("VCS............: " + vcs);
+        this.out.println("Executable.....: " + mercurial);
+        this.out.println("Repository.....: " + repository);
+        this.out.println("License Pattern: " + licensePattern);
+        this.out.println("Patterns.......: ");
+        for (Pattern pattern : patterns) {
+            this.out.println("   " + pattern);
+        }
+        this.out.println("Single Pass....: " + singlePass);
+        this.out.println("Parallelism....: " + parallelism);
+        this.out.println("Cache File.....: " + (cacheFile == null ? "none" : cacheFile));
+        this.out.println("Check Only.....: " + check);
+
+        this.out.println("");
+        this.out.println("Analyzing " + vcs + " repository...");
+        VersionControlBackend backend = createBackend(this.arguments, this.out);
+        int source = 0;
+        int license = 0;
+        try {
+            Map<String, YearSet> map = backend.generateFileYearsMap(patterns);
+            source = updateSourceFiles(this.out, repository, map, check);
+            license = updateLicenseFiles(this.out, backend, repository, licensePattern, map, check);
+        } finally {
+            if (backend instanceof MercurialBackend) {
+                MercurialCommandServer.close(mercurial, repository);  // other repositories may still be in progress
+            }
+        }
+
+        if (source + license > 0) {
+            if (check) {
+                this.out.println("Error: copyright statements are stale; run the tool without " + CopyrightToolArguments.CHECK + ".");
+                this.out.println("");
+                return 1;
+            }
+
+            this.out.println("Note: you must review and commit these changes.");
+        }
+
+        this.out.println("");
+        return 0;
+    }
+
+    /**
+     * Create the version control backend described by a set of arguments.
+     * @param arguments  Command-line arguments
+     * @param out        Stream that progress messages are written to
+     * @return Backend to get history from.
+     */
+    protected static VersionControlBackend createBackend(CopyrightToolArguments arguments, PrintStream out) {
+        if (CopyrightToolArguments.GIT.equals(arguments.getVcs())) {
+            return new GitBackend(arguments.getMercurial(), arguments.getRepository());
+        } else {
+            return new MercurialBackend(arguments.getMercurial(), arguments.getRepository(), arguments.isSinglePass(),
+                                        arguments.getParallelism(), arguments.getCacheFile(), out);
+        }
+    }
+
+    /**
+     * Update copyright statements in source files.
+     * @param out          Stream that progress messages are written to
+     * @param repository   Repository to be modified
+     * @param fileYearsMap Map as from generateFileYearsMap()
+     * @param check        Whether to only check for stale statements, without writing anything
+     * @return Number of files that were updated (or that are stale, in check mode).
+     */
+    protected static int updateSourceFiles(PrintStream out, String repository, Map<String, YearSet> fileYearsMap, boolean check) {
+        int updated = 0;
+
+        out.println((check ? "Checking" : "Updating") + " copyright statements in source files...");
+        for (String trackedFile : fileYearsMap.keySet()) {
+            String path = FilesystemUtils.join(repository, trackedFile);
+            int result = updateCopyrightStatement(path, fileYearsMap.get(trackedFile), check);
+            if (result > 0 && check) {
+                out.println("   Stale: " + trackedFile);
+            }
+            updated += result;
+        }
+
+        out.println((check ? "Found stale statements in " : "Updated ") + updated + " out of " + fileYearsMap.size() + " source files.");
+        return updated;
+    }
+
+    /**
+     * Update copyright statements in license files.
+     * @param out            Stream that progress messages are written to
+     * @param backend        Version control backend to get tracked files from
+     * @param repository     Repository to be modified
+     * @param licensePattern Regular expression pattern for license files
+     * @param fileYearsMap   Map as from generateFileYearsMap()
+     * @param check          Whether to only check for stale statements, without writing anything
+     * @return Number of files that were updated (or that are stale, in check mode).
+     */
+    protected static int updateLicenseFiles(PrintStream out, VersionControlBackend backend, String repository, Pattern licensePattern,
+                                            Map<String, YearSet> fileYearsMap, boolean check) {
+        int updated = 0;
+        YearSet overallYears = generateOverallYears(fileYearsMap);
+        List<String> trackedFiles = backend.getTrackedFiles(Collections.singletonList(licensePattern));
+
+        out.println((check ? "Checking" : "Updating") + " copyright statements in license files...");
+        for (String trackedFile : trackedFiles) {
+            String path = FilesystemUtils.join(repository, trackedFile);
+            int result = updateCopyrightStatement(path, overallYears, check);
+            if (result > 0 && check) {
+                out.println("   Stale: " + trackedFile);
+            }
+            updated += result;
+        }
+
+        out.println((check ? "Found stale statements in " : "Updated ") + updated + " out of " + trackedFiles.size() + " license files.");
+        return updated;
+    }
+
+    /**
+     * Generate a map from file name to years that file was modified in.
+     * @param mercurial  Path to the Mercurial (hg) executable.
+     * @param repository Mercurial repository to be modified
+     * @param patterns   Regular expression patterns which specify the files to update.
+     * @return Map from file name to years, sorted by file name.
+     */
+    protected static Map<String, YearSet> generateFileYearsMap(String mercurial, String repository, List<Pattern> patterns) {
+        return generateFileYearsMap(mercurial, repository, patterns, 1);
+    }
+
+    /**
+     * Generate a map from file name to years that file was modified in.
+     *
+     * <p>
+     * History lookups are independent of one another, so when parallelism is
+     * greater than 1, they are run concurrently on a bounded pool of worker
+     * threads.  The result is the same regardless of parallelism.  If any
+     * lookups fail, all of the failures are reported together, sorted by
+     * file name.
+     * </p>
+     *
+     * @param mercurial   Path to the Mercurial (hg) executable.
+     * @param repository  Mercurial repository to be modified
+     * @param patterns    Regular expression patterns which specify the files to update.
+     * @param parallelism Number of history lookups to run concurrently
+     * @return Map from file name to years, sorted by file name.
+     */
+    protected static Map<String, YearSet> generateFileYearsMap(final String mercurial, final String repository,
+                                                                     List<Pattern> patterns, int parallelism) {
+        Map<String, YearSet> map = new TreeMap<String, YearSet>();
+
+        List<String> trackedFiles = getTrackedFiles(mercurial, repository, patterns);
+        if (parallelism <= 1) {
+            for (String trackedFile : trackedFiles) {
+                YearSet years = getYearsForTrackedFile(mercurial, repository, trackedFile);
+                map.put(trackedFile, years);
+            }
+        } else {
+            Map<String, Future<YearSet>> futures = new TreeMap<String, Future<YearSet>>();
+            ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+            try {
+                for (final String trackedFile : trackedFiles) {
+                    futures.put(trackedFile, executor.submit(new Callable<YearSet>() {
+                        public YearSet call() {
+                            // A command server runs one command at a time, so each worker starts its own process
+                            return getYearsForTrackedFile(mercurial, repository, trackedFile, false);
+                        }
+                    }));
+                }
+
+                Map<String, Throwable> failures = new TreeMap<String, Throwable>();
+                for (String trackedFile : futures.keySet()) {
+                    try {
+                        map.put(trackedFile, futures.get(trackedFile).get());
+                    } catch (ExecutionException e) {
+                        failures.put(trackedFile, e.getCause());
+                    }
+                }
+
+                if (!failures.isEmpty()) {
+                    throw new RuntimeException(generateFailureMessage(failures));
+                }
+            } catch (InterruptedException e) {
+                throw new RuntimeException("Interrupted while analyzing history: " + e.getMessage(), e);
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+
+        return map;
+    }
+
+    /**
+     * Generate an error message describing history lookups that failed.
+     * @param failures  Map from tracked file to failure, sorted by file name
+     * @return Error message listing all of the failures.
+     */
+    protected static String generateFailureMessage(Map<String, Throwable> failures) {
+        StringBuffer buffer = new StringBuffer();
+
+        buffer.append("Failed to analyze history for ");
+        buffer.append(failures.size());
+        buffer.append(" file(s):");
+        for (String trackedFile : failures.keySet()) {
+            buffer.append("\n   ");
+            buffer.append(trackedFile);
+            buffer.append(": ");
+            buffer.append(failures.get(trackedFile).getMessage());
+        }
+
+        return buffer.toString();
+    }
+
+    /**
+     * Generate a map from file name to years that file was modified in, using a single pass over history.
+     *
+     * <p>
+     * This gives the same result as generateFileYearsMap(), but rather than
+     * running <code>hg log</code> once for every tracked file, it runs once
+     * for the whole repository and streams the result into an index.  That
+     * is dramatically faster for repositories with many files.
+     * </p>
+     *
+     * @param mercurial  Path to the Mercurial (hg) executable.
+     * @param repository Mercurial repository to be modified
+     * @param patterns   Regular expression patterns which specify the files to update.
+     * @return Map from file name to years.
+     */
+    protected static Map<String, YearSet> generateFileYearsMapSinglePass(String mercurial, String repository, List<Pattern> patterns) {
+        List<String> trackedFiles = getTrackedFiles(mercurial, repository, patterns);
+        final MercurialHistoryIndex index = new MercurialHistoryIndex(trackedFiles);
+
+        CommandLine command = new CommandLine(mercurial);
+        command.addArg("log");
+        command.addArg("--verbose");  // required to get the list of paths for each changeset
+        command.addArg("--copies");
+        command.addArg("--style");
+        command.addArg("xml");
+
+        // It works best to execute the command from within the repository location.
+        // Mercurial is not always consistent about behavior if you specify the path to the repo.
+        CommandLineResult result = executeMercurial(mercurial, repository, command, true, new CommandLineOutputHandler() {
+            public void handleOutput(InputStream stream) throws Exception {
+                addLogentries(index, stream);
+            }
+        });
+
+        if (result.getExitCode() != 0) {
+            throw new RuntimeException("Command failed: " + command.toString());
+        }
+
+        return index.getFileYearsMap();
+    }
+
+    /**
+     * Generate a map from file name to years that file was modified in, using a persistent incremental cache.
+     *
+     * <p>
+     * The cache records the years for every tracked file along with the last
+     * changeset that was analyzed.  If the cache is usable, only changesets
+     * newer than that are read from history, and their years are merged into
+     * the cached years.  The cache is rebuilt from scratch with a single pass
+     * if it is missing or corrupt, if the patterns have changed, if the cached
+     * changeset no longer exists (i.e. history was stripped or rewritten), or
+     * if any of the new changesets copy or rename files, since that changes
+     * which older history applies to a file.  Either way, the cache is saved
+     * again afterwards.
+     * </p>
+     *
+     * @param mercurial  Path to the Mercurial (hg) executable.
+     * @param repository Mercurial repository to be modified
+     * @param patterns   Regular expression patterns which specify the files to update.
+     * @param cacheFile  Path to the cache file, which need not exist yet
+     * @return Map from file name to years.
+     */
+    protected static Map<String, YearSet> generateFileYearsMapIncremental(String mercurial, String repository,
+                                                                                List<Pattern> patterns, String cacheFile) {
+        return generateFileYearsMapIncremental(mercurial, repository, patterns, cacheFile, System.out);
+    }
+
+    /**
+     * Generate a map from file name to years that file was modified in, using a persistent incremental cache.
+     * @param mercurial  Path to the Mercurial (hg) executable.
+     * @param repository Mercurial repository to be modified
+     * @param patterns   Regular expression patterns which specify the files to update.
+     * @param cacheFile  Path to the cache file, which need not exist yet
+     * @param out        Stream that progress messages are written to
+     * @return Map from file name to years.
+     * @see #generateFileYearsMapIncremental(String, String, List, String)
+     */
+    protected static Map<String, YearSet> generateFileYearsMapIncremental(String mercurial, String repository,
+                                                                                List<Pattern> patterns, String cacheFile,
+                                                                                PrintStream out) {
+        Logentry tip = getLogentry(mercurial, repository, "tip");
+        if (tip == null || tip.getRevision() == null || tip.getRevision().intValue() < 0) {
+            return generateFileYearsMapSinglePass(mercurial, repository, patterns);  // empty repository, nothing to cache
+        }
+
+        Map<String, YearSet> map = null;
+        CopyrightCache cache = CopyrightCache.load(cacheFile);
+        String reason = getCacheInvalidReason(mercurial, repository, patterns, cache);
+        if (reason == null) {
+            if (StringUtils.equals(tip.getNode(), cache.getNode())) {
+                out.println("Copyright cache is up to date as of revision " + cache.getRevision() + ".");
+                map = filterFileYearsMap(cache.getFileYearsMap(), getTrackedFiles(mercurial, repository, patterns));
+            } else {
+                map = updateFileYearsMap(mercurial, repository, patterns, cache, tip, out);
+                if (map == null) {
+                    reason = "new changesets copy or rename files";
+                }
+            }
+        }
+
+        if (map == null) {
+            out.println("Rebuilding copyright cache: " + reason + ".");
+            map = generateFileYearsMapSinglePass(mercurial, repository, patterns);
+        }
+
+        new CopyrightCache(tip.getRevision().intValue(), tip.getNode(), getPatternStrings(patterns), map).save(cacheFile);
+        return map;
+    }
+
+    /**
+     * Check whether a cache can be used for incremental analysis.
+     * @param mercurial  Path to the Mercurial (hg) executable.
+     * @param repository Mercurial repository to be modified
+     * @param patterns   Regular expression patterns which specify the files to update.
+     * @param cache      Cache loaded from disk, possibly null
+     * @return Reason the cache is invalid, or null if the cache is valid.
+     */
+    private static String getCacheInvalidReason(String mercurial, String repository, List<Pattern> patterns, CopyrightCache cache) {
+        if (cache == null) {
+            return "no usable cache";
+        } else if (!getPatternStrings(patterns).equals(cache.getPatterns())) {
+            return "patterns have changed";
+        } else {
+            Logentry cached = getLogentry(mercurial, repository, String.valueOf(cache.getRevision()));
+            if (cached == null || !StringUtils.equals(cached.getNode(), cache.getNode())) {
+                return "cached revision " + cache.getRevision() + " no longer matches history";
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Update cached years with the changesets that are newer than the cache.
+     * @param mercurial  Path to the Mercurial (hg) executable.
+     * @param repository Mercurial repository to be modified
+     * @param patterns   Regular expression patterns which specify the files to update.
+     * @param cache      Valid cache
+     * @param tip        Log entry for the tip changeset
+     * @param out        Stream that progress messages are written to
+     * @return Map from file name to years, or null if the cache can't be updated incrementally.
+     */
+    private static Map<String, YearSet> updateFileYearsMap(String mercurial, String repository, List<Pattern> patterns,
+                                                                 CopyrightCache cache, Logentry tip, PrintStream out) {
+        List<String> trackedFiles = getTrackedFiles(mercurial, repository, patterns);
+        final MercurialHistoryIndex index = new MercurialHistoryIndex(trackedFiles);
+        final List<Logentry> copies = new ArrayList<Logentry>();
+
+        CommandLine command = new CommandLine(mercurial);
+        command.addArg("log");
+        command.addArg("--rev");
+        command.addArg(tip.getRevision() + ":" + (cache.getRevision() + 1));  // newest first, as required by the index
+        command.addArg("--verbose");  // required to get the list of paths for each changeset
+        command.addArg("--copies");
+        command.addArg("--style");
+        command.addArg("xml");
+
+        // It works best to execute the command from within the repository location.
+        // Mercurial is not always consistent about behavior if you specify the path to the repo.
+        CommandLineResult result = executeMercurial(mercurial, repository, command, true, new CommandLineOutputHandler() {
+            public void handleOutput(InputStream stream) throws Exception {
+                MercurialLogReader reader = new MercurialLogReader(stream);
+                try {
+                    Logentry logentry = reader.next();
+                    while (logentry != null) {
+                        if (logentry.getCopies() != null && !logentry.getCopies().getCopy().isEmpty()) {
+                            copies.add(logentry);
+                        }
+
+                        index.addLogentry(logentry);
+                        logentry = reader.next();
+                    }
+                } finally {
+                    reader.close();
+                }
+            }
+        });
+
+        if (result.getExitCode() != 0) {
+            throw new RuntimeException("Command failed: " + command.toString());
+        }
+
+        if (!copies.isEmpty()) {
+            return null;
+        }
+
+        Map<String, YearSet> cached = cache.getFileYearsMap();
+        Map<String, YearSet> map = index.getFileYearsMap();
+        for (String trackedFile : map.keySet()) {
+            map.get(trackedFile).addAll(cached.get(trackedFile));
+        }
+
+        out.println("Updated copyright cache from revision " + cache.getRevision() + " to revision " + tip.getRevision() + ".");
+        return map;
+    }
+
+    /**
+     * Filter a map from file name to years down to a set of tracked files.
+     * @param fileYearsMap  Map from file name to years
+     * @param trackedFiles  Tracked files to keep
+     * @return Map containing an entry for every tracked file, sorted by file name.
+     */
+    private static Map<String, YearSet> filterFileYearsMap(Map<String, YearSet> fileYearsMap, List<String> trackedFiles) {
+        Map<String, YearSet> map = new TreeMap<String, YearSet>();
+
+        for (String trackedFile : trackedFiles) {
+            YearSet years = fileYearsMap.get(trackedFile);
+            map.put(trackedFile, years != null ? years : new YearSet());
+        }
+
+        return map;
+    }
+
+    /**
+     * Get the log entry for a single revision.
+     * @param mercurial  Path to the Mercurial (hg) executable.
+     * @param repository Mercurial repository to be modified
+     * @param revision   Revision to look up, like "tip" or "42"
+     * @return Log entry for the revision, or null if the revision does not exist.
+     */
+    protected static Logentry getLogentry(String mercurial, String repository, String revision) {
+        final List<Logentry> logentries = new ArrayList<Logentry>();
+
+        CommandLine command = new CommandLine(mercurial);
+        command.addArg("log");
+        command.addArg("--rev");
+        command.addArg(revision);
+        command.addArg("--style");
+        command.addArg("xml");
+
+        // It works best to execute the command from within the repository location.
+        // Mercurial is not always consistent about behavior if you specify the path to the repo.
+        CommandLineResult result = executeMercurial(mercurial, repository, command, true, new CommandLineOutputHandler() {
+            public void handleOutput(InputStream stream) throws Exception {
+                MercurialLogReader reader = new MercurialLogReader(stream);
+                try {
+                    Logentry logentry = reader.next();
+                    while (logentry != null) {
+                        logentries.add(logentry);
+                        logentry = reader.next();
+                    }
+                } finally {
+                    reader.close();
+                }
+            }
+        });
+
+        if (result.getExitCode() != 0 || logentries.isEmpty()) {
+            return null;  // Mercurial fails if the revision does not exist
+        }
+
+        return logentries.get(0);
+    }
+
+    /**
+     * Convert a list of patterns into a list of strings, for comparison.
+     * @param patterns  Regular expression patterns
+     * @return List of pattern strings, in the same order.
+     */
+    private static List<String> getPatternStrings(List<Pattern> patterns) {
+        List<String> strings = new ArrayList<String>();
+
+        for (Pattern pattern : patterns) {
+            strings.add(pattern.pattern());
+        }
+
+        return strings;
+    }
+
+    /**
+     * Add all of the log entries in a stream to a history index.
+     * @param index   History index to add to
+     * @param stream  Stream containing Mercurial XML log output
+     */
+    protected static void addLogentries(MercurialHistoryIndex index, InputStream stream) {
+        MercurialLogReader reader = new MercurialLogReader(stream);
+        try {
+            Logentry logentry = reader.next();
+            while (logentry != null) {
+                index.addLogentry(logentry);
+                logentry = reader.next();
+            }
+        } finally {
+            reader.close();
+        }
+    }
+
+    /**
+     * Generate an overall range of years among all files in the repository.
+     * @param fileYearsMap  Map as from generateFileYearsMap()
+     * @return Set of years that any file was modified in.
+     */
+    protected static YearSet generateOverallYears(Map<String, YearSet> fileYearsMap) {
+        YearSet overallYears = new YearSet();
+
+        for (YearSet years : fileYearsMap.values()) {
+            overallYears.addAll(years);
+        }
+
+        return overallYears;
+    }
+
+    /**
+     * Get a list of the files tracked in the repository, filtered down to the ones which match a pattern.
+     * @param mercurial  Path to the Mercurial (hg) executable.
+     * @param repository Mercurial repository to be modified
+     * @param pattern    Regular expression pattern which specifies the files to update.
+     * @return List of tracked files.
+     */
+    protected static List<String> getTrackedFiles(String mercurial, String repository, Pattern pattern) {
+        List<Pattern> patterns = new ArrayList<Pattern>();
+        patterns.add(pattern);
+        return getTrackedFiles(mercurial, repository, patterns);
+    }
+
+    /**
+     * Get a list of the files tracked in the repository, filtered down to the ones which match a set of patterns.
+     * @param mercurial  Path to the Mercurial (hg) executable.
+     * @param repository Mercurial repository to be modified
+     * @param patterns   Regular expression patterns which specify the files to update.
+     * @return List of tracked files.
+     */
+    protected static List<String> getTrackedFiles(String mercurial, String repository, List<Pattern> patterns) {
+        final List<String> trackedFiles = new ArrayList<String>();
+        final TrackedFileMatcher matcher = new TrackedFileMatcher(patterns);
+
+        CommandLine command = new CommandLine(mercurial);
+        command.addArg("locate");
+
+        // It works best to execute the command from within the repository location.
+        // Mercurial is not always consistent about behavior if you specify the path to the repo.
+        // Each line is filtered as it arrives, so the full list of files is never held in memory.
+        CommandLineResult result = executeMercurial(mercurial, repository, command, true, new CommandLineOutputHandler() {
+            public void handleOutput(InputStream stream) throws Exception {
+                BufferedReader reader = new BufferedReader(new InputStreamReader(stream));
+                String line = reader.readLine();
+                while (line != null) {
+                    String normalized = normalizeTrackedFile(line);
+                    if (matcher.matches(normalized)) {
+                        trackedFiles.add(normalized);
+                    }
+
+                    line = reader.readLine();
+                }
+            }
+        });
+
+        if (result.getExitCode() != 0) {
+            throw new RuntimeException("Command failed: " + command.toString());
+        }
+
+        return trackedFiles;
+    }
+
+    /**
+     * Normalize a tracked file path as reported by version control.
+     *
+     * <p>
+     * Paths from version control are already relative and clean, so all that
+     * is needed is to convert Windows path separators.  This is equivalent to
+     * FilesystemUtils.normalize() for such paths, but doesn't create a File.
+     * </p>
+     *
+     * @param path  Path as reported by version control
+     * @return Path with the separator normalized to /.
+     */
+    protected static String normalizeTrackedFile(String path) {
+        return path.indexOf('\\') >= 0 ? path.replace('\\', '/') : path;
+    }
+
+    /**
+     * Filter a list of tracked files down to the ones which match a set of patterns.
+     * @param trackedFiles  Tracked files, with normalized paths relative to the repository root
+     * @param patterns      Regular expression patterns which specify the files to update.
+     * @return List of tracked files that match at least one pattern, in the original order.
+     */
+    protected static List<String> filterTrackedFiles(List<String> trackedFiles, List<Pattern> patterns) {
+        return new TrackedFileMatcher(patterns).filter(trackedFiles);
+    }
+
+    /**
+     * Execute a Mercurial command, streaming its output to a handler.
+     *
+     * <p>
+     * If requested, the command is sent to the shared command server for the
+     * repository, which avoids the cost of starting a new Mercurial process.
+     * If the server isn't available, we fall back to a separate process.
+     * </p>
+     *
+     * @param mercurial  Path to the Mercurial (hg) executable.
+     * @param repository Mercurial repository to operate in
+     * @param command    Command to execute, where the command itself is the Mercurial executable
+     * @param useServer  Whether to use the shared command server, if it is available
+     * @param handler    Handler that will consume stdout
+     * @return Result of the command, where the output is whatever was written to stderr.
+     */
+    protected static CommandLineResult executeMercurial(String mercurial, String repository, CommandLine command,
+                                                        boolean useServer, CommandLineOutputHandler handler) {
+        MercurialCommandServer server = useServer ? MercurialCommandServer.getServer(mercurial, repository) : null;
+        if (server != null) {
+            return server.runCommand(command.getArgs(), handler);
+        } else {
+            return CommandLineUtils.executeCommand(command, repository, handler);
+        }
+    }
+
+    /**
+     * Get the years in which a tracked file was modified in Mercurial.
+     * @param mercurial   Path to the Mercurial (hg) executable.
+     * @param repository  Mercurial repository to be modified
+     * @param trackedFile Tracked file to analyze
+     * @return Set of years in which the tracked file was modified.
+     */
+    protected static YearSet getYearsForTrackedFile(String mercurial, String repository, String trackedFile) {
+        return getYearsForTrackedFile(mercurial, repository, trackedFile, true);
+    }
+
+    /**
+     * Get the years in which a tracked file was modified in Mercurial.
+     * @param mercurial   Path to the Mercurial (hg) executable.
+     * @param repository  Mercurial repository to be modified
+     * @param trackedFile Tracked file to analyze
+     * @param useServer   Whether to use the shared command server, if it is available
+     * @return Set of years in which the tracked file was modified.
+     */
+    protected static YearSet getYearsForTrackedFile(String mercurial, String repository, String trackedFile, boolean useServer) {
+        final YearSet years = new YearSet();
+
+        CommandLine command = new CommandLine(mercurial);
+        command.addArg("log");
+        command.addArg("--follow");
+        command.addArg("--style");
+        command.addArg("xml");
+        command.addArg(trackedFile);
+
+        // It works best to execute the command from within the repository location.
+        // Mercurial is not always consistent about behavior if you specify the path to the repo.
+        // The output is streamed straight into the extractor, so we never hold the whole log in memory.
+        CommandLineResult result = executeMercurial(mercurial, repository, command, useServer, new CommandLineOutputHandler() {
+            public void handleOutput(InputStream stream) throws Exception {
+                years.addAll(MercurialYearExtractor.extractYears(stream));
+            }
+        });
+
+        if (result.getExitCode() != 0) {
+            throw new RuntimeException("Command failed: " + command.toString());
+        }
+
+        return years;
+    }
+
+    /**
+     * Update the copyright statement in a file.
+     * @param file   File to modify
+     * @param years  List of years that the file was edited in
+     * @return Number of files updated (either 0 or 1).
+     */
+    protected static int updateCopyrightStatement(String file, List<Integer> years) {
+        return updateCopyrightStatement(file, years, false);
+    }
+
+    /**
+     * Update or check the copyright statement in a file.
+     *
+     * <p>
+     * Only the file header is scanned, and the file is only written if the
+     * statement actually changes.  In check mode, nothing is ever written.
+     * </p>
+     *
+     * @param file   File to modify
+     * @param years  List of years that the file was edited in
+     * @param check  Whether to only check for a stale statement, without writing anything
+     * @return Number of files updated or found to be stale (either 0 or 1).
+     */
+    protected static int updateCopyrightStatement(String file, List<Integer> years, boolean check) {
+        return updateCopyrightStatement(file, new YearSet(years), check);
+    }
+
+    /**
+     * Update or check the copyright statement in a file.
+     * @param file   File to modify
+     * @param years  Set of years that the file was edited in
+     * @param check  Whether to only check for a stale statement, without writing anything
+     * @return Number of files updated or found to be stale (either 0 or 1).
+     * @see #updateCopyrightStatement(String, List, boolean)
+     */
+    protected static int updateCopyrightStatement(String file, YearSet years, boolean check) {
+        String range = years == null || years.isEmpty() ? null : years.toRange();
+        if (check) {
+            return HEADER_SCANNER.isStale(file, range) ? 1 : 0;
+        } else {
+            return HEADER_SCANNER.update(file, range) ? 1 : 0;
+        }
+    }
+
+    /**
+     * Generate a copyright year range from a list of years.
+     *
+     * <p>
+     * A range is something like "2011,2013-2015,2017".  Consecutive
+     * years are bundled together with a "-" and other years are just
+     * added with a comma.
+     * </p>
+     *
+     * @param years   List of years
+     * @return Copyright year range for the list of years, or null if no range can be derived.
+     */
+    protected static String generateCopyrightRange(List<Integer> years) {
+        if (years == null || years.size() == 0) {
+            return null;
+        } else {
+            return new YearSet(years).toRange();
+        }
+    }
+
+    /** Generate a command-line help statement. */
+    protected static String generateHelp() {
+        return "Usage: CopyrightTool [--single-pass] [--parallelism n] [--cache file] [--vcs hg|git] [--check] vcspath repository pattern [pattern, ...]\n" +
+               "\n" +
+               "   vcspath     Path to the hg or git executable, including .exe on Windows\n" +
+               "   repository  Path to the repository to be updated\n" +
+               "   pattern     Regular expression pattern matching files to be updated" +
+               "\n" +
+               "   --single-pass  Analyze history with one query over the whole repository,\n" +
+               "                  rather than one query per file (much faster for large repos)\n" +
+               "   --parallelism  Number of per-file history queries to run concurrently,\n" +
+               "                  which defaults to 1 and is ignored for --single-pass\n" +
+               "   --cache        Path to a persistent cache of copyright years, so that only\n" +
+               "                  changesets newer than the last run need to be analyzed\n" +
+               "   --vcs          Version control system, either hg (the default) or git;\n" +
+               "                  git always uses a single pass and does not support --cache\n" +
+               "   --check        Only check whether copyright statements are up to date,\n" +
+               "                  exiting with status 1 if any are stale; nothing is written\n" +
+               "\n" +
+               "Update copyright statements in the indicated repositories.\n" +
+               "The code is assumed to follow Cedar Solutions standards.  After running\n" +
+               "the tool, you'll need to review changes and commit them.\n" +
+               "\n" +
+               "The regular expression patterns must be designed to match paths that are\n" +
+               "relative to the repository root.  These patterns can assume that the path " +
+               "separator has been normalized to / on both Windows and UNIX-like systems.";
+    }
+
+}
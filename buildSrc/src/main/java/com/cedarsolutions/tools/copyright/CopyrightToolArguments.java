@@ -1,100 +1,242 @@
-/* * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
- *
- *              C E D A R
- *          S O L U T I O N S       "Software done right."
- *           S O F T W A R E
- *
- * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
- *
- * Copyright (c) 2013 Kenneth J. Pronovici.
- * All rights reserved.
- *
- * This program is free software; you can redistribute it and/or
- * modify it under the terms of the Apache License, Version 2.0.
- * See LICENSE for more information about the licensing terms.
- *
- * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
- *
- * Author   : Kenneth J. Pronovici <pronovic@ieee.org>
- * Language : Java 6
- * Project  : Common Java Functionality
- *
- * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * */
-package com.cedarsolutions.tools.copyright;
-
-import java.util.ArrayList;
-import java.util.List;
-import java.util.regex.Pattern;
-
-import com.cedarsolutions.util.FilesystemUtils;
-import com.cedarsolutions.util.CommandLineArguments;
-
-/**
- * Command-line arguments for CopyrightTool.
- * @author Kenneth J. Pronovici <pronovic@ieee.org>
- */
-public class CopyrightToolArguments extends CommandLineArguments {
-
-    /** Path to the Mercurial (hg) executable. */
-    private String mercurial;
-
-    /** Mercurial repository to be modified. */
-    private String repository;
-
-    /** Regular expression pattern matching the license file, with the project-wide copyright in it. */
-    private Pattern licensePattern;
-
-    /** Regular expression patterns which specify the files to update. */
-    private List<Pattern> patterns;
-
-    /**
-     * Constructor in terms of command-line arguments.
-     * @param args Array of command-line arguments, as from main()
-     */
-    public CopyrightToolArguments(String[] args) {
-        super(args);
-    }
-
-    /**
-     * Parse command-line arguments.
-     * @param args Array of command-line arguments, as from main()
-     * @throws RuntimeException If the command-line arguments are invalid.
-     */
-    @Override
-    protected void parseArguments(String[] args) throws RuntimeException {
-        if (args == null || args.length < 4) {
-            throw new RuntimeException("Arguments are invalid.");
-        }
-
-        this.mercurial = FilesystemUtils.normalize(args[0]);
-        this.repository = FilesystemUtils.normalize(args[1]);
-        this.licensePattern = Pattern.compile(args[2]);
-
-        this.patterns = new ArrayList<Pattern>();
-        for (int i = 3; i < args.length; i++) {
-            Pattern pattern = Pattern.compile(args[i]);
-            this.patterns.add(pattern);
-        }
-    }
-
-    /** Path to the Mercurial (hg) executable. */
-    public String getMercurial() {
-        return this.mercurial;
-    }
-
-    /** Mercurial repository to be modified. */
-    public String getRepository() {
-        return this.repository;
-    }
-
-    /** Regular expression pattern matching the license file, with the project-wide copyright in it. */
-    public Pattern getLicensePattern() {
-        return this.licensePattern;
-    }
-
-    /** Regular expression patterns which specify the files to update. */
-    public List<Pattern> getPatterns() {
-        return this.patterns;
-    }
-
-}
+/* * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ *
+ *              C E D A R
+ *          S O L U T I O N S       "Software done right."
+ *           S O F T W A R E
+ *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ *
+ * Copyright (c) 2013 Kenneth J. Pronovici.
+ * All rights reserved.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the Apache License, Version 2.0.
+ * See LICENSE for more information about the licensing terms.
+ *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ *
+ * Author   : Kenneth J. Pronovici <pronovic@ieee.org>
+ * Language : Java 6
+ * Project  : Common Java Functionality
+ *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * */
+package com.cedarsolutions.tools.copyright;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import com.cedarsolutions.util.FilesystemUtils;
+import com.cedarsolutions.util.CommandLineArguments;
+
+/**
+ * Command-line arguments for CopyrightTool.
+ * @author Kenneth J. Pronovici <pronovic@ieee.org>
+ */
+public class CopyrightToolArguments extends CommandLineArguments {
+
+    /** Option that enables single-pass history analysis. */
+    public static final String SINGLE_PASS = "--single-pass";
+
+    /** Option that sets the number of history lookups to run concurrently. */
+    public static final String PARALLELISM = "--parallelism";
+
+    /** Option that sets the path of a persistent incremental cache. */
+    public static final String CACHE = "--cache";
+
+    /** Option that chooses the version control system. */
+    public static final String VCS = "--vcs";
+
+    /** Version control system for Mercurial, the default. */
+    public static final String MERCURIAL = "hg";
+
+    /** Version control system for git. */
+    public static final String GIT = "git";
+
+    /** Option that only checks copyright statements, without writing anything. */
+    public static final String CHECK = "--check";
+
+    /** Options that are flags, with no value. */
+    private static final List<String> FLAGS = Arrays.asList(SINGLE_PASS, CHECK);
+
+    /** Options that are parameters, followed by a value. */
+    private static final List<String> PARAMETERS = Arrays.asList(PARALLELISM, CACHE, VCS);
+
+    /** Version control system, either "hg" or "git". */
+    private String vcs;
+
+    /** Path to the version control executable, either hg or git. */
+    private String mercurial;
+
+    /** Repository to be modified. */
+    private String repository;
+
+    /** Regular expression pattern matching the license file, with the project-wide copyright in it. */
+    private Pattern licensePattern;
+
+    /** Regular expression patterns which specify the files to update. */
+    private List<Pattern> patterns;
+
+    /** Whether to analyze history with a single pass over the whole repository. */
+    private boolean singlePass;
+
+    /** Number of history lookups to run concurrently. */
+    private int parallelism;
+
+    /** Whether to only check copyright statements, without writing anything. */
+    private boolean check;
+
+    /** Path to the persistent incremental cache, or null if there is no cache. */
+    private String cacheFile;
+
+    /**
+     * Constructor in terms of command-line arguments.
+     * @param args Array of command-line arguments, as from main()
+     */
+    public CopyrightToolArguments(String[] args) {
+        super(args);
+    }
+
+    /**
+     * Parse command-line arguments.
+     * @param args Array of command-line arguments, as from main()
+     * @throws RuntimeException If the command-line arguments are invalid.
+     */
+    @Override
+    protected void parseArguments(String[] args) throws RuntimeException {
+        this.singlePass = parseFlag(args, SINGLE_PASS);
+        this.check = parseFlag(args, CHECK);
+        this.parallelism = parseParallelism(parseOptionalParameter(args, PARALLELISM));
+        this.cacheFile = parseOptionalParameter(args, CACHE);
+        if (this.cacheFile != null) {
+            this.cacheFile = FilesystemUtils.normalize(this.cacheFile);
+        }
+
+        this.vcs = parseVcs(parseOptionalParameter(args, VCS));
+        if (GIT.equals(this.vcs) && this.cacheFile != null) {
+            throw new RuntimeException("Parameter " + CACHE + " is not supported for " + GIT + ".");
+        }
+
+        List<String> positional = getPositionalArguments(args);
+        if (positional.size() < 4) {
+            throw new RuntimeException("Arguments are invalid.");
+        }
+
+        this.mercurial = FilesystemUtils.normalize(positional.get(0));
+        this.repository = FilesystemUtils.normalize(positional.get(1));
+        this.licensePattern = Pattern.compile(positional.get(2));
+
+        this.patterns = new ArrayList<Pattern>();
+        for (int i = 3; i < positional.size(); i++) {
+            Pattern pattern = Pattern.compile(positional.get(i));
+            this.patterns.add(pattern);
+        }
+    }
+
+    /**
+     * Parse the parallelism option.
+     * @param value  Value of the option, possibly null
+     * @return Parallelism, which is 1 if the option was not set.
+     * @throws RuntimeException If the value is not a positive integer.
+     */
+    private static int parseParallelism(String value) throws RuntimeException {
+        if (value == null) {
+            return 1;
+        } else {
+            try {
+                int parallelism = Integer.parseInt(value);
+                if (parallelism < 1) {
+                    throw new RuntimeException("Parameter " + PARALLELISM + " must be at least 1.");
+                }
+
+                return parallelism;
+            } catch (NumberFormatException e) {
+                throw new RuntimeException("Parameter " + PARALLELISM + " is not an integer.");
+            }
+        }
+    }
+
+    /**
+     * Parse the version control system option.
+     * @param value  Value of the option, possibly null
+     * @return Version control system, which is "hg" if the option was not set.
+     * @throws RuntimeException If the value is not a known version control system.
+     */
+    private static String parseVcs(String value) throws RuntimeException {
+        if (value == null) {
+            return MERCURIAL;
+        } else if (MERCURIAL.equals(value) || GIT.equals(value)) {
+            return value;
+        } else {
+            throw new RuntimeException("Parameter " + VCS + " must be " + MERCURIAL + " or " + GIT + ".");
+        }
+    }
+
+    /**
+     * Get the positional arguments, ignoring any options.
+     * @param args Array of command-line arguments, as from main()
+     * @return Positional arguments, in order.
+     */
+    private static List<String> getPositionalArguments(String[] args) {
+        List<String> positional = new ArrayList<String>();
+
+        if (args != null) {
+            for (int i = 0; i < args.length; i++) {
+                if (PARAMETERS.contains(args[i])) {
+                    i += 1;  // skip the value, too
+                } else if (!FLAGS.contains(args[i])) {
+                    positional.add(args[i]);
+                }
+            }
+        }
+
+        return positional;
+    }
+
+    /** Version control system, either "hg" or "git". */
+    public String getVcs() {
+        return this.vcs;
+    }
+
+    /** Path to the version control executable, either hg or git. */
+    public String getMercurial() {
+        return this.mercurial;
+    }
+
+    /** Repository to be modified. */
+    public String getRepository() {
+        return this.repository;
+    }
+
+    /** Regular expression pattern matching the license file, with the project-wide copyright in it. */
+    public Pattern getLicensePattern() {
+        return this.licensePattern;
+    }
+
+    /** Regular expression patterns which specify the files to update. */
+    public List<Pattern> getPatterns() {
+        return this.patterns;
+    }
+
+    /** Whether to analyze history with a single pass over the whole repository. */
+    public boolean isSinglePass() {
+        return this.singlePass;
+    }
+
+    /** Number of history lookups to run concurrently. */
+    public int getParallelism() {
+        return this.parallelism;
+    }
+
+    /** Whether to only check copyright statements, without writing anything. */
+    public boolean isCheck() {
+        return this.check;
+    }
+
+    /** Path to the persistent incremental cache, or null if there is no cache. */
+    public String getCacheFile() {
+        return this.cacheFile;
+    }
+
+}
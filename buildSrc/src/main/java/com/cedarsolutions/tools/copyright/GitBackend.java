@@ -0,0 +1,264 @@
+/* * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ *
+ *              C E D A R
+ *          S O L U T I O N S       "Software done right."
+ *           S O F T W A R E
+ *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ *
+ * Copyright (c) 2026 Kenneth J. Pronovici.
+ * All rights reserved.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the Apache License, Version 2.0.
+ * See LICENSE for more information about the licensing terms.
+ *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ *
+ * Author   : Kenneth J. Pronovici <pronovic@ieee.org>
+ * Language : Java 6
+ * Project  : Common Java Functionality
+ *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * */
+package com.cedarsolutions.tools.copyright;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import com.cedarsolutions.util.CommandLine;
+import com.cedarsolutions.util.CommandLineOutputHandler;
+import com.cedarsolutions.util.CommandLineResult;
+import com.cedarsolutions.util.CommandLineUtils;
+import com.cedarsolutions.util.StringUtils;
+
+/**
+ * Git backend for the copyright tool.
+ *
+ * <p>
+ * Tracked files are listed with a single <code>git ls-files -z</code>, and
+ * history for all of them is gathered with a single streamed <code>git
+ * log --name-status -M</code> over the whole repository, so the number of
+ * processes started does not depend on the number of files.  Renames and
+ * copies are followed backwards the same way as for Mercurial, so the result
+ * is equivalent to running <code>git log --follow</code> for each file.
+ * </p>
+ *
+ * @author Kenneth J. Pronovici <pronovic@ieee.org>
+ */
+public class GitBackend implements VersionControlBackend {
+
+    /** Path to the git executable. */
+    private String git;
+
+    /** Git repository to be modified. */
+    private String repository;
+
+    /**
+     * Create a git backend.
+     * @param git          Path to the git executable
+     * @param repository   Git repository to be modified
+     */
+    public GitBackend(String git, String repository) {
+        this.git = git;
+        this.repository = repository;
+    }
+
+    /** Get a list of the files tracked in the repository, filtered down to the ones which match a set of patterns. */
+    public List<String> getTrackedFiles(List<Pattern> patterns) {
+        final List<String> trackedFiles = new ArrayList<String>();
+
+        CommandLine command = new CommandLine(this.git);
+        command.addArg("ls-files");
+        command.addArg("-z");  // NUL-terminated, so paths are never quoted
+
+        CommandLineResult result = CommandLineUtils.executeCommand(command, this.repository, new CommandLineOutputHandler() {
+            public void handleOutput(InputStream stream) throws Exception {
+                trackedFiles.addAll(readNulTerminated(stream));
+            }
+        });
+
+        if (result.getExitCode() != 0) {
+            throw new RuntimeException("Command failed: " + command.toString());
+        }
+
+        return CopyrightTool.filterTrackedFiles(trackedFiles, patterns);
+    }
+
+    /** Generate a map from file name to years that file was modified in. */
+    public Map<String, YearSet> generateFileYearsMap(List<Pattern> patterns) {
+        List<String> trackedFiles = this.getTrackedFiles(patterns);
+        final HistoryIndex index = new HistoryIndex(trackedFiles);
+
+        CommandLine command = new CommandLine(this.git);
+        command.addArg("-c");
+        command.addArg("core.quotepath=false");  // only control characters, quotes and backslashes get quoted
+        command.addArg("log");
+        command.addArg("--topo-order");  // the index requires that children are seen before their parents
+        command.addArg("--format=%ad");
+        command.addArg("--date=short");
+        command.addArg("--name-status");
+        command.addArg("-M");
+
+        CommandLineResult result = CommandLineUtils.executeCommand(command, this.repository, new CommandLineOutputHandler() {
+            public void handleOutput(InputStream stream) throws Exception {
+                addChangesets(index, stream);
+            }
+        });
+
+        if (result.getExitCode() != 0) {
+            throw new RuntimeException("Command failed: " + command.toString());
+        }
+
+        return index.getFileYearsMap();
+    }
+
+    /**
+     * Read NUL-terminated UTF-8 strings from a stream, as from <code>git ls-files -z</code>.
+     * @param stream  Stream to read from
+     * @return List of strings, with paths normalized.
+     */
+    protected static List<String> readNulTerminated(InputStream stream) throws Exception {
+        List<String> result = new ArrayList<String>();
+
+        ByteArrayOutputStream current = new ByteArrayOutputStream();
+        byte[] buffer = new byte[8192];
+        int length = stream.read(buffer);
+        while (length != -1) {
+            for (int i = 0; i < length; i++) {
+                if (buffer[i] == 0) {
+                    result.add(CopyrightTool.normalizeTrackedFile(current.toString("UTF-8")));
+                    current.reset();
+                } else {
+                    current.write(buffer[i]);
+                }
+            }
+
+            length = stream.read(buffer);
+        }
+
+        if (current.size() > 0) {
+            result.add(CopyrightTool.normalizeTrackedFile(current.toString("UTF-8")));
+        }
+
+        return result;
+    }
+
+    /**
+     * Add all of the changesets in a stream to a history index.
+     *
+     * <p>
+     * The stream is output from <code>git log --format=%ad --date=short
+     * --name-status</code>.  Each commit is a line containing its date,
+     * followed by a blank line and one tab-separated status line per path.
+     * Renames and copies list the source path and then the target path.
+     * </p>
+     *
+     * @param index   History index to add to
+     * @param stream  Stream containing git log output
+     */
+    protected static void addChangesets(HistoryIndex index, InputStream stream) throws Exception {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(stream, "UTF-8"));
+
+        Integer year = null;
+        boolean started = false;
+        List<String> paths = new ArrayList<String>();
+        Map<String, String> copies = new LinkedHashMap<String, String>();
+
+        String line = reader.readLine();
+        while (line != null) {
+            if (line.indexOf('\t') >= 0) {
+                String[] fields = line.split("\t");
+                String status = fields[0];
+                if ((status.startsWith("R") || status.startsWith("C")) && fields.length > 2) {
+                    String source = unquote(fields[1]);
+                    String target = unquote(fields[2]);
+                    if (status.startsWith("R")) {
+                        paths.add(source);
+                    }
+                    paths.add(target);
+                    copies.put(target, source);
+                } else if (fields.length > 1) {
+                    paths.add(unquote(fields[1]));
+                }
+            } else if (line.trim().length() > 0) {
+                if (started) {
+                    index.addChangeset(year, paths, copies);
+                }
+
+                year = getYear(line);
+                started = true;
+                paths = new ArrayList<String>();
+                copies = new LinkedHashMap<String, String>();
+            }
+
+            line = reader.readLine();
+        }
+
+        if (started) {
+            index.addChangeset(year, paths, copies);
+        }
+    }
+
+    /**
+     * Remove git's C-style quoting from a path, if it is quoted.
+     * @param path  Path as it appears in git output
+     * @return Unquoted, normalized path.
+     */
+    protected static String unquote(String path) throws Exception {
+        if (path.length() < 2 || !path.startsWith("\"") || !path.endsWith("\"")) {
+            return CopyrightTool.normalizeTrackedFile(path);
+        }
+
+        ByteArrayOutputStream result = new ByteArrayOutputStream();
+        int i = 1;
+        while (i < path.length() - 1) {
+            char c = path.charAt(i);
+            if (c == '\\' && i + 1 < path.length() - 1) {
+                char next = path.charAt(i + 1);
+                if (next >= '0' && next <= '7' && i + 3 < path.length() - 1) {
+                    result.write(Integer.parseInt(path.substring(i + 1, i + 4), 8));  // octal-escaped byte
+                    i += 4;
+                    continue;
+                }
+
+                switch (next) {
+                case 'a': result.write(0x07); break;
+                case 'b': result.write('\b'); break;
+                case 'f': result.write('\f'); break;
+                case 'n': result.write('\n'); break;
+                case 'r': result.write('\r'); break;
+                case 't': result.write('\t'); break;
+                case 'v': result.write(0x0b); break;
+                default: result.write(next); break;
+                }
+
+                i += 2;
+            } else {
+                int end = path.indexOf('\\', i);
+                end = end < 0 || end > path.length() - 1 ? path.length() - 1 : end;
+                end = end == i ? i + 1 : end;  // a trailing lone backslash is taken literally
+                result.write(path.substring(i, end).getBytes("UTF-8"));
+                i = end;
+            }
+        }
+
+        return CopyrightTool.normalizeTrackedFile(result.toString("UTF-8"));
+    }
+
+    /** Get the year for a date like "2016-03-12", or null if it can't be determined. */
+    private static Integer getYear(String date) {
+        try {
+            return Integer.valueOf(StringUtils.substring(date.trim(), 0, 4));
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+}
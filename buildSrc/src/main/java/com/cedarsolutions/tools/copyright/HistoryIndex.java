@@ -0,0 +1,118 @@
+/* * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ *
+ *              C E D A R
+ *          S O L U T I O N S       "Software done right."
+ *           S O F T W A R E
+ *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ *
+ * Copyright (c) 2026 Kenneth J. Pronovici.
+ * All rights reserved.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the Apache License, Version 2.0.
+ * See LICENSE for more information about the licensing terms.
+ *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ *
+ * Author   : Kenneth J. Pronovici <pronovic@ieee.org>
+ * Language : Java 6
+ * Project  : Common Java Functionality
+ *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * */
+package com.cedarsolutions.tools.copyright;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Index from tracked file to the years it was modified in, built from whole-repository history.
+ *
+ * <p>
+ * Changesets must be added newest-first.  As each changeset is added, every
+ * path it touches is credited to the tracked files known by that name.
+ * Copies and renames are followed backwards: once we see the changeset
+ * that created a tracked file from some source, older changesets that touch
+ * the source are credited to the tracked file instead.  This gives the same
+ * result as following the history of each file individually, but requires
+ * only a single pass over the history.
+ * </p>
+ *
+ * <p>
+ * This class knows nothing about any particular version control system.
+ * Subclasses or callers are responsible for translating a system's log
+ * output into calls to addChangeset().
+ * </p>
+ *
+ * @author Kenneth J. Pronovici <pronovic@ieee.org>
+ */
+public class HistoryIndex {
+
+    /** Map from a path as it appears in history to the tracked files it represents. */
+    private Map<String, List<String>> aliases = new HashMap<String, List<String>>();
+
+    /** Map from tracked file to the years it was modified in. */
+    private Map<String, YearSet> fileYearsMap = new TreeMap<String, YearSet>();
+
+    /**
+     * Create an index for a set of tracked files.
+     * @param trackedFiles  Tracked files, with paths relative to the repository root
+     */
+    public HistoryIndex(List<String> trackedFiles) {
+        for (String trackedFile : trackedFiles) {
+            List<String> alias = new ArrayList<String>();
+            alias.add(trackedFile);
+            this.aliases.put(trackedFile, alias);
+            this.fileYearsMap.put(trackedFile, new YearSet());
+        }
+    }
+
+    /**
+     * Add a changeset to the index.
+     * @param year    Year of the changeset, or null if it can't be determined
+     * @param paths   Paths touched by the changeset
+     * @param copies  Map from copy (or rename) target to its source, possibly null
+     */
+    public void addChangeset(Integer year, Collection<String> paths, Map<String, String> copies) {
+        if (year != null && paths != null) {
+            for (String path : paths) {
+                List<String> trackedFiles = this.aliases.get(path);
+                if (trackedFiles != null) {
+                    for (String trackedFile : trackedFiles) {
+                        this.fileYearsMap.get(trackedFile).add(year);
+                    }
+                }
+            }
+        }
+
+        // Older history for the copy target belongs to the source instead
+        if (copies != null) {
+            for (String target : copies.keySet()) {
+                List<String> trackedFiles = this.aliases.remove(target);
+                if (trackedFiles != null) {
+                    String source = copies.get(target);
+                    List<String> existing = this.aliases.get(source);
+                    if (existing == null) {
+                        this.aliases.put(source, trackedFiles);
+                    } else {
+                        for (String trackedFile : trackedFiles) {
+                            if (!existing.contains(trackedFile)) {
+                                existing.add(trackedFile);
+                            }
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /** Get the map from tracked file to the years it was modified in, sorted by file name. */
+    public Map<String, YearSet> getFileYearsMap() {
+        return this.fileYearsMap;
+    }
+
+}
@@ -0,0 +1,95 @@
+/* * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ *
+ *              C E D A R
+ *          S O L U T I O N S       "Software done right."
+ *           S O F T W A R E
+ *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ *
+ * Copyright (c) 2026 Kenneth J. Pronovici.
+ * All rights reserved.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the Apache License, Version 2.0.
+ * See LICENSE for more information about the licensing terms.
+ *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ *
+ * Author   : Kenneth J. Pronovici <pronovic@ieee.org>
+ * Language : Java 6
+ * Project  : Common Java Functionality
+ *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * */
+package com.cedarsolutions.tools.copyright;
+
+import java.io.PrintStream;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Mercurial backend for the copyright tool.
+ *
+ * <p>
+ * History is analyzed in one of three ways: with a persistent incremental
+ * cache if a cache file is set, with a single pass over the whole repository
+ * if requested, or otherwise with one history lookup per file.
+ * </p>
+ *
+ * @author Kenneth J. Pronovici <pronovic@ieee.org>
+ */
+public class MercurialBackend implements VersionControlBackend {
+
+    /** Path to the Mercurial (hg) executable. */
+    private String mercurial;
+
+    /** Mercurial repository to be modified. */
+    private String repository;
+
+    /** Whether to analyze history with a single pass over the whole repository. */
+    private boolean singlePass;
+
+    /** Number of history lookups to run concurrently. */
+    private int parallelism;
+
+    /** Path to the persistent incremental cache, or null if there is no cache. */
+    private String cacheFile;
+
+    /** Stream that progress messages are written to. */
+    private PrintStream out;
+
+    /**
+     * Create a Mercurial backend.
+     * @param mercurial    Path to the Mercurial (hg) executable
+     * @param repository   Mercurial repository to be modified
+     * @param singlePass   Whether to analyze history with a single pass over the whole repository
+     * @param parallelism  Number of history lookups to run concurrently
+     * @param cacheFile    Path to the persistent incremental cache, or null if there is no cache
+     * @param out          Stream that progress messages are written to
+     */
+    public MercurialBackend(String mercurial, String repository, boolean singlePass, int parallelism, String cacheFile, PrintStream out) {
+        this.mercurial = mercurial;
+        this.repository = repository;
+        this.singlePass = singlePass;
+        this.parallelism = parallelism;
+        this.cacheFile = cacheFile;
+        this.out = out;
+    }
+
+    /** Get a list of the files tracked in the repository, filtered down to the ones which match a set of patterns. */
+    public List<String> getTrackedFiles(List<Pattern> patterns) {
+        return CopyrightTool.getTrackedFiles(this.mercurial, this.repository, patterns);
+    }
+
+    /** Generate a map from file name to years that file was modified in. */
+    public Map<String, YearSet> generateFileYearsMap(List<Pattern> patterns) {
+        if (this.cacheFile != null) {
+            return CopyrightTool.generateFileYearsMapIncremental(this.mercurial, this.repository, patterns, this.cacheFile, this.out);
+        } else if (this.singlePass) {
+            return CopyrightTool.generateFileYearsMapSinglePass(this.mercurial, this.repository, patterns);
+        } else {
+            return CopyrightTool.generateFileYearsMap(this.mercurial, this.repository, patterns, this.parallelism);
+        }
+    }
+
+}
@@ -0,0 +1,87 @@
+/* * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ *
+ *              C E D A R
+ *          S O L U T I O N S       "Software done right."
+ *           S O F T W A R E
+ *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ *
+ * Copyright (c) 2026 Kenneth J. Pronovici.
+ * All rights reserved.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the Apache License, Version 2.0.
+ * See LICENSE for more information about the licensing terms.
+ *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ *
+ * Author   : Kenneth J. Pronovici <pronovic@ieee.org>
+ * Language : Java 6
+ * Project  : Common Java Functionality
+ *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * */
+package com.cedarsolutions.tools.copyright;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.cedarsolutions.util.StringUtils;
+import com.cedarsolutions.xml.bindings.hg.log.Copy;
+import com.cedarsolutions.xml.bindings.hg.log.Logentry;
+import com.cedarsolutions.xml.bindings.hg.log.Path;
+
+/**
+ * History index built from Mercurial log entries.
+ *
+ * <p>
+ * Log entries must be added newest-first, which is the order that
+ * <code>hg log</code> produces by default.  The result is the same as
+ * running <code>hg log --follow</code> for each file individually.
+ * </p>
+ *
+ * @author Kenneth J. Pronovici <pronovic@ieee.org>
+ */
+public class MercurialHistoryIndex extends HistoryIndex {
+
+    /**
+     * Create an index for a set of tracked files.
+     * @param trackedFiles  Tracked files, with paths relative to the repository root
+     */
+    public MercurialHistoryIndex(List<String> trackedFiles) {
+        super(trackedFiles);
+    }
+
+    /**
+     * Add a log entry to the index.
+     * @param logentry  Log entry to add, which must be older than any entry added previously
+     */
+    public void addLogentry(Logentry logentry) {
+        List<String> paths = new ArrayList<String>();
+        if (logentry.getPaths() != null) {
+            for (Path path : logentry.getPaths().getPath()) {
+                paths.add(path.getContent());
+            }
+        }
+
+        Map<String, String> copies = new LinkedHashMap<String, String>();
+        if (logentry.getCopies() != null) {
+            for (Copy copy : logentry.getCopies().getCopy()) {
+                copies.put(copy.getValue(), copy.getSource());
+            }
+        }
+
+        this.addChangeset(getYear(logentry), paths, copies);
+    }
+
+    /** Get the year for a log entry, or null if it can't be determined. */
+    private static Integer getYear(Logentry logentry) {
+        try {
+            return Integer.valueOf(StringUtils.substring(logentry.getDate(), 0, 4));
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+}
@@ -0,0 +1,104 @@
+/* * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ *
+ *              C E D A R
+ *          S O L U T I O N S       "Software done right."
+ *           S O F T W A R E
+ *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ *
+ * Copyright (c) 2026 Kenneth J. Pronovici.
+ * All rights reserved.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the Apache License, Version 2.0.
+ * See LICENSE for more information about the licensing terms.
+ *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ *
+ * Author   : Kenneth J. Pronovici <pronovic@ieee.org>
+ * Language : Java 6
+ * Project  : Common Java Functionality
+ *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * */
+package com.cedarsolutions.tools.copyright;
+
+import java.io.InputStream;
+
+import javax.xml.bind.Unmarshaller;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import com.cedarsolutions.util.JaxbUtils;
+import com.cedarsolutions.xml.bindings.hg.log.Logentry;
+
+/**
+ * Streaming reader for Mercurial XML log output, as from <code>hg log --style xml</code>.
+ *
+ * <p>
+ * Rather than unmarshalling the entire log into a <code>Log</code> object,
+ * this reader walks the XML with StAX and unmarshals one <code>Logentry</code>
+ * at a time.  That way, memory usage is bounded by the size of a single
+ * changeset, no matter how long the history is.
+ * </p>
+ *
+ * @author Kenneth J. Pronovici <pronovic@ieee.org>
+ */
+public class MercurialLogReader {
+
+    /** Name of the element that wraps each changeset. */
+    private static final String LOGENTRY = "logentry";
+
+    /** Underlying XML stream reader. */
+    private XMLStreamReader reader;
+
+    /** Unmarshaller used for each log entry. */
+    private Unmarshaller unmarshaller;
+
+    /**
+     * Create a reader on top of an input stream.
+     * @param stream  Stream containing Mercurial XML log output
+     * @throws RuntimeException If the reader cannot be created.
+     */
+    public MercurialLogReader(InputStream stream) {
+        try {
+            XMLInputFactory factory = XMLInputFactory.newInstance();
+            factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+            this.reader = factory.createXMLStreamReader(stream);
+            this.unmarshaller = JaxbUtils.getInstance().getJaxbContext(Logentry.class).createUnmarshaller();
+        } catch (Exception e) {
+            throw new RuntimeException("Error creating Mercurial log reader: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Read the next log entry from the stream.
+     * @return Next log entry, or null if there are no more entries.
+     * @throws RuntimeException If the XML cannot be parsed.
+     */
+    public Logentry next() {
+        try {
+            while (this.reader.hasNext()) {
+                if (this.reader.getEventType() == XMLStreamConstants.START_ELEMENT && LOGENTRY.equals(this.reader.getLocalName())) {
+                    // Unmarshalling leaves the reader positioned just past the end of the element
+                    return this.unmarshaller.unmarshal(this.reader, Logentry.class).getValue();
+                }
+
+                this.reader.next();
+            }
+
+            return null;
+        } catch (Exception e) {
+            throw new RuntimeException("Error reading Mercurial log: " + e.getMessage(), e);
+        }
+    }
+
+    /** Close the reader, ignoring errors.  This does not close the underlying stream. */
+    public void close() {
+        try {
+            this.reader.close();
+        } catch (XMLStreamException e) { }
+    }
+
+}
@@ -0,0 +1,114 @@
+/* * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ *
+ *              C E D A R
+ *          S O L U T I O N S       "Software done right."
+ *           S O F T W A R E
+ *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ *
+ * Copyright (c) 2026 Kenneth J. Pronovici.
+ * All rights reserved.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the Apache License, Version 2.0.
+ * See LICENSE for more information about the licensing terms.
+ *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ *
+ * Author   : Kenneth J. Pronovici <pronovic@ieee.org>
+ * Language : Java 6
+ * Project  : Common Java Functionality
+ *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * */
+package com.cedarsolutions.tools.copyright;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PushbackInputStream;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import com.cedarsolutions.util.StringUtils;
+
+/**
+ * Extracts the years from Mercurial XML log output, as from <code>hg log --style xml</code>.
+ *
+ * <p>
+ * The only thing the copyright tool needs from a file's history is the set
+ * of years it was changed in.  Rather than unmarshalling the whole log into
+ * a <code>Log</code> object graph, this class streams through the XML with
+ * StAX and looks only at the <code>&lt;date&gt;</code> elements.  Memory usage
+ * is constant, no matter how long the history is.
+ * </p>
+ *
+ * @author Kenneth J. Pronovici <pronovic@ieee.org>
+ */
+public class MercurialYearExtractor {
+
+    /** Name of the element that holds the changeset date. */
+    private static final String DATE = "date";
+
+    /** Factory used to create XML stream readers, which is thread-safe once configured. */
+    private static final XMLInputFactory FACTORY = createFactory();
+
+    /**
+     * Extract years from Mercurial XML log output.
+     * @param stream  Stream containing the log output, which may be empty
+     * @return Set of years in which changes were made.
+     * @throws RuntimeException If the XML cannot be parsed.
+     */
+    public static YearSet extractYears(InputStream stream) {
+        YearSet years = new YearSet();
+
+        try {
+            // Mercurial generates no output at all for a file with no history
+            PushbackInputStream input = new PushbackInputStream(stream);
+            int first = input.read();
+            if (first == -1) {
+                return years;
+            }
+
+            input.unread(first);
+            XMLStreamReader reader = FACTORY.createXMLStreamReader(input);
+            try {
+                while (reader.hasNext()) {
+                    if (reader.next() == XMLStreamConstants.START_ELEMENT && DATE.equals(reader.getLocalName())) {
+                        Integer year = getYear(reader.getElementText());
+                        if (year != null) {
+                            years.add(year);
+                        }
+                    }
+                }
+            } finally {
+                reader.close();
+            }
+
+            return years;
+        } catch (XMLStreamException e) {
+            throw new RuntimeException("Error reading Mercurial log: " + e.getMessage(), e);
+        } catch (IOException e) {
+            throw new RuntimeException("Error reading Mercurial log: " + e.getMessage(), e);
+        }
+    }
+
+    /** Get the year from a Mercurial date like 2012-04-03T11:06:13-05:00, or null if it can't be determined. */
+    private static Integer getYear(String date) {
+        try {
+            return Integer.valueOf(StringUtils.substring(StringUtils.trim(date), 0, 4));
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    /** Create the XML input factory. */
+    private static XMLInputFactory createFactory() {
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_COALESCING, true);
+        return factory;
+    }
+
+}
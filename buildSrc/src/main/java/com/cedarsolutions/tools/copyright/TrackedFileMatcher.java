@@ -0,0 +1,344 @@
+/* * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ *
+ *              C E D A R
+ *          S O L U T I O N S       "Software done right."
+ *           S O F T W A R E
+ *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ *
+ * Copyright (c) 2026 Kenneth J. Pronovici.
+ * All rights reserved.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the Apache License, Version 2.0.
+ * See LICENSE for more information about the licensing terms.
+ *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ *
+ * Author   : Kenneth J. Pronovici <pronovic@ieee.org>
+ * Language : Java 6
+ * Project  : Common Java Functionality
+ *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * */
+package com.cedarsolutions.tools.copyright;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Matches tracked file paths against a set of regular expression patterns.
+ *
+ * <p>
+ * This gives the same answer as checking each pattern in turn with
+ * StringUtils.matches(), but is much cheaper when there are many paths and
+ * many patterns.  When the matcher is built, each pattern is examined for a
+ * literal prefix and a literal suffix that every matching path must have
+ * (for instance, <code>^.*\.java$</code> requires the suffix
+ * <code>.java</code>).  Paths that can't satisfy any pattern's literals are
+ * rejected with simple string comparisons, without running a regular
+ * expression at all.  The remaining paths are checked with a single
+ * alternation combining all of the patterns, rather than one pattern at a
+ * time.
+ * </p>
+ *
+ * <p>
+ * Literal extraction is deliberately conservative: any pattern with flags,
+ * inline options, alternation or quoting gets no literals, so it never
+ * causes a path to be rejected.  Escapes introduced by a letter or digit,
+ * like <code>\x2e</code> or <code>\p{Alpha}</code>, are never treated as
+ * literals.  Patterns with flags or backreferences can't be safely combined,
+ * so if there are any, each pattern is checked individually instead.
+ * </p>
+ *
+ * @author Kenneth J. Pronovici <pronovic@ieee.org>
+ */
+public class TrackedFileMatcher {
+
+    /** Characters that have special meaning outside of a character class. */
+    private static final String METACHARACTERS = "\\[](){}.*+?^$|";
+
+    /** Characters that quantify the preceding element. */
+    private static final String QUANTIFIERS = "*+?{";
+
+    /** Patterns to match against. */
+    private List<Pattern> patterns;
+
+    /** Literal prefix required by each pattern, possibly empty. */
+    private String[] prefixes;
+
+    /** Literal suffix required by each pattern, possibly empty. */
+    private String[] suffixes;
+
+    /** Whether every pattern has at least one literal, so the prefilter can reject paths. */
+    private boolean prefilter;
+
+    /** All of the patterns combined into a single alternation, or null if they can't be combined. */
+    private Pattern combined;
+
+    /**
+     * Create a matcher for a set of patterns.
+     * @param patterns  Regular expression patterns, any one of which must match the entire path
+     */
+    public TrackedFileMatcher(List<Pattern> patterns) {
+        this.patterns = new ArrayList<Pattern>(patterns);
+        this.prefixes = new String[patterns.size()];
+        this.suffixes = new String[patterns.size()];
+        this.prefilter = !patterns.isEmpty();
+
+        boolean combinable = true;
+        StringBuffer alternation = new StringBuffer();
+        for (int i = 0; i < patterns.size(); i++) {
+            Pattern pattern = patterns.get(i);
+            String regex = pattern.pattern();
+            boolean simple = isSimple(pattern);
+
+            this.prefixes[i] = simple ? getLiteralPrefix(regex) : "";
+            this.suffixes[i] = simple ? getLiteralSuffix(regex) : "";
+            if (this.prefixes[i].length() == 0 && this.suffixes[i].length() == 0) {
+                this.prefilter = false;  // anything might match this pattern
+            }
+
+            if (pattern.flags() != 0 || hasBackreference(regex)) {
+                combinable = false;
+            }
+
+            alternation.append(i > 0 ? "|" : "").append("(?:").append(regex).append(")");
+        }
+
+        this.combined = combinable && !patterns.isEmpty() ? Pattern.compile(alternation.toString()) : null;
+    }
+
+    /** Literal prefix required by each pattern, possibly empty. */
+    public String[] getPrefixes() {
+        return this.prefixes;
+    }
+
+    /** Literal suffix required by each pattern, possibly empty. */
+    public String[] getSuffixes() {
+        return this.suffixes;
+    }
+
+    /** Whether the patterns could be combined into a single alternation. */
+    public boolean isCombined() {
+        return this.combined != null;
+    }
+
+    /**
+     * Check whether a path matches any of the patterns.
+     * @param path  Path to check, normalized and relative to the repository root
+     * @return True if some pattern matches the entire path, false otherwise.
+     */
+    public boolean matches(String path) {
+        if (path == null) {
+            return false;
+        }
+
+        if (this.prefilter && !this.isCandidate(path)) {
+            return false;
+        }
+
+        if (this.combined != null) {
+            return this.combined.matcher(path).matches();
+        }
+
+        for (int i = 0; i < this.patterns.size(); i++) {
+            if (path.startsWith(this.prefixes[i]) && path.endsWith(this.suffixes[i]) && this.patterns.get(i).matcher(path).matches()) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Filter a list of paths down to the ones which match any of the patterns.
+     * @param paths  Paths to check
+     * @return Matching paths, in the original order.
+     */
+    public List<String> filter(List<String> paths) {
+        List<String> result = new ArrayList<String>();
+
+        for (String path : paths) {
+            if (this.matches(path)) {
+                result.add(path);
+            }
+        }
+
+        return result;
+    }
+
+    /** Check whether a path has the literals required by at least one pattern. */
+    private boolean isCandidate(String path) {
+        for (int i = 0; i < this.prefixes.length; i++) {
+            if (path.startsWith(this.prefixes[i]) && path.endsWith(this.suffixes[i])) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /** Whether a pattern is simple enough that its literals can be extracted safely. */
+    private static boolean isSimple(Pattern pattern) {
+        String regex = pattern.pattern();
+        return pattern.flags() == 0 && regex.indexOf('|') < 0 && regex.indexOf("(?") < 0 && regex.indexOf("\\Q") < 0;
+    }
+
+    /** Whether a regular expression might contain a backreference, which would be renumbered by combining. */
+    private static boolean hasBackreference(String regex) {
+        for (int i = 0; i < regex.length() - 1; i++) {
+            if (regex.charAt(i) == '\\') {
+                char next = regex.charAt(i + 1);
+                if ((next >= '1' && next <= '9') || next == 'k') {
+                    return true;
+                }
+
+                i += 1;  // skip the escaped character
+            }
+        }
+
+        return false;
+    }
+
+    /** Whether an escaped character stands for itself, rather than a class or other construct. */
+    private static boolean isEscapedLiteral(char c) {
+        return !Character.isLetterOrDigit(c);
+    }
+
+    /**
+     * Get the literal prefix that every match of a simple regular expression must start with.
+     * @param regex  Regular expression, which is matched against the entire path
+     * @return Literal prefix, possibly empty.
+     */
+    protected static String getLiteralPrefix(String regex) {
+        StringBuffer prefix = new StringBuffer();
+
+        int i = regex.startsWith("^") ? 1 : 0;
+        while (i < regex.length()) {
+            char c = regex.charAt(i);
+            char literal;
+            int next;
+
+            if (c == '\\') {
+                if (i + 1 >= regex.length() || !isEscapedLiteral(regex.charAt(i + 1))) {
+                    break;
+                }
+                literal = regex.charAt(i + 1);
+                next = i + 2;
+            } else if (METACHARACTERS.indexOf(c) >= 0) {
+                break;
+            } else {
+                literal = c;
+                next = i + 1;
+            }
+
+            if (next < regex.length() && QUANTIFIERS.indexOf(regex.charAt(next)) >= 0) {
+                break;  // the quantifier applies to this character, so it's not required
+            }
+
+            prefix.append(literal);
+            i = next;
+        }
+
+        return prefix.toString();
+    }
+
+    /**
+     * Get the literal suffix that every match of a simple regular expression must end with.
+     * @param regex  Regular expression, which is matched against the entire path
+     * @return Literal suffix, possibly empty.
+     */
+    protected static String getLiteralSuffix(String regex) {
+        StringBuffer suffix = new StringBuffer();
+
+        int end = regex.length();
+        if (end > 0 && regex.charAt(end - 1) == '$' && countBackslashes(regex, end - 1) % 2 == 0) {
+            end -= 1;
+        }
+
+        // Scan forwards, so that multi-character escapes like \x2e are recognized as a unit
+        int i = regex.startsWith("^") ? 1 : 0;
+        while (i < end) {
+            char c = regex.charAt(i);
+            if (c == '\\') {
+                if (i + 1 >= end) {
+                    return "";
+                } else if (isEscapedLiteral(regex.charAt(i + 1))) {
+                    suffix.append(regex.charAt(i + 1));
+                    i += 2;
+                } else if (regex.charAt(i + 1) == 'Q') {
+                    return "";  // quoted sections aren't worth parsing
+                } else {
+                    suffix.setLength(0);
+                    i = skipEscape(regex, i + 1, end);
+                }
+            } else if (METACHARACTERS.indexOf(c) >= 0) {
+                suffix.setLength(0);
+                i += 1;
+            } else {
+                suffix.append(c);
+                i += 1;
+            }
+        }
+
+        return suffix.toString();
+    }
+
+    /**
+     * Skip past an escape that is introduced by a letter or digit.
+     * @param regex     Regular expression
+     * @param position  Position of the character following the backslash
+     * @param end       End of the region being scanned
+     * @return Position of the first character after the escape.
+     */
+    private static int skipEscape(String regex, int position, int end) {
+        char c = regex.charAt(position);
+        int i = position + 1;
+
+        switch (c) {
+        case 'x':
+            return i < end && regex.charAt(i) == '{' ? skipPast(regex, i, '}', end) : Math.min(i + 2, end);
+        case 'u':
+            return Math.min(i + 4, end);
+        case 'c':
+            return Math.min(i + 1, end);
+        case 'p':
+        case 'P':
+        case 'N':
+            return i < end && regex.charAt(i) == '{' ? skipPast(regex, i, '}', end) : Math.min(i + 1, end);
+        case 'k':
+            return skipPast(regex, i, '>', end);
+        case '0':
+            for (int digits = 0; digits < 3 && i < end && regex.charAt(i) >= '0' && regex.charAt(i) <= '7'; digits++) {
+                i += 1;
+            }
+            return i;
+        default:
+            if (c >= '1' && c <= '9') {
+                while (i < end && Character.isDigit(regex.charAt(i))) {
+                    i += 1;  // a backreference can take more digits than it needs
+                }
+            }
+            return i;
+        }
+    }
+
+    /** Skip past the next occurrence of a character, or to the end if there is none. */
+    private static int skipPast(String regex, int position, char c, int end) {
+        int index = regex.indexOf(c, position);
+        return index < 0 || index >= end ? end : index + 1;
+    }
+
+    /** Count the backslashes immediately before a position in a string. */
+    private static int countBackslashes(String regex, int position) {
+        int count = 0;
+
+        for (int i = position - 1; i >= 0 && regex.charAt(i) == '\\'; i--) {
+            count += 1;
+        }
+
+        return count;
+    }
+
+}
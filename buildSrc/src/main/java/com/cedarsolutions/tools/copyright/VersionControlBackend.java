@@ -0,0 +1,49 @@
+/* * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ *
+ *              C E D A R
+ *          S O L U T I O N S       "Software done right."
+ *           S O F T W A R E
+ *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ *
+ * Copyright (c) 2026 Kenneth J. Pronovici.
+ * All rights reserved.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the Apache License, Version 2.0.
+ * See LICENSE for more information about the licensing terms.
+ *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ *
+ * Author   : Kenneth J. Pronovici <pronovic@ieee.org>
+ * Language : Java 6
+ * Project  : Common Java Functionality
+ *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * */
+package com.cedarsolutions.tools.copyright;
+
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Version control system that the copyright tool gets history from.
+ * @author Kenneth J. Pronovici <pronovic@ieee.org>
+ */
+public interface VersionControlBackend {
+
+    /**
+     * Get a list of the files tracked in the repository, filtered down to the ones which match a set of patterns.
+     * @param patterns   Regular expression patterns which specify the files to update.
+     * @return List of tracked files, with paths relative to the repository root.
+     */
+    List<String> getTrackedFiles(List<Pattern> patterns);
+
+    /**
+     * Generate a map from file name to years that file was modified in.
+     * @param patterns   Regular expression patterns which specify the files to update.
+     * @return Map from file name to years, sorted by file name.
+     */
+    Map<String, YearSet> generateFileYearsMap(List<Pattern> patterns);
+
+}
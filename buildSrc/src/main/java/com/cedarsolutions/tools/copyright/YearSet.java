@@ -0,0 +1,315 @@
+/* * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ *
+ *              C E D A R
+ *          S O L U T I O N S       "Software done right."
+ *           S O F T W A R E
+ *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ *
+ * Copyright (c) 2026 Kenneth J. Pronovici.
+ * All rights reserved.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the Apache License, Version 2.0.
+ * See LICENSE for more information about the licensing terms.
+ *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ *
+ * Author   : Kenneth J. Pronovici <pronovic@ieee.org>
+ * Language : Java 6
+ * Project  : Common Java Functionality
+ *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * */
+package com.cedarsolutions.tools.copyright;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Compact set of years, stored as a bitset offset from a base year.
+ *
+ * <p>
+ * The copyright tool keeps a set of years for every tracked file, so for a
+ * large repository the representation matters.  A list of boxed integers
+ * costs a lot of heap per file, and deduplicating it with contains() is
+ * quadratic.  Here, each year is a single bit in an array of longs, so any
+ * year from 1900 through 2091 fits in at most three words.  Adding a year and checking for a
+ * year are constant-time, taking the union of two sets is a word-by-word
+ * OR, and iteration is always in ascending order, so a range can be
+ * rendered directly without sorting.
+ * </p>
+ *
+ * <p>
+ * This class is not thread-safe.
+ * </p>
+ *
+ * @author Kenneth J. Pronovici <pronovic@ieee.org>
+ */
+public class YearSet implements Iterable<Integer> {
+
+    /** Base year, which is the earliest year that can be stored. */
+    public static final int BASE_YEAR = 1900;
+
+    /** Number of bits in each word. */
+    private static final int WORD_SIZE = 64;
+
+    /** Shared empty word array. */
+    private static final long[] EMPTY = new long[0];
+
+    /** Bits representing the years, where bit n is year BASE_YEAR + n. */
+    private long[] words = EMPTY;
+
+    /** Create an empty year set. */
+    public YearSet() {
+    }
+
+    /**
+     * Create a year set containing a collection of years.
+     * @param years  Years to add, possibly null
+     */
+    public YearSet(Collection<Integer> years) {
+        if (years != null) {
+            for (Integer year : years) {
+                if (year != null) {
+                    this.add(year);
+                }
+            }
+        }
+    }
+
+    /**
+     * Create a year set containing the passed-in years.
+     * @param years  Years to add
+     * @return Year set containing the years.
+     */
+    public static YearSet of(int ... years) {
+        YearSet set = new YearSet();
+        for (int year : years) {
+            set.add(year);
+        }
+        return set;
+    }
+
+    /**
+     * Add a year to the set.
+     * @param year  Year to add
+     * @return True if the year was added, false if it was already in the set.
+     * @throws IllegalArgumentException If the year is before BASE_YEAR.
+     */
+    public boolean add(int year) {
+        int bit = getBit(year);
+        int index = bit / WORD_SIZE;
+        if (index >= this.words.length) {
+            this.words = Arrays.copyOf(this.words, index + 1);
+        }
+
+        long mask = 1L << (bit % WORD_SIZE);
+        if ((this.words[index] & mask) != 0) {
+            return false;
+        }
+
+        this.words[index] |= mask;
+        return true;
+    }
+
+    /**
+     * Add all of the years in another set to this set.
+     * @param other  Other set, possibly null
+     * @return This set, for chaining.
+     */
+    public YearSet addAll(YearSet other) {
+        if (other != null) {
+            if (other.words.length > this.words.length) {
+                this.words = Arrays.copyOf(this.words, other.words.length);
+            }
+
+            for (int i = 0; i < other.words.length; i++) {
+                this.words[i] |= other.words[i];
+            }
+        }
+
+        return this;
+    }
+
+    /** Check whether the set contains a year. */
+    public boolean contains(int year) {
+        if (year < BASE_YEAR) {
+            return false;
+        }
+
+        int bit = year - BASE_YEAR;
+        int index = bit / WORD_SIZE;
+        return index < this.words.length && (this.words[index] & (1L << (bit % WORD_SIZE))) != 0;
+    }
+
+    /** Get the number of years in the set. */
+    public int size() {
+        int size = 0;
+        for (long word : this.words) {
+            size += Long.bitCount(word);
+        }
+        return size;
+    }
+
+    /** Check whether the set is empty. */
+    public boolean isEmpty() {
+        for (long word : this.words) {
+            if (word != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** Get the years in the set as a list, in ascending order. */
+    public List<Integer> toList() {
+        List<Integer> list = new ArrayList<Integer>(this.size());
+        for (Integer year : this) {
+            list.add(year);
+        }
+        return list;
+    }
+
+    /**
+     * Render the years as a copyright range, like "2009-2011,2013".
+     * @return Copyright range, or an empty string if the set is empty.
+     */
+    public String toRange() {
+        StringBuffer buffer = new StringBuffer();
+
+        int start = -1;
+        int last = -1;
+        for (int year = this.next(BASE_YEAR); year != -1; year = this.next(year + 1)) {
+            if (start == -1) {
+                start = year;
+            } else if (year != last + 1) {
+                appendRange(buffer, start, last);
+                start = year;
+            }
+            last = year;
+        }
+
+        if (start != -1) {
+            appendRange(buffer, start, last);
+        }
+
+        return buffer.toString();
+    }
+
+    /** Iterate over the years in the set, in ascending order. */
+    @Override
+    public Iterator<Integer> iterator() {
+        return new Iterator<Integer>() {
+            private int next = YearSet.this.next(BASE_YEAR);
+
+            @Override
+            public boolean hasNext() {
+                return this.next != -1;
+            }
+
+            @Override
+            public Integer next() {
+                if (this.next == -1) {
+                    throw new NoSuchElementException();
+                }
+
+                int year = this.next;
+                this.next = YearSet.this.next(year + 1);
+                return year;
+            }
+
+            @Override
+            public void remove() {
+                throw new UnsupportedOperationException();
+            }
+        };
+    }
+
+    /** Two year sets are equal if they contain the same years. */
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+
+        if (!(obj instanceof YearSet)) {
+            return false;
+        }
+
+        YearSet other = (YearSet) obj;
+        int length = Math.max(this.words.length, other.words.length);
+        for (int i = 0; i < length; i++) {
+            long left = i < this.words.length ? this.words[i] : 0;
+            long right = i < other.words.length ? other.words[i] : 0;
+            if (left != right) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /** Generate a hash code, consistent with equals(). */
+    @Override
+    public int hashCode() {
+        int hashCode = 0;
+        for (int i = 0; i < this.words.length; i++) {
+            if (this.words[i] != 0) {
+                hashCode = 31 * hashCode + (int) (this.words[i] ^ (this.words[i] >>> 32)) + i;
+            }
+        }
+        return hashCode;
+    }
+
+    /** Get a string representation, like the one for a list. */
+    @Override
+    public String toString() {
+        return this.toList().toString();
+    }
+
+    /** Get the first year in the set that is greater than or equal to a year, or -1 if there is none. */
+    private int next(int year) {
+        int bit = year - BASE_YEAR;
+        int index = bit / WORD_SIZE;
+        if (index >= this.words.length) {
+            return -1;
+        }
+
+        long word = this.words[index] & (-1L << (bit % WORD_SIZE));
+        while (word == 0) {
+            index++;
+            if (index >= this.words.length) {
+                return -1;
+            }
+            word = this.words[index];
+        }
+
+        return BASE_YEAR + (index * WORD_SIZE) + Long.numberOfTrailingZeros(word);
+    }
+
+    /** Get the bit for a year. */
+    private static int getBit(int year) {
+        if (year < BASE_YEAR) {
+            throw new IllegalArgumentException("Year " + year + " is before " + BASE_YEAR);
+        }
+        return year - BASE_YEAR;
+    }
+
+    /** Append a range of years to a buffer. */
+    private static void appendRange(StringBuffer buffer, int start, int end) {
+        if (buffer.length() > 0) {
+            buffer.append(",");
+        }
+
+        buffer.append(start);
+        if (end != start) {
+            buffer.append("-");
+            buffer.append(end);
+        }
+    }
+
+}
@@ -0,0 +1,443 @@
+/* * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ *
+ *              C E D A R
+ *          S O L U T I O N S       "Software done right."
+ *           S O F T W A R E
+ *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ *
+ * Copyright (c) 2026 Kenneth J. Pronovici.
+ * All rights reserved.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the Apache License, Version 2.0.
+ * See LICENSE for more information about the licensing terms.
+ *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ *
+ * Author   : Kenneth J. Pronovici <pronovic@ieee.org>
+ * Language : Java 6
+ * Project  : Common Java Functionality
+ *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * */
+package com.cedarsolutions.util;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+
+/**
+ * Buffered writer that replaces a file atomically.
+ *
+ * <p>
+ * Output is written to a temporary file in the same directory as the target,
+ * which is synced and then renamed over the target by commit().  Until then,
+ * the target is untouched, so a failure part way through never leaves a
+ * truncated file behind.  Closing a writer that has not been committed
+ * discards the temporary file.
+ * </p>
+ *
+ * <p>
+ * In only-if-changed mode, output is compared against the existing file as
+ * it is written, reading the existing file just once.  Nothing is written
+ * as long as the two match, and if the output turns out to be identical,
+ * commit() leaves the target alone (including its modification time).  If
+ * they differ, the matching prefix is copied from the existing file and
+ * writing continues from there.
+ * </p>
+ *
+ * @author Kenneth J. Pronovici <pronovic@ieee.org>
+ */
+public class AtomicFileWriter implements Closeable {
+
+    /** Default size of the output buffer, in characters. */
+    public static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+
+    /** Target file. */
+    private File target;
+
+    /** Character set used to encode output. */
+    private Charset charset = Charset.defaultCharset();
+
+    /** Line ending written by writeLine(). */
+    private String lineEnding = StringUtils.LINE_ENDING;
+
+    /** Size of the output buffer, in characters. */
+    private int bufferSize = DEFAULT_BUFFER_SIZE;
+
+    /** Whether to leave the target alone if its contents would not change. */
+    private boolean onlyIfChanged;
+
+    /** Stream that compares against the target and writes the temporary file, created on first write. */
+    private CommitStream stream;
+
+    /** Buffered writer on top of the stream, created on first write. */
+    private Writer writer;
+
+    /** Whether the writer has been committed or closed. */
+    private boolean finished;
+
+    /**
+     * Create a writer for a target file.
+     * @param filePath  Path of the file to write
+     */
+    public AtomicFileWriter(String filePath) {
+        this.target = new File(filePath).getAbsoluteFile();
+    }
+
+    /**
+     * Set the character set used to encode output, which defaults to the platform default.
+     * @param charset  Character set to use
+     * @return This writer, for chaining.
+     */
+    public AtomicFileWriter charset(Charset charset) {
+        this.checkNotStarted();
+        this.charset = charset;
+        return this;
+    }
+
+    /**
+     * Set the line ending written by writeLine(), which defaults to the platform line ending.
+     * @param lineEnding  Line ending to use
+     * @return This writer, for chaining.
+     */
+    public AtomicFileWriter lineEnding(LineEnding lineEnding) {
+        this.lineEnding = lineEnding.getValue();
+        return this;
+    }
+
+    /**
+     * Set the size of the output buffer.
+     * @param bufferSize  Size of the buffer, in characters
+     * @return This writer, for chaining.
+     */
+    public AtomicFileWriter bufferSize(int bufferSize) {
+        this.checkNotStarted();
+        if (bufferSize < 1) {
+            throw new IllegalArgumentException("Buffer size must be at least 1");
+        }
+
+        this.bufferSize = bufferSize;
+        return this;
+    }
+
+    /**
+     * Control whether the target is left alone if its contents would not change.
+     * @param onlyIfChanged  True to compare against the existing contents
+     * @return This writer, for chaining.
+     */
+    public AtomicFileWriter onlyIfChanged(boolean onlyIfChanged) {
+        this.checkNotStarted();
+        this.onlyIfChanged = onlyIfChanged;
+        return this;
+    }
+
+    /**
+     * Write a string.
+     * @param value  String to write, where null is ignored
+     * @return This writer, for chaining.
+     * @throws RuntimeException If there is a problem with the filesystem operation.
+     */
+    public AtomicFileWriter write(String value) {
+        try {
+            if (value != null) {
+                this.getWriter().write(value);
+            }
+
+            return this;
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to write file: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Write a string followed by the configured line ending.
+     * @param line  Line to write, where null is treated as empty
+     * @return This writer, for chaining.
+     * @throws RuntimeException If there is a problem with the filesystem operation.
+     */
+    public AtomicFileWriter writeLine(String line) {
+        this.write(line);
+        return this.write(this.lineEnding);
+    }
+
+    /**
+     * Write a list of lines, each followed by the configured line ending.
+     * @param lines  Lines to write
+     * @return This writer, for chaining.
+     * @throws RuntimeException If there is a problem with the filesystem operation.
+     */
+    public AtomicFileWriter writeLines(List<String> lines) {
+        for (String line : lines) {
+            this.writeLine(line);
+        }
+
+        return this;
+    }
+
+    /**
+     * Write raw bytes, after any characters that have already been written.
+     * @param bytes   Bytes to write
+     * @param offset  Offset of the first byte
+     * @param length  Number of bytes to write
+     * @return This writer, for chaining.
+     * @throws RuntimeException If there is a problem with the filesystem operation.
+     */
+    public AtomicFileWriter write(byte[] bytes, int offset, int length) {
+        try {
+            this.getWriter().flush();
+            this.stream.write(bytes, offset, length);
+            return this;
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to write file: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Commit the output, replacing the target file.
+     * @return True if the target was replaced, false if it was left alone because nothing changed.
+     * @throws RuntimeException If there is a problem with the filesystem operation.
+     */
+    public boolean commit() {
+        try {
+            this.getWriter().flush();
+            this.finished = true;
+            return this.stream.commit();
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to write file: " + e.getMessage(), e);
+        } finally {
+            this.close();
+        }
+    }
+
+    /** Close the writer, discarding the output unless it has been committed. */
+    public void close() {
+        this.finished = true;
+        if (this.stream != null) {
+            this.stream.abort();
+        }
+    }
+
+    /** Get the writer, creating it on first use. */
+    private Writer getWriter() throws IOException {
+        if (this.finished) {
+            throw new IOException("Writer has already been committed or closed");
+        }
+
+        if (this.writer == null) {
+            this.stream = new CommitStream(this.target, this.onlyIfChanged);
+            this.writer = new BufferedWriter(new OutputStreamWriter(this.stream, this.charset), this.bufferSize);
+        }
+
+        return this.writer;
+    }
+
+    /** Make sure nothing has been written yet, so the configuration can still change. */
+    private void checkNotStarted() {
+        if (this.writer != null || this.finished) {
+            throw new IllegalStateException("Writer configuration cannot change after writing has started");
+        }
+    }
+
+    /** Line ending policies for writeLine(). */
+    public enum LineEnding {
+
+        /** Unix line endings. */
+        LF("\n"),
+
+        /** Windows line endings. */
+        CRLF("\r\n"),
+
+        /** The line ending for the current platform. */
+        PLATFORM(StringUtils.LINE_ENDING);
+
+        /** The line ending itself. */
+        private String value;
+
+        /** Create a line ending. */
+        private LineEnding(String value) {
+            this.value = value;
+        }
+
+        /** Get the line ending itself. */
+        public String getValue() {
+            return this.value;
+        }
+    }
+
+    /** Stream that compares output against the target, and writes to a temporary file once they differ. */
+    private static class CommitStream extends OutputStream {
+
+        /** Target file. */
+        private File target;
+
+        /** Temporary file, next to the target. */
+        private File temp;
+
+        /** Existing contents of the target, while output still matches them. */
+        private InputStream existing;
+
+        /** Number of bytes of output that matched the existing contents. */
+        private long matched;
+
+        /** Buffer used to read the existing contents for comparison. */
+        private byte[] compare;
+
+        /** Output to the temporary file, once the output has diverged from the existing contents. */
+        private FileOutputStream output;
+
+        /** Create a stream, comparing against the existing target if requested and possible. */
+        public CommitStream(File target, boolean onlyIfChanged) throws IOException {
+            this.target = target;
+            this.temp = new File(target.getParentFile(), "." + target.getName() + ".tmp-" + System.nanoTime());
+            if (onlyIfChanged && target.isFile()) {
+                this.existing = new FileInputStream(target);
+                this.compare = new byte[8192];
+            } else {
+                this.diverge();
+            }
+        }
+
+        @Override
+        public void write(int value) throws IOException {
+            this.write(new byte[] { (byte) value, }, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            if (this.output == null) {
+                int checked = 0;
+                while (checked < length && this.matches(bytes, offset + checked, length - checked)) {
+                    checked += Math.min(this.compare.length, length - checked);
+                }
+
+                this.matched += checked;
+                if (checked == length) {
+                    return;
+                }
+
+                this.diverge();
+                offset += checked;
+                length -= checked;
+            }
+
+            this.output.write(bytes, offset, length);
+        }
+
+        /** Commit the temporary file, or leave the target alone if nothing changed; returns true if replaced. */
+        public boolean commit() throws IOException {
+            if (this.output == null) {
+                if (this.existing.read() == -1) {
+                    return false;
+                }
+
+                this.diverge();  // the output is a prefix of the existing contents, so it's shorter
+            }
+
+            this.output.flush();
+            this.output.getFD().sync();
+            this.output.close();
+            this.output = null;
+
+            copyPermissions(this.target, this.temp);
+            try {
+                Files.move(this.temp.toPath(), this.target.toPath(), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(this.temp.toPath(), this.target.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            }
+
+            return true;
+        }
+
+        /** Discard any uncommitted output. */
+        public void abort() {
+            closeQuietly(this.existing);
+            closeQuietly(this.output);
+            this.existing = null;
+            this.output = null;
+            this.temp.delete();
+        }
+
+        /** Compare the next chunk of output against the existing contents. */
+        private boolean matches(byte[] bytes, int offset, int length) throws IOException {
+            int count = Math.min(this.compare.length, length);
+            int read = 0;
+            while (read < count) {
+                int result = this.existing.read(this.compare, read, count - read);
+                if (result < 0) {
+                    break;
+                }
+
+                read += result;
+            }
+
+            for (int i = 0; i < read; i++) {
+                if (this.compare[i] != bytes[offset + i]) {
+                    return false;
+                }
+            }
+
+            return read == count;
+        }
+
+        /** Start writing to the temporary file, copying the prefix that matched the existing contents. */
+        private void diverge() throws IOException {
+            closeQuietly(this.existing);
+            this.existing = null;
+            this.output = new FileOutputStream(this.temp);
+
+            if (this.matched > 0) {
+                FileChannel source = new FileInputStream(this.target).getChannel();
+                try {
+                    long position = 0;
+                    while (position < this.matched) {
+                        long transferred = source.transferTo(position, this.matched - position, this.output.getChannel());
+                        if (transferred <= 0) {
+                            throw new IOException("File was truncated while writing: " + this.target);
+                        }
+
+                        position += transferred;
+                    }
+                } finally {
+                    source.close();
+                }
+            }
+        }
+
+        /** Give a new file the same POSIX permissions as the file it replaces, where supported. */
+        private static void copyPermissions(File original, File replacement) {
+            if (original.exists()) {
+                try {
+                    Files.setPosixFilePermissions(replacement.toPath(), Files.getPosixFilePermissions(original.toPath()));
+                } catch (UnsupportedOperationException e) {
+                    // not a POSIX filesystem, so the defaults will have to do
+                } catch (IOException e) {
+                    // likewise, the permissions just aren't preserved
+                }
+            }
+        }
+
+        /** Close a stream, ignoring errors. */
+        private static void closeQuietly(Closeable stream) {
+            if (stream != null) {
+                try {
+                    stream.close();
+                } catch (IOException e) { }
+            }
+        }
+    }
+
+}
@@ -0,0 +1,48 @@
+/* * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ *
+ *              C E D A R
+ *          S O L U T I O N S       "Software done right."
+ *           S O F T W A R E
+ *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ *
+ * Copyright (c) 2026 Kenneth J. Pronovici.
+ * All rights reserved.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the Apache License, Version 2.0.
+ * See LICENSE for more information about the licensing terms.
+ *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ *
+ * Author   : Kenneth J. Pronovici <pronovic@ieee.org>
+ * Language : Java 6
+ * Project  : Common Java Functionality
+ *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * */
+package com.cedarsolutions.util;
+
+import java.io.InputStream;
+
+/**
+ * Handler for output streamed from <code>CommandLineUtils.executeCommand()</code>.
+ *
+ * <p>
+ * This lets callers consume command output incrementally, rather than
+ * buffering the entire output into a string in memory.  The handler should
+ * read the stream to completion.  Any data that it leaves unread will be
+ * discarded so that the process doesn't block.
+ * </p>
+ *
+ * @author Kenneth J. Pronovici <pronovic@ieee.org>
+ */
+public interface CommandLineOutputHandler {
+
+    /**
+     * Handle output from the command.
+     * @param stream  Standard output of the command (stderr is not included)
+     * @throws Exception If the output cannot be handled.
+     */
+    void handleOutput(InputStream stream) throws Exception;
+
+}
@@ -1,98 +1,210 @@
-/* * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
- *
- *              C E D A R
- *          S O L U T I O N S       "Software done right."
- *           S O F T W A R E
- *
- * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
- *
- * Copyright (c) 2013 Kenneth J. Pronovici.
- * All rights reserved.
- *
- * This program is free software; you can redistribute it and/or
- * modify it under the terms of the Apache License, Version 2.0.
- * See LICENSE for more information about the licensing terms.
- *
- * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
- *
- * Author   : Kenneth J. Pronovici <pronovic@ieee.org>
- * Language : Java 6
- * Project  : Common Java Functionality
- *
- * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * */
-package com.cedarsolutions.util;
-
-import java.io.BufferedReader;
-import java.io.File;
-import java.io.InputStreamReader;
-
-/**
- * Command-line utilities.
- * This class is duplicated from CedarCommon for build purposes.
- * @author Kenneth J. Pronovici <pronovic@ieee.org>
- */
-public class CommandLineUtils {
-
-    /**
-     * Synchronously execute a command line, without returning output.
-     * @param command  Command to execute
-     * @return Result of the command.
-     */
-    public static CommandLineResult executeCommand(CommandLine command) throws RuntimeException {
-        return executeCommand(command, false);
-    }
-
-    /**
-     * Synchronously execute a command line, optionally returning output.
-     * Output will always include both stderr and stdout, intermingled.
-     * @param command       Command to execute
-     * @param returnOutput  Whether to return output
-     * @return Result of the command.
-     */
-    public static CommandLineResult executeCommand(CommandLine command, boolean returnOutput) throws RuntimeException {
-        return executeCommand(command, null, returnOutput);
-    }
-
-    /**
-     * Synchronously execute a command line, optionally returning output.
-     * Output will always include both stderr and stdout, intermingled.
-     * @param command       Command to execute
-     * @param workingDir    Working directory to operate in, or null for current directory
-     * @param returnOutput  Whether to return output
-     * @return Result of the command.
-     */
-    public static CommandLineResult executeCommand(CommandLine command, String workingDir, boolean returnOutput) throws RuntimeException {
-        try {
-            ProcessBuilder pb = new ProcessBuilder(command.getEntireCommand());
-            pb.redirectErrorStream(true);
-
-            if (workingDir != null) {
-                pb.directory(new File(workingDir));
-            }
-
-            Process process = pb.start();
-
-            String line;
-            StringBuffer output = new StringBuffer();
-            BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream()));
-            while ((line = reader.readLine()) != null) {
-                if (returnOutput) {
-                    // We have to read it so that the process doesn't block.
-                    // However, there's no need to track it unless we'll actually return it.
-                    output.append(line);
-                    output.append("\n");
-                }
-            }
-
-            process.waitFor();
-            if (returnOutput) {
-                return new CommandLineResult(process.exitValue(), output.toString());
-            } else {
-                return new CommandLineResult(process.exitValue());
-            }
-        } catch (Exception e) {
-            throw new RuntimeException("Failed to execute command: " + e.getMessage(), e);
-        }
-    }
-
-}
+/* * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ *
+ *              C E D A R
+ *          S O L U T I O N S       "Software done right."
+ *           S O F T W A R E
+ *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ *
+ * Copyright (c) 2013 Kenneth J. Pronovici.
+ * All rights reserved.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the Apache License, Version 2.0.
+ * See LICENSE for more information about the licensing terms.
+ *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ *
+ * Author   : Kenneth J. Pronovici <pronovic@ieee.org>
+ * Language : Java 6
+ * Project  : Common Java Functionality
+ *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * */
+package com.cedarsolutions.util;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+
+/**
+ * Command-line utilities.
+ * This class is duplicated from CedarCommon for build purposes.
+ * @author Kenneth J. Pronovici <pronovic@ieee.org>
+ */
+public class CommandLineUtils {
+
+    /**
+     * Synchronously execute a command line, without returning output.
+     * @param command  Command to execute
+     * @return Result of the command.
+     */
+    public static CommandLineResult executeCommand(CommandLine command) throws RuntimeException {
+        return executeCommand(command, false);
+    }
+
+    /**
+     * Synchronously execute a command line, optionally returning output.
+     * Output will always include both stderr and stdout, intermingled.
+     * @param command       Command to execute
+     * @param returnOutput  Whether to return output
+     * @return Result of the command.
+     */
+    public static CommandLineResult executeCommand(CommandLine command, boolean returnOutput) throws RuntimeException {
+        return executeCommand(command, null, returnOutput);
+    }
+
+    /**
+     * Synchronously execute a command line, optionally returning output.
+     * Output will always include both stderr and stdout, intermingled.
+     * @param command       Command to execute
+     * @param workingDir    Working directory to operate in, or null for current directory
+     * @param returnOutput  Whether to return output
+     * @return Result of the command.
+     */
+    public static CommandLineResult executeCommand(CommandLine command, String workingDir, boolean returnOutput) throws RuntimeException {
+        try {
+            ProcessBuilder pb = new ProcessBuilder(command.getEntireCommand());
+            pb.redirectErrorStream(true);
+
+            if (workingDir != null) {
+                pb.directory(new File(workingDir));
+            }
+
+            Process process = pb.start();
+
+            String line;
+            StringBuffer output = new StringBuffer();
+            BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream()));
+            while ((line = reader.readLine()) != null) {
+                if (returnOutput) {
+                    // We have to read it so that the process doesn't block.
+                    // However, there's no need to track it unless we'll actually return it.
+                    output.append(line);
+                    output.append("\n");
+                }
+            }
+
+            process.waitFor();
+            if (returnOutput) {
+                return new CommandLineResult(process.exitValue(), output.toString());
+            } else {
+                return new CommandLineResult(process.exitValue());
+            }
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to execute command: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Synchronously execute a command line, streaming its output to a handler.
+     *
+     * <p>
+     * Unlike the other methods, stdout and stderr are not intermingled.  Stdout
+     * is passed to the handler as it is generated, so callers can process very
+     * large output without holding it all in memory.  Stderr is collected
+     * separately and returned as the output in the result.
+     * </p>
+     *
+     * @param command     Command to execute
+     * @param workingDir  Working directory to operate in, or null for current directory
+     * @param handler     Handler that will consume stdout
+     * @return Result of the command, where the output is whatever was written to stderr.
+     */
+    public static CommandLineResult executeCommand(CommandLine command, String workingDir, CommandLineOutputHandler handler) throws RuntimeException {
+        try {
+            ProcessBuilder pb = new ProcessBuilder(command.getEntireCommand());
+            pb.redirectErrorStream(false);
+
+            if (workingDir != null) {
+                pb.directory(new File(workingDir));
+            }
+
+            Process process = pb.start();
+            StreamCollector stderr = new StreamCollector(process.getErrorStream());
+            stderr.start();
+
+            InputStream stdout = process.getInputStream();
+            try {
+                // Some consumers (like the StAX parser) close the stream when they hit the end,
+                // so the handler gets a wrapper that it can't close out from under us.
+                handler.handleOutput(new UncloseableInputStream(stdout));
+                drain(stdout);  // so the process doesn't block if the handler stopped early
+            } catch (Exception e) {
+                process.destroy();
+                throw e;
+            } finally {
+                stdout.close();
+            }
+
+            process.waitFor();
+            stderr.join();
+            return new CommandLineResult(process.exitValue(), stderr.getOutput());
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to execute command: " + e.getMessage(), e);
+        }
+    }
+
+    /** Read and discard the remainder of a stream. */
+    private static void drain(InputStream stream) throws IOException {
+        byte[] buffer = new byte[8192];
+        while (stream.read(buffer) != -1) {
+            // just discard it
+        }
+    }
+
+    /** Input stream wrapper that ignores requests to close it. */
+    private static class UncloseableInputStream extends FilterInputStream {
+
+        /** Wrap an input stream. */
+        public UncloseableInputStream(InputStream stream) {
+            super(stream);
+        }
+
+        /** Ignore the request to close the stream. */
+        @Override
+        public void close() {
+        }
+
+    }
+
+    /** Thread that collects the contents of a stream in the background. */
+    static class StreamCollector extends Thread {
+
+        /** Stream to collect. */
+        private InputStream stream;
+
+        /** Contents collected so far. */
+        private ByteArrayOutputStream contents = new ByteArrayOutputStream();
+
+        /** Create a collector for a stream. */
+        public StreamCollector(InputStream stream) {
+            this.stream = stream;
+            this.setDaemon(true);
+        }
+
+        /** Collect the stream until it is exhausted. */
+        @Override
+        public void run() {
+            try {
+                byte[] buffer = new byte[8192];
+                int read;
+                while ((read = this.stream.read(buffer)) != -1) {
+                    this.contents.write(buffer, 0, read);
+                }
+            } catch (IOException e) {
+                // the process went away, so there's nothing more to collect
+            }
+        }
+
+        /** Get the collected output as a string. */
+        public String getOutput() {
+            return this.contents.toString();
+        }
+
+    }
+
+}
@@ -0,0 +1,376 @@
+/* * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ *
+ *              C E D A R
+ *          S O L U T I O N S       "Software done right."
+ *           S O F T W A R E
+ *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ *
+ * Copyright (c) 2026 Kenneth J. Pronovici.
+ * All rights reserved.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the Apache License, Version 2.0.
+ * See LICENSE for more information about the licensing terms.
+ *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ *
+ * Author   : Kenneth J. Pronovici <pronovic@ieee.org>
+ * Language : Java 6
+ * Project  : Common Java Functionality
+ *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * */
+package com.cedarsolutions.util;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Computes content digests for files and directory trees.
+ *
+ * <p>
+ * Digests are cached by canonical path, along with the file's size and
+ * modification time when it was hashed.  As long as neither has changed, the
+ * cached digest is used and the file is never re-read.  The cache can be
+ * persisted between runs with save(), so tasks can cheaply tell whether
+ * their inputs have changed by comparing tree fingerprints.  A file modified
+ * within a couple of seconds of being hashed is not cached, because a later
+ * change might not move its modification time.
+ * </p>
+ *
+ * <p>
+ * Trees are hashed in parallel.  A tree fingerprint covers the relative path
+ * of every entry, the contents of every file and the target of every symbolic
+ * link, so adding, removing, renaming or changing anything changes it.
+ * </p>
+ *
+ * @author Kenneth J. Pronovici <pronovic@ieee.org>
+ */
+public class DigestService {
+
+    /** Digest algorithm used for files and fingerprints. */
+    public static final String ALGORITHM = "SHA-256";
+
+    /** Files modified less than this long (in milliseconds) before they were hashed are not cached. */
+    private static final long RACY_INTERVAL = 2000;
+
+    /** Size of the buffer used to read each file. */
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    /** First line of a persisted cache, which identifies the format. */
+    private static final String CACHE_HEADER = "# CedarBuild digest cache, version 1";
+
+    /** Character set for the persisted cache. */
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    /** Path of the persisted cache, or null if the cache is only kept in memory. */
+    private String cachePath;
+
+    /** Number of files hashed concurrently. */
+    private int parallelism = Runtime.getRuntime().availableProcessors();
+
+    /** Cached digests, by canonical path. */
+    private Map<String, CacheEntry> cache = new ConcurrentHashMap<String, CacheEntry>();
+
+    /** Whether the cache has changed since it was loaded. */
+    private volatile boolean modified;
+
+    /** Create a service whose cache is only kept in memory. */
+    public DigestService() {
+        this(null);
+    }
+
+    /**
+     * Create a service with a persistent cache, loading it if it exists.
+     * A cache that can't be read is ignored, since it will just be rebuilt.
+     * @param cachePath  Path of the cache file, or null to keep the cache in memory
+     */
+    public DigestService(String cachePath) {
+        this.cachePath = cachePath;
+        if (cachePath != null && FilesystemUtils.fileExists(cachePath)) {
+            this.load(cachePath);
+        }
+    }
+
+    /**
+     * Set the number of files hashed concurrently.
+     * @param parallelism  Number of files, where 1 hashes in the calling thread
+     * @return This service, for chaining.
+     */
+    public DigestService parallelism(int parallelism) {
+        this.parallelism = Math.max(1, parallelism);
+        return this;
+    }
+
+    /**
+     * Get the digest of a file's contents.
+     * @param filePath  Path of the file
+     * @return Digest as a hex string.
+     * @throws RuntimeException If the file cannot be read.
+     */
+    public String getFileDigest(String filePath) {
+        try {
+            File file = new File(filePath);
+            BasicFileAttributes attributes = Files.readAttributes(file.toPath(), BasicFileAttributes.class);
+            return this.getFileDigest(file, attributes);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to digest file: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Get the digest of every entry in a directory tree, hashing in parallel.
+     * Directories map to an empty string, and symbolic links to "-&gt; target".
+     * @param dirPath  Directory to digest
+     * @return Map from relative path to digest, sorted by path.
+     * @throws RuntimeException If the tree cannot be read.
+     */
+    public SortedMap<String, String> getTreeDigests(String dirPath) {
+        return this.getTreeDigests(new DirectoryWalker(dirPath));
+    }
+
+    /**
+     * Get the digest of every entry in a directory tree, hashing in parallel.
+     * Directories map to an empty string, and symbolic links to "-&gt; target".
+     * @param walker  Walker for the tree, which may be configured with globs and so on
+     * @return Map from relative path to digest, sorted by path.
+     * @throws RuntimeException If the tree cannot be read.
+     */
+    public SortedMap<String, String> getTreeDigests(DirectoryWalker walker) {
+        final File root = new File(walker.getDirPath());
+        final SortedMap<String, String> digests = new TreeMap<String, String>();
+        final Map<String, Future<String>> futures = new TreeMap<String, Future<String>>();
+        final ExecutorService executor = this.parallelism > 1 ? Executors.newFixedThreadPool(this.parallelism) : null;
+
+        try {
+            walker.walk(new DirectoryWalker.Visitor() {
+                public boolean visit(String path, final BasicFileAttributes attributes) {
+                    final File file = new File(root, path);
+                    if (attributes.isDirectory()) {
+                        digests.put(path, "");
+                    } else if (attributes.isSymbolicLink()) {
+                        digests.put(path, "-> " + readLink(file));
+                    } else if (executor == null) {
+                        digests.put(path, getFileDigest(file, attributes));
+                    } else {
+                        futures.put(path, executor.submit(new Callable<String>() {
+                            public String call() {
+                                return getFileDigest(file, attributes);
+                            }
+                        }));
+                    }
+
+                    return true;
+                }
+            });
+
+            for (String path : futures.keySet()) {
+                digests.put(path, futures.get(path).get());
+            }
+
+            return digests;
+        } catch (ExecutionException e) {
+            throw new RuntimeException("Failed to digest tree: " + e.getCause().getMessage(), e.getCause());
+        } catch (InterruptedException e) {
+            throw new RuntimeException("Interrupted while digesting tree: " + e.getMessage(), e);
+        } finally {
+            if (executor != null) {
+                executor.shutdownNow();
+            }
+        }
+    }
+
+    /**
+     * Get a fingerprint for a directory tree, which changes whenever anything in the tree changes.
+     * @param dirPath  Directory to fingerprint
+     * @return Fingerprint as a hex string.
+     * @throws RuntimeException If the tree cannot be read.
+     */
+    public String getTreeFingerprint(String dirPath) {
+        return this.getTreeFingerprint(new DirectoryWalker(dirPath));
+    }
+
+    /**
+     * Get a fingerprint for a directory tree, which changes whenever anything in the tree changes.
+     * @param walker  Walker for the tree, which may be configured with globs and so on
+     * @return Fingerprint as a hex string.
+     * @throws RuntimeException If the tree cannot be read.
+     */
+    public String getTreeFingerprint(DirectoryWalker walker) {
+        MessageDigest digest = createDigest();
+        for (Map.Entry<String, String> entry : this.getTreeDigests(walker).entrySet()) {
+            digest.update(entry.getKey().getBytes(UTF_8));
+            digest.update((byte) 0);
+            digest.update(entry.getValue().getBytes(UTF_8));
+            digest.update((byte) '\n');
+        }
+
+        return toHex(digest.digest());
+    }
+
+    /**
+     * Save the cache, if it is persistent and has changed.
+     * Entries for files that no longer exist are dropped.
+     * @throws RuntimeException If the cache cannot be written.
+     */
+    public void save() {
+        if (this.cachePath != null && this.modified) {
+            List<String> paths = new ArrayList<String>(this.cache.keySet());
+            Collections.sort(paths);
+
+            String parent = FilesystemUtils.getDirname(this.cachePath);
+            if (parent != null) {
+                FilesystemUtils.createDir(parent);
+            }
+
+            AtomicFileWriter writer = new AtomicFileWriter(this.cachePath).charset(UTF_8).lineEnding(AtomicFileWriter.LineEnding.LF);
+            try {
+                writer.writeLine(CACHE_HEADER);
+                for (String path : paths) {
+                    if (new File(path).isFile()) {
+                        CacheEntry entry = this.cache.get(path);
+                        writer.writeLine(entry.digest + "\t" + entry.size + "\t" + entry.modified + "\t" + path);
+                    }
+                }
+
+                writer.commit();
+                this.modified = false;
+            } finally {
+                writer.close();
+            }
+        }
+    }
+
+    /** Get the digest for a file, from the cache if it has not changed. */
+    private String getFileDigest(File file, BasicFileAttributes attributes) {
+        try {
+            String path = file.getCanonicalPath();
+            long size = attributes.size();
+            long modified = attributes.lastModifiedTime().toMillis();
+
+            CacheEntry entry = this.cache.get(path);
+            if (entry != null && entry.size == size && entry.modified == modified) {
+                return entry.digest;
+            }
+
+            long started = System.currentTimeMillis();
+            String digest = hashFile(file);
+            if (modified < started - RACY_INTERVAL) {
+                this.cache.put(path, new CacheEntry(digest, size, modified));
+                this.modified = true;
+            }
+
+            return digest;
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to digest file: " + e.getMessage(), e);
+        }
+    }
+
+    /** Load a persisted cache, ignoring it if it is not in the expected format. */
+    private void load(String path) {
+        FileLines lines = FilesystemUtils.getFileLines(path, UTF_8);
+        try {
+            if (lines.hasNext() && CACHE_HEADER.equals(lines.next())) {
+                for (String line : lines) {
+                    String[] fields = line.split("\t", 4);
+                    if (fields.length == 4) {
+                        this.cache.put(fields[3], new CacheEntry(fields[0], Long.parseLong(fields[1]), Long.parseLong(fields[2])));
+                    }
+                }
+            }
+        } catch (RuntimeException e) {
+            this.cache.clear();  // a corrupt cache is no worse than a missing one
+        } finally {
+            lines.close();
+        }
+    }
+
+    /** Hash the contents of a file. */
+    private static String hashFile(File file) throws IOException {
+        MessageDigest digest = createDigest();
+        FileChannel channel = new FileInputStream(file).getChannel();
+        try {
+            ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+            while (channel.read(buffer) != -1) {
+                buffer.flip();
+                digest.update(buffer);
+                buffer.clear();
+            }
+        } finally {
+            channel.close();
+        }
+
+        return toHex(digest.digest());
+    }
+
+    /** Read the target of a symbolic link. */
+    private static String readLink(File file) {
+        try {
+            return Files.readSymbolicLink(file.toPath()).toString();
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to read link: " + e.getMessage(), e);
+        }
+    }
+
+    /** Create a message digest for the standard algorithm. */
+    private static MessageDigest createDigest() {
+        try {
+            return MessageDigest.getInstance(ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException("Digest algorithm is not available: " + e.getMessage(), e);
+        }
+    }
+
+    /** Convert a digest to a hex string. */
+    private static String toHex(byte[] bytes) {
+        char[] digits = "0123456789abcdef".toCharArray();
+        char[] result = new char[bytes.length * 2];
+        for (int i = 0; i < bytes.length; i++) {
+            result[2 * i] = digits[(bytes[i] >> 4) & 0x0F];
+            result[2 * i + 1] = digits[bytes[i] & 0x0F];
+        }
+
+        return new String(result);
+    }
+
+    /** Cached digest for a file. */
+    private static class CacheEntry {
+
+        /** Digest of the file's contents. */
+        private String digest;
+
+        /** Size of the file when it was hashed. */
+        private long size;
+
+        /** Modification time of the file when it was hashed. */
+        private long modified;
+
+        /** Create an entry. */
+        public CacheEntry(String digest, long size, long modified) {
+            this.digest = digest;
+            this.size = size;
+            this.modified = modified;
+        }
+    }
+
+}
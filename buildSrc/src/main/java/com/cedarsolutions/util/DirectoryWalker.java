@@ -0,0 +1,231 @@
+/* * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ *
+ *              C E D A R
+ *          S O L U T I O N S       "Software done right."
+ *           S O F T W A R E
+ *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ *
+ * Copyright (c) 2026 Kenneth J. Pronovici.
+ * All rights reserved.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the Apache License, Version 2.0.
+ * See LICENSE for more information about the licensing terms.
+ *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ *
+ * Author   : Kenneth J. Pronovici <pronovic@ieee.org>
+ * Language : Java 6
+ * Project  : Common Java Functionality
+ *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * */
+package com.cedarsolutions.util;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.FileSystems;
+import java.nio.file.FileVisitOption;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.nio.file.Paths;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+
+/**
+ * Lazy directory walker, built on Files.walkFileTree().
+ *
+ * <p>
+ * Entries are handed to a visitor one at a time as the tree is walked, as
+ * paths relative to the starting directory using '/' as the separator, so
+ * nothing is accumulated unless the caller wants it to be.  Directories are
+ * visited before their contents.  The walk can be restricted with include
+ * and exclude globs, which are matched against the relative path using the
+ * syntax from FileSystem.getPathMatcher(), i.e. <code>**&#47;*.java</code>.
+ * An excluded directory is pruned along with everything below it, while
+ * includes only control which entries are passed to the visitor.
+ * </p>
+ *
+ * <p>
+ * Symbolic links are never followed.  By default, a link is visited like a
+ * file, but links can be skipped entirely instead.
+ * </p>
+ *
+ * @author Kenneth J. Pronovici <pronovic@ieee.org>
+ */
+public class DirectoryWalker {
+
+    /** Directory to walk. */
+    private String dirPath;
+
+    /** Globs for entries to visit, or empty to visit everything. */
+    private List<PathMatcher> includes = new ArrayList<PathMatcher>();
+
+    /** Globs for entries to skip. */
+    private List<PathMatcher> excludes = new ArrayList<PathMatcher>();
+
+    /** Maximum depth to descend to, where 1 means only the directory's own entries. */
+    private int maxDepth = Integer.MAX_VALUE;
+
+    /** Whether to skip symbolic links. */
+    private boolean skipSymlinks;
+
+    /**
+     * Create a walker for a directory.
+     * @param dirPath  Directory to walk
+     */
+    public DirectoryWalker(String dirPath) {
+        this.dirPath = dirPath;
+    }
+
+    /** Get the directory to walk. */
+    public String getDirPath() {
+        return this.dirPath;
+    }
+
+    /**
+     * Only visit entries whose relative path matches a glob.
+     * @param glob  Glob to match against, possibly one of several
+     * @return This walker, for chaining.
+     */
+    public DirectoryWalker include(String glob) {
+        this.includes.add(getMatcher(glob));
+        return this;
+    }
+
+    /**
+     * Skip entries whose relative path matches a glob, along with everything below them.
+     * @param glob  Glob to match against, possibly one of several
+     * @return This walker, for chaining.
+     */
+    public DirectoryWalker exclude(String glob) {
+        this.excludes.add(getMatcher(glob));
+        return this;
+    }
+
+    /**
+     * Limit the depth of the walk.
+     * @param maxDepth  Maximum depth, where 1 means only the directory's own entries
+     * @return This walker, for chaining.
+     */
+    public DirectoryWalker maxDepth(int maxDepth) {
+        if (maxDepth < 1) {
+            throw new IllegalArgumentException("Max depth must be at least 1");
+        }
+
+        this.maxDepth = maxDepth;
+        return this;
+    }
+
+    /**
+     * Control whether symbolic links are visited.
+     * @param skipSymlinks  True to skip links, false to visit them like files
+     * @return This walker, for chaining.
+     */
+    public DirectoryWalker skipSymlinks(boolean skipSymlinks) {
+        this.skipSymlinks = skipSymlinks;
+        return this;
+    }
+
+    /**
+     * Walk the directory, passing each matching entry to a visitor.
+     * @param visitor  Visitor to receive the entries
+     * @throws RuntimeException If the directory does not exist or cannot be read.
+     */
+    public void walk(final Visitor visitor) {
+        final Path root = Paths.get(this.dirPath);
+        if (!Files.isDirectory(root)) {
+            throw new RuntimeException("Directory does not exist: " + this.dirPath);
+        }
+
+        try {
+            Files.walkFileTree(root, EnumSet.noneOf(FileVisitOption.class), this.maxDepth, new SimpleFileVisitor<Path>() {
+                @Override
+                public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attributes) {
+                    return dir.equals(root) ? FileVisitResult.CONTINUE : visitEntry(visitor, root.relativize(dir), attributes);
+                }
+
+                @Override
+                public FileVisitResult visitFile(Path file, BasicFileAttributes attributes) {
+                    return visitEntry(visitor, root.relativize(file), attributes);
+                }
+            });
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to walk directory: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Walk the directory, collecting the relative paths of all matching entries.
+     * @return List of relative paths, with directories before their contents.
+     * @throws RuntimeException If the directory does not exist or cannot be read.
+     */
+    public List<String> getPaths() {
+        final List<String> paths = new ArrayList<String>();
+
+        this.walk(new Visitor() {
+            public boolean visit(String path, BasicFileAttributes attributes) {
+                paths.add(path);
+                return true;
+            }
+        });
+
+        return paths;
+    }
+
+    /** Apply the filters to an entry, and pass it to the visitor if it matches. */
+    private FileVisitResult visitEntry(Visitor visitor, Path relative, BasicFileAttributes attributes) {
+        if ((this.skipSymlinks && attributes.isSymbolicLink()) || matches(this.excludes, relative)) {
+            return FileVisitResult.SKIP_SUBTREE;  // the same as CONTINUE, for anything but a directory
+        }
+
+        if (this.includes.isEmpty() || matches(this.includes, relative)) {
+            if (!visitor.visit(toString(relative), attributes)) {
+                return FileVisitResult.TERMINATE;
+            }
+        }
+
+        return FileVisitResult.CONTINUE;
+    }
+
+    /** Check whether a path matches any of a list of matchers. */
+    private static boolean matches(List<PathMatcher> matchers, Path path) {
+        for (PathMatcher matcher : matchers) {
+            if (matcher.matches(path)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /** Convert a relative path to a string, using '/' as the separator. */
+    private static String toString(Path relative) {
+        String path = relative.toString();
+        return File.separatorChar == '/' ? path : path.replace(File.separatorChar, '/');
+    }
+
+    /** Create a matcher for a glob. */
+    private static PathMatcher getMatcher(String glob) {
+        return FileSystems.getDefault().getPathMatcher("glob:" + glob);
+    }
+
+    /** Visitor that receives the entries found by a walk. */
+    public interface Visitor {
+
+        /**
+         * Visit an entry.
+         * @param path        Path relative to the starting directory, using '/' as the separator
+         * @param attributes  Attributes of the entry, which are not followed for a symbolic link
+         * @return True to continue the walk, false to stop it.
+         */
+        boolean visit(String path, BasicFileAttributes attributes);
+
+    }
+
+}
@@ -0,0 +1,424 @@
+/* * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ *
+ *              C E D A R
+ *          S O L U T I O N S       "Software done right."
+ *           S O F T W A R E
+ *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ *
+ * Copyright (c) 2026 Kenneth J. Pronovici.
+ * All rights reserved.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the Apache License, Version 2.0.
+ * See LICENSE for more information about the licensing terms.
+ *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ *
+ * Author   : Kenneth J. Pronovici <pronovic@ieee.org>
+ * Language : Java 6
+ * Project  : Common Java Functionality
+ *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * */
+package com.cedarsolutions.util;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Watches a directory tree for changes, built on the JDK's WatchService.
+ *
+ * <p>
+ * Events are collected on a background thread and debounced: changes are
+ * delivered as a batch once the tree has been quiet for the debounce period,
+ * so a burst of writes to the same files turns into a single notification.
+ * Changed entries are identified by their path relative to the watched
+ * directory, using '/' as the separator, as for DirectoryWalker.  When
+ * watching recursively, new subdirectories are registered as they appear,
+ * and their existing contents are reported as changed.
+ * </p>
+ *
+ * <p>
+ * Callers can either wait on a future that completes when a condition is
+ * satisfied by everything that has changed since the future was created, or
+ * register a listener that receives every batch.  Register interest before
+ * calling start(), to avoid missing changes that happen right away.
+ * </p>
+ *
+ * @author Kenneth J. Pronovici <pronovic@ieee.org>
+ */
+public class DirectoryWatcher implements Closeable {
+
+    /** Default debounce period, in milliseconds. */
+    public static final long DEFAULT_DEBOUNCE = 100;
+
+    /** Directory being watched. */
+    private Path root;
+
+    /** Whether subdirectories are watched. */
+    private boolean recursive = true;
+
+    /** Debounce period, in milliseconds. */
+    private long debounce = DEFAULT_DEBOUNCE;
+
+    /** Watch service, once started. */
+    private WatchService watchService;
+
+    /** Directory registered for each watch key. */
+    private Map<WatchKey, Path> keys = new HashMap<WatchKey, Path>();
+
+    /** Outstanding futures from watchFor(). */
+    private List<Waiter> waiters = new ArrayList<Waiter>();
+
+    /** Listeners that receive every batch. */
+    private List<Listener> listeners = new ArrayList<Listener>();
+
+    /** Background thread that collects events. */
+    private Thread thread;
+
+    /**
+     * Create a watcher for a directory.
+     * @param dirPath  Directory to watch
+     */
+    public DirectoryWatcher(String dirPath) {
+        this.root = Paths.get(dirPath).toAbsolutePath().normalize();
+    }
+
+    /**
+     * Control whether subdirectories are watched, which is the default.
+     * @param recursive  True to watch the whole tree, false to watch only the directory itself
+     * @return This watcher, for chaining.
+     */
+    public DirectoryWatcher recursive(boolean recursive) {
+        this.recursive = recursive;
+        return this;
+    }
+
+    /**
+     * Set the debounce period.
+     * @param millis  Quiet period that ends a batch of changes, in milliseconds
+     * @return This watcher, for chaining.
+     */
+    public DirectoryWatcher debounce(long millis) {
+        this.debounce = Math.max(0, millis);
+        return this;
+    }
+
+    /**
+     * Register a listener that receives every batch of changes, on the watcher's thread.
+     * @param listener  Listener to register
+     * @return This watcher, for chaining.
+     */
+    public synchronized DirectoryWatcher addListener(Listener listener) {
+        this.listeners.add(listener);
+        return this;
+    }
+
+    /**
+     * Get a future that completes once a condition is satisfied.
+     * The condition is checked after each batch against all changes seen since this call.
+     * @param condition  Condition to wait for
+     * @return Future whose result is the set of changed paths that satisfied the condition.
+     */
+    public synchronized Future<Set<String>> watchFor(Condition condition) {
+        Waiter waiter = new Waiter(condition);
+        this.waiters.add(waiter);
+        return waiter;
+    }
+
+    /**
+     * Start watching.
+     * @return This watcher, for chaining.
+     * @throws RuntimeException If the directory does not exist or cannot be watched.
+     */
+    public synchronized DirectoryWatcher start() {
+        if (this.thread != null) {
+            throw new IllegalStateException("Watcher has already been started");
+        }
+
+        try {
+            this.watchService = FileSystems.getDefault().newWatchService();
+            this.register(this.root, null);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to watch directory: " + e.getMessage(), e);
+        }
+
+        this.thread = new Thread(new Runnable() {
+            public void run() {
+                watch();
+            }
+        }, "DirectoryWatcher-" + this.root.getFileName());
+        this.thread.setDaemon(true);
+        this.thread.start();
+        return this;
+    }
+
+    /** Stop watching, cancelling any futures that have not completed. */
+    public void close() {
+        synchronized (this) {
+            for (Waiter waiter : this.waiters) {
+                waiter.cancel(false);
+            }
+
+            this.waiters.clear();
+        }
+
+        if (this.watchService != null) {
+            try {
+                this.watchService.close();
+            } catch (IOException e) { }
+        }
+    }
+
+    /**
+     * Create a condition satisfied once every one of a set of paths has changed.
+     * @param paths  Paths relative to the watched directory, using '/' as the separator
+     * @return Condition checking for the paths.
+     */
+    public static Condition allOf(String ... paths) {
+        final List<String> required = Arrays.asList(paths);
+        return new Condition() {
+            public boolean isSatisfied(Set<String> changed) {
+                return changed.containsAll(required);
+            }
+        };
+    }
+
+    /** Collect events until the watch service is closed, delivering a batch after each quiet period. */
+    private void watch() {
+        Set<String> pending = new TreeSet<String>();
+        long deadline = 0;
+
+        try {
+            while (true) {
+                WatchKey key;
+                if (pending.isEmpty()) {
+                    key = this.watchService.take();
+                } else {
+                    key = this.watchService.poll(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                }
+
+                if (key != null) {
+                    this.collect(key, pending);
+                    deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(this.debounce);
+                } else {
+                    this.deliver(Collections.unmodifiableSet(pending));
+                    pending = new TreeSet<String>();
+                }
+            }
+        } catch (InterruptedException e) {
+            // we're being shut down
+        } catch (ClosedWatchServiceException e) {
+            // we've been closed
+        }
+    }
+
+    /** Collect the changed paths for a watch key, registering any new directories. */
+    private void collect(WatchKey key, Set<String> pending) {
+        Path dir = this.keys.get(key);
+        if (dir != null) {
+            for (WatchEvent<?> event : key.pollEvents()) {
+                if (event.kind() != StandardWatchEventKinds.OVERFLOW) {
+                    Path child = dir.resolve((Path) event.context());
+                    pending.add(this.relativize(child));
+                    if (this.recursive && event.kind() == StandardWatchEventKinds.ENTRY_CREATE
+                            && Files.isDirectory(child, LinkOption.NOFOLLOW_LINKS)) {
+                        try {
+                            this.register(child, pending);
+                        } catch (IOException e) {
+                            // the directory went away again before we could watch it
+                        } catch (RuntimeException e) {
+                            // likewise
+                        }
+                    }
+                }
+            }
+        }
+
+        if (!key.reset()) {
+            this.keys.remove(key);
+        }
+    }
+
+    /** Hand a batch of changes to the listeners, and then to any waiters whose conditions are now satisfied. */
+    private void deliver(Set<String> batch) {
+        List<Listener> listeners;
+        synchronized (this) {
+            listeners = new ArrayList<Listener>(this.listeners);
+        }
+
+        for (Listener listener : listeners) {
+            listener.changed(batch);
+        }
+
+        synchronized (this) {
+            Iterator<Waiter> iterator = this.waiters.iterator();
+            while (iterator.hasNext()) {
+                Waiter waiter = iterator.next();
+                if (waiter.isDone() || waiter.offer(batch)) {
+                    iterator.remove();
+                }
+            }
+        }
+    }
+
+    /** Register a directory, and its subdirectories if recursive, adding any contents to a set of changes. */
+    private void register(final Path dir, final Set<String> pending) throws IOException {
+        this.keys.put(this.registerOne(dir), dir);
+
+        if (this.recursive) {
+            new DirectoryWalker(dir.toString()).skipSymlinks(true).walk(new DirectoryWalker.Visitor() {
+                public boolean visit(String path, BasicFileAttributes attributes) {
+                    Path child = dir.resolve(path);
+                    if (pending != null) {
+                        pending.add(relativize(child));
+                    }
+
+                    if (attributes.isDirectory()) {
+                        try {
+                            keys.put(registerOne(child), child);
+                        } catch (IOException e) {
+                            throw new RuntimeException("Failed to watch directory: " + e.getMessage(), e);
+                        }
+                    }
+
+                    return true;
+                }
+            });
+        }
+    }
+
+    /** Register a single directory with the watch service. */
+    private WatchKey registerOne(Path dir) throws IOException {
+        return dir.register(this.watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                            StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE);
+    }
+
+    /** Convert a path to a string relative to the watched directory, using '/' as the separator. */
+    private String relativize(Path path) {
+        String relative = this.root.relativize(path).toString();
+        return File.separatorChar == '/' ? relative : relative.replace(File.separatorChar, '/');
+    }
+
+    /** Condition checked against the set of changed paths. */
+    public interface Condition {
+
+        /**
+         * Check the condition.
+         * @param changed  Paths changed so far, relative to the watched directory
+         * @return True if the condition is satisfied.
+         */
+        boolean isSatisfied(Set<String> changed);
+
+    }
+
+    /** Listener that receives each batch of changes. */
+    public interface Listener {
+
+        /**
+         * Receive a batch of changes.
+         * @param changed  Paths changed in this batch, relative to the watched directory
+         */
+        void changed(Set<String> changed);
+
+    }
+
+    /** Future that completes once its condition is satisfied. */
+    private static class Waiter implements Future<Set<String>> {
+
+        /** Condition to wait for. */
+        private Condition condition;
+
+        /** All paths changed since the waiter was created. */
+        private Set<String> changed = new TreeSet<String>();
+
+        /** Released when the waiter completes or is cancelled. */
+        private CountDownLatch latch = new CountDownLatch(1);
+
+        /** Whether the waiter was cancelled. */
+        private volatile boolean cancelled;
+
+        /** Create a waiter. */
+        public Waiter(Condition condition) {
+            this.condition = condition;
+        }
+
+        /** Add a batch of changes, completing the waiter if the condition is satisfied; returns true if completed. */
+        public boolean offer(Set<String> batch) {
+            this.changed.addAll(batch);
+            if (this.condition.isSatisfied(Collections.unmodifiableSet(this.changed))) {
+                this.latch.countDown();
+                return true;
+            }
+
+            return false;
+        }
+
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            if (this.isDone()) {
+                return false;
+            }
+
+            this.cancelled = true;
+            this.latch.countDown();
+            return true;
+        }
+
+        public boolean isCancelled() {
+            return this.cancelled;
+        }
+
+        public boolean isDone() {
+            return this.latch.getCount() == 0;
+        }
+
+        public Set<String> get() throws InterruptedException {
+            this.latch.await();
+            return this.getResult();
+        }
+
+        public Set<String> get(long timeout, TimeUnit unit) throws InterruptedException, TimeoutException {
+            if (!this.latch.await(timeout, unit)) {
+                throw new TimeoutException("Timed out waiting for changes");
+            }
+
+            return this.getResult();
+        }
+
+        /** Get the result of a completed waiter. */
+        private Set<String> getResult() {
+            if (this.cancelled) {
+                throw new CancellationException("Watcher was closed");
+            }
+
+            return Collections.unmodifiableSet(this.changed);
+        }
+    }
+
+}
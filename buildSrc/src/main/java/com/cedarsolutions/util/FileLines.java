@@ -0,0 +1,139 @@
+/* * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ *
+ *              C E D A R
+ *          S O L U T I O N S       "Software done right."
+ *           S O F T W A R E
+ *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ *
+ * Copyright (c) 2026 Kenneth J. Pronovici.
+ * All rights reserved.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the Apache License, Version 2.0.
+ * See LICENSE for more information about the licensing terms.
+ *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ *
+ * Author   : Kenneth J. Pronovici <pronovic@ieee.org>
+ * Language : Java 6
+ * Project  : Common Java Functionality
+ *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * */
+package com.cedarsolutions.util;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Lazy, single-use sequence of the lines in a file.
+ *
+ * <p>
+ * Lines are read one at a time as the caller iterates, so memory usage
+ * doesn't depend on the size of the file.  Lines are split the same way as
+ * BufferedReader.readLine(), on LF, CR or CRLF, and the line endings are not
+ * included.  The file is closed automatically once the last line has been
+ * read.  Callers that might stop early must call close() themselves,
+ * normally in a finally block.
+ * </p>
+ *
+ * <p>
+ * This class implements both Iterable and Iterator, so it can be used in a
+ * for-each loop.  However, iterator() always returns the same object, and the
+ * lines can only be iterated once.
+ * </p>
+ *
+ * @author Kenneth J. Pronovici <pronovic@ieee.org>
+ */
+public class FileLines implements Iterable<String>, Iterator<String>, Closeable {
+
+    /** Size of the read buffer, in characters. */
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    /** Path to the file, for error messages. */
+    private String filePath;
+
+    /** Reader for the file, or null once it has been closed. */
+    private BufferedReader reader;
+
+    /** Next line to return, or null if it hasn't been read yet. */
+    private String next;
+
+    /**
+     * Open a file for reading.
+     * @param filePath  Path to the file
+     * @param charset   Character set the file is encoded in
+     * @throws RuntimeException If the file cannot be opened.
+     */
+    public FileLines(String filePath, Charset charset) {
+        try {
+            this.filePath = filePath;
+            this.reader = new BufferedReader(new InputStreamReader(new FileInputStream(filePath), charset), BUFFER_SIZE);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to read file: " + e.getMessage(), e);
+        }
+    }
+
+    /** Get an iterator over the lines, which is always this object. */
+    @Override
+    public Iterator<String> iterator() {
+        return this;
+    }
+
+    /** Whether there is another line. */
+    @Override
+    public boolean hasNext() {
+        if (this.next == null && this.reader != null) {
+            try {
+                this.next = this.reader.readLine();
+            } catch (IOException e) {
+                this.close();
+                throw new RuntimeException("Failed to read file " + this.filePath + ": " + e.getMessage(), e);
+            }
+
+            if (this.next == null) {
+                this.close();
+            }
+        }
+
+        return this.next != null;
+    }
+
+    /** Get the next line. */
+    @Override
+    public String next() {
+        if (!this.hasNext()) {
+            throw new NoSuchElementException();
+        }
+
+        String line = this.next;
+        this.next = null;
+        return line;
+    }
+
+    /** Lines cannot be removed. */
+    @Override
+    public void remove() {
+        throw new UnsupportedOperationException();
+    }
+
+    /** Close the file, which is safe to call more than once. */
+    @Override
+    public void close() {
+        if (this.reader != null) {
+            try {
+                this.reader.close();
+            } catch (IOException e) {
+            } finally {
+                this.reader = null;
+            }
+        }
+    }
+
+}
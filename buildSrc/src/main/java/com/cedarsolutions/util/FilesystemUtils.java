@@ -1,519 +1,898 @@
-/* * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
- *
- *              C E D A R
- *          S O L U T I O N S       "Software done right."
- *           S O F T W A R E
- *
- * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
- *
- * Copyright (c) 2013 Kenneth J. Pronovici.
- * All rights reserved.
- *
- * This program is free software; you can redistribute it and/or
- * modify it under the terms of the Apache License, Version 2.0.
- * See LICENSE for more information about the licensing terms.
- *
- * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
- *
- * Author   : Kenneth J. Pronovici <pronovic@ieee.org>
- * Language : Java 6
- * Project  : Common Java Functionality
- *
- * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * */
-package com.cedarsolutions.util;
-
-import java.io.BufferedReader;
-import java.io.File;
-import java.io.FileInputStream;
-import java.io.FileOutputStream;
-import java.io.FileReader;
-import java.io.IOException;
-import java.io.InputStream;
-import java.io.OutputStream;
-import java.io.Reader;
-import java.nio.channels.FileChannel;
-import java.util.ArrayList;
-import java.util.Enumeration;
-import java.util.List;
-import java.util.zip.ZipEntry;
-import java.util.zip.ZipFile;
-
-/**
- * Filesystem-related utilities.
- * This class is duplicated from CedarCommon for build purposes.
- * @author Kenneth J. Pronovici <pronovic@ieee.org>
- */
-public class FilesystemUtils {
-
-    /** Normalize a path, so it uses all '/' characters. */
-    public static String normalize(String path) {
-        if (path == null) {
-            return null;
-        } else if (path.length() == 0) {
-            return "";
-        } else {
-            File file = new File(path);
-            return file.getPath().replace("\\", "/");
-        }
-    }
-
-    /**
-     * Join a list of filesystem elements together, kind of like Python's os.path.join().
-     * @param elements  List of elements to be joined.
-     * @return Complete path, with elements separated by '/' characters.
-     */
-    public static String join(String ... elements) {
-        StringBuffer buffer = new StringBuffer();
-
-        if (elements.length > 0) {
-            int index = 0;
-            for (String element : elements) {
-                if (element != null) {
-                    if (index++ > 0) {
-                        buffer.append("/");
-                    }
-                    buffer.append(element);
-                }
-            }
-        }
-
-        return buffer.toString();
-    }
-
-    /**
-     * Get the base name for a path, like Python's os.path.basename().
-     * @param path    Path to operate on
-     * @return Base name for the path, possibly null.
-     */
-    public static String getBasename(String path) {
-        if (StringUtils.isEmpty(path)) {
-            return null;
-        } else {
-            File file = new File(path);
-            return StringUtils.trimToNull(file.getName());
-        }
-    }
-
-    /**
-     * Get the directory name for a path, like Python's os.path.dirname().
-     * @param path    Path to operate on
-     * @return Directory name for the path, possibly null.
-     */
-    public static String getDirname(String path) {
-        if (StringUtils.isEmpty(path)) {
-            return null;
-        } else {
-            File file = new File(path);
-            String parent = file.getParent();
-            return parent == null ? null : parent.replace("\\", "/");
-        }
-    }
-
-    /**
-     * Copy a file into a directory, overwriting the file if it exists.
-     * @param sourceFilePath  Source file path
-     * @param targetDirPath   Target directory path
-     * @throws RuntimeException If there is a problem with the filesystem operation.
-     */
-    public static void copyFileToDir(String sourceFilePath, String targetDirPath) {
-        try {
-            File sourceFile = new File(sourceFilePath);
-            String targetFilePath = join(targetDirPath, sourceFile.getName());
-            File targetFile = new File(targetFilePath);
-            copyFile(sourceFile, targetFile);
-        } catch (Exception e) {
-            throw new RuntimeException("Failed to copy directory: " + e.getMessage(), e);
-        }
-    }
-
-    /**
-     * Copy a file, overwriting the target if it exists.
-     * @param sourceFilePath  Source file path
-     * @param targetFilePath  Target file path
-     * @throws RuntimeException If there is a problem with the filesystem operation.
-     */
-    public static void copyFile(String sourceFilePath, String targetFilePath) {
-        File sourceFile = new File(sourceFilePath);
-        File targetFile = new File(targetFilePath);
-        copyFile(sourceFile, targetFile);
-    }
-
-    /**
-     * Copy a file, overwriting the target if it exists.
-     * @param sourceFile  Source file
-     * @param targetFile  Target file
-     * @throws RuntimeException If there is a problem with the filesystem operation.
-     */
-    public static void copyFile(File sourceFile, File targetFile) {
-        FileChannel sourceChannel = null;
-        FileChannel targetChannel = null;
-
-        try {
-            if (!targetFile.exists()) {
-                targetFile.createNewFile();
-            }
-
-            sourceChannel = new FileInputStream(sourceFile).getChannel();
-            targetChannel = new FileOutputStream(targetFile).getChannel();
-            targetChannel.transferFrom(sourceChannel, 0, sourceChannel.size());
-        } catch (Exception e) {
-            throw new RuntimeException("Failed to copy file: " + e.getMessage(), e);
-        } finally {
-            close(sourceChannel);
-            close(targetChannel);
-        }
-    }
-
-    /**
-     * Create a file in an existing directory.
-     * @param filePath  Path of the file to create
-     * @throws RuntimeException If there is a problem with the filesystem operation.
-     */
-    public static void createFile(String filePath) {
-        try {
-            new File(filePath).createNewFile();
-        } catch (Exception e) {
-            throw new RuntimeException("Failed to create file: " + e.getMessage(), e);
-        }
-    }
-
-    /**
-     * Remove a file, if it exists.
-     * @param filePath  Path of the file to remove
-     * @throws RuntimeException If there is a problem with the filesystem operation.
-     */
-    public static void removeFile(String filePath) {
-        File file = new File(filePath);
-        if (file.exists()) {
-            if (!file.delete()) {
-                throw new RuntimeException("Failed to remove file.");
-            } else if (fileExists(filePath)) {
-                throw new RuntimeException("Failed to remove file.");
-            }
-        }
-    }
-
-    /**
-     * Indicate whether a file exists.
-     * @param filePath  Path of the file to check
-     * @return True if the file exists, false otherwise.
-     */
-    public static boolean fileExists(String filePath) {
-        File file = new File(filePath);
-        return file.exists() && file.isFile();
-    }
-
-    /**
-     * Create a directory including all parent directories, like 'mkdir -p'.
-     * @param dirPath  Path of the directory to create
-     * @throws RuntimeException If there is a problem with the filesystem operation.
-     */
-    public static void createDir(String dirPath) {
-        File dirFile = new File(dirPath);
-        if (!dirFile.mkdirs() && !dirFile.exists()) {
-            throw new RuntimeException("Failed to create directory " + dirPath + ".");
-        }
-    }
-
-    /**
-     * Remove an empty directory, if it exists.
-     * @param dirPath   Path of the directory to remove.
-     * @throws RuntimeException If there is a problem with the filesystem operation.
-     */
-    public static void removeEmptyDir(String dirPath) {
-        removeDir(dirPath, false);
-    }
-
-    /**
-     * Remove a directory, if it exists.
-     * If recursive=false, the directory must be empty.
-     * @param dirPath    Path of the directory to remove.
-     * @param recursive  Whether the directory should be removed recursively.
-     * @throws RuntimeException If there is a problem with the filesystem operation.
-     */
-    public static void removeDir(String dirPath, boolean recursive) {
-        File dirFile = new File(dirPath);
-        if (!recursive) {
-            if (dirFile.exists()) {
-                if (!dirFile.delete()) {
-                    throw new RuntimeException("Failed to remove directory.");
-                } else if (dirExists(dirPath)) {
-                    throw new RuntimeException("Failed to remove directory.");
-                }
-            }
-        } else {
-            removeDirRecursive(dirFile);
-            if (dirExists(dirPath)) {
-                throw new RuntimeException("Failed to remove directory.");
-            }
-        }
-    }
-
-    /**
-     * Recursively remove a directory and all of its contents.
-     * @param dirFile   Directory to remove
-     */
-    private static void removeDirRecursive(File dirFile) {
-        if (dirFile.exists()) {
-            File[] targetFiles = dirFile.listFiles();
-            for (int i = 0; i < targetFiles.length; i++) {
-                if (targetFiles[i].isDirectory()) {
-                    removeDirRecursive(targetFiles[i]);
-                } else {
-                    targetFiles[i].delete();
-                }
-            }
-
-            dirFile.delete();
-        }
-    }
-
-    /**
-     * Indicates whether a directory exists.
-     * @param dirPath   Path of directory to check.
-     * @return True if the directory exists, false otherwise.
-     */
-    public static boolean dirExists(String dirPath) {
-        File dirFile = new File(dirPath);
-        return dirFile.exists() && dirFile.isDirectory();
-    }
-
-    /**
-     * Writes string contents to a file, replacing the file if it already exists.
-     * @param filePath  Path of the file to write
-     * @param contents  String contents to be written to the file
-     * @throws RuntimeException If there is a problem with the filesystem operation.
-     */
-    public static void writeFileContents(String filePath, String contents) {
-        FileOutputStream stream = null;
-
-        try {
-            stream = new FileOutputStream(filePath);
-            stream.write(StringUtils.getBytes(contents));
-        } catch (Exception e) {
-            throw new RuntimeException("Failed to write file: " + e.getMessage(), e);
-        } finally {
-            close(stream);
-        }
-    }
-
-    /**
-     * Writes string contents to a file, replacing the file if it already exists.
-     * @param filePath  Path of the file to write
-     * @param contents  Set of lines to be written to the file
-     * @throws RuntimeException If there is a problem with the filesystem operation.
-     */
-    public static void writeFileContents(String filePath, List<String> contents) {
-        FileOutputStream stream = null;
-
-        try {
-            stream = new FileOutputStream(filePath);
-            for (String line : contents) {
-                stream.write(StringUtils.getBytes(line));
-                stream.write(StringUtils.LINE_ENDING_BYTES);
-            }
-        } catch (Exception e) {
-            throw new RuntimeException("Failed to write file: " + e.getMessage(), e);
-        } finally {
-            close(stream);
-        }
-    }
-
-    /**
-     * Get the contents of a file.
-     * @param filePath  Path of the file to read
-     * @return Contents of the file as a list of strings.
-     * @throws RuntimeException If there is a problem with the filesystem operation.
-     */
-    public static List<String> getFileContents(String filePath) {
-        String line = null;
-        FileReader fileReader = null;
-        BufferedReader bufferedReader = null;
-        List<String> lines = new ArrayList<String>();
-
-        try {
-            fileReader = new FileReader(filePath);
-            bufferedReader = new BufferedReader(fileReader);
-
-            do {
-                line = bufferedReader.readLine();
-                if (line != null) {
-                    lines.add(line);
-                }
-            } while (line != null);
-        } catch (Exception e) {
-            throw new RuntimeException("Failed to read file: " + e.getMessage(), e);
-        } finally {
-            close(bufferedReader);
-            close(fileReader);
-        }
-
-        return lines;
-    }
-
-    /**
-     * Get the contents of a file.
-     * @param filePath  Path of the file to read
-     * @return Contents of the file as a single multi-line string.
-     * @throws RuntimeException If there is a problem with the filesystem operation.
-     */
-    public static String getFileContentsAsString(String filePath) {
-        FileReader fileReader = null;
-        BufferedReader bufferedReader = null;
-        StringBuffer buffer = new StringBuffer();
-
-        try {
-            fileReader = new FileReader(filePath);
-            bufferedReader = new BufferedReader(fileReader);
-
-            int character = -1;
-            while ((character = bufferedReader.read()) != -1) {
-                buffer.append((char) character);
-            }
-        } catch (Exception e) {
-            throw new RuntimeException("Failed to read file: " + e.getMessage(), e);
-        } finally {
-            close(bufferedReader);
-            close(fileReader);
-        }
-
-        return buffer.toString();
-    }
-
-    /**
-     * Get a list of the files and directories immediately within a directory.
-     * @param dirPath  Directory to operate on
-     * @return List of files and directories within the directory.
-     * @throws RuntimeException If there is a problem with the filesystem operation.
-     */
-    public static List<String> getDirContents(String dirPath) {
-        return getDirContents(dirPath, false);
-    }
-
-    /**
-     * Get a list of the files and directories within a directory.
-     * @param dirPath    Directory to operate on
-     * @param recursive  Recursively dig through all subdirectories
-     * @return List of files and directories within the directory.
-     * @throws RuntimeException If there is a problem with the filesystem operation.
-     */
-    public static List<String> getDirContents(String dirPath, boolean recursive) {
-        try {
-            List<String> contents = new ArrayList<String>();
-
-            File dirFile = new File(dirPath);
-            if (!dirFile.exists() || !dirFile.isDirectory()) {
-                throw new RuntimeException("Directory does not exist.");
-            }
-
-            File[] files = dirFile.listFiles();
-            for (int i = 0; i < files.length; i++) {
-                File file = files[i];
-                contents.add(file.getName());
-                if (file.isDirectory()) {
-                    if (recursive) {
-                        List<String> subdir = getDirContents(file.getCanonicalPath(), recursive);
-                        for (String entry : subdir) {
-                            String path = join(file.getName(), entry);
-                            contents.add(path);
-                        }
-                    }
-                }
-            }
-
-            return contents;
-        } catch (Exception e) {
-            throw new RuntimeException("Error getting dir contents: " + e.getMessage(), e);
-        }
-    }
-
-    /**
-     * Unzips the passed-in zip file.
-     * @param zipFilePath   Path to the zip file on disk
-     * @param targetDirPath Target directory that the zip contents should be written into
-     * @see <a href="http://stackoverflow.com/questions/3321842/poor-performance-of-javas-unzip-utilities">Stack Overflow</a>
-     */
-    @SuppressWarnings("unchecked")
-    public static final void unzip(String zipFilePath, String targetDirPath) {
-        ZipFile zip = null;
-        try {
-            zip = new ZipFile(zipFilePath);
-            Enumeration<ZipEntry> entries = (Enumeration<ZipEntry>) zip.entries();
-            while (entries.hasMoreElements()) {
-                ZipEntry entry = entries.nextElement();
-                java.io.File f = new java.io.File(targetDirPath, entry.getName());
-                if (entry.isDirectory()) { // if its a directory, create it
-                    continue;
-                }
-
-                if (!f.exists()) {
-                    f.getParentFile().mkdirs();
-                    f.createNewFile();
-                }
-
-                InputStream is = zip.getInputStream(entry); // get the input stream
-                OutputStream os = new java.io.FileOutputStream(f);
-                try {
-                    byte[] buf = new byte[4096];
-                    int r;
-                    while ((r = is.read(buf)) != -1) {
-                        os.write(buf, 0, r);
-                    }
-                } finally {
-                    close(os);
-                    close(is);
-                }
-            }
-        } catch (Exception e) {
-            throw new RuntimeException("Error unzipping file: " + e.getMessage(), e);
-        } finally {
-            close(zip);
-        }
-    }
-
-    /** Close a reader, ignoring errors. */
-    private static void close(Reader reader) {
-        if (reader != null) {
-            try {
-                reader.close();
-            } catch (IOException e) { }
-        }
-    }
-
-    /** Close an input stream, ignoring errors. */
-    private static void close(InputStream stream) {
-        if (stream != null) {
-            try {
-                stream.close();
-            } catch (IOException e) { }
-        }
-    }
-
-    /** Close an output stream, ignoring errors. */
-    private static void close(OutputStream stream) {
-        if (stream != null) {
-            try {
-                stream.close();
-            } catch (IOException e) { }
-        }
-    }
-
-    /** Close a file channel, ignoring errors. */
-    private static void close(FileChannel channel) {
-        if (channel != null) {
-            try {
-                channel.close();
-            } catch (IOException e) { }
-        }
-    }
-
-    /** Close a zip file channel, ignoring errors. */
-    private static void close(ZipFile zip) {
-        if (zip != null) {
-            try {
-                zip.close();
-            } catch (IOException e) { }
-        }
-    }
-
-}
+/* * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ *
+ *              C E D A R
+ *          S O L U T I O N S       "Software done right."
+ *           S O F T W A R E
+ *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ *
+ * Copyright (c) 2013 Kenneth J. Pronovici.
+ * All rights reserved.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the Apache License, Version 2.0.
+ * See LICENSE for more information about the licensing terms.
+ *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ *
+ * Author   : Kenneth J. Pronovici <pronovic@ieee.org>
+ * Language : Java 6
+ * Project  : Common Java Functionality
+ *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * */
+package com.cedarsolutions.util;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Enumeration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+/**
+ * Filesystem-related utilities.
+ * This class is duplicated from CedarCommon for build purposes.
+ * @author Kenneth J. Pronovici <pronovic@ieee.org>
+ */
+public class FilesystemUtils {
+
+    /** Files at least this large (in bytes) are memory-mapped rather than read into the heap. */
+    public static final long MAPPED_READ_THRESHOLD = 4 * 1024 * 1024;
+
+    /** Character set used by writeFileContents(), for compatibility with StringUtils.getBytes(). */
+    private static final Charset US_ASCII = Charset.forName("US-ASCII");
+
+    /** Largest number of bytes moved by a single transferTo() call when copying a file. */
+    private static final long COPY_CHUNK_SIZE = 8 * 1024 * 1024;
+
+    /** Size of the buffer each worker uses when extracting zip entries. */
+    private static final int UNZIP_BUFFER_SIZE = 256 * 1024;
+
+    /** Entries are grouped into batches of roughly this many uncompressed bytes when unzipping in parallel. */
+    private static final long UNZIP_BATCH_SIZE = 1024 * 1024;
+
+    /** Size of the buffers used when comparing file contents. */
+    private static final int COMPARE_BUFFER_SIZE = 64 * 1024;
+
+    /** On Windows, a mapped file can't be written or removed until the mapping is garbage collected. */
+    private static final boolean MAPPING_SUPPORTED = File.separatorChar != '\\';
+
+    /** Normalize a path, so it uses all '/' characters. */
+    public static String normalize(String path) {
+        if (path == null) {
+            return null;
+        } else if (path.length() == 0) {
+            return "";
+        } else {
+            File file = new File(path);
+            return file.getPath().replace("\\", "/");
+        }
+    }
+
+    /**
+     * Join a list of filesystem elements together, kind of like Python's os.path.join().
+     * @param elements  List of elements to be joined.
+     * @return Complete path, with elements separated by '/' characters.
+     */
+    public static String join(String ... elements) {
+        StringBuffer buffer = new StringBuffer();
+
+        if (elements.length > 0) {
+            int index = 0;
+            for (String element : elements) {
+                if (element != null) {
+                    if (index++ > 0) {
+                        buffer.append("/");
+                    }
+                    buffer.append(element);
+                }
+            }
+        }
+
+        return buffer.toString();
+    }
+
+    /**
+     * Get the base name for a path, like Python's os.path.basename().
+     * @param path    Path to operate on
+     * @return Base name for the path, possibly null.
+     */
+    public static String getBasename(String path) {
+        if (StringUtils.isEmpty(path)) {
+            return null;
+        } else {
+            File file = new File(path);
+            return StringUtils.trimToNull(file.getName());
+        }
+    }
+
+    /**
+     * Get the directory name for a path, like Python's os.path.dirname().
+     * @param path    Path to operate on
+     * @return Directory name for the path, possibly null.
+     */
+    public static String getDirname(String path) {
+        if (StringUtils.isEmpty(path)) {
+            return null;
+        } else {
+            File file = new File(path);
+            String parent = file.getParent();
+            return parent == null ? null : parent.replace("\\", "/");
+        }
+    }
+
+    /**
+     * Copy a file into a directory, overwriting the file if it exists.
+     * @param sourceFilePath  Source file path
+     * @param targetDirPath   Target directory path
+     * @throws RuntimeException If there is a problem with the filesystem operation.
+     */
+    public static void copyFileToDir(String sourceFilePath, String targetDirPath) {
+        try {
+            File sourceFile = new File(sourceFilePath);
+            String targetFilePath = join(targetDirPath, sourceFile.getName());
+            File targetFile = new File(targetFilePath);
+            copyFile(sourceFile, targetFile);
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to copy directory: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Copy a file, overwriting the target if it exists.
+     * @param sourceFilePath  Source file path
+     * @param targetFilePath  Target file path
+     * @throws RuntimeException If there is a problem with the filesystem operation.
+     */
+    public static void copyFile(String sourceFilePath, String targetFilePath) {
+        File sourceFile = new File(sourceFilePath);
+        File targetFile = new File(targetFilePath);
+        copyFile(sourceFile, targetFile);
+    }
+
+    /**
+     * Copy a file, overwriting the target if it exists.
+     * @param sourceFile  Source file
+     * @param targetFile  Target file
+     * @throws RuntimeException If there is a problem with the filesystem operation.
+     */
+    public static void copyFile(File sourceFile, File targetFile) {
+        FileChannel sourceChannel = null;
+        FileChannel targetChannel = null;
+
+        try {
+            if (!targetFile.exists()) {
+                targetFile.createNewFile();
+            }
+
+            sourceChannel = new FileInputStream(sourceFile).getChannel();
+            targetChannel = new FileOutputStream(targetFile).getChannel();
+
+            // transferTo() may move fewer bytes than requested, so loop until everything is copied
+            long size = sourceChannel.size();
+            long position = 0;
+            while (position < size) {
+                long transferred = sourceChannel.transferTo(position, Math.min(COPY_CHUNK_SIZE, size - position), targetChannel);
+                if (transferred <= 0) {
+                    throw new IOException("Source file was truncated after " + position + " of " + size + " bytes");
+                }
+
+                position += transferred;
+            }
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to copy file: " + e.getMessage(), e);
+        } finally {
+            close(sourceChannel);
+            close(targetChannel);
+        }
+    }
+
+    /**
+     * Create a file in an existing directory.
+     * @param filePath  Path of the file to create
+     * @throws RuntimeException If there is a problem with the filesystem operation.
+     */
+    public static void createFile(String filePath) {
+        try {
+            new File(filePath).createNewFile();
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to create file: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Remove a file, if it exists.
+     * @param filePath  Path of the file to remove
+     * @throws RuntimeException If there is a problem with the filesystem operation.
+     */
+    public static void removeFile(String filePath) {
+        File file = new File(filePath);
+        if (file.exists()) {
+            if (!file.delete()) {
+                throw new RuntimeException("Failed to remove file.");
+            } else if (fileExists(filePath)) {
+                throw new RuntimeException("Failed to remove file.");
+            }
+        }
+    }
+
+    /**
+     * Indicate whether a file exists.
+     * @param filePath  Path of the file to check
+     * @return True if the file exists, false otherwise.
+     */
+    public static boolean fileExists(String filePath) {
+        File file = new File(filePath);
+        return file.exists() && file.isFile();
+    }
+
+    /**
+     * Create a directory including all parent directories, like 'mkdir -p'.
+     * @param dirPath  Path of the directory to create
+     * @throws RuntimeException If there is a problem with the filesystem operation.
+     */
+    public static void createDir(String dirPath) {
+        File dirFile = new File(dirPath);
+        if (!dirFile.mkdirs() && !dirFile.exists()) {
+            throw new RuntimeException("Failed to create directory " + dirPath + ".");
+        }
+    }
+
+    /**
+     * Remove an empty directory, if it exists.
+     * @param dirPath   Path of the directory to remove.
+     * @throws RuntimeException If there is a problem with the filesystem operation.
+     */
+    public static void removeEmptyDir(String dirPath) {
+        removeDir(dirPath, false);
+    }
+
+    /**
+     * Remove a directory, if it exists.
+     * If recursive=false, the directory must be empty.
+     * @param dirPath    Path of the directory to remove.
+     * @param recursive  Whether the directory should be removed recursively.
+     * @throws RuntimeException If there is a problem with the filesystem operation.
+     */
+    public static void removeDir(String dirPath, boolean recursive) {
+        File dirFile = new File(dirPath);
+        if (!recursive) {
+            if (dirFile.exists()) {
+                if (!dirFile.delete()) {
+                    throw new RuntimeException("Failed to remove directory.");
+                } else if (dirExists(dirPath)) {
+                    throw new RuntimeException("Failed to remove directory.");
+                }
+            }
+        } else {
+            removeDirRecursive(dirFile);
+            if (dirExists(dirPath)) {
+                throw new RuntimeException("Failed to remove directory.");
+            }
+        }
+    }
+
+    /**
+     * Recursively remove a directory and all of its contents.
+     * @param dirFile   Directory to remove
+     */
+    private static void removeDirRecursive(File dirFile) {
+        if (dirFile.exists()) {
+            File[] targetFiles = dirFile.listFiles();
+            for (int i = 0; i < targetFiles.length; i++) {
+                if (targetFiles[i].isDirectory()) {
+                    removeDirRecursive(targetFiles[i]);
+                } else {
+                    targetFiles[i].delete();
+                }
+            }
+
+            dirFile.delete();
+        }
+    }
+
+    /**
+     * Indicates whether a directory exists.
+     * @param dirPath   Path of directory to check.
+     * @return True if the directory exists, false otherwise.
+     */
+    public static boolean dirExists(String dirPath) {
+        File dirFile = new File(dirPath);
+        return dirFile.exists() && dirFile.isDirectory();
+    }
+
+    /**
+     * Writes string contents to a file, replacing the file if it already exists.
+     * The file is replaced atomically, and characters are encoded as US-ASCII.
+     * @param filePath  Path of the file to write
+     * @param contents  String contents to be written to the file
+     * @throws RuntimeException If there is a problem with the filesystem operation.
+     */
+    public static void writeFileContents(String filePath, String contents) {
+        try {
+            AtomicFileWriter writer = new AtomicFileWriter(filePath).charset(US_ASCII);
+            try {
+                writer.write(contents);
+                writer.commit();
+            } finally {
+                writer.close();  // removes the temporary file if the write failed
+            }
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to write file: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Writes string contents to a file, replacing the file if it already exists.
+     * The file is replaced atomically, and characters are encoded as US-ASCII.
+     * @param filePath  Path of the file to write
+     * @param contents  Set of lines to be written to the file
+     * @throws RuntimeException If there is a problem with the filesystem operation.
+     */
+    public static void writeFileContents(String filePath, List<String> contents) {
+        try {
+            AtomicFileWriter writer = new AtomicFileWriter(filePath).charset(US_ASCII);
+            try {
+                writer.writeLines(contents);
+                writer.commit();
+            } finally {
+                writer.close();  // removes the temporary file if the write failed
+            }
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to write file: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Get the contents of a file, using the platform default character set.
+     * @param filePath  Path of the file to read
+     * @return Contents of the file as a list of strings.
+     * @throws RuntimeException If there is a problem with the filesystem operation.
+     */
+    public static List<String> getFileContents(String filePath) {
+        return getFileContents(filePath, Charset.defaultCharset());
+    }
+
+    /**
+     * Get the contents of a file.
+     * @param filePath  Path of the file to read
+     * @param charset   Character set the file is encoded in
+     * @return Contents of the file as a list of strings.
+     * @throws RuntimeException If there is a problem with the filesystem operation.
+     */
+    public static List<String> getFileContents(String filePath, Charset charset) {
+        List<String> lines = new ArrayList<String>();
+
+        FileLines fileLines = getFileLines(filePath, charset);
+        try {
+            for (String line : fileLines) {
+                lines.add(line);
+            }
+        } finally {
+            fileLines.close();
+        }
+
+        return lines;
+    }
+
+    /**
+     * Get the lines in a file lazily, using the platform default character set.
+     * @param filePath  Path of the file to read
+     * @return Lines in the file, which must be closed if not read to the end.
+     * @throws RuntimeException If there is a problem with the filesystem operation.
+     */
+    public static FileLines getFileLines(String filePath) {
+        return getFileLines(filePath, Charset.defaultCharset());
+    }
+
+    /**
+     * Get the lines in a file lazily.
+     * @param filePath  Path of the file to read
+     * @param charset   Character set the file is encoded in
+     * @return Lines in the file, which must be closed if not read to the end.
+     * @throws RuntimeException If there is a problem with the filesystem operation.
+     */
+    public static FileLines getFileLines(String filePath, Charset charset) {
+        return new FileLines(filePath, charset);
+    }
+
+    /**
+     * Get the contents of a file, using the platform default character set.
+     * @param filePath  Path of the file to read
+     * @return Contents of the file as a single multi-line string.
+     * @throws RuntimeException If there is a problem with the filesystem operation.
+     */
+    public static String getFileContentsAsString(String filePath) {
+        return getFileContentsAsString(filePath, Charset.defaultCharset());
+    }
+
+    /**
+     * Get the contents of a file.
+     *
+     * <p>
+     * Small files are read with a single bulk read.  Files of at least
+     * MAPPED_READ_THRESHOLD bytes are memory-mapped instead, and decoded
+     * straight out of the mapping, so the raw bytes never occupy the heap.
+     * Mapping is never used on Windows, since it would keep the file locked.
+     * </p>
+     *
+     * @param filePath  Path of the file to read
+     * @param charset   Character set the file is encoded in
+     * @return Contents of the file as a single multi-line string.
+     * @throws RuntimeException If there is a problem with the filesystem operation.
+     */
+    public static String getFileContentsAsString(String filePath, Charset charset) {
+        return getFileContentsAsString(filePath, charset, MAPPED_READ_THRESHOLD);
+    }
+
+    /**
+     * Get the contents of a file.
+     * @param filePath         Path of the file to read
+     * @param charset          Character set the file is encoded in
+     * @param mappedThreshold  Size in bytes at which a file is memory-mapped rather than read
+     * @return Contents of the file as a single multi-line string.
+     * @throws RuntimeException If there is a problem with the filesystem operation.
+     */
+    protected static String getFileContentsAsString(String filePath, Charset charset, long mappedThreshold) {
+        FileInputStream stream = null;
+
+        try {
+            stream = new FileInputStream(filePath);
+            return charset.decode(readContents(stream.getChannel(), mappedThreshold)).toString();
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to read file: " + e.getMessage(), e);
+        } finally {
+            close(stream);
+        }
+    }
+
+    /**
+     * Get the contents of a file as raw bytes, with a single bulk read.
+     * @param filePath  Path of the file to read
+     * @return Contents of the file.
+     * @throws RuntimeException If there is a problem with the filesystem operation.
+     */
+    public static byte[] getFileContentsAsBytes(String filePath) {
+        FileInputStream stream = null;
+
+        try {
+            stream = new FileInputStream(filePath);
+            ByteBuffer buffer = readContents(stream.getChannel(), Long.MAX_VALUE);
+            byte[] contents = new byte[buffer.remaining()];
+            buffer.get(contents);
+            return contents;
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to read file: " + e.getMessage(), e);
+        } finally {
+            close(stream);
+        }
+    }
+
+    /**
+     * Read the entire contents of a channel.
+     *
+     * <p>
+     * The buffer is sized from the file size up front, with room for one extra
+     * byte so that reaching end-of-file doesn't require a copy.  Files that
+     * report a size of zero (like the ones in /proc) or that grow while being
+     * read are still read completely.
+     * </p>
+     *
+     * @param channel          Channel to read from
+     * @param mappedThreshold  Size in bytes at which the file is memory-mapped rather than read
+     * @return Buffer containing the contents, positioned at the start.
+     */
+    private static ByteBuffer readContents(FileChannel channel, long mappedThreshold) throws IOException {
+        long size = channel.size();
+        if (size >= Integer.MAX_VALUE) {
+            throw new IOException("file is too large to read into memory (" + size + " bytes)");
+        }
+
+        if (MAPPING_SUPPORTED && size > 0 && size >= mappedThreshold) {
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate((int) size + 1);
+        while (channel.read(buffer) != -1) {
+            if (!buffer.hasRemaining()) {
+                ByteBuffer larger = ByteBuffer.allocate(buffer.capacity() * 2);
+                buffer.flip();
+                larger.put(buffer);
+                buffer = larger;
+            }
+        }
+
+        buffer.flip();
+        return buffer;
+    }
+
+    /**
+     * Get a list of the files and directories immediately within a directory.
+     * @param dirPath  Directory to operate on
+     * @return List of files and directories within the directory.
+     * @throws RuntimeException If there is a problem with the filesystem operation.
+     */
+    public static List<String> getDirContents(String dirPath) {
+        return getDirContents(dirPath, false);
+    }
+
+    /**
+     * Get a list of the files and directories within a directory.
+     * @param dirPath    Directory to operate on
+     * @param recursive  Recursively dig through all subdirectories
+     * @return List of files and directories within the directory.
+     * @throws RuntimeException If there is a problem with the filesystem operation.
+     */
+    public static List<String> getDirContents(String dirPath, boolean recursive) {
+        try {
+            return new DirectoryWalker(dirPath).maxDepth(recursive ? Integer.MAX_VALUE : 1).getPaths();
+        } catch (Exception e) {
+            throw new RuntimeException("Error getting dir contents: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Mirror a directory, so the target becomes an exact copy of the source.
+     *
+     * <p>
+     * Only files that have changed are copied.  A file is considered unchanged
+     * when the source and target have the same size and modification time.  If
+     * compareContents is true, a file whose size matches but whose modification
+     * time differs is also considered unchanged if its contents are identical,
+     * in which case only the target's modification time is updated.  Anything
+     * in the target that does not exist in the source is deleted.  Symbolic
+     * links in the source are ignored.
+     * </p>
+     *
+     * @param sourceDirPath    Source directory path
+     * @param targetDirPath    Target directory path, which is created if necessary
+     * @param compareContents  Whether to compare contents when modification times differ
+     * @return Number of files and directories that were copied, created or deleted.
+     * @throws RuntimeException If there is a problem with the filesystem operation.
+     */
+    public static int mirrorDir(String sourceDirPath, String targetDirPath, final boolean compareContents) {
+        try {
+            final File sourceDir = new File(sourceDirPath);
+            final File targetDir = new File(targetDirPath);
+            final Set<String> sourcePaths = new HashSet<String>();
+            final int[] changed = new int[] { 0, };
+
+            if (!sourceDir.isDirectory()) {
+                throw new RuntimeException("Source directory does not exist: " + sourceDirPath);
+            }
+
+            if (prepareDir(targetDir)) {
+                changed[0]++;
+            }
+
+            new DirectoryWalker(sourceDirPath).skipSymlinks(true).walk(new DirectoryWalker.Visitor() {
+                public boolean visit(String path, BasicFileAttributes attributes) {
+                    sourcePaths.add(path);
+                    File target = new File(targetDir, path);
+                    if (attributes.isDirectory()) {
+                        if (prepareDir(target)) {
+                            changed[0]++;
+                        }
+                    } else if (mirrorFile(new File(sourceDir, path), attributes, target, compareContents)) {
+                        changed[0]++;
+                    }
+
+                    return true;
+                }
+            });
+
+            // Walk order puts each directory before its contents, so delete in reverse
+            List<String> stale = new ArrayList<String>();
+            for (String path : new DirectoryWalker(targetDirPath).getPaths()) {
+                if (!sourcePaths.contains(path)) {
+                    stale.add(path);
+                }
+            }
+
+            for (int i = stale.size() - 1; i >= 0; i--) {
+                Files.deleteIfExists(new File(targetDir, stale.get(i)).toPath());
+                changed[0]++;
+            }
+
+            return changed[0];
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to mirror directory: " + e.getMessage(), e);
+        }
+    }
+
+    /** Make sure a directory exists in a mirror, replacing a file of the same name; returns true if it was created. */
+    private static boolean prepareDir(File dir) {
+        if (dir.isDirectory()) {
+            return false;
+        }
+
+        if (dir.exists()) {
+            removeFile(dir.getPath());
+        }
+
+        createDir(dir.getPath());
+        return true;
+    }
+
+    /** Bring a file in a mirror up to date with its source; returns true if it was copied. */
+    private static boolean mirrorFile(File source, BasicFileAttributes attributes, File target, boolean compareContents) {
+        long modified = attributes.lastModifiedTime().toMillis();
+
+        if (target.isDirectory()) {
+            removeDir(target.getPath(), true);
+        } else if (target.isFile() && target.length() == attributes.size()) {
+            if (target.lastModified() == modified) {
+                return false;
+            } else if (compareContents && contentsEqual(source, target)) {
+                target.setLastModified(modified);
+                return false;
+            }
+        }
+
+        copyFile(source, target);
+        target.setLastModified(modified);
+        return true;
+    }
+
+    /** Compare the contents of two files of the same size. */
+    private static boolean contentsEqual(File first, File second) {
+        FileChannel firstChannel = null;
+        FileChannel secondChannel = null;
+
+        try {
+            firstChannel = new FileInputStream(first).getChannel();
+            secondChannel = new FileInputStream(second).getChannel();
+
+            ByteBuffer firstBuffer = ByteBuffer.allocate(COMPARE_BUFFER_SIZE);
+            ByteBuffer secondBuffer = ByteBuffer.allocate(COMPARE_BUFFER_SIZE);
+            while (true) {
+                int read = fill(firstChannel, firstBuffer);
+                if (fill(secondChannel, secondBuffer) != read) {
+                    return false;
+                } else if (read == 0) {
+                    return true;
+                }
+
+                firstBuffer.flip();
+                secondBuffer.flip();
+                if (!firstBuffer.equals(secondBuffer)) {
+                    return false;
+                }
+
+                firstBuffer.clear();
+                secondBuffer.clear();
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to compare files: " + e.getMessage(), e);
+        } finally {
+            close(firstChannel);
+            close(secondChannel);
+        }
+    }
+
+    /** Fill a buffer from a channel, stopping early only at end of file; returns the number of bytes read. */
+    private static int fill(FileChannel channel, ByteBuffer buffer) throws IOException {
+        int total = 0;
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer);
+            if (read < 0) {
+                break;
+            }
+
+            total += read;
+        }
+
+        return total;
+    }
+
+    /**
+     * Unzips the passed-in zip file.
+     * @param zipFilePath   Path to the zip file on disk
+     * @param targetDirPath Target directory that the zip contents should be written into
+     * @see <a href="http://stackoverflow.com/questions/3321842/poor-performance-of-javas-unzip-utilities">Stack Overflow</a>
+     */
+    public static final void unzip(String zipFilePath, String targetDirPath) {
+        unzip(zipFilePath, targetDirPath, 1);
+    }
+
+    /**
+     * Unzips the passed-in zip file, extracting entries in parallel.
+     *
+     * <p>
+     * Every entry name is validated before anything is written, and the
+     * extraction fails if any entry would land outside the target directory
+     * (the "zip slip" problem).  The full directory skeleton is created up
+     * front, and then file entries are spread across a pool of workers, each
+     * of which reads its entries directly from the zip file.  Entries are
+     * handed out largest first, with small entries grouped into batches.
+     * </p>
+     *
+     * @param zipFilePath   Path to the zip file on disk
+     * @param targetDirPath Target directory that the zip contents should be written into
+     * @param parallelism   Number of entries to extract concurrently, where 1 extracts in the calling thread
+     * @throws RuntimeException If there is a problem with the filesystem operation.
+     */
+    public static final void unzip(String zipFilePath, String targetDirPath, int parallelism) {
+        ZipFile zip = null;
+        ExecutorService executor = null;
+        try {
+            zip = new ZipFile(zipFilePath);
+            final ZipFile source = zip;
+            final Path targetDir = new File(targetDirPath).getAbsoluteFile().toPath().normalize();
+
+            SortedSet<Path> dirs = new TreeSet<Path>();
+            List<ZipEntry> files = new ArrayList<ZipEntry>();
+            Enumeration<? extends ZipEntry> entries = zip.entries();
+            while (entries.hasMoreElements()) {
+                ZipEntry entry = entries.nextElement();
+                Path path = targetDir.resolve(entry.getName()).normalize();
+                if (!path.startsWith(targetDir)) {
+                    throw new RuntimeException("Entry is outside of the target directory: " + entry.getName());
+                }
+
+                if (entry.isDirectory()) {
+                    dirs.add(path);
+                } else {
+                    dirs.add(path.getParent());
+                    files.add(entry);
+                }
+            }
+
+            createDirs(dirs);
+
+            if (parallelism <= 1) {
+                extractEntries(source, targetDir, files);
+            } else {
+                executor = Executors.newFixedThreadPool(parallelism);
+                List<Future<Void>> futures = new ArrayList<Future<Void>>();
+                for (final List<ZipEntry> batch : batchEntries(files)) {
+                    futures.add(executor.submit(new Callable<Void>() {
+                        public Void call() throws IOException {
+                            extractEntries(source, targetDir, batch);
+                            return null;
+                        }
+                    }));
+                }
+
+                for (Future<Void> future : futures) {
+                    try {
+                        future.get();
+                    } catch (ExecutionException e) {
+                        throw new RuntimeException(e.getCause().getMessage(), e.getCause());
+                    }
+                }
+            }
+        } catch (Exception e) {
+            throw new RuntimeException("Error unzipping file: " + e.getMessage(), e);
+        } finally {
+            if (executor != null) {
+                executor.shutdownNow();
+            }
+
+            close(zip);
+        }
+    }
+
+    /** Create a sorted set of directories, skipping any that will be created along with a subdirectory. */
+    private static void createDirs(SortedSet<Path> dirs) throws IOException {
+        Path previous = null;
+        for (Path dir : dirs) {
+            if (previous != null && !dir.startsWith(previous)) {
+                Files.createDirectories(previous);
+            }
+
+            previous = dir;
+        }
+
+        if (previous != null) {
+            Files.createDirectories(previous);
+        }
+    }
+
+    /** Split file entries into batches for extraction, largest first, grouping small entries together. */
+    private static List<List<ZipEntry>> batchEntries(List<ZipEntry> files) {
+        List<ZipEntry> sorted = new ArrayList<ZipEntry>(files);
+        Collections.sort(sorted, new Comparator<ZipEntry>() {
+            public int compare(ZipEntry first, ZipEntry second) {
+                return Long.valueOf(second.getSize()).compareTo(Long.valueOf(first.getSize()));
+            }
+        });
+
+        List<List<ZipEntry>> batches = new ArrayList<List<ZipEntry>>();
+        List<ZipEntry> batch = new ArrayList<ZipEntry>();
+        long size = 0;
+        for (ZipEntry entry : sorted) {
+            batch.add(entry);
+            size += Math.max(0, entry.getSize());
+            if (size >= UNZIP_BATCH_SIZE) {
+                batches.add(batch);
+                batch = new ArrayList<ZipEntry>();
+                size = 0;
+            }
+        }
+
+        if (!batch.isEmpty()) {
+            batches.add(batch);
+        }
+
+        return batches;
+    }
+
+    /** Extract file entries into a target directory whose skeleton already exists. */
+    private static void extractEntries(ZipFile zip, Path targetDir, List<ZipEntry> entries) throws IOException {
+        byte[] buffer = new byte[UNZIP_BUFFER_SIZE];
+        for (ZipEntry entry : entries) {
+            InputStream is = zip.getInputStream(entry);
+            OutputStream os = null;
+            try {
+                os = new FileOutputStream(targetDir.resolve(entry.getName()).toFile());
+                int read;
+                while ((read = is.read(buffer)) != -1) {
+                    os.write(buffer, 0, read);
+                }
+            } finally {
+                close(os);
+                close(is);
+            }
+        }
+    }
+
+    /** Close an input stream, ignoring errors. */
+    private static void close(InputStream stream) {
+        if (stream != null) {
+            try {
+                stream.close();
+            } catch (IOException e) { }
+        }
+    }
+
+    /** Close an output stream, ignoring errors. */
+    private static void close(OutputStream stream) {
+        if (stream != null) {
+            try {
+                stream.close();
+            } catch (IOException e) { }
+        }
+    }
+
+    /** Close a file channel, ignoring errors. */
+    private static void close(FileChannel channel) {
+        if (channel != null) {
+            try {
+                channel.close();
+            } catch (IOException e) { }
+        }
+    }
+
+    /** Close a zip file channel, ignoring errors. */
+    private static void close(ZipFile zip) {
+        if (zip != null) {
+            try {
+                zip.close();
+            } catch (IOException e) { }
+        }
+    }
+
+}
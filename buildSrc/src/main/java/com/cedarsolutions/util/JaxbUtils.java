@@ -1,185 +1,270 @@
-/* * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
- *
- *              C E D A R
- *          S O L U T I O N S       "Software done right."
- *           S O F T W A R E
- *
- * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
- *
- * Copyright (c) 2013 Kenneth J. Pronovici.
- * All rights reserved.
- *
- * This program is free software; you can redistribute it and/or
- * modify it under the terms of the Apache License, Version 2.0.
- * See LICENSE for more information about the licensing terms.
- *
- * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
- *
- * Author   : Kenneth J. Pronovici <pronovic@ieee.org>
- * Language : Java 6
- * Project  : Common Java Functionality
- *
- * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * */
-package com.cedarsolutions.util;
-
-import java.io.StringReader;
-import java.io.StringWriter;
-import java.util.HashMap;
-import java.util.Map;
-
-import javax.xml.bind.JAXBContext;
-import javax.xml.bind.JAXBElement;
-import javax.xml.bind.JAXBException;
-import javax.xml.bind.Marshaller;
-import javax.xml.bind.Unmarshaller;
-import javax.xml.bind.ValidationEvent;
-import javax.xml.bind.util.ValidationEventCollector;
-import javax.xml.transform.Source;
-import javax.xml.transform.stream.StreamSource;
-
-/**
- * JAXB utilities that operate on a cached JAXB context.
- *
- * <p>
- * The process of establishing a JAXB context can be pretty slow.  So, we want
- * to avoid having to do it more often than necessary.  This class keeps an
- * internal cache of contexts that have already been established.  It also
- * provides some utility methods to simplify marshalling and unmarshalling.
- * </p>
- *
- * <p>This class is duplicated from CedarCommon for build purposes.</p>
- *
- * @author Kenneth J. Pronovici <pronovic@ieee.org>
- */
-@SuppressWarnings({ "unchecked", "rawtypes" })
-public class JaxbUtils {
-
-    /** Singleton instance. */
-    private static JaxbUtils INSTANCE;
-
-    /** Map from class name to generated JAXB context. */
-    private Map<String, JAXBContext> contextMap = new HashMap<String, JAXBContext>();
-
-    /** Default constructor is private so class cannot be instantiated. */
-    private JaxbUtils() {
-    }
-
-    /** Get an instance of this class to use. */
-    public static synchronized JaxbUtils getInstance() {
-        if (INSTANCE == null) {
-            INSTANCE = new JaxbUtils();
-        }
-
-        return INSTANCE;
-    }
-
-    /**
-     * Get a JAXB context for the indicated class.
-     * @param className  Name of the class to get a context for
-     * @return JAXB context for the class.
-     */
-    public JAXBContext getJaxbContext(String className) {
-        try {
-            Class clazz = Class.forName(className);
-            return this.getJaxbContext(clazz);
-        } catch (Exception e) {
-            throw new RuntimeException("Error obtaining JAXB context: " + e.getMessage(), e);
-        }
-    }
-
-    /**
-     * Get a JAXB context for the indicated class.
-     * @param clazz  Class to get a context for.
-     * @return JAXB context for the class.
-     */
-    public synchronized <T> JAXBContext getJaxbContext(Class<T> clazz) {
-        if (!this.contextMap.containsKey(clazz.getName())) {
-            try {
-                JAXBContext context = JAXBContext.newInstance(clazz);
-                this.contextMap.put(clazz.getName(), context);
-            } catch (Exception e) {
-                throw new RuntimeException("Error obtaining JAXB context: " + e.getMessage(), e);
-            }
-        }
-
-        return this.contextMap.get(clazz.getName());
-    }
-
-    /**
-     * Marshal an object of type T, creating XML.
-     * @param <T>  Type of the object
-     * @param value  Value to marshal.
-     * @return Generated XML.
-     */
-    public <T> String marshalDocument(T value) {
-        try {
-            JAXBContext context = this.getJaxbContext(value.getClass());
-
-            Marshaller marshaller = context.createMarshaller();
-            marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
-            marshaller.setProperty(Marshaller.JAXB_FRAGMENT, false);
-
-            StringWriter writer = new StringWriter();
-            marshaller.marshal(value, writer);
-            return writer.toString();
-        } catch (JAXBException e) {
-            throw new RuntimeException("Error marshalling XML: " + e.getMessage(), e);
-        }
-    }
-
-    /**
-     * Unmarshal XML, creating an object of type T.
-     * @param <T>  Type of the object
-     * @param type Type of the object to unmarshal
-     * @param xml XML to use as source
-     * @return Object of type T, unmarshalled from the XML.
-     */
-    public <T> T unmarshalDocument(Class<T> type, String xml) {
-        return unmarshalDocument(type, xml, true);
-    }
-
-    /**
-     * Unmarshal XML, creating an object of type T.
-     * @param <T>  Type of the object
-     * @param type Type of the object to unmarshal
-     * @param xml XML to use as source
-     * @param validate  Whether to validate the unmarshalling step
-     * @return Object of type T, unmarshalled from the XML.
-     */
-    public <T> T unmarshalDocument(Class<T> type, String xml, boolean validate) {
-        try {
-            JAXBContext context = this.getJaxbContext(type);
-
-            StringReader reader = new StringReader(xml);
-            Source source = new StreamSource(reader);
-
-            Unmarshaller unmarshaller = context.createUnmarshaller();
-
-            // If an adapter fails, we don't get an unmarshal exception.
-            // Instead, we have to register and interrogate a handler.
-            // See also: http://java.net/jira/browse/JAXB-537
-            ValidationEventCollector eventHandler = new ValidationEventCollector();
-            unmarshaller.setEventHandler(eventHandler);
-
-            JAXBElement<T> element = unmarshaller.unmarshal(source, type);
-
-            if (validate) {
-                if (eventHandler.hasEvents()) {
-                    StringBuffer buffer = new StringBuffer();
-
-                    buffer.append("Error unmarshalling XML: found validation error(s)");
-                    for (ValidationEvent event : eventHandler.getEvents()) {
-                        buffer.append("\n\t -> ");
-                        buffer.append(event.getMessage());
-                    }
-
-                    throw new RuntimeException(buffer.toString());
-                }
-            }
-
-            return element.getValue();
-        } catch (JAXBException e) {
-            throw new RuntimeException("Error unmarshalling XML: " + e.getMessage(), e);
-        }
-    }
-}
+/* * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ *
+ *              C E D A R
+ *          S O L U T I O N S       "Software done right."
+ *           S O F T W A R E
+ *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ *
+ * Copyright (c) 2013 Kenneth J. Pronovici.
+ * All rights reserved.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the Apache License, Version 2.0.
+ * See LICENSE for more information about the licensing terms.
+ *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ *
+ * Author   : Kenneth J. Pronovici <pronovic@ieee.org>
+ * Language : Java 6
+ * Project  : Common Java Functionality
+ *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * */
+package com.cedarsolutions.util;
+
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBElement;
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Marshaller;
+import javax.xml.bind.Unmarshaller;
+import javax.xml.bind.ValidationEvent;
+import javax.xml.bind.util.ValidationEventCollector;
+import javax.xml.transform.Source;
+import javax.xml.transform.stream.StreamSource;
+
+/**
+ * JAXB utilities that operate on a cached JAXB context.
+ *
+ * <p>
+ * The process of establishing a JAXB context can be pretty slow.  So, we want
+ * to avoid having to do it more often than necessary.  This class keeps an
+ * internal cache of contexts that have already been established.  It also
+ * provides some utility methods to simplify marshalling and unmarshalling.
+ * </p>
+ *
+ * <p>
+ * The cache is safe to use from many threads without any of them blocking
+ * on a shared lock.  Marshallers and unmarshallers are not thread-safe, so
+ * each one is borrowed from a per-class pool for the duration of a single
+ * call and then returned, rather than being created fresh every time.  A
+ * pool never holds more instances than the peak number of concurrent calls.
+ * Counters show how often contexts and (un)marshallers are actually built.
+ * </p>
+ *
+ * <p>This class is duplicated from CedarCommon for build purposes.</p>
+ *
+ * @author Kenneth J. Pronovici <pronovic@ieee.org>
+ */
+@SuppressWarnings({ "unchecked", "rawtypes" })
+public class JaxbUtils {
+
+    /** Singleton instance. */
+    private static final JaxbUtils INSTANCE = new JaxbUtils();
+
+    /** Map from class name to cached JAXB context and pooled (un)marshallers. */
+    private final ConcurrentMap<String, CachedContext> contextMap = new ConcurrentHashMap<String, CachedContext>();
+
+    /** Number of JAXB contexts that have been built. */
+    private final AtomicLong contextBuilds = new AtomicLong();
+
+    /** Number of requests satisfied by a cached JAXB context. */
+    private final AtomicLong contextReuses = new AtomicLong();
+
+    /** Number of marshallers that have been created. */
+    private final AtomicLong marshallerCreates = new AtomicLong();
+
+    /** Number of unmarshallers that have been created. */
+    private final AtomicLong unmarshallerCreates = new AtomicLong();
+
+    /** Default constructor is private so class cannot be instantiated. */
+    private JaxbUtils() {
+    }
+
+    /** Get an instance of this class to use. */
+    public static JaxbUtils getInstance() {
+        return INSTANCE;
+    }
+
+    /** Number of JAXB contexts that have been built. */
+    public long getContextBuilds() {
+        return this.contextBuilds.get();
+    }
+
+    /** Number of requests satisfied by a cached JAXB context. */
+    public long getContextReuses() {
+        return this.contextReuses.get();
+    }
+
+    /** Number of marshallers that have been created. */
+    public long getMarshallerCreates() {
+        return this.marshallerCreates.get();
+    }
+
+    /** Number of unmarshallers that have been created. */
+    public long getUnmarshallerCreates() {
+        return this.unmarshallerCreates.get();
+    }
+
+    /**
+     * Get a JAXB context for the indicated class.
+     * @param className  Name of the class to get a context for
+     * @return JAXB context for the class.
+     */
+    public JAXBContext getJaxbContext(String className) {
+        try {
+            Class clazz = Class.forName(className);
+            return this.getJaxbContext(clazz);
+        } catch (Exception e) {
+            throw new RuntimeException("Error obtaining JAXB context: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Get a JAXB context for the indicated class.
+     * @param clazz  Class to get a context for.
+     * @return JAXB context for the class.
+     */
+    public <T> JAXBContext getJaxbContext(Class<T> clazz) {
+        return this.getCachedContext(clazz).context;
+    }
+
+    /**
+     * Get the cached context for the indicated class, building it if necessary.
+     * Two threads may race to build the same context; only the first one to finish is kept.
+     */
+    private CachedContext getCachedContext(Class clazz) {
+        CachedContext cached = this.contextMap.get(clazz.getName());
+        if (cached != null) {
+            this.contextReuses.incrementAndGet();
+            return cached;
+        }
+
+        try {
+            CachedContext built = new CachedContext(JAXBContext.newInstance(clazz));
+            this.contextBuilds.incrementAndGet();
+            cached = this.contextMap.putIfAbsent(clazz.getName(), built);
+            return cached != null ? cached : built;
+        } catch (Exception e) {
+            throw new RuntimeException("Error obtaining JAXB context: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Marshal an object of type T, creating XML.
+     * @param <T>  Type of the object
+     * @param value  Value to marshal.
+     * @return Generated XML.
+     */
+    public <T> String marshalDocument(T value) {
+        try {
+            CachedContext cached = this.getCachedContext(value.getClass());
+
+            Marshaller marshaller = cached.marshallers.poll();
+            if (marshaller == null) {
+                marshaller = cached.context.createMarshaller();
+                marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
+                marshaller.setProperty(Marshaller.JAXB_FRAGMENT, false);
+                this.marshallerCreates.incrementAndGet();
+            }
+
+            StringWriter writer = new StringWriter();
+            marshaller.marshal(value, writer);
+
+            // Only return instances that completed normally, since a failure might leave one in a bad state
+            cached.marshallers.offer(marshaller);
+            return writer.toString();
+        } catch (JAXBException e) {
+            throw new RuntimeException("Error marshalling XML: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Unmarshal XML, creating an object of type T.
+     * @param <T>  Type of the object
+     * @param type Type of the object to unmarshal
+     * @param xml XML to use as source
+     * @return Object of type T, unmarshalled from the XML.
+     */
+    public <T> T unmarshalDocument(Class<T> type, String xml) {
+        return unmarshalDocument(type, xml, true);
+    }
+
+    /**
+     * Unmarshal XML, creating an object of type T.
+     * @param <T>  Type of the object
+     * @param type Type of the object to unmarshal
+     * @param xml XML to use as source
+     * @param validate  Whether to validate the unmarshalling step
+     * @return Object of type T, unmarshalled from the XML.
+     */
+    public <T> T unmarshalDocument(Class<T> type, String xml, boolean validate) {
+        try {
+            CachedContext cached = this.getCachedContext(type);
+
+            StringReader reader = new StringReader(xml);
+            Source source = new StreamSource(reader);
+
+            Unmarshaller unmarshaller = cached.unmarshallers.poll();
+            if (unmarshaller == null) {
+                unmarshaller = cached.context.createUnmarshaller();
+                this.unmarshallerCreates.incrementAndGet();
+            }
+
+            // If an adapter fails, we don't get an unmarshal exception.
+            // Instead, we have to register and interrogate a handler.
+            // See also: http://java.net/jira/browse/JAXB-537
+            ValidationEventCollector eventHandler = new ValidationEventCollector();
+            unmarshaller.setEventHandler(eventHandler);
+
+            JAXBElement<T> element = unmarshaller.unmarshal(source, type);
+            unmarshaller.setEventHandler(null);
+            cached.unmarshallers.offer(unmarshaller);
+
+            if (validate) {
+                if (eventHandler.hasEvents()) {
+                    StringBuffer buffer = new StringBuffer();
+
+                    buffer.append("Error unmarshalling XML: found validation error(s)");
+                    for (ValidationEvent event : eventHandler.getEvents()) {
+                        buffer.append("\n\t -> ");
+                        buffer.append(event.getMessage());
+                    }
+
+                    throw new RuntimeException(buffer.toString());
+                }
+            }
+
+            return element.getValue();
+        } catch (JAXBException e) {
+            throw new RuntimeException("Error unmarshalling XML: " + e.getMessage(), e);
+        }
+    }
+
+    /** A cached JAXB context, along with pools of idle marshallers and unmarshallers created from it. */
+    private static class CachedContext {
+
+        /** JAXB context. */
+        private final JAXBContext context;
+
+        /** Idle marshallers, configured for formatted output. */
+        private final Queue<Marshaller> marshallers = new ConcurrentLinkedQueue<Marshaller>();
+
+        /** Idle unmarshallers. */
+        private final Queue<Unmarshaller> unmarshallers = new ConcurrentLinkedQueue<Unmarshaller>();
+
+        /** Create a cached context. */
+        CachedContext(JAXBContext context) {
+            this.context = context;
+        }
+
+    }
+
+}
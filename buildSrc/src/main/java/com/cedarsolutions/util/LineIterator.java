@@ -0,0 +1,439 @@
+/* * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ *
+ *              C E D A R
+ *          S O L U T I O N S       "Software done right."
+ *           S O F T W A R E
+ *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ *
+ * Copyright (c) 2026 Kenneth J. Pronovici.
+ * All rights reserved.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the Apache License, Version 2.0.
+ * See LICENSE for more information about the licensing terms.
+ *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ *
+ * Author   : Kenneth J. Pronovici <pronovic@ieee.org>
+ * Language : Java 6
+ * Project  : Common Java Functionality
+ *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * */
+package com.cedarsolutions.util;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Streaming iterator over the lines in some text.
+ *
+ * <p>
+ * Each line ends at LF, CR or CRLF, independently of how any other line
+ * ends, so mixed line endings are handled the same way as by
+ * BufferedReader.readLine().  The line endings are not included, and a
+ * final line ending does not produce an extra empty line.
+ * </p>
+ *
+ * <p>
+ * Lines are returned as CharSequence views rather than strings, so nothing
+ * is copied unless the caller calls toString().  Views over a CharSequence
+ * or a byte buffer remain valid as long as the source is not modified.
+ * Views over a Reader share the iterator's internal buffer, and are only
+ * valid until the next call to next() or hasNext().  Since only the current
+ * line is buffered, large outputs can be processed in constant memory.
+ * </p>
+ *
+ * <p>
+ * This class implements both Iterable and Iterator, so it can be used in a
+ * for-each loop, but only once.
+ * </p>
+ *
+ * @author Kenneth J. Pronovici <pronovic@ieee.org>
+ */
+public abstract class LineIterator implements Iterable<CharSequence>, Iterator<CharSequence>, Closeable {
+
+    /** Initial size of the buffer used when reading from a Reader. */
+    private static final int BUFFER_SIZE = 8192;
+
+    /** ISO-8859-1 character set, which maps bytes directly to characters. */
+    private static final Charset ISO_8859_1 = Charset.forName("ISO-8859-1");
+
+    /** US-ASCII character set, which is a subset of ISO-8859-1. */
+    private static final Charset US_ASCII = Charset.forName("US-ASCII");
+
+    /** Next line, if it has been read already. */
+    private CharSequence next;
+
+    /** Whether the end of the input has been reached. */
+    private boolean done;
+
+    /**
+     * Iterate over the lines in a character sequence.
+     * @param value  Character sequence to operate on, where null is treated as empty
+     * @return Iterator over the lines.
+     */
+    public static LineIterator forChars(CharSequence value) {
+        return new CharsLineIterator(value == null ? "" : value);
+    }
+
+    /**
+     * Iterate over the lines read from a Reader, which is closed at the end of the input.
+     * @param reader  Reader to operate on
+     * @return Iterator over the lines.
+     */
+    public static LineIterator forReader(Reader reader) {
+        return new ReaderLineIterator(reader);
+    }
+
+    /**
+     * Iterate over the lines in an array of bytes.
+     * @param bytes    Bytes to operate on
+     * @param charset  Character set the bytes are encoded in, which must be ASCII-compatible
+     * @return Iterator over the lines.
+     */
+    public static LineIterator forBytes(byte[] bytes, Charset charset) {
+        return forBytes(ByteBuffer.wrap(bytes), charset);
+    }
+
+    /**
+     * Iterate over the lines in the remaining contents of a byte buffer.
+     *
+     * <p>
+     * The character set must be ASCII-compatible, meaning that CR and LF bytes
+     * never appear inside a multi-byte character, as for UTF-8.  For US-ASCII
+     * and ISO-8859-1, lines are views over the buffer; for other character
+     * sets, each line is decoded as it is reached.
+     * </p>
+     *
+     * @param bytes    Bytes to operate on, which are not consumed
+     * @param charset  Character set the bytes are encoded in
+     * @return Iterator over the lines.
+     */
+    public static LineIterator forBytes(ByteBuffer bytes, Charset charset) {
+        return new BytesLineIterator(bytes, charset);
+    }
+
+    /**
+     * Read the next line.
+     * @return The next line, or null at the end of the input.
+     * @throws IOException If the input cannot be read.
+     */
+    protected abstract CharSequence readLine() throws IOException;
+
+    /** Get an iterator over the lines, which is this object. */
+    public Iterator<CharSequence> iterator() {
+        return this;
+    }
+
+    /** Whether there is another line. */
+    public boolean hasNext() {
+        if (this.next == null && !this.done) {
+            try {
+                this.next = this.readLine();
+            } catch (IOException e) {
+                throw new RuntimeException("Failed to read line: " + e.getMessage(), e);
+            }
+
+            if (this.next == null) {
+                this.done = true;
+                this.close();
+            }
+        }
+
+        return this.next != null;
+    }
+
+    /** Get the next line. */
+    public CharSequence next() {
+        if (!this.hasNext()) {
+            throw new NoSuchElementException("No more lines");
+        }
+
+        CharSequence line = this.next;
+        this.next = null;
+        return line;
+    }
+
+    /** Lines cannot be removed. */
+    public void remove() {
+        throw new UnsupportedOperationException("Lines cannot be removed");
+    }
+
+    /** Release the input; the default implementation does nothing. */
+    public void close() {
+    }
+
+    /** Iterator over the lines in a character sequence. */
+    private static class CharsLineIterator extends LineIterator {
+
+        /** Character sequence to operate on. */
+        private CharSequence value;
+
+        /** Position of the start of the next line. */
+        private int position;
+
+        /** Create an iterator. */
+        public CharsLineIterator(CharSequence value) {
+            this.value = value;
+        }
+
+        @Override
+        protected CharSequence readLine() {
+            int length = this.value.length();
+            if (this.position >= length) {
+                return null;
+            }
+
+            int start = this.position;
+            int end = start;
+            while (end < length) {
+                char c = this.value.charAt(end);
+                if (c == '\n' || c == '\r') {
+                    this.position = end + (c == '\r' && end + 1 < length && this.value.charAt(end + 1) == '\n' ? 2 : 1);
+                    return CharBuffer.wrap(this.value, start, end);
+                }
+
+                end++;
+            }
+
+            this.position = length;
+            return CharBuffer.wrap(this.value, start, end);
+        }
+    }
+
+    /** Iterator over the lines in the remaining contents of a byte buffer. */
+    private static class BytesLineIterator extends LineIterator {
+
+        /** Bytes to operate on. */
+        private ByteBuffer bytes;
+
+        /** Character set the bytes are encoded in. */
+        private Charset charset;
+
+        /** Whether the character set maps each byte directly to a character. */
+        private boolean direct;
+
+        /** Position of the start of the next line. */
+        private int position;
+
+        /** Create an iterator. */
+        public BytesLineIterator(ByteBuffer bytes, Charset charset) {
+            this.bytes = bytes.duplicate();
+            this.charset = charset;
+            this.direct = ISO_8859_1.equals(charset) || US_ASCII.equals(charset);
+            this.position = bytes.position();
+        }
+
+        @Override
+        protected CharSequence readLine() {
+            int limit = this.bytes.limit();
+            if (this.position >= limit) {
+                return null;
+            }
+
+            int start = this.position;
+            int end = start;
+            while (end < limit) {
+                byte b = this.bytes.get(end);
+                if (b == '\n' || b == '\r') {
+                    this.position = end + (b == '\r' && end + 1 < limit && this.bytes.get(end + 1) == '\n' ? 2 : 1);
+                    return this.createLine(start, end);
+                }
+
+                end++;
+            }
+
+            this.position = limit;
+            return this.createLine(start, end);
+        }
+
+        /** Create a line from a range of bytes. */
+        private CharSequence createLine(int start, int end) {
+            if (this.direct) {
+                return new ByteCharSequence(this.bytes, start, end - start, US_ASCII.equals(this.charset));
+            }
+
+            ByteBuffer slice = this.bytes.duplicate();
+            slice.limit(end);
+            slice.position(start);
+            return this.charset.decode(slice);
+        }
+    }
+
+    /** Iterator over the lines read from a Reader. */
+    private static class ReaderLineIterator extends LineIterator {
+
+        /** Reader to operate on, or null once closed. */
+        private Reader reader;
+
+        /** Buffered characters. */
+        private char[] buffer = new char[BUFFER_SIZE];
+
+        /** Position of the first unconsumed character in the buffer. */
+        private int start;
+
+        /** Position just past the last valid character in the buffer. */
+        private int end;
+
+        /** Whether the last line ended with CR, so a leading LF should be skipped. */
+        private boolean skipLf;
+
+        /** Whether the reader is exhausted. */
+        private boolean eof;
+
+        /** Create an iterator. */
+        public ReaderLineIterator(Reader reader) {
+            this.reader = reader;
+        }
+
+        @Override
+        protected CharSequence readLine() throws IOException {
+            int scan = this.start;
+            while (true) {
+                if (this.skipLf && this.start < this.end) {
+                    if (this.buffer[this.start] == '\n') {
+                        this.start++;
+                    }
+
+                    this.skipLf = false;
+                    scan = this.start;
+                }
+
+                for (; scan < this.end; scan++) {
+                    char c = this.buffer[scan];
+                    if (c == '\n' || c == '\r') {
+                        CharSequence line = CharBuffer.wrap(this.buffer, this.start, scan - this.start);
+                        this.start = scan + 1;
+                        this.skipLf = c == '\r';
+                        return line;
+                    }
+                }
+
+                if (this.eof) {
+                    if (this.start < this.end) {
+                        CharSequence line = CharBuffer.wrap(this.buffer, this.start, this.end - this.start);
+                        this.start = this.end;
+                        return line;
+                    }
+
+                    return null;
+                }
+
+                scan -= this.fill();
+            }
+        }
+
+        /** Read more input, making room by discarding consumed characters or growing the buffer; returns the shift. */
+        private int fill() throws IOException {
+            int shift = this.start;
+            if (shift > 0) {
+                System.arraycopy(this.buffer, this.start, this.buffer, 0, this.end - this.start);
+                this.end -= shift;
+                this.start = 0;
+            }
+
+            if (this.end == this.buffer.length) {
+                this.buffer = Arrays.copyOf(this.buffer, this.buffer.length * 2);
+            }
+
+            int read = this.reader.read(this.buffer, this.end, this.buffer.length - this.end);
+            if (read < 0) {
+                this.eof = true;
+            } else {
+                this.end += read;
+            }
+
+            return shift;
+        }
+
+        @Override
+        public void close() {
+            if (this.reader != null) {
+                try {
+                    this.reader.close();
+                } catch (IOException e) { }
+
+                this.reader = null;
+            }
+        }
+    }
+
+    /**
+     * Character sequence view over a range of bytes, each of which maps directly to a character.
+     * For US-ASCII, bytes outside the character set become the replacement character, as Charset.decode() does.
+     */
+    private static class ByteCharSequence implements CharSequence {
+
+        /** Replacement for bytes that are not valid US-ASCII. */
+        private static final char REPLACEMENT = '\uFFFD';
+
+        /** Bytes being viewed. */
+        private ByteBuffer bytes;
+
+        /** Position of the first byte in the view. */
+        private int offset;
+
+        /** Number of bytes in the view. */
+        private int length;
+
+        /** Whether the bytes are US-ASCII rather than ISO-8859-1. */
+        private boolean ascii;
+
+        /** Create a view. */
+        public ByteCharSequence(ByteBuffer bytes, int offset, int length, boolean ascii) {
+            this.bytes = bytes;
+            this.offset = offset;
+            this.length = length;
+            this.ascii = ascii;
+        }
+
+        public int length() {
+            return this.length;
+        }
+
+        public char charAt(int index) {
+            if (index < 0 || index >= this.length) {
+                throw new IndexOutOfBoundsException("Index out of range: " + index);
+            }
+
+            int value = this.bytes.get(this.offset + index) & 0xFF;
+            return this.ascii && value >= 0x80 ? REPLACEMENT : (char) value;
+        }
+
+        public CharSequence subSequence(int start, int end) {
+            if (start < 0 || end > this.length || start > end) {
+                throw new IndexOutOfBoundsException("Range out of bounds: " + start + ", " + end);
+            }
+
+            return new ByteCharSequence(this.bytes, this.offset + start, end - start, this.ascii);
+        }
+
+        @Override
+        public String toString() {
+            if (this.bytes.hasArray()) {
+                return new String(this.bytes.array(), this.bytes.arrayOffset() + this.offset, this.length, this.getCharset());
+            }
+
+            byte[] copy = new byte[this.length];
+            for (int i = 0; i < this.length; i++) {
+                copy[i] = this.bytes.get(this.offset + i);
+            }
+
+            return new String(copy, this.getCharset());
+        }
+
+        /** Character set the bytes are decoded with. */
+        private Charset getCharset() {
+            return this.ascii ? US_ASCII : ISO_8859_1;
+        }
+    }
+
+}
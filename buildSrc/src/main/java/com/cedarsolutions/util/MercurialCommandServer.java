@@ -0,0 +1,472 @@
+/* * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ *
+ *              C E D A R
+ *          S O L U T I O N S       "Software done right."
+ *           S O F T W A R E
+ *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ *
+ * Copyright (c) 2026 Kenneth J. Pronovici.
+ * All rights reserved.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the Apache License, Version 2.0.
+ * See LICENSE for more information about the licensing terms.
+ *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ *
+ * Author   : Kenneth J. Pronovici <pronovic@ieee.org>
+ * Language : Java 6
+ * Project  : Common Java Functionality
+ *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * */
+package com.cedarsolutions.util;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Client for Mercurial's command server, using the pipe protocol.
+ *
+ * <p>
+ * Every <code>hg</code> process pays for Python interpreter startup before
+ * it does any real work, which is often more expensive than the work itself.
+ * The command server (<code>hg serve --cmdserver pipe</code>) is a single
+ * long-lived process that accepts any number of commands over its stdin and
+ * stdout, so that cost is only paid once per repository.
+ * </p>
+ *
+ * <p>
+ * Each command is sent as a <code>runcommand</code> request.  The server
+ * answers with a series of frames, each of which is a one-byte channel
+ * identifier, a four-byte big-endian length, and data.  The <code>o</code>
+ * and <code>e</code> channels carry output and error text, and the
+ * <code>r</code> channel carries the exit code and ends the command.
+ * Uppercase channels are requests for input, which we always answer with
+ * an empty response, since the commands we run are never interactive.
+ * </p>
+ *
+ * <p>
+ * Commands are run one at a time, so a server may be shared between threads,
+ * but concurrent callers will wait on each other.  Use getServer() to get a
+ * shared server for a repository, and close() when work is complete.  If
+ * the server can't be started (for instance, because the Mercurial version is
+ * too old), getServer() returns null, and callers should fall back to
+ * running the command as a separate process.  That failure is remembered
+ * only until the repository's server is closed, so the next unit of work
+ * tries again.  A shared server that fails while running a command is
+ * discarded, and the next call to getServer() starts a new one.
+ * </p>
+ *
+ * @author Kenneth J. Pronovici <pronovic@ieee.org>
+ */
+public class MercurialCommandServer {
+
+    /** Shared servers, keyed by executable and repository. */
+    private static Map<String, MercurialCommandServer> SERVERS = new HashMap<String, MercurialCommandServer>();
+
+    /** Executables and repositories for which a server could not be started. */
+    private static List<String> UNAVAILABLE = new ArrayList<String>();
+
+    /** Key this server is shared under, or null if it is not shared. */
+    private String key;
+
+    /** Command server process, null once the server is closed. */
+    private volatile Process process;
+
+    /** Collects anything the server process writes to its own stderr. */
+    private CommandLineUtils.StreamCollector stderr;
+
+    /** Frames read from the server. */
+    private DataInputStream input;
+
+    /** Requests written to the server. */
+    private DataOutputStream output;
+
+    /** Encoding reported by the server, used for arguments and output. */
+    private String encoding = "UTF-8";
+
+    /**
+     * Start a command server for a repository.
+     * @param mercurial   Path to the Mercurial (hg) executable
+     * @param repository  Mercurial repository to serve
+     * @throws RuntimeException If the server can't be started.
+     */
+    public MercurialCommandServer(String mercurial, String repository) throws RuntimeException {
+        this(createCommand(mercurial), repository);
+    }
+
+    /**
+     * Start a command server using an arbitrary command line.
+     * @param command     Command that starts a process speaking the command server protocol
+     * @param workingDir  Working directory to operate in, or null for current directory
+     * @throws RuntimeException If the server can't be started.
+     */
+    protected MercurialCommandServer(CommandLine command, String workingDir) throws RuntimeException {
+        try {
+            ProcessBuilder pb = new ProcessBuilder(command.getEntireCommand());
+            pb.environment().put("HGPLAIN", "1");  // ignore user configuration that changes output
+
+            if (workingDir != null) {
+                pb.directory(new File(workingDir));
+            }
+
+            this.process = pb.start();
+            this.stderr = new CommandLineUtils.StreamCollector(this.process.getErrorStream());
+            this.stderr.start();
+            this.input = new DataInputStream(new BufferedInputStream(this.process.getInputStream()));
+            this.output = new DataOutputStream(new BufferedOutputStream(this.process.getOutputStream()));
+            this.readHello();
+        } catch (Exception e) {
+            this.close();
+            throw new RuntimeException("Failed to start command server: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Get a shared command server for a repository, starting it if necessary.
+     * @param mercurial   Path to the Mercurial (hg) executable
+     * @param repository  Mercurial repository to serve
+     * @return Shared command server, or null if a server is not available.
+     */
+    public static MercurialCommandServer getServer(String mercurial, String repository) {
+        return getServer(mercurial, repository, createCommand(mercurial));
+    }
+
+    /**
+     * Get a shared command server for a repository, starting it with a particular command if necessary.
+     * @param mercurial   Path to the Mercurial (hg) executable, used as part of the key
+     * @param repository  Mercurial repository to serve
+     * @param command     Command that starts a process speaking the command server protocol
+     * @return Shared command server, or null if a server is not available.
+     */
+    static synchronized MercurialCommandServer getServer(String mercurial, String repository, CommandLine command) {
+        String key = getKey(mercurial, repository);
+        if (UNAVAILABLE.contains(key)) {
+            return null;
+        }
+
+        MercurialCommandServer server = SERVERS.get(key);
+        if (server == null || server.isClosed()) {
+            try {
+                server = new MercurialCommandServer(command, repository);
+                server.key = key;
+                SERVERS.put(key, server);
+            } catch (RuntimeException e) {
+                SERVERS.remove(key);
+                UNAVAILABLE.add(key);  // don't pay the startup cost again just to fail again
+                server = null;
+            }
+        }
+
+        return server;
+    }
+
+    /**
+     * Close the shared command server for a repository, if there is one.
+     * This also forgets any earlier failure to start a server for the repository.
+     * @param mercurial   Path to the Mercurial (hg) executable
+     * @param repository  Mercurial repository being served
+     */
+    public static synchronized void close(String mercurial, String repository) {
+        String key = getKey(mercurial, repository);
+        UNAVAILABLE.remove(key);
+
+        MercurialCommandServer server = SERVERS.remove(key);
+        if (server != null) {
+            server.close();
+        }
+    }
+
+    /** Close all shared command servers, and forget any earlier failures to start one. */
+    public static synchronized void closeAll() {
+        for (MercurialCommandServer server : SERVERS.values()) {
+            server.close();
+        }
+
+        SERVERS.clear();
+        UNAVAILABLE.clear();
+    }
+
+    /** Stop sharing a server that closed itself, unless it has already been replaced. */
+    private static synchronized void discard(MercurialCommandServer server) {
+        if (server.key != null && SERVERS.get(server.key) == server) {
+            SERVERS.remove(server.key);
+        }
+    }
+
+    /** Create the command that starts a command server. */
+    private static CommandLine createCommand(String mercurial) {
+        return new CommandLine(mercurial, "serve", "--cmdserver", "pipe", "--config", "ui.interactive=false");
+    }
+
+    /** Get the key for a shared server. */
+    private static String getKey(String mercurial, String repository) {
+        return mercurial + "|" + new File(repository).getAbsolutePath();
+    }
+
+    /** Encoding reported by the server, used for arguments and output. */
+    public String getEncoding() {
+        return this.encoding;
+    }
+
+    /**
+     * Run a command, returning its output.
+     * @param args  Arguments to hg, like "tag" and "-f" and a label
+     * @return Result of the command, where the output is stdout followed by stderr.
+     * @throws RuntimeException If the server fails.
+     */
+    public CommandLineResult runCommand(List<String> args) throws RuntimeException {
+        final ByteArrayOutputStream stdout = new ByteArrayOutputStream();
+
+        CommandLineResult result = this.runCommand(args, new CommandLineOutputHandler() {
+            public void handleOutput(InputStream stream) throws Exception {
+                byte[] buffer = new byte[8192];
+                int read;
+                while ((read = stream.read(buffer)) != -1) {
+                    stdout.write(buffer, 0, read);
+                }
+            }
+        });
+
+        try {
+            return new CommandLineResult(result.getExitCode(), stdout.toString(this.encoding) + result.getOutput());
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to decode output: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Run a command, streaming its output to a handler.
+     *
+     * <p>
+     * This behaves like CommandLineUtils.executeCommand() with a handler:
+     * stdout is passed to the handler as it is received, and stderr is
+     * collected separately and returned as the output in the result.
+     * </p>
+     *
+     * @param args     Arguments to hg, like "log" and "--style" and "xml"
+     * @param handler  Handler that will consume stdout
+     * @return Result of the command, where the output is whatever was written to stderr.
+     * @throws RuntimeException If the server fails.
+     */
+    public CommandLineResult runCommand(List<String> args, CommandLineOutputHandler handler) throws RuntimeException {
+        try {
+            return this.runCommandOnServer(args, handler);
+        } catch (RuntimeException e) {
+            // Done outside the instance lock, since the static methods take the class lock first
+            if (this.isClosed()) {
+                discard(this);
+            }
+
+            throw e;
+        }
+    }
+
+    /** Run a command while holding the lock on this server. */
+    private synchronized CommandLineResult runCommandOnServer(List<String> args, CommandLineOutputHandler handler) throws RuntimeException {
+        if (this.process == null) {
+            throw new RuntimeException("Command server is closed.");
+        }
+
+        try {
+            this.output.write("runcommand\n".getBytes("US-ASCII"));
+            this.writeBlock(join(args, this.encoding));
+            this.output.flush();
+
+            OutputChannelStream stream = new OutputChannelStream();
+            handler.handleOutput(stream);
+            stream.finish();  // read through to the result, even if the handler stopped early
+
+            return new CommandLineResult(stream.getExitCode(), stream.getErrors());
+        } catch (Exception e) {
+            this.close();  // the protocol is out of sync, so the server can't be used again
+            throw new RuntimeException("Failed to run command via command server: " + e.getMessage(), e);
+        }
+    }
+
+    /** Whether the server has been closed. */
+    public boolean isClosed() {
+        return this.process == null;
+    }
+
+    /** Stop the server process. */
+    public synchronized void close() {
+        if (this.process != null) {
+            try {
+                this.process.getOutputStream().close();  // the server exits when its input is closed
+                this.process.waitFor();
+            } catch (Exception e) {
+                this.process.destroy();
+            } finally {
+                this.process = null;
+            }
+        }
+    }
+
+    /** Read the hello message, which the server sends on startup. */
+    private void readHello() throws IOException {
+        int channel = this.input.read();
+        if (channel != 'o') {
+            throw new IOException("Unexpected hello message" + (channel == -1 ? "" : " on channel " + (char) channel)
+                                  + ": " + this.stderr.getOutput().trim());
+        }
+
+        byte[] data = new byte[this.input.readInt()];
+        this.input.readFully(data);
+
+        boolean runcommand = false;
+        for (String line : StringUtils.splitLines(new String(data, "US-ASCII"))) {
+            if (line.startsWith("capabilities:")) {
+                runcommand = (" " + line.substring("capabilities:".length()) + " ").contains(" runcommand ");
+            } else if (line.startsWith("encoding:")) {
+                this.encoding = line.substring("encoding:".length()).trim();
+            }
+        }
+
+        if (!runcommand) {
+            throw new IOException("Command server does not support runcommand.");
+        }
+    }
+
+    /** Write a length-prefixed block of data. */
+    private void writeBlock(byte[] data) throws IOException {
+        this.output.writeInt(data.length);
+        this.output.write(data);
+    }
+
+    /** Join arguments with NUL characters, as required by runcommand. */
+    private static byte[] join(List<String> args, String encoding) throws IOException {
+        ByteArrayOutputStream result = new ByteArrayOutputStream();
+
+        for (int i = 0; i < args.size(); i++) {
+            if (i > 0) {
+                result.write(0);
+            }
+
+            result.write(args.get(i).getBytes(encoding));
+        }
+
+        return result.toByteArray();
+    }
+
+    /** Stream over the output channel for a single command, which ends when the result arrives. */
+    private class OutputChannelStream extends InputStream {
+
+        /** Bytes remaining in the current output frame. */
+        private int remaining = 0;
+
+        /** Exit code, once the result has arrived. */
+        private Integer exitCode = null;
+
+        /** Contents of the error channel. */
+        private ByteArrayOutputStream errors = new ByteArrayOutputStream();
+
+        /** Read a single byte of output. */
+        @Override
+        public int read() throws IOException {
+            byte[] single = new byte[1];
+            int read = this.read(single, 0, 1);
+            return read == -1 ? -1 : single[0] & 0xff;
+        }
+
+        /** Read output into a buffer. */
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            if (length == 0) {
+                return 0;
+            }
+
+            while (this.remaining == 0 && this.exitCode == null) {
+                this.nextFrame();
+            }
+
+            if (this.exitCode != null) {
+                return -1;
+            }
+
+            int read = MercurialCommandServer.this.input.read(buffer, offset, Math.min(length, this.remaining));
+            if (read == -1) {
+                throw new IOException("Command server exited unexpectedly.");
+            }
+
+            this.remaining -= read;
+            return read;
+        }
+
+        /** Ignore the request to close the stream, since the server is still using it. */
+        @Override
+        public void close() {
+        }
+
+        /** Discard any remaining output and read through to the result. */
+        public void finish() throws IOException {
+            byte[] buffer = new byte[8192];
+            while (this.read(buffer, 0, buffer.length) != -1) {
+                // just discard it
+            }
+        }
+
+        /** Exit code of the command. */
+        public int getExitCode() {
+            return this.exitCode;
+        }
+
+        /** Contents of the error channel. */
+        public String getErrors() throws IOException {
+            return this.errors.toString(MercurialCommandServer.this.encoding);
+        }
+
+        /** Read the header of the next frame, handling any frame that isn't output. */
+        private void nextFrame() throws IOException {
+            DataInputStream input = MercurialCommandServer.this.input;
+
+            int channel = input.read();
+            if (channel == -1) {
+                throw new IOException("Command server exited unexpectedly.");
+            }
+
+            int length = input.readInt();
+            switch (channel) {
+            case 'o':
+                this.remaining = length;
+                break;
+            case 'r':
+                byte[] result = new byte[length];
+                input.readFully(result);
+                this.exitCode = new DataInputStream(new ByteArrayInputStream(result)).readInt();
+                break;
+            case 'e':
+                byte[] error = new byte[length];
+                input.readFully(error);
+                this.errors.write(error);
+                break;
+            case 'I':
+            case 'L':
+                MercurialCommandServer.this.writeBlock(new byte[0]);  // no input is available
+                MercurialCommandServer.this.output.flush();
+                break;
+            default:
+                if (Character.isUpperCase((char) channel)) {
+                    throw new IOException("Unsupported required channel: " + (char) channel);
+                }
+
+                input.readFully(new byte[length]);  // optional channels (like debug) can be ignored
+                break;
+            }
+        }
+
+    }
+
+}
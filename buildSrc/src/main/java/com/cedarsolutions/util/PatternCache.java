@@ -0,0 +1,144 @@
+/* * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ *
+ *              C E D A R
+ *          S O L U T I O N S       "Software done right."
+ *           S O F T W A R E
+ *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ *
+ * Copyright (c) 2026 Kenneth J. Pronovici.
+ * All rights reserved.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the Apache License, Version 2.0.
+ * See LICENSE for more information about the licensing terms.
+ *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ *
+ * Author   : Kenneth J. Pronovici <pronovic@ieee.org>
+ * Language : Java 6
+ * Project  : Common Java Functionality
+ *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * */
+package com.cedarsolutions.util;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Bounded, thread-safe cache of compiled regular expressions.
+ *
+ * <p>
+ * Compiling a pattern is much more expensive than matching with it, and
+ * methods like String.split() and String.replaceAll() compile a new pattern
+ * on every call.  This cache keeps the most recently used patterns, evicting
+ * the least recently used one once the maximum size is reached.  Hit and
+ * miss counts are tracked so that the effectiveness of the cache can be
+ * observed.
+ * </p>
+ *
+ * @author Kenneth J. Pronovici <pronovic@ieee.org>
+ */
+public class PatternCache {
+
+    /** Default maximum number of patterns to cache. */
+    public static final int DEFAULT_MAX_SIZE = 256;
+
+    /** Maximum number of patterns to cache. */
+    private final int maxSize;
+
+    /** Cached patterns, in access order. */
+    private final Map<String, Pattern> patterns;
+
+    /** Number of lookups satisfied from the cache. */
+    private long hits;
+
+    /** Number of lookups that required compiling a pattern. */
+    private long misses;
+
+    /** Create a cache with the default maximum size. */
+    public PatternCache() {
+        this(DEFAULT_MAX_SIZE);
+    }
+
+    /**
+     * Create a cache.
+     * @param maxSize  Maximum number of patterns to cache
+     * @throws IllegalArgumentException If the maximum size is less than 1.
+     */
+    public PatternCache(final int maxSize) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("Maximum size must be at least 1");
+        }
+
+        this.maxSize = maxSize;
+        this.patterns = new LinkedHashMap<String, Pattern>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Pattern> eldest) {
+                return this.size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * Get the compiled pattern for a regular expression, compiling it if necessary.
+     * @param regex  Regular expression to compile
+     * @return Compiled pattern.
+     * @throws java.util.regex.PatternSyntaxException If the regular expression is invalid.
+     */
+    public Pattern get(String regex) {
+        synchronized (this) {
+            Pattern pattern = this.patterns.get(regex);
+            if (pattern != null) {
+                this.hits++;
+                return pattern;
+            }
+        }
+
+        // Compile outside the lock, so a slow compile doesn't block other lookups
+        Pattern pattern = Pattern.compile(regex);
+
+        synchronized (this) {
+            this.misses++;
+            this.patterns.put(regex, pattern);
+            return pattern;
+        }
+    }
+
+    /** Remove all cached patterns and reset the statistics. */
+    public synchronized void clear() {
+        this.patterns.clear();
+        this.hits = 0;
+        this.misses = 0;
+    }
+
+    /** Maximum number of patterns to cache. */
+    public int getMaxSize() {
+        return this.maxSize;
+    }
+
+    /** Number of patterns currently cached. */
+    public synchronized int getSize() {
+        return this.patterns.size();
+    }
+
+    /** Number of lookups satisfied from the cache. */
+    public synchronized long getHits() {
+        return this.hits;
+    }
+
+    /** Number of lookups that required compiling a pattern. */
+    public synchronized long getMisses() {
+        return this.misses;
+    }
+
+    /** Fraction of lookups satisfied from the cache, between 0.0 and 1.0. */
+    public synchronized double getHitRate() {
+        long total = this.hits + this.misses;
+        return total == 0 ? 0.0 : (double) this.hits / total;
+    }
+
+}
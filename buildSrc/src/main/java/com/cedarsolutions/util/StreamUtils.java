@@ -0,0 +1,195 @@
+/* * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ *
+ *              C E D A R
+ *          S O L U T I O N S       "Software done right."
+ *           S O F T W A R E
+ *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ *
+ * Copyright (c) 2026 Kenneth J. Pronovici.
+ * All rights reserved.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the Apache License, Version 2.0.
+ * See LICENSE for more information about the licensing terms.
+ *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ *
+ * Author   : Kenneth J. Pronovici <pronovic@ieee.org>
+ * Language : Java 6
+ * Project  : Common Java Functionality
+ *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * */
+package com.cedarsolutions.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Stream-related utilities.
+ *
+ * <p>
+ * Streams are read in bulk into a single byte array, which starts at the
+ * size hint (if any) and doubles as necessary, and then decoded in one pass.
+ * A maximum size guards against unexpectedly large input, since the whole
+ * stream is held in memory.  None of these methods close the stream.
+ * </p>
+ *
+ * @author Kenneth J. Pronovici <pronovic@ieee.org>
+ */
+public final class StreamUtils {
+
+    /** Maximum size meaning that there is no limit. */
+    public static final long UNLIMITED = Long.MAX_VALUE;
+
+    /** Initial buffer size used when there is no size hint. */
+    private static final int DEFAULT_BUFFER_SIZE = 8192;
+
+    /** Largest array that can safely be allocated. */
+    private static final int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+
+    /** Decoders cached for each thread, by character set. */
+    private static final ThreadLocal<Map<Charset, CharsetDecoder>> DECODERS = new ThreadLocal<Map<Charset, CharsetDecoder>>() {
+        @Override
+        protected Map<Charset, CharsetDecoder> initialValue() {
+            return new HashMap<Charset, CharsetDecoder>();
+        }
+    };
+
+    /** Utility class, so nothing to construct. */
+    private StreamUtils() {
+    }
+
+    /**
+     * Read the remaining contents of a stream as bytes.
+     * @param stream    Stream to read, where null is treated as empty
+     * @param sizeHint  Expected size in bytes, or zero if unknown
+     * @param maxSize   Maximum size in bytes, or UNLIMITED
+     * @return Contents of the stream.
+     * @throws RuntimeException If the stream cannot be read or exceeds the maximum size.
+     */
+    public static byte[] readBytes(InputStream stream, int sizeHint, long maxSize) {
+        ByteBuffer contents = read(stream, sizeHint, maxSize);
+        byte[] array = contents.array();
+        return contents.limit() == array.length ? array : Arrays.copyOf(array, contents.limit());
+    }
+
+    /**
+     * Read the remaining contents of a stream as a string.
+     * Malformed input is replaced with the character set's replacement character.
+     * @param stream    Stream to read, where null is treated as empty
+     * @param charset   Character set the stream is encoded in
+     * @param sizeHint  Expected size in bytes, or zero if unknown
+     * @param maxSize   Maximum size in bytes, or UNLIMITED
+     * @return Contents of the stream.
+     * @throws RuntimeException If the stream cannot be read or exceeds the maximum size.
+     */
+    public static String readString(InputStream stream, Charset charset, int sizeHint, long maxSize) {
+        // The String constructor decodes straight into the string, with a decoder the JDK caches per thread
+        ByteBuffer contents = read(stream, sizeHint, maxSize);
+        return new String(contents.array(), 0, contents.limit(), charset);
+    }
+
+    /**
+     * Read the remaining contents of a stream as characters, without copying them into a string.
+     * Malformed input is replaced with the character set's replacement character.
+     * @param stream    Stream to read, where null is treated as empty
+     * @param charset   Character set the stream is encoded in
+     * @param sizeHint  Expected size in bytes, or zero if unknown
+     * @param maxSize   Maximum size in bytes, or UNLIMITED
+     * @return Contents of the stream.
+     * @throws RuntimeException If the stream cannot be read or exceeds the maximum size.
+     */
+    public static CharSequence readChars(InputStream stream, Charset charset, int sizeHint, long maxSize) {
+        return decode(read(stream, sizeHint, maxSize), charset);
+    }
+
+    /** Read a stream into a buffer whose limit is the number of bytes read. */
+    private static ByteBuffer read(InputStream stream, int sizeHint, long maxSize) {
+        if (stream == null) {
+            return ByteBuffer.allocate(0);
+        }
+
+        try {
+            // Allow one byte more than expected, so a correct hint never needs to grow the buffer to detect the end
+            // The cap is checked first, since maxSize + 1 overflows for UNLIMITED
+            long initial = sizeHint > 0 ? (long) sizeHint + 1 : DEFAULT_BUFFER_SIZE;
+            long cap = maxSize >= MAX_ARRAY_SIZE ? MAX_ARRAY_SIZE : maxSize + 1;
+            byte[] buffer = new byte[(int) Math.min(initial, cap)];
+
+            int length = 0;
+            while (true) {
+                if (length == buffer.length) {
+                    if (length > maxSize) {
+                        throw new RuntimeException("Stream exceeds maximum size of " + maxSize + " bytes");
+                    } else if (length == MAX_ARRAY_SIZE) {
+                        throw new RuntimeException("Stream is too large to read into memory");
+                    }
+
+                    long grown = Math.min((long) length * 2, cap);
+                    buffer = Arrays.copyOf(buffer, (int) Math.max(grown, length + 1));
+                }
+
+                int read = stream.read(buffer, length, buffer.length - length);
+                if (read < 0) {
+                    break;
+                }
+
+                length += read;
+            }
+
+            if (length > maxSize) {
+                throw new RuntimeException("Stream exceeds maximum size of " + maxSize + " bytes");
+            }
+
+            ByteBuffer contents = ByteBuffer.wrap(buffer);
+            contents.limit(length);
+            return contents;
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to read stream: " + e.getMessage(), e);
+        }
+    }
+
+    /** Decode bytes in a single pass, using this thread's decoder for the character set. */
+    private static CharBuffer decode(ByteBuffer bytes, Charset charset) {
+        Map<Charset, CharsetDecoder> decoders = DECODERS.get();
+        CharsetDecoder decoder = decoders.get(charset);
+        if (decoder == null) {
+            decoder = charset.newDecoder()
+                             .onMalformedInput(CodingErrorAction.REPLACE)
+                             .onUnmappableCharacter(CodingErrorAction.REPLACE);
+            decoders.put(charset, decoder);
+        }
+
+        try {
+            // maxCharsPerByte() is an upper bound, so the output never needs to grow
+            CharBuffer chars = CharBuffer.allocate((int) Math.ceil(bytes.remaining() * (double) decoder.maxCharsPerByte()));
+            decoder.reset();
+            CoderResult result = decoder.decode(bytes, chars, true);
+            if (!result.isUnderflow()) {
+                result.throwException();
+            }
+
+            result = decoder.flush(chars);
+            if (!result.isUnderflow()) {
+                result.throwException();
+            }
+
+            chars.flip();
+            return chars;
+        } catch (CharacterCodingException e) {
+            throw new RuntimeException("Failed to decode stream: " + e.getMessage(), e);
+        }
+    }
+
+}
@@ -0,0 +1,281 @@
+/* * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ *
+ *              C E D A R
+ *          S O L U T I O N S       "Software done right."
+ *           S O F T W A R E
+ *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ *
+ * Copyright (c) 2026 Kenneth J. Pronovici.
+ * All rights reserved.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the Apache License, Version 2.0.
+ * See LICENSE for more information about the licensing terms.
+ *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ *
+ * Author   : Kenneth J. Pronovici <pronovic@ieee.org>
+ * Language : Java 6
+ * Project  : Common Java Functionality
+ *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * */
+package com.cedarsolutions.util;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Deletes directory trees in the background.
+ *
+ * <p>
+ * A tree is first renamed to a hidden trash location next to it, which is
+ * atomic and effectively instant, so the original path is free to be reused
+ * as soon as delete() returns.  The trash is then removed in the background,
+ * with files deleted in parallel batches and directories removed once their
+ * contents are gone.  Callers must invoke await() before exiting, typically
+ * at the end of the build, to make sure the work has been finished.
+ * </p>
+ *
+ * <p>
+ * Trash left behind by an earlier process that never finished its work is
+ * swept up the next time the same path is deleted.  If a tree can't be
+ * renamed (for instance, because a file is locked on Windows), it's deleted
+ * in the foreground instead.  Symbolic links are removed, never followed.
+ * </p>
+ *
+ * @author Kenneth J. Pronovici <pronovic@ieee.org>
+ */
+public class TreeDeleter {
+
+    /** Marker placed between the original name and a unique suffix for trash. */
+    private static final String TRASH_MARKER = ".trash-";
+
+    /** Number of files deleted by each worker task. */
+    private static final int BATCH_SIZE = 256;
+
+    /** Single thread that walks each trash tree and hands out batches. */
+    private ExecutorService walker;
+
+    /** Pool of threads that delete batches of files. */
+    private ExecutorService workers;
+
+    /** Background deletes that have been started, by trash path. */
+    private Map<String, Future<?>> pending = new TreeMap<String, Future<?>>();
+
+    /** Trash paths that have already been scheduled. */
+    private Set<File> scheduled = new HashSet<File>();
+
+    /** Create a deleter with one worker per available processor. */
+    public TreeDeleter() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Create a deleter.
+     * @param parallelism  Number of worker threads used to delete files
+     */
+    public TreeDeleter(int parallelism) {
+        this.walker = Executors.newSingleThreadExecutor(new DaemonThreadFactory("TreeDeleter-walker"));
+        this.workers = Executors.newFixedThreadPool(Math.max(1, parallelism), new DaemonThreadFactory("TreeDeleter-worker"));
+    }
+
+    /**
+     * Delete a directory tree, returning as soon as the path is free.
+     * It is not an error if the tree does not exist.
+     * @param dirPath  Path of the tree to delete
+     * @throws RuntimeException If the tree can be neither renamed nor deleted.
+     */
+    public synchronized void delete(String dirPath) {
+        File dir = new File(dirPath).getAbsoluteFile();
+        String prefix = "." + dir.getName() + TRASH_MARKER;
+
+        File[] siblings = dir.getParentFile().listFiles();
+        if (siblings != null) {
+            for (File sibling : siblings) {
+                if (sibling.getName().startsWith(prefix)) {
+                    this.schedule(sibling);
+                }
+            }
+        }
+
+        if (Files.exists(dir.toPath(), LinkOption.NOFOLLOW_LINKS)) {
+            File trash = new File(dir.getParentFile(), prefix + System.nanoTime());
+            try {
+                Files.move(dir.toPath(), trash.toPath(), StandardCopyOption.ATOMIC_MOVE);
+                this.schedule(trash);
+            } catch (IOException e) {
+                try {
+                    this.deleteTree(dir.toPath());
+                } catch (Exception e2) {
+                    throw new RuntimeException("Failed to delete directory: " + e2.getMessage(), e2);
+                }
+            }
+        }
+    }
+
+    /**
+     * Wait for all background deletes started so far to finish.
+     * @throws RuntimeException If any of the deletes failed or the wait was interrupted.
+     */
+    public void await() {
+        Map<String, Future<?>> futures;
+        synchronized (this) {
+            futures = new TreeMap<String, Future<?>>(this.pending);
+            this.pending.clear();
+        }
+
+        Map<String, Throwable> failures = new TreeMap<String, Throwable>();
+        for (String trash : futures.keySet()) {
+            try {
+                futures.get(trash).get();
+            } catch (ExecutionException e) {
+                failures.put(trash, e.getCause());
+            } catch (InterruptedException e) {
+                throw new RuntimeException("Interrupted while deleting trash: " + e.getMessage(), e);
+            }
+        }
+
+        if (!failures.isEmpty()) {
+            StringBuffer message = new StringBuffer("Failed to delete trash:");
+            for (String trash : failures.keySet()) {
+                message.append(" ").append(trash).append(" (").append(failures.get(trash).getMessage()).append(")");
+            }
+
+            throw new RuntimeException(message.toString());
+        }
+    }
+
+    /** Stop the background threads once any queued work is done. */
+    public void shutdown() {
+        this.walker.shutdown();
+        this.workers.shutdown();
+    }
+
+    /** Start a background delete for a trash tree, unless one is already running. */
+    private void schedule(final File trash) {
+        if (this.scheduled.add(trash)) {
+            this.pending.put(trash.getPath(), this.walker.submit(new Callable<Void>() {
+                public Void call() throws IOException {
+                    deleteTree(trash.toPath());
+                    return null;
+                }
+            }));
+        }
+    }
+
+    /** Delete a tree, with files removed in parallel batches and directories removed afterwards. */
+    private void deleteTree(Path root) throws IOException {
+        BatchingVisitor visitor = new BatchingVisitor();
+        Files.walkFileTree(root, visitor);
+        visitor.flush();
+
+        for (Future<Void> batch : visitor.batches) {
+            try {
+                batch.get();
+            } catch (ExecutionException e) {
+                throw e.getCause() instanceof IOException ? (IOException) e.getCause() : new IOException(e.getCause());
+            } catch (InterruptedException e) {
+                throw new IOException(e);
+            }
+        }
+
+        for (Path dir : visitor.dirs) {
+            Files.delete(dir);
+        }
+    }
+
+    /** Visitor that hands files to the workers in batches, and remembers directories in the order they can be removed. */
+    private class BatchingVisitor extends SimpleFileVisitor<Path> {
+
+        /** Batches submitted so far. */
+        private List<Future<Void>> batches = new ArrayList<Future<Void>>();
+
+        /** Directories, with each one listed after all of its contents. */
+        private List<Path> dirs = new ArrayList<Path>();
+
+        /** Files in the current batch. */
+        private List<Path> files = new ArrayList<Path>(BATCH_SIZE);
+
+        @Override
+        public FileVisitResult visitFile(Path file, BasicFileAttributes attributes) {
+            this.files.add(file);
+            if (this.files.size() >= BATCH_SIZE) {
+                this.flush();
+            }
+
+            return FileVisitResult.CONTINUE;
+        }
+
+        @Override
+        public FileVisitResult postVisitDirectory(Path dir, IOException e) throws IOException {
+            if (e != null) {
+                throw e;
+            }
+
+            this.dirs.add(dir);
+            return FileVisitResult.CONTINUE;
+        }
+
+        /** Submit the current batch, if there is one. */
+        public void flush() {
+            if (!this.files.isEmpty()) {
+                final List<Path> batch = this.files;
+                this.batches.add(workers.submit(new Callable<Void>() {
+                    public Void call() throws IOException {
+                        for (Path file : batch) {
+                            Files.deleteIfExists(file);
+                        }
+
+                        return null;
+                    }
+                }));
+
+                this.files = new ArrayList<Path>(BATCH_SIZE);
+            }
+        }
+    }
+
+    /** Thread factory that creates named daemon threads, so a forgotten deleter never holds up exit. */
+    private static class DaemonThreadFactory implements ThreadFactory {
+
+        /** Prefix for thread names. */
+        private String name;
+
+        /** Number of threads created so far. */
+        private AtomicInteger count = new AtomicInteger();
+
+        /** Create a factory. */
+        public DaemonThreadFactory(String name) {
+            this.name = name;
+        }
+
+        /** Create a thread. */
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, this.name + "-" + this.count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+
+}
@@ -1,273 +1,273 @@
-//
-// This file was generated by the JavaTM Architecture for XML Binding(JAXB) Reference Implementation, v2.2.5 
-// See <a href="http://java.sun.com/xml/jaxb">http://java.sun.com/xml/jaxb</a> 
-// Any modifications to this file will be lost upon recompilation of the source schema. 
-// Generated on: 2013.09.13 at 03:10:16 PM CDT 
-//
-
-
-package com.cedarsolutions.xml.bindings.hg.log;
-
-import java.math.BigInteger;
-import javax.xml.bind.annotation.XmlAccessType;
-import javax.xml.bind.annotation.XmlAccessorType;
-import javax.xml.bind.annotation.XmlAttribute;
-import javax.xml.bind.annotation.XmlElement;
-import javax.xml.bind.annotation.XmlRootElement;
-import javax.xml.bind.annotation.XmlSchemaType;
-import javax.xml.bind.annotation.XmlType;
-import javax.xml.bind.annotation.adapters.CollapsedStringAdapter;
-import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
-
-
-/**
- * <p>Java class for anonymous complex type.
- * 
- * <p>The following schema fragment specifies the expected content contained within this class.
- * 
- * <pre>
- * &lt;complexType>
- *   &lt;complexContent>
- *     &lt;restriction base="{http://www.w3.org/2001/XMLSchema}anyType">
- *       &lt;sequence>
- *         &lt;element ref="{}tag" minOccurs="0"/>
- *         &lt;element ref="{}author"/>
- *         &lt;element ref="{}date"/>
- *         &lt;element ref="{}msg"/>
- *         &lt;element ref="{}paths"/>
- *         &lt;element ref="{}copies" minOccurs="0"/>
- *       &lt;/sequence>
- *       &lt;attribute name="node" use="required" type="{http://www.w3.org/2001/XMLSchema}anySimpleType" />
- *       &lt;attribute name="revision" use="required" type="{http://www.w3.org/2001/XMLSchema}integer" />
- *     &lt;/restriction>
- *   &lt;/complexContent>
- * &lt;/complexType>
- * </pre>
- * 
- * 
- */
-@XmlAccessorType(XmlAccessType.FIELD)
-@XmlType(name = "", propOrder = {
-    "tag",
-    "author",
-    "date",
-    "msg",
-    "paths",
-    "copies"
-})
-@XmlRootElement(name = "logentry")
-public class Logentry {
-
-    @XmlJavaTypeAdapter(CollapsedStringAdapter.class)
-    @XmlSchemaType(name = "NCName")
-    protected String tag;
-    @XmlElement(required = true)
-    protected Author author;
-    @XmlElement(required = true)
-    @XmlJavaTypeAdapter(CollapsedStringAdapter.class)
-    @XmlSchemaType(name = "NMTOKEN")
-    protected String date;
-    @XmlElement(required = true)
-    protected Msg msg;
-    @XmlElement(required = true)
-    protected Paths paths;
-    protected Copies copies;
-    @XmlAttribute(name = "node", required = true)
-    @XmlSchemaType(name = "anySimpleType")
-    protected String node;
-    @XmlAttribute(name = "revision", required = true)
-    protected BigInteger revision;
-
-    /**
-     * Gets the value of the tag property.
-     * 
-     * @return
-     *     possible object is
-     *     {@link String }
-     *     
-     */
-    public String getTag() {
-        return tag;
-    }
-
-    /**
-     * Sets the value of the tag property.
-     * 
-     * @param value
-     *     allowed object is
-     *     {@link String }
-     *     
-     */
-    public void setTag(String value) {
-        this.tag = value;
-    }
-
-    /**
-     * Gets the value of the author property.
-     * 
-     * @return
-     *     possible object is
-     *     {@link Author }
-     *     
-     */
-    public Author getAuthor() {
-        return author;
-    }
-
-    /**
-     * Sets the value of the author property.
-     * 
-     * @param value
-     *     allowed object is
-     *     {@link Author }
-     *     
-     */
-    public void setAuthor(Author value) {
-        this.author = value;
-    }
-
-    /**
-     * Gets the value of the date property.
-     * 
-     * @return
-     *     possible object is
-     *     {@link String }
-     *     
-     */
-    public String getDate() {
-        return date;
-    }
-
-    /**
-     * Sets the value of the date property.
-     * 
-     * @param value
-     *     allowed object is
-     *     {@link String }
-     *     
-     */
-    public void setDate(String value) {
-        this.date = value;
-    }
-
-    /**
-     * Gets the value of the msg property.
-     * 
-     * @return
-     *     possible object is
-     *     {@link Msg }
-     *     
-     */
-    public Msg getMsg() {
-        return msg;
-    }
-
-    /**
-     * Sets the value of the msg property.
-     * 
-     * @param value
-     *     allowed object is
-     *     {@link Msg }
-     *     
-     */
-    public void setMsg(Msg value) {
-        this.msg = value;
-    }
-
-    /**
-     * Gets the value of the paths property.
-     * 
-     * @return
-     *     possible object is
-     *     {@link Paths }
-     *     
-     */
-    public Paths getPaths() {
-        return paths;
-    }
-
-    /**
-     * Sets the value of the paths property.
-     * 
-     * @param value
-     *     allowed object is
-     *     {@link Paths }
-     *     
-     */
-    public void setPaths(Paths value) {
-        this.paths = value;
-    }
-
-    /**
-     * Gets the value of the copies property.
-     * 
-     * @return
-     *     possible object is
-     *     {@link Copies }
-     *     
-     */
-    public Copies getCopies() {
-        return copies;
-    }
-
-    /**
-     * Sets the value of the copies property.
-     * 
-     * @param value
-     *     allowed object is
-     *     {@link Copies }
-     *     
-     */
-    public void setCopies(Copies value) {
-        this.copies = value;
-    }
-
-    /**
-     * Gets the value of the node property.
-     * 
-     * @return
-     *     possible object is
-     *     {@link String }
-     *     
-     */
-    public String getNode() {
-        return node;
-    }
-
-    /**
-     * Sets the value of the node property.
-     * 
-     * @param value
-     *     allowed object is
-     *     {@link String }
-     *     
-     */
-    public void setNode(String value) {
-        this.node = value;
-    }
-
-    /**
-     * Gets the value of the revision property.
-     * 
-     * @return
-     *     possible object is
-     *     {@link BigInteger }
-     *     
-     */
-    public BigInteger getRevision() {
-        return revision;
-    }
-
-    /**
-     * Sets the value of the revision property.
-     * 
-     * @param value
-     *     allowed object is
-     *     {@link BigInteger }
-     *     
-     */
-    public void setRevision(BigInteger value) {
-        this.revision = value;
-    }
-
-}
+//
+// This file was generated by the JavaTM Architecture for XML Binding(JAXB) Reference Implementation, v2.2.5 
+// See <a href="http://java.sun.com/xml/jaxb">http://java.sun.com/xml/jaxb</a> 
+// Any modifications to this file will be lost upon recompilation of the source schema. 
+// Generated on: 2013.09.13 at 03:10:16 PM CDT 
+//
+
+
+package com.cedarsolutions.xml.bindings.hg.log;
+
+import java.math.BigInteger;
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlAttribute;
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlRootElement;
+import javax.xml.bind.annotation.XmlSchemaType;
+import javax.xml.bind.annotation.XmlType;
+import javax.xml.bind.annotation.adapters.CollapsedStringAdapter;
+import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
+
+
+/**
+ * <p>Java class for anonymous complex type.
+ * 
+ * <p>The following schema fragment specifies the expected content contained within this class.
+ * 
+ * <pre>
+ * &lt;complexType>
+ *   &lt;complexContent>
+ *     &lt;restriction base="{http://www.w3.org/2001/XMLSchema}anyType">
+ *       &lt;sequence>
+ *         &lt;element ref="{}tag" minOccurs="0"/>
+ *         &lt;element ref="{}author"/>
+ *         &lt;element ref="{}date"/>
+ *         &lt;element ref="{}msg"/>
+ *         &lt;element ref="{}paths"/>
+ *         &lt;element ref="{}copies" minOccurs="0"/>
+ *       &lt;/sequence>
+ *       &lt;attribute name="node" use="required" type="{http://www.w3.org/2001/XMLSchema}anySimpleType" />
+ *       &lt;attribute name="revision" use="required" type="{http://www.w3.org/2001/XMLSchema}integer" />
+ *     &lt;/restriction>
+ *   &lt;/complexContent>
+ * &lt;/complexType>
+ * </pre>
+ * 
+ * 
+ */
+@XmlAccessorType(XmlAccessType.FIELD)
+@XmlType(name = "", propOrder = {
+    "tag",
+    "author",
+    "date",
+    "msg",
+    "paths",
+    "copies"
+})
+@XmlRootElement(name = "logentry")
+public class Logentry {
+
+    @XmlJavaTypeAdapter(CollapsedStringAdapter.class)
+    @XmlSchemaType(name = "NCName")
+    protected String tag;
+    @XmlElement(required = true)
+    protected Author author;
+    @XmlElement(required = true)
+    @XmlJavaTypeAdapter(CollapsedStringAdapter.class)
+    @XmlSchemaType(name = "NMTOKEN")
+    protected String date;
+    @XmlElement(required = true)
+    protected Msg msg;
+    @XmlElement(required = true)
+    protected Paths paths;
+    protected Copies copies;
+    @XmlAttribute(name = "node", required = true)
+    @XmlSchemaType(name = "anySimpleType")
+    protected String node;
+    @XmlAttribute(name = "revision", required = true)
+    protected BigInteger revision;
+
+    /**
+     * Gets the value of the tag property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link String }
+     *     
+     */
+    public String getTag() {
+        return tag;
+    }
+
+    /**
+     * Sets the value of the tag property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link String }
+     *     
+     */
+    public void setTag(String value) {
+        this.tag = value;
+    }
+
+    /**
+     * Gets the value of the author property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link Author }
+     *     
+     */
+    public Author getAuthor() {
+        return author;
+    }
+
+    /**
+     * Sets the value of the author property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link Author }
+     *     
+     */
+    public void setAuthor(Author value) {
+        this.author = value;
+    }
+
+    /**
+     * Gets the value of the date property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link String }
+     *     
+     */
+    public String getDate() {
+        return date;
+    }
+
+    /**
+     * Sets the value of the date property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link String }
+     *     
+     */
+    public void setDate(String value) {
+        this.date = value;
+    }
+
+    /**
+     * Gets the value of the msg property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link Msg }
+     *     
+     */
+    public Msg getMsg() {
+        return msg;
+    }
+
+    /**
+     * Sets the value of the msg property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link Msg }
+     *     
+     */
+    public void setMsg(Msg value) {
+        this.msg = value;
+    }
+
+    /**
+     * Gets the value of the paths property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link Paths }
+     *     
+     */
+    public Paths getPaths() {
+        return paths;
+    }
+
+    /**
+     * Sets the value of the paths property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link Paths }
+     *     
+     */
+    public void setPaths(Paths value) {
+        this.paths = value;
+    }
+
+    /**
+     * Gets the value of the copies property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link Copies }
+     *     
+     */
+    public Copies getCopies() {
+        return copies;
+    }
+
+    /**
+     * Sets the value of the copies property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link Copies }
+     *     
+     */
+    public void setCopies(Copies value) {
+        this.copies = value;
+    }
+
+    /**
+     * Gets the value of the node property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link String }
+     *     
+     */
+    public String getNode() {
+        return node;
+    }
+
+    /**
+     * Sets the value of the node property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link String }
+     *     
+     */
+    public void setNode(String value) {
+        this.node = value;
+    }
+
+    /**
+     * Gets the value of the revision property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link BigInteger }
+     *     
+     */
+    public BigInteger getRevision() {
+        return revision;
+    }
+
+    /**
+     * Sets the value of the revision property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link BigInteger }
+     *     
+     */
+    public void setRevision(BigInteger value) {
+        this.revision = value;
+    }
+
+}
@@ -1,130 +1,130 @@
-//
-// This file was generated by the JavaTM Architecture for XML Binding(JAXB) Reference Implementation, v2.2.5 
-// See <a href="http://java.sun.com/xml/jaxb">http://java.sun.com/xml/jaxb</a> 
-// Any modifications to this file will be lost upon recompilation of the source schema. 
-// Generated on: 2013.09.13 at 03:10:16 PM CDT 
-//
-
-
-package com.cedarsolutions.xml.bindings.hg.log;
-
-import javax.xml.bind.JAXBElement;
-import javax.xml.bind.annotation.XmlElementDecl;
-import javax.xml.bind.annotation.XmlRegistry;
-import javax.xml.bind.annotation.adapters.CollapsedStringAdapter;
-import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
-import javax.xml.namespace.QName;
-
-
-/**
- * This object contains factory methods for each 
- * Java content interface and Java element interface 
- * generated in the com.cedarsolutions.xml.bindings.hg.log package. 
- * <p>An ObjectFactory allows you to programatically 
- * construct new instances of the Java representation 
- * for XML content. The Java representation of XML 
- * content can consist of schema derived interfaces 
- * and classes representing the binding of schema 
- * type definitions, element declarations and model 
- * groups.  Factory methods for each of these are 
- * provided in this class.
- * 
- */
-@XmlRegistry
-public class ObjectFactory {
-
-    private final static QName _Tag_QNAME = new QName("", "tag");
-    private final static QName _Date_QNAME = new QName("", "date");
-
-    /**
-     * Create a new ObjectFactory that can be used to create new instances of schema derived classes for package: com.cedarsolutions.xml.bindings.hg.log
-     * 
-     */
-    public ObjectFactory() {
-    }
-
-    /**
-     * Create an instance of {@link Author }
-     * 
-     */
-    public Author createAuthor() {
-        return new Author();
-    }
-
-    /**
-     * Create an instance of {@link Copies }
-     * 
-     */
-    public Copies createCopies() {
-        return new Copies();
-    }
-
-    /**
-     * Create an instance of {@link Copy }
-     * 
-     */
-    public Copy createCopy() {
-        return new Copy();
-    }
-
-    /**
-     * Create an instance of {@link Paths }
-     * 
-     */
-    public Paths createPaths() {
-        return new Paths();
-    }
-
-    /**
-     * Create an instance of {@link Path }
-     * 
-     */
-    public Path createPath() {
-        return new Path();
-    }
-
-    /**
-     * Create an instance of {@link Logentry }
-     * 
-     */
-    public Logentry createLogentry() {
-        return new Logentry();
-    }
-
-    /**
-     * Create an instance of {@link Msg }
-     * 
-     */
-    public Msg createMsg() {
-        return new Msg();
-    }
-
-    /**
-     * Create an instance of {@link Log }
-     * 
-     */
-    public Log createLog() {
-        return new Log();
-    }
-
-    /**
-     * Create an instance of {@link JAXBElement }{@code <}{@link String }{@code >}}
-     * 
-     */
-    @XmlElementDecl(namespace = "", name = "tag")
-    @XmlJavaTypeAdapter(CollapsedStringAdapter.class)
-    public JAXBElement<String> createTag(String value) {
-        return new JAXBElement<String>(_Tag_QNAME, String.class, null, value);
-    }
-
-    /**
-     * Create an instance of {@link JAXBElement }{@code <}{@link String }{@code >}}
-     * 
-     */
-    @XmlElementDecl(namespace = "", name = "date")
-    @XmlJavaTypeAdapter(CollapsedStringAdapter.class)
-    public JAXBElement<String> createDate(String value) {
-        return new JAXBElement<String>(_Date_QNAME, String.class, null, value);
-    }
-
-}
+//
+// This file was generated by the JavaTM Architecture for XML Binding(JAXB) Reference Implementation, v2.2.5 
+// See <a href="http://java.sun.com/xml/jaxb">http://java.sun.com/xml/jaxb</a> 
+// Any modifications to this file will be lost upon recompilation of the source schema. 
+// Generated on: 2013.09.13 at 03:10:16 PM CDT 
+//
+
+
+package com.cedarsolutions.xml.bindings.hg.log;
+
+import javax.xml.bind.JAXBElement;
+import javax.xml.bind.annotation.XmlElementDecl;
+import javax.xml.bind.annotation.XmlRegistry;
+import javax.xml.bind.annotation.adapters.CollapsedStringAdapter;
+import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
+import javax.xml.namespace.QName;
+
+
+/**
+ * This object contains factory methods for each 
+ * Java content interface and Java element interface 
+ * generated in the com.cedarsolutions.xml.bindings.hg.log package. 
+ * <p>An ObjectFactory allows you to programatically 
+ * construct new instances of the Java representation 
+ * for XML content. The Java representation of XML 
+ * content can consist of schema derived interfaces 
+ * and classes representing the binding of schema 
+ * type definitions, element declarations and model 
+ * groups.  Factory methods for each of these are 
+ * provided in this class.
+ * 
+ */
+@XmlRegistry
+public class ObjectFactory {
+
+    private final static QName _Tag_QNAME = new QName("", "tag");
+    private final static QName _Date_QNAME = new QName("", "date");
+
+    /**
+     * Create a new ObjectFactory that can be used to create new instances of schema derived classes for package: com.cedarsolutions.xml.bindings.hg.log
+     * 
+     */
+    public ObjectFactory() {
+    }
+
+    /**
+     * Create an instance of {@link Author }
+     * 
+     */
+    public Author createAuthor() {
+        return new Author();
+    }
+
+    /**
+     * Create an instance of {@link Copies }
+     * 
+     */
+    public Copies createCopies() {
+        return new Copies();
+    }
+
+    /**
+     * Create an instance of {@link Copy }
+     * 
+     */
+    public Copy createCopy() {
+        return new Copy();
+    }
+
+    /**
+     * Create an instance of {@link Paths }
+     * 
+     */
+    public Paths createPaths() {
+        return new Paths();
+    }
+
+    /**
+     * Create an instance of {@link Path }
+     * 
+     */
+    public Path createPath() {
+        return new Path();
+    }
+
+    /**
+     * Create an instance of {@link Logentry }
+     * 
+     */
+    public Logentry createLogentry() {
+        return new Logentry();
+    }
+
+    /**
+     * Create an instance of {@link Msg }
+     * 
+     */
+    public Msg createMsg() {
+        return new Msg();
+    }
+
+    /**
+     * Create an instance of {@link Log }
+     * 
+     */
+    public Log createLog() {
+        return new Log();
+    }
+
+    /**
+     * Create an instance of {@link JAXBElement }{@code <}{@link String }{@code >}}
+     * 
+     */
+    @XmlElementDecl(namespace = "", name = "tag")
+    @XmlJavaTypeAdapter(CollapsedStringAdapter.class)
+    public JAXBElement<String> createTag(String value) {
+        return new JAXBElement<String>(_Tag_QNAME, String.class, null, value);
+    }
+
+    /**
+     * Create an instance of {@link JAXBElement }{@code <}{@link String }{@code >}}
+     * 
+     */
+    @XmlElementDecl(namespace = "", name = "date")
+    @XmlJavaTypeAdapter(CollapsedStringAdapter.class)
+    public JAXBElement<String> createDate(String value) {
+        return new JAXBElement<String>(_Date_QNAME, String.class, null, value);
+    }
+
+}
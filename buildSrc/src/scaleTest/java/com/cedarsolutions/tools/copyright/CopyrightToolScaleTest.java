@@ -0,0 +1,185 @@
+/* * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ *
+ *              C E D A R
+ *          S O L U T I O N S       "Software done right."
+ *           S O F T W A R E
+ *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ *
+ * Copyright (c) 2026 Kenneth J. Pronovici.
+ * All rights reserved.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the Apache License, Version 2.0.
+ * See LICENSE for more information about the licensing terms.
+ *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ *
+ * Author   : Kenneth J. Pronovici <pronovic@ieee.org>
+ * Language : Java 6
+ * Project  : Common Java Functionality
+ *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * */
+package com.cedarsolutions.tools.copyright;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.regex.Pattern;
+
+import org.junit.AfterClass;
+import org.junit.Test;
+
+import com.cedarsolutions.util.FilesystemUtils;
+
+/**
+ * End-to-end scale test for CopyrightTool, against a large synthetic repository.
+ *
+ * <p>
+ * This is not part of the normal unit test suite.  Run it with <code>gradle -p
+ * buildSrc scaleTest</code>.  The size of the repository and the other settings
+ * can be changed with system properties: scale.files (default 100000),
+ * scale.changesets (default 50000), scale.appended (default 100),
+ * scale.perFile (default false, since per-file analysis starts one JVM per
+ * file), scale.parallelism (default 4), scale.workingDir and scale.report.
+ * </p>
+ *
+ * <p>
+ * Each phase is measured by ScaleHarness, a report is written, and then the
+ * test fails if any phase exceeds the limits in ScaleThresholds.
+ * </p>
+ *
+ * @author Kenneth J. Pronovici <pronovic@ieee.org>
+ */
+public class CopyrightToolScaleTest {
+
+    /** Seed for the synthetic repository. */
+    private static final long SEED = 20160211L;
+
+    /** Number of tracked source files. */
+    private static final int FILES = Integer.getInteger("scale.files", 100000);
+
+    /** Number of changesets. */
+    private static final int CHANGESETS = Integer.getInteger("scale.changesets", 50000);
+
+    /** Number of changesets appended before the incremental update. */
+    private static final int APPENDED = Integer.getInteger("scale.appended", 100);
+
+    /** Whether to run the per-file history phase. */
+    private static final boolean PER_FILE = Boolean.getBoolean("scale.perFile");
+
+    /** Parallelism for the per-file history phase. */
+    private static final int PARALLELISM = Integer.getInteger("scale.parallelism", 4);
+
+    /** Working directory for the synthetic repository. */
+    private static final String WORKING_DIR = System.getProperty("scale.workingDir", "build/tmp/scale");
+
+    /** Path to the report. */
+    private static final String REPORT = System.getProperty("scale.report", "build/reports/scale/scale-report.txt");
+
+    /** License pattern. */
+    private static final String LICENSE_PATTERN = "^LICENSE$";
+
+    /** Source pattern. */
+    private static final String SOURCE_PATTERN = "^.*\\.java$";
+
+    /** Remove the synthetic repository, which is large. */
+    @AfterClass public static void cleanup() {
+        if (FilesystemUtils.dirExists(WORKING_DIR)) {
+            FilesystemUtils.removeDir(WORKING_DIR, true);
+        }
+    }
+
+    /** Run every phase against the synthetic repository and check the thresholds. */
+    @Test public void testScale() throws Exception {
+        final SyntheticRepository synthetic = new SyntheticRepository(new File(WORKING_DIR), SEED);
+        synthetic.generate(FILES, CHANGESETS);
+
+        final String mercurial = synthetic.getMercurial();
+        final String repository = synthetic.getRepository().getPath();
+        final String cacheFile = FilesystemUtils.join(WORKING_DIR, "cache", "copyright.xml");
+        final Pattern license = Pattern.compile(LICENSE_PATTERN);
+        final List<Pattern> patterns = new ArrayList<Pattern>();
+        patterns.add(Pattern.compile(SOURCE_PATTERN));
+
+        final MercurialBackend singlePass = new MercurialBackend(mercurial, repository, true, 1, null, System.out);
+        final MercurialBackend incremental = new MercurialBackend(mercurial, repository, false, 1, cacheFile, System.out);
+
+        ScaleHarness harness = new ScaleHarness(synthetic);
+        try {
+            List<String> trackedFiles = harness.measure("locate", new Callable<List<String>>() {
+                public List<String> call() {
+                    return singlePass.getTrackedFiles(patterns);
+                }
+            });
+            assertEquals(FILES, trackedFiles.size());
+
+            final Map<String, YearSet> map = harness.measure("history-single-pass", new Callable<Map<String, YearSet>>() {
+                public Map<String, YearSet> call() {
+                    return singlePass.generateFileYearsMap(patterns);
+                }
+            });
+            assertEquals(FILES, map.size());
+
+            Map<String, YearSet> cold = harness.measure("history-incremental-cold", new Callable<Map<String, YearSet>>() {
+                public Map<String, YearSet> call() {
+                    return incremental.generateFileYearsMap(patterns);
+                }
+            });
+            assertEquals(map, cold);
+
+            int updated = harness.measure("update", new Callable<Integer>() {
+                public Integer call() {
+                    return CopyrightTool.updateSourceFiles(System.out, repository, map, false)
+                           + CopyrightTool.updateLicenseFiles(System.out, singlePass, repository, license, map, false);
+                }
+            });
+            assertEquals(FILES + 1, updated);  // every file starts out stale
+
+            int stale = harness.measure("check", new Callable<Integer>() {
+                public Integer call() {
+                    return CopyrightTool.updateSourceFiles(System.out, repository, map, true)
+                           + CopyrightTool.updateLicenseFiles(System.out, singlePass, repository, license, map, true);
+                }
+            });
+            assertEquals(0, stale);
+
+            synthetic.appendChangesets(APPENDED, 2017);
+            Map<String, YearSet> warm = harness.measure("history-incremental-warm", new Callable<Map<String, YearSet>>() {
+                public Map<String, YearSet> call() {
+                    return incremental.generateFileYearsMap(patterns);
+                }
+            });
+            assertEquals(singlePass.generateFileYearsMap(patterns), warm);
+
+            int status = harness.measure("end-to-end", new Callable<Integer>() {
+                public Integer call() {
+                    String[] args = new String[] { "--cache", cacheFile, mercurial, repository, LICENSE_PATTERN, SOURCE_PATTERN, };
+                    return new CopyrightTool(new CopyrightToolArguments(args), System.out).internalMain();
+                }
+            });
+            assertEquals(0, status);
+
+            if (PER_FILE) {
+                Map<String, YearSet> perFile = harness.measure("history-per-file", new Callable<Map<String, YearSet>>() {
+                    public Map<String, YearSet> call() {
+                        return CopyrightTool.generateFileYearsMap(mercurial, repository, patterns, PARALLELISM);
+                    }
+                });
+                assertEquals(warm, perFile);
+            }
+        } finally {
+            harness.writeReport(REPORT);
+            System.out.println(harness.generateReport());
+        }
+
+        List<String> violations = new ScaleThresholds().check(harness.getResults());
+        assertTrue("Scale thresholds exceeded: " + violations, violations.isEmpty());
+    }
+
+}
@@ -0,0 +1,362 @@
+/* * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ *
+ *              C E D A R
+ *          S O L U T I O N S       "Software done right."
+ *           S O F T W A R E
+ *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ *
+ * Copyright (c) 2026 Kenneth J. Pronovici.
+ * All rights reserved.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the Apache License, Version 2.0.
+ * See LICENSE for more information about the licensing terms.
+ *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ *
+ * Author   : Kenneth J. Pronovici <pronovic@ieee.org>
+ * Language : Java 6
+ * Project  : Common Java Functionality
+ *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * */
+package com.cedarsolutions.tools.copyright;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Stand-in for the Mercurial executable, answering from synthetic repository data.
+ *
+ * <p>
+ * This is invoked via the <code>hg</code> script that SyntheticRepository
+ * writes, with the data directory as the first argument and the Mercurial
+ * arguments after that.  It understands just enough of Mercurial to satisfy
+ * the copyright tool: <code>hg locate</code>, and <code>hg log --style xml</code>
+ * with <code>--follow</code>, <code>--rev</code>, <code>--verbose</code> and
+ * <code>--copies</code>.  Anything else (including <code>hg serve</code>) fails
+ * the way Mercurial does for an unknown command, so the tool falls back to
+ * one process per command and every invocation can be counted.
+ * </p>
+ *
+ * <p>
+ * Each invocation appends a line to the invocation log in the data directory,
+ * recording the number of bytes written to stdout and the arguments.  This
+ * class deliberately depends on nothing but the JDK, so that the script only
+ * needs the scale test classes on its classpath.
+ * </p>
+ *
+ * @author Kenneth J. Pronovici <pronovic@ieee.org>
+ */
+public class FakeMercurial {
+
+    /** Name of the file listing tracked files, in the data directory. */
+    public static final String FILES = "files.txt";
+
+    /** Name of the file holding the history, in the data directory. */
+    public static final String HISTORY = "history.txt";
+
+    /** Name of the invocation log, in the data directory. */
+    public static final String INVOCATIONS = "invocations.log";
+
+    /** Exit code Mercurial uses for errors. */
+    private static final int ERROR = 255;
+
+    /** Data directory. */
+    private File dataDir;
+
+    /** Stream that stdout is written to, which counts bytes. */
+    private CountingOutputStream stdout;
+
+    /** Create a fake Mercurial for a data directory. */
+    public FakeMercurial(File dataDir, OutputStream stdout) {
+        this.dataDir = dataDir;
+        this.stdout = new CountingOutputStream(stdout);
+    }
+
+    /** Run the fake Mercurial: FakeMercurial dataDir [hg arguments]. */
+    public static void main(String[] args) {
+        List<String> arguments = new ArrayList<String>();
+        for (int i = 1; i < args.length; i++) {
+            arguments.add(args[i]);
+        }
+
+        FakeMercurial mercurial = new FakeMercurial(new File(args[0]), System.out);
+        int exitCode = mercurial.execute(arguments);
+        System.exit(exitCode);
+    }
+
+    /**
+     * Execute a Mercurial command.
+     * @param arguments  Mercurial arguments, starting with the command
+     * @return Exit code.
+     */
+    public int execute(List<String> arguments) {
+        int exitCode = ERROR;
+        try {
+            String command = arguments.isEmpty() ? "" : arguments.get(0);
+            if ("locate".equals(command)) {
+                exitCode = this.locate();
+            } else if ("log".equals(command)) {
+                exitCode = this.log(arguments.subList(1, arguments.size()));
+            } else {
+                System.err.println("hg: unknown command '" + command + "'");
+            }
+
+            this.stdout.flush();
+            return exitCode;
+        } catch (IOException e) {
+            System.err.println("abort: " + e.getMessage());
+            return ERROR;
+        } finally {
+            this.recordInvocation(arguments, exitCode);
+        }
+    }
+
+    /** Implement <code>hg locate</code>. */
+    private int locate() throws IOException {
+        BufferedReader reader = this.open(FILES);
+        try {
+            Writer writer = this.getWriter();
+            String line = reader.readLine();
+            while (line != null) {
+                writer.write(line);
+                writer.write("\n");
+                line = reader.readLine();
+            }
+            writer.flush();
+        } finally {
+            reader.close();
+        }
+
+        return 0;
+    }
+
+    /** Implement <code>hg log --style xml</code>, with a subset of the options. */
+    private int log(List<String> arguments) throws IOException {
+        boolean verbose = false;
+        boolean copies = false;
+        boolean follow = false;
+        String rev = null;
+        String file = null;
+
+        for (int i = 0; i < arguments.size(); i++) {
+            String argument = arguments.get(i);
+            if ("--verbose".equals(argument)) {
+                verbose = true;
+            } else if ("--copies".equals(argument)) {
+                copies = true;
+            } else if ("--follow".equals(argument)) {
+                follow = true;
+            } else if ("--rev".equals(argument)) {
+                rev = arguments.get(++i);
+            } else if ("--style".equals(argument)) {
+                i++;  // only xml is supported
+            } else {
+                file = argument;
+            }
+        }
+
+        List<String[]> history = this.readHistory();
+        int tip = history.size() - 1;
+        int high = tip;
+        int low = 0;
+        if (rev != null) {
+            int[] range = parseRange(rev, tip);
+            if (range == null) {
+                System.err.println("abort: unknown revision '" + rev + "'!");
+                return ERROR;
+            }
+            high = range[0];
+            low = range[1];
+        }
+
+        Writer writer = this.getWriter();
+        writer.write("<?xml version=\"1.0\"?>\n<log>\n");
+        String name = file;
+        for (int revision = high; revision >= low; revision--) {
+            String[] changeset = history.get(revision);
+            List<String[]> paths = getPairs(changeset[2], ":");
+            List<String[]> copied = getPairs(changeset[3], ">");
+            if (name == null || touches(paths, name)) {
+                writeLogentry(writer, revision, changeset[1], verbose ? paths : null, copies ? copied : null);
+            }
+
+            if (follow && name != null) {
+                for (String[] copy : copied) {
+                    if (copy[1].equals(name)) {
+                        name = copy[0];  // older history belongs to the copy source
+                    }
+                }
+            }
+        }
+        writer.write("</log>\n");
+        writer.flush();
+
+        return 0;
+    }
+
+    /** Get the node (changeset hash) for a revision. */
+    public static String getNode(int revision) {
+        String hex = Long.toHexString((revision + 1) * 0x9E3779B97F4A7C15L);
+        StringBuffer buffer = new StringBuffer();
+        while (buffer.length() + hex.length() < 40) {
+            buffer.append("0");
+        }
+        return buffer.append(hex).toString();
+    }
+
+    /** Parse a revision like "tip", "12" or "40:13" into a high and low revision, or null if unknown. */
+    private static int[] parseRange(String rev, int tip) {
+        try {
+            if ("tip".equals(rev)) {
+                return tip < 0 ? null : new int[] { tip, tip };
+            } else if (rev.indexOf(':') >= 0) {
+                int first = Integer.parseInt(rev.substring(0, rev.indexOf(':')));
+                int second = Integer.parseInt(rev.substring(rev.indexOf(':') + 1));
+                return first > tip || second > tip ? null : new int[] { Math.max(first, second), Math.min(first, second) };
+            } else {
+                int revision = Integer.parseInt(rev);
+                return revision < 0 || revision > tip ? null : new int[] { revision, revision };
+            }
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /** Write a single log entry in Mercurial's XML style. */
+    private static void writeLogentry(Writer writer, int revision, String year, List<String[]> paths, List<String[]> copies) throws IOException {
+        writer.write("<logentry revision=\"" + revision + "\" node=\"" + getNode(revision) + "\">\n");
+        writer.write("<author email=\"pronovic@ieee.org\">Kenneth J. Pronovici</author>\n");
+        writer.write("<date>" + year + "-06-15T12:00:00-05:00</date>\n");
+        writer.write("<msg xml:space=\"preserve\">Synthetic change " + revision + ".</msg>\n");
+        if (paths != null && !paths.isEmpty()) {
+            writer.write("<paths>\n");
+            for (String[] path : paths) {
+                writer.write("<path action=\"" + path[0] + "\">" + path[1] + "</path>\n");
+            }
+            writer.write("</paths>\n");
+        }
+        if (copies != null && !copies.isEmpty()) {
+            writer.write("<copies>\n");
+            for (String[] copy : copies) {
+                writer.write("<copy source=\"" + copy[0] + "\">" + copy[1] + "</copy>\n");
+            }
+            writer.write("</copies>\n");
+        }
+        writer.write("</logentry>\n");
+    }
+
+    /** Check whether a changeset touches a path. */
+    private static boolean touches(List<String[]> paths, String name) {
+        for (String[] path : paths) {
+            if (path[1].equals(name)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /** Split a field like "A:a.java|M:b.java" into pairs. */
+    private static List<String[]> getPairs(String field, String separator) {
+        List<String[]> pairs = new ArrayList<String[]>();
+        if (field.length() > 0) {
+            for (String item : field.split("\\|")) {
+                int index = item.indexOf(separator);
+                pairs.add(new String[] { item.substring(0, index), item.substring(index + 1) });
+            }
+        }
+        return pairs;
+    }
+
+    /** Read the history, one array of [revision, year, paths, copies] per changeset, oldest first. */
+    private List<String[]> readHistory() throws IOException {
+        List<String[]> history = new ArrayList<String[]>();
+        BufferedReader reader = this.open(HISTORY);
+        try {
+            String line = reader.readLine();
+            while (line != null) {
+                history.add(line.split("\t", -1));
+                line = reader.readLine();
+            }
+        } finally {
+            reader.close();
+        }
+        return history;
+    }
+
+    /** Open a file in the data directory. */
+    private BufferedReader open(String name) throws IOException {
+        return new BufferedReader(new InputStreamReader(new FileInputStream(new File(this.dataDir, name)), "UTF-8"));
+    }
+
+    /** Get a writer for stdout. */
+    private Writer getWriter() throws IOException {
+        return new BufferedWriter(new OutputStreamWriter(this.stdout, "UTF-8"), 65536);
+    }
+
+    /** Append a line to the invocation log, as a single write so concurrent invocations don't interleave. */
+    private void recordInvocation(List<String> arguments, int exitCode) {
+        StringBuffer buffer = new StringBuffer();
+        buffer.append(this.stdout.getCount()).append("\t").append(exitCode);
+        for (String argument : arguments) {
+            buffer.append("\t").append(argument);
+        }
+        buffer.append("\n");
+
+        try {
+            FileOutputStream log = new FileOutputStream(new File(this.dataDir, INVOCATIONS), true);
+            try {
+                log.write(buffer.toString().getBytes("UTF-8"));
+            } finally {
+                log.close();
+            }
+        } catch (IOException e) {
+            System.err.println("Failed to record invocation: " + e.getMessage());
+        }
+    }
+
+    /** Output stream that counts the bytes written through it. */
+    private static class CountingOutputStream extends FilterOutputStream {
+
+        /** Number of bytes written. */
+        private long count;
+
+        /** Create a counting stream. */
+        public CountingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        /** Write a single byte. */
+        @Override
+        public void write(int b) throws IOException {
+            this.out.write(b);
+            this.count++;
+        }
+
+        /** Write a range of bytes. */
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            this.out.write(b, off, len);
+            this.count += len;
+        }
+
+        /** Number of bytes written. */
+        public long getCount() {
+            return this.count;
+        }
+
+    }
+
+}
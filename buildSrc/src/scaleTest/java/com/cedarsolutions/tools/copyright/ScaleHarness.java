@@ -0,0 +1,232 @@
+/* * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ *
+ *              C E D A R
+ *          S O L U T I O N S       "Software done right."
+ *           S O F T W A R E
+ *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ *
+ * Copyright (c) 2026 Kenneth J. Pronovici.
+ * All rights reserved.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the Apache License, Version 2.0.
+ * See LICENSE for more information about the licensing terms.
+ *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ *
+ * Author   : Kenneth J. Pronovici <pronovic@ieee.org>
+ * Language : Java 6
+ * Project  : Common Java Functionality
+ *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * */
+package com.cedarsolutions.tools.copyright;
+
+import java.io.File;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+import com.cedarsolutions.util.FilesystemUtils;
+import com.cedarsolutions.util.StringUtils;
+
+/**
+ * Runs the phases of a scale test and records metrics for each one.
+ *
+ * <p>
+ * For each phase, we record wall time, the number of Mercurial processes
+ * started (from the FakeMercurial invocation log), the number of bytes of
+ * Mercurial output, the total number of bytes this process read (from
+ * <code>/proc/self/io</code>, where that exists), and the peak heap usage.
+ * Peak heap is the sum of the peaks of the heap memory pools, which
+ * overstates the true peak a little but is stable from run to run.
+ * </p>
+ *
+ * @author Kenneth J. Pronovici <pronovic@ieee.org>
+ */
+public class ScaleHarness {
+
+    /** Linux per-process I/O statistics. */
+    private static final String PROC_IO = "/proc/self/io";
+
+    /** Synthetic repository that the phases run against. */
+    private SyntheticRepository repository;
+
+    /** Results of the phases run so far. */
+    private List<PhaseResult> results = new ArrayList<PhaseResult>();
+
+    /** Create a harness for a synthetic repository. */
+    public ScaleHarness(SyntheticRepository repository) {
+        this.repository = repository;
+    }
+
+    /**
+     * Run a phase, recording its metrics.
+     * @param phase     Name of the phase
+     * @param callable  Work to do in the phase
+     * @return Result returned by the callable.
+     * @throws RuntimeException If the callable fails.
+     */
+    public <T> T measure(String phase, Callable<T> callable) {
+        try {
+            System.gc();
+            for (MemoryPoolMXBean pool : getHeapPools()) {
+                pool.resetPeakUsage();
+            }
+
+            long[] invocations = this.repository.getInvocations();
+            long bytesRead = getBytesRead();
+            long start = System.nanoTime();
+
+            T value = callable.call();
+
+            long millis = (System.nanoTime() - start) / 1000000L;
+            long[] after = this.repository.getInvocations();
+            long afterRead = getBytesRead();
+
+            PhaseResult result = new PhaseResult();
+            result.phase = phase;
+            result.millis = millis;
+            result.processes = after[0] - invocations[0];
+            result.mercurialBytes = after[1] - invocations[1];
+            result.bytesRead = bytesRead < 0 || afterRead < 0 ? -1 : afterRead - bytesRead;
+            result.peakHeap = getPeakHeap();
+            this.results.add(result);
+            return value;
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to run phase " + phase + ": " + e.getMessage(), e);
+        }
+    }
+
+    /** Results of the phases run so far. */
+    public List<PhaseResult> getResults() {
+        return this.results;
+    }
+
+    /**
+     * Generate a report of the results, as a table.
+     * @return Report, one line per phase.
+     */
+    public String generateReport() {
+        StringBuffer buffer = new StringBuffer();
+
+        buffer.append("Scale test: ").append(this.repository.getTrackedFileCount()).append(" tracked files, ");
+        buffer.append(this.repository.getChangesetCount()).append(" changesets\n\n");
+        buffer.append(String.format("%-26s %10s %10s %14s %14s %12s%n", "phase", "millis", "processes", "hg bytes", "bytes read", "peak heap"));
+        for (PhaseResult result : this.results) {
+            buffer.append(String.format("%-26s %10d %10d %14d %14d %12d%n", result.phase, result.millis, result.processes,
+                                        result.mercurialBytes, result.bytesRead, result.peakHeap));
+        }
+
+        return buffer.toString();
+    }
+
+    /**
+     * Write the report to disk.
+     * @param path  Path to the report file
+     */
+    public void writeReport(String path) {
+        String parent = FilesystemUtils.getDirname(path);
+        if (parent != null) {
+            FilesystemUtils.createDir(parent);
+        }
+
+        FilesystemUtils.writeFileContents(path, this.generateReport());
+    }
+
+    /** Get the heap memory pools. */
+    private static List<MemoryPoolMXBean> getHeapPools() {
+        List<MemoryPoolMXBean> pools = new ArrayList<MemoryPoolMXBean>();
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP && pool.isValid()) {
+                pools.add(pool);
+            }
+        }
+        return pools;
+    }
+
+    /** Get the peak heap usage since the pools were reset. */
+    private static long getPeakHeap() {
+        long peak = 0;
+        for (MemoryPoolMXBean pool : getHeapPools()) {
+            if (pool.getPeakUsage() != null) {
+                peak += pool.getPeakUsage().getUsed();
+            }
+        }
+        return peak;
+    }
+
+    /** Get the number of bytes read by this process, or -1 if that can't be determined. */
+    private static long getBytesRead() {
+        if (!new File(PROC_IO).isFile()) {
+            return -1;
+        }
+
+        for (String line : FilesystemUtils.getFileContents(PROC_IO)) {
+            if (line.startsWith("rchar:")) {
+                return Long.parseLong(StringUtils.trim(line.substring("rchar:".length())));
+            }
+        }
+
+        return -1;
+    }
+
+    /** Metrics recorded for a single phase. */
+    public static class PhaseResult {
+
+        /** Name of the phase. */
+        private String phase;
+
+        /** Wall time, in milliseconds. */
+        private long millis;
+
+        /** Number of Mercurial processes started. */
+        private long processes;
+
+        /** Number of bytes of Mercurial output. */
+        private long mercurialBytes;
+
+        /** Number of bytes read by this process, or -1 if unknown. */
+        private long bytesRead;
+
+        /** Peak heap usage, in bytes. */
+        private long peakHeap;
+
+        /** Name of the phase. */
+        public String getPhase() {
+            return this.phase;
+        }
+
+        /** Wall time, in milliseconds. */
+        public long getMillis() {
+            return this.millis;
+        }
+
+        /** Number of Mercurial processes started. */
+        public long getProcesses() {
+            return this.processes;
+        }
+
+        /** Number of bytes of Mercurial output. */
+        public long getMercurialBytes() {
+            return this.mercurialBytes;
+        }
+
+        /** Number of bytes read by this process, or -1 if unknown. */
+        public long getBytesRead() {
+            return this.bytesRead;
+        }
+
+        /** Peak heap usage, in bytes. */
+        public long getPeakHeap() {
+            return this.peakHeap;
+        }
+
+    }
+
+}
@@ -0,0 +1,117 @@
+/* * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ *
+ *              C E D A R
+ *          S O L U T I O N S       "Software done right."
+ *           S O F T W A R E
+ *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ *
+ * Copyright (c) 2026 Kenneth J. Pronovici.
+ * All rights reserved.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the Apache License, Version 2.0.
+ * See LICENSE for more information about the licensing terms.
+ *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ *
+ * Author   : Kenneth J. Pronovici <pronovic@ieee.org>
+ * Language : Java 6
+ * Project  : Common Java Functionality
+ *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * */
+package com.cedarsolutions.tools.copyright;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+
+import com.cedarsolutions.tools.copyright.ScaleHarness.PhaseResult;
+
+/**
+ * Upper limits on the metrics recorded for each scale test phase.
+ *
+ * <p>
+ * Limits are read from <code>scale-thresholds.properties</code>, with keys
+ * like <code>history-single-pass.maxMillis</code>.  The supported metrics are
+ * maxMillis, maxProcesses, maxMercurialBytes, maxBytesRead and maxHeapMb.  Any
+ * limit can be overridden with a system property of the same name prefixed by
+ * <code>scale.threshold.</code>, which is useful on slow build machines.  A
+ * phase or metric without a limit is never checked.
+ * </p>
+ *
+ * @author Kenneth J. Pronovici <pronovic@ieee.org>
+ */
+public class ScaleThresholds {
+
+    /** Resource that the default thresholds are loaded from. */
+    private static final String RESOURCE = "scale-thresholds.properties";
+
+    /** Prefix for system properties that override thresholds. */
+    private static final String OVERRIDE = "scale.threshold.";
+
+    /** Thresholds, keyed by phase and metric. */
+    private Properties thresholds = new Properties();
+
+    /** Load the default thresholds. */
+    public ScaleThresholds() {
+        try {
+            InputStream stream = ScaleThresholds.class.getResourceAsStream(RESOURCE);
+            if (stream != null) {
+                try {
+                    this.thresholds.load(stream);
+                } finally {
+                    stream.close();
+                }
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to load scale thresholds: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Check a set of results against the thresholds.
+     * @param results  Results to check
+     * @return List of threshold violations, empty if there are none.
+     */
+    public List<String> check(List<PhaseResult> results) {
+        List<String> violations = new ArrayList<String>();
+
+        for (PhaseResult result : results) {
+            this.check(violations, result.getPhase(), "maxMillis", result.getMillis());
+            this.check(violations, result.getPhase(), "maxProcesses", result.getProcesses());
+            this.check(violations, result.getPhase(), "maxMercurialBytes", result.getMercurialBytes());
+            if (result.getBytesRead() >= 0) {
+                this.check(violations, result.getPhase(), "maxBytesRead", result.getBytesRead());
+            }
+            this.check(violations, result.getPhase(), "maxHeapMb", result.getPeakHeap() / (1024 * 1024));
+        }
+
+        return violations;
+    }
+
+    /** Check a single metric, adding a violation if it exceeds its threshold. */
+    private void check(List<String> violations, String phase, String metric, long value) {
+        Long threshold = this.getThreshold(phase + "." + metric);
+        if (threshold != null && value > threshold.longValue()) {
+            violations.add(phase + ": " + metric + " is " + threshold + ", but was " + value);
+        }
+    }
+
+    /** Get a threshold, or null if there is none. */
+    private Long getThreshold(String key) {
+        String value = System.getProperty(OVERRIDE + key, this.thresholds.getProperty(key));
+        if (value == null) {
+            return null;
+        }
+
+        try {
+            return Long.valueOf(value.trim());
+        } catch (NumberFormatException e) {
+            throw new RuntimeException("Invalid scale threshold " + key + ": " + value);
+        }
+    }
+
+}
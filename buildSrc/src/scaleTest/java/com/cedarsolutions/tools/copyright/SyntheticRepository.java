@@ -0,0 +1,363 @@
+/* * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ *
+ *              C E D A R
+ *          S O L U T I O N S       "Software done right."
+ *           S O F T W A R E
+ *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ *
+ * Copyright (c) 2026 Kenneth J. Pronovici.
+ * All rights reserved.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the Apache License, Version 2.0.
+ * See LICENSE for more information about the licensing terms.
+ *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ *
+ * Author   : Kenneth J. Pronovici <pronovic@ieee.org>
+ * Language : Java 6
+ * Project  : Common Java Functionality
+ *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * */
+package com.cedarsolutions.tools.copyright;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import com.cedarsolutions.util.FilesystemUtils;
+
+/**
+ * Large synthetic repository, answered by FakeMercurial instead of a real Mercurial.
+ *
+ * <p>
+ * The repository is laid out under a root directory.  The <code>repo</code>
+ * directory is the working copy: one source file per tracked file, each with
+ * a stale copyright statement, plus a LICENSE file.  The <code>hg</code>
+ * directory holds the data that FakeMercurial reads (the tracked file list
+ * and a compact, one-line-per-changeset history) along with an <code>hg</code>
+ * script that the copyright tool runs in place of Mercurial.
+ * </p>
+ *
+ * <p>
+ * History starts with a series of import changesets that add every file,
+ * followed by edits that touch a few random files each.  About one percent of
+ * files are renamed partway through, so following copies is exercised.  Years
+ * are spread evenly from 2005 through 2016.  Generation is deterministic for a
+ * given seed.
+ * </p>
+ *
+ * @author Kenneth J. Pronovici <pronovic@ieee.org>
+ */
+public class SyntheticRepository {
+
+    /** Number of files added by each import changeset. */
+    private static final int IMPORT_SIZE = 2000;
+
+    /** Number of files in each module directory. */
+    private static final int MODULE_SIZE = 1000;
+
+    /** First year of history. */
+    private static final int FIRST_YEAR = 2005;
+
+    /** Number of years of history. */
+    private static final int YEARS = 12;
+
+    /** Name of the license file. */
+    public static final String LICENSE = "LICENSE";
+
+    /** Root directory. */
+    private File root;
+
+    /** Random number generator. */
+    private Random random;
+
+    /** Tracked source files, not including the license file. */
+    private List<String> files = new ArrayList<String>();
+
+    /** Map from file index to the revision it is renamed in. */
+    private Map<Integer, Integer> renames = new HashMap<Integer, Integer>();
+
+    /** Map from revision to the indexes of the files renamed in it. */
+    private Map<Integer, List<Integer>> renamesByRevision = new HashMap<Integer, List<Integer>>();
+
+    /** Number of changesets in history. */
+    private int changesets;
+
+    /**
+     * Create a synthetic repository.
+     * @param root  Root directory, which is removed and recreated by generate()
+     * @param seed  Seed for the random number generator
+     */
+    public SyntheticRepository(File root, long seed) {
+        this.root = root;
+        this.random = new Random(seed);
+    }
+
+    /**
+     * Generate the working copy, the history and the Mercurial script.
+     * @param fileCount       Number of tracked source files
+     * @param changesetCount  Number of changesets, at least enough to import every file
+     */
+    public void generate(int fileCount, int changesetCount) throws IOException {
+        if (FilesystemUtils.dirExists(this.root.getPath())) {
+            FilesystemUtils.removeDir(this.root.getPath(), true);
+        }
+
+        FilesystemUtils.createDir(this.getRepository().getPath());
+        FilesystemUtils.createDir(this.getDataDir().getPath());
+
+        for (int i = 0; i < fileCount; i++) {
+            String path = "src/module" + format(i / MODULE_SIZE, 3) + "/com/example/File" + format(i, 6) + ".java";
+            this.files.add(path);
+            writeSourceFile(new File(this.getRepository(), path));
+        }
+        writeSourceFile(new File(this.getRepository(), LICENSE));
+
+        int imports = (fileCount + IMPORT_SIZE - 1) / IMPORT_SIZE;
+        this.changesets = Math.max(changesetCount, imports);
+        for (int i = 0; i < fileCount / 100; i++) {
+            int index = this.random.nextInt(fileCount);
+            int revision = imports + this.random.nextInt(Math.max(1, (this.changesets - imports) / 2));
+            if (revision < this.changesets && !this.renames.containsKey(index)) {
+                this.renames.put(index, revision);
+                if (!this.renamesByRevision.containsKey(revision)) {
+                    this.renamesByRevision.put(revision, new ArrayList<Integer>());
+                }
+                this.renamesByRevision.get(revision).add(index);
+            }
+        }
+
+        this.writeFileList();
+        this.writeHistory(imports);
+        this.writeScript();
+    }
+
+    /**
+     * Append edit changesets to history, none of which copy or rename files.
+     * @param count  Number of changesets to append
+     * @param year   Year of the new changesets
+     */
+    public void appendChangesets(int count, int year) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(this.getHistoryFile(), true), "UTF-8"));
+        try {
+            for (int i = 0; i < count; i++) {
+                writer.write(this.generateEdit(this.changesets, year));
+                this.changesets++;
+            }
+        } finally {
+            writer.close();
+        }
+    }
+
+    /** Working copy directory. */
+    public File getRepository() {
+        return new File(this.root, "repo");
+    }
+
+    /** Directory holding the data FakeMercurial reads. */
+    public File getDataDir() {
+        return new File(this.root, "hg");
+    }
+
+    /** Path to the script that runs FakeMercurial. */
+    public String getMercurial() {
+        return new File(this.getDataDir(), isWindows() ? "hg.cmd" : "hg").getAbsolutePath();
+    }
+
+    /** Number of tracked files, including the license file. */
+    public int getTrackedFileCount() {
+        return this.files.size() + 1;
+    }
+
+    /** Number of changesets in history. */
+    public int getChangesetCount() {
+        return this.changesets;
+    }
+
+    /**
+     * Summarize the invocation log written by FakeMercurial.
+     * @return Array of [number of invocations, total bytes written to stdout].
+     */
+    public long[] getInvocations() throws IOException {
+        long[] result = new long[] { 0, 0 };
+
+        File log = new File(this.getDataDir(), FakeMercurial.INVOCATIONS);
+        if (log.isFile()) {
+            BufferedReader reader = new BufferedReader(new InputStreamReader(new FileInputStream(log), "UTF-8"));
+            try {
+                String line = reader.readLine();
+                while (line != null) {
+                    result[0]++;
+                    result[1] += Long.parseLong(line.substring(0, line.indexOf('\t')));
+                    line = reader.readLine();
+                }
+            } finally {
+                reader.close();
+            }
+        }
+
+        return result;
+    }
+
+    /** Write the list of tracked files, in the order Mercurial's locate would. */
+    private void writeFileList() throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(new File(this.getDataDir(), FakeMercurial.FILES)), "UTF-8"));
+        try {
+            writer.write(LICENSE + "\n");
+            for (String file : this.files) {
+                writer.write(file + "\n");
+            }
+        } finally {
+            writer.close();
+        }
+    }
+
+    /** Write the history, oldest changeset first. */
+    private void writeHistory(int imports) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(this.getHistoryFile()), "UTF-8"));
+        try {
+            for (int revision = 0; revision < this.changesets; revision++) {
+                if (revision < imports) {
+                    writer.write(this.generateImport(revision));
+                } else {
+                    writer.write(this.generateEdit(revision, getYear(revision, this.changesets)));
+                }
+            }
+        } finally {
+            writer.close();
+        }
+    }
+
+    /** Generate an import changeset, which adds a block of files. */
+    private String generateImport(int revision) {
+        StringBuffer paths = new StringBuffer();
+        if (revision == 0) {
+            paths.append("A:").append(LICENSE);
+        }
+
+        int end = Math.min((revision + 1) * IMPORT_SIZE, this.files.size());
+        for (int i = revision * IMPORT_SIZE; i < end; i++) {
+            appendPair(paths, "A", ":", this.getName(i, revision));
+        }
+
+        return revision + "\t" + getYear(revision, this.changesets) + "\t" + paths + "\t\n";
+    }
+
+    /** Generate an edit changeset, which modifies a few random files and performs any scheduled renames. */
+    private String generateEdit(int revision, int year) {
+        StringBuffer paths = new StringBuffer();
+        StringBuffer copies = new StringBuffer();
+
+        int touched = 1 + this.random.nextInt(8);
+        for (int i = 0; i < touched && !this.files.isEmpty(); i++) {
+            appendPair(paths, "M", ":", this.getName(this.random.nextInt(this.files.size()), revision));
+        }
+
+        if (this.renamesByRevision.containsKey(revision)) {
+            for (Integer index : this.renamesByRevision.get(revision)) {
+                String source = this.getName(index, revision - 1);
+                String target = this.files.get(index);
+                appendPair(paths, "A", ":", target);
+                appendPair(paths, "R", ":", source);
+                appendPair(copies, source, ">", target);
+            }
+        }
+
+        return revision + "\t" + year + "\t" + paths + "\t" + copies + "\n";
+    }
+
+    /** Get the name a file had as of a revision, taking renames into account. */
+    private String getName(int index, int revision) {
+        Integer renamed = this.renames.get(index);
+        String path = this.files.get(index);
+        return renamed != null && revision < renamed.intValue() ? "old/" + path : path;
+    }
+
+    /** Write the script that runs FakeMercurial with this repository's data directory. */
+    private void writeScript() throws IOException {
+        String java = new File(new File(System.getProperty("java.home"), "bin"), "java").getPath();
+        String classpath = new File(FakeMercurial.class.getProtectionDomain().getCodeSource().getLocation().getPath()).getPath();
+        String dataDir = this.getDataDir().getAbsolutePath();
+
+        File script = new File(this.getMercurial());
+        Writer writer = new OutputStreamWriter(new FileOutputStream(script), "UTF-8");
+        try {
+            if (isWindows()) {
+                writer.write("@\"" + java + "\" -cp \"" + classpath + "\" " + FakeMercurial.class.getName() + " \"" + dataDir + "\" %*\r\n");
+            } else {
+                writer.write("#!/bin/sh\n");
+                writer.write("exec \"" + java + "\" -cp \"" + classpath + "\" " + FakeMercurial.class.getName() + " \"" + dataDir + "\" \"$@\"\n");
+            }
+        } finally {
+            writer.close();
+        }
+
+        script.setExecutable(true);
+    }
+
+    /** Write a source file with a stale copyright statement. */
+    private static void writeSourceFile(File file) throws IOException {
+        file.getParentFile().mkdirs();
+        Writer writer = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(file), "UTF-8"));
+        try {
+            writer.write("/*\n");
+            writer.write(" * Copyright (c) 2004 Kenneth J. Pronovici.\n");
+            writer.write(" * All rights reserved.\n");
+            writer.write(" */\n");
+            writer.write("package com.example;\n\n");
+            writer.write("public class " + file.getName().replace(".java", "") + " {\n");
+            writer.write("    public int getValue() {\n");
+            writer.write("        return " + file.getName().length() + ";\n");
+            writer.write("    }\n");
+            writer.write("}\n");
+        } finally {
+            writer.close();
+        }
+    }
+
+    /** Path to the history file. */
+    private File getHistoryFile() {
+        return new File(this.getDataDir(), FakeMercurial.HISTORY);
+    }
+
+    /** Get the year for a revision, spreading history evenly over the years. */
+    private static int getYear(int revision, int changesets) {
+        return FIRST_YEAR + (int) ((long) revision * YEARS / changesets);
+    }
+
+    /** Append a pair like "M:path" to a "|"-separated field. */
+    private static void appendPair(StringBuffer buffer, String first, String separator, String second) {
+        if (buffer.length() > 0) {
+            buffer.append("|");
+        }
+        buffer.append(first).append(separator).append(second);
+    }
+
+    /** Format a number with leading zeros. */
+    private static String format(int value, int digits) {
+        StringBuffer buffer = new StringBuffer(String.valueOf(value));
+        while (buffer.length() < digits) {
+            buffer.insert(0, "0");
+        }
+        return buffer.toString();
+    }
+
+    /** Whether we're running on Windows. */
+    private static boolean isWindows() {
+        return System.getProperty("os.name").toLowerCase().startsWith("windows");
+    }
+
+}
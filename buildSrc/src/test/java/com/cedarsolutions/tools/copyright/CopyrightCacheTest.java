@@ -0,0 +1,96 @@
+/* * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ *
+ *              C E D A R
+ *          S O L U T I O N S       "Software done right."
+ *           S O F T W A R E
+ *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ *
+ * Copyright (c) 2026 Kenneth J. Pronovici.
+ * All rights reserved.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the Apache License, Version 2.0.
+ * See LICENSE for more information about the licensing terms.
+ *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ *
+ * Author   : Kenneth J. Pronovici <pronovic@ieee.org>
+ * Language : Java 6
+ * Project  : Common Java Functionality
+ *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * */
+package com.cedarsolutions.tools.copyright;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.cedarsolutions.util.FilesystemUtils;
+
+/**
+ * Unit tests for CopyrightCache.
+ * @author Kenneth J. Pronovici <pronovic@ieee.org>
+ */
+public class CopyrightCacheTest {
+
+    /** Working directory for tests. */
+    private static final String WORKING_DIR = "target/working";
+
+    /** Setup before all tests. */
+    @BeforeClass public static void prepare() {
+        if (FilesystemUtils.dirExists(WORKING_DIR)) {
+            FilesystemUtils.removeDir(WORKING_DIR, true);
+        }
+
+        FilesystemUtils.createDir(WORKING_DIR);
+    }
+
+    /** Cleanup after all tests. */
+    @AfterClass public static void cleanup() {
+        if (FilesystemUtils.dirExists(WORKING_DIR)) {
+            FilesystemUtils.removeDir(WORKING_DIR, true);
+        }
+    }
+
+    /** Test save() and load(). */
+    @Test public void testSaveAndLoad() {
+        List<String> patterns = new ArrayList<String>();
+        patterns.add("^.*\\.java$");
+        patterns.add("^.*LICENSE$");
+
+        Map<String, YearSet> map = new TreeMap<String, YearSet>();
+        map.put("LICENSE", YearSet.of(2011, 2012));
+        map.put("sub/file.java", YearSet.of(2014, 2012));
+        map.put("unchanged.java", new YearSet());
+
+        String path = FilesystemUtils.join(WORKING_DIR, "cache", "copyright.xml");
+        new CopyrightCache(42, "abcdef0123456789", patterns, map).save(path);
+
+        CopyrightCache cache = CopyrightCache.load(path);
+        assertNotNull(cache);
+        assertEquals(42, cache.getRevision());
+        assertEquals("abcdef0123456789", cache.getNode());
+        assertEquals(patterns, cache.getPatterns());
+        assertEquals(map, cache.getFileYearsMap());
+    }
+
+    /** Test load() for a missing or corrupt cache. */
+    @Test public void testLoadInvalid() {
+        assertNull(CopyrightCache.load(FilesystemUtils.join(WORKING_DIR, "missing.xml")));
+
+        String path = FilesystemUtils.join(WORKING_DIR, "corrupt.xml");
+        FilesystemUtils.writeFileContents(path, "<copyrightCache revision=");
+        assertNull(CopyrightCache.load(path));
+    }
+
+}
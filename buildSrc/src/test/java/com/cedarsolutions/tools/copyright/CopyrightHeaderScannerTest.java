@@ -0,0 +1,139 @@
+/* * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ *
+ *              C E D A R
+ *          S O L U T I O N S       "Software done right."
+ *           S O F T W A R E
+ *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ *
+ * Copyright (c) 2026 Kenneth J. Pronovici.
+ * All rights reserved.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the Apache License, Version 2.0.
+ * See LICENSE for more information about the licensing terms.
+ *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ *
+ * Author   : Kenneth J. Pronovici <pronovic@ieee.org>
+ * Language : Java 6
+ * Project  : Common Java Functionality
+ *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * */
+package com.cedarsolutions.tools.copyright;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.RandomAccessFile;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.cedarsolutions.util.FilesystemUtils;
+
+/**
+ * Unit tests for CopyrightHeaderScanner.
+ * @author Kenneth J. Pronovici <pronovic@ieee.org>
+ */
+public class CopyrightHeaderScannerTest {
+
+    /** Working directory for tests. */
+    private static final String WORKING_DIR = "target/working";
+
+    /** Setup before all tests. */
+    @BeforeClass public static void prepare() {
+        if (FilesystemUtils.dirExists(WORKING_DIR)) {
+            FilesystemUtils.removeDir(WORKING_DIR, true);
+        }
+
+        FilesystemUtils.createDir(WORKING_DIR);
+    }
+
+    /** Cleanup after all tests. */
+    @AfterClass public static void cleanup() {
+        if (FilesystemUtils.dirExists(WORKING_DIR)) {
+            FilesystemUtils.removeDir(WORKING_DIR, true);
+        }
+    }
+
+    /** Test replaceRange(). */
+    @Test public void testReplaceRange() {
+        String header = "/*\n * Copyright (c) 2011-2015 Kenneth J. Pronovici.\n */\n";
+        assertEquals("/*\n * Copyright (c) 2011-2016 Kenneth J. Pronovici.\n */\n", CopyrightHeaderScanner.replaceRange(header, "2011-2016"));
+        assertNull(CopyrightHeaderScanner.replaceRange(header, "2011-2015"));
+        assertNull(CopyrightHeaderScanner.replaceRange(header, null));
+        assertNull(CopyrightHeaderScanner.replaceRange("no statement here\n", "2016"));
+        assertEquals("Copyright (c) $1 Kenneth J. Pronovici.", CopyrightHeaderScanner.replaceRange("Copyright (c) 2011 Kenneth J. Pronovici.", "$1"));
+    }
+
+    /** Test update() where the range is the same length, preserving line endings and non-ASCII bytes. */
+    @Test public void testUpdateSameLength() throws Exception {
+        String file = FilesystemUtils.join(WORKING_DIR, "same.java");
+        writeBytes(file, "// caf\u00e9\r\n// Copyright (c) 2011-2015 Kenneth J. Pronovici.\r\nbody\r\n".getBytes("UTF-8"));
+
+        CopyrightHeaderScanner scanner = new CopyrightHeaderScanner();
+        assertTrue(scanner.isStale(file, "2011-2016"));
+        assertTrue(scanner.update(file, "2011-2016"));
+        assertEquals("// caf\u00e9\r\n// Copyright (c) 2011-2016 Kenneth J. Pronovici.\r\nbody\r\n", readUtf8(file));
+        assertFalse(scanner.isStale(file, "2011-2016"));
+        assertFalse(scanner.update(file, "2011-2016"));
+    }
+
+    /** Test update() where the range changes length. */
+    @Test public void testUpdateDifferentLength() throws Exception {
+        String file = FilesystemUtils.join(WORKING_DIR, "different.java");
+        StringBuffer body = new StringBuffer();
+        for (int i = 0; i < 1000; i++) {
+            body.append("line " + i + "\n");
+        }
+        writeBytes(file, ("// Copyright (c) 2012 Kenneth J. Pronovici.\n" + body).getBytes("UTF-8"));
+
+        CopyrightHeaderScanner scanner = new CopyrightHeaderScanner(64);
+        assertTrue(scanner.update(file, "2011-2012,2014"));
+        assertEquals("// Copyright (c) 2011-2012,2014 Kenneth J. Pronovici.\n" + body, readUtf8(file));
+    }
+
+    /** Test that statements beyond the leading region are ignored, including one split at the boundary. */
+    @Test public void testLimit() throws Exception {
+        String file = FilesystemUtils.join(WORKING_DIR, "limit.java");
+        String contents = "0123456789\n// Copyright (c) 2012 Kenneth J. Pronovici.\n";
+        writeBytes(file, contents.getBytes("UTF-8"));
+
+        CopyrightHeaderScanner scanner = new CopyrightHeaderScanner(30);
+        assertFalse(scanner.isStale(file, "2016"));
+        assertFalse(scanner.update(file, "2016"));
+        assertEquals(contents, readUtf8(file));
+
+        scanner = new CopyrightHeaderScanner(contents.length());
+        assertTrue(scanner.isStale(file, "2016"));
+    }
+
+    /** Write bytes to a file. */
+    private static void writeBytes(String file, byte[] bytes) throws Exception {
+        FileOutputStream stream = new FileOutputStream(file);
+        try {
+            stream.write(bytes);
+        } finally {
+            stream.close();
+        }
+    }
+
+    /** Read a file as UTF-8. */
+    private static String readUtf8(String file) throws Exception {
+        RandomAccessFile raf = new RandomAccessFile(new File(file), "r");
+        try {
+            byte[] bytes = new byte[(int) raf.length()];
+            raf.readFully(bytes);
+            return new String(bytes, "UTF-8");
+        } finally {
+            raf.close();
+        }
+    }
+
+}
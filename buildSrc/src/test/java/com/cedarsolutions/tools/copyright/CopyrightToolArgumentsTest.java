@@ -1,81 +1,162 @@
-/* * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
- *
- *              C E D A R
- *          S O L U T I O N S       "Software done right."
- *           S O F T W A R E
- *
- * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
- *
- * Copyright (c) 2013 Kenneth J. Pronovici.
- * All rights reserved.
- *
- * This program is free software; you can redistribute it and/or
- * modify it under the terms of the Apache License, Version 2.0.
- * See LICENSE for more information about the licensing terms.
- *
- * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
- *
- * Author   : Kenneth J. Pronovici <pronovic@ieee.org>
- * Language : Java 6
- * Project  : Common Java Functionality
- *
- * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * */
-package com.cedarsolutions.tools.copyright;
-
-import static org.junit.Assert.assertEquals;
-import static org.junit.Assert.fail;
-
-import org.junit.Test;
-
-/**
- * Unit tests for CopyrightToolArguments.
- * @author Kenneth J. Pronovici <pronovic@ieee.org>
- */
-public class CopyrightToolArgumentsTest {
-
-    /** Test the constructor. */
-    @Test public void testConstructor() {
-        CopyrightToolArguments args;
-
-        try {
-            args = new CopyrightToolArguments(null);
-            fail("Expected RuntimeException");
-        } catch (RuntimeException e) { }
-
-        try {
-            args = new CopyrightToolArguments(new String[] {});
-            fail("Expected RuntimeException");
-        } catch (RuntimeException e) { }
-
-        try {
-            args = new CopyrightToolArguments(new String[] { "one",  });
-            fail("Expected RuntimeException");
-        } catch (RuntimeException e) { }
-
-        try {
-            args = new CopyrightToolArguments(new String[] { "one", "two", });
-            fail("Expected RuntimeException");
-        } catch (RuntimeException e) { }
-
-        try {
-            args = new CopyrightToolArguments(new String[] { "one", "two", "three", });
-            fail("Expected RuntimeException");
-        } catch (RuntimeException e) { }
-
-        args = new CopyrightToolArguments(new String[] { "one", "two", "three", "four" });
-        assertEquals("one", args.getMercurial());
-        assertEquals("two", args.getRepository());
-        assertEquals("three", args.getLicensePattern().pattern());
-        assertEquals(1, args.getPatterns().size());
-        assertEquals("four", args.getPatterns().get(0).pattern());
-
-        args = new CopyrightToolArguments(new String[] { "one", "two", "three", "four", "five", });
-        assertEquals("one", args.getMercurial());
-        assertEquals("two", args.getRepository());
-        assertEquals("three", args.getLicensePattern().pattern());
-        assertEquals(2, args.getPatterns().size());
-        assertEquals("four", args.getPatterns().get(0).pattern());
-        assertEquals("five", args.getPatterns().get(1).pattern());
-    }
-
-}
+/* * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ *
+ *              C E D A R
+ *          S O L U T I O N S       "Software done right."
+ *           S O F T W A R E
+ *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ *
+ * Copyright (c) 2013 Kenneth J. Pronovici.
+ * All rights reserved.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the Apache License, Version 2.0.
+ * See LICENSE for more information about the licensing terms.
+ *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ *
+ * Author   : Kenneth J. Pronovici <pronovic@ieee.org>
+ * Language : Java 6
+ * Project  : Common Java Functionality
+ *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * */
+package com.cedarsolutions.tools.copyright;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for CopyrightToolArguments.
+ * @author Kenneth J. Pronovici <pronovic@ieee.org>
+ */
+public class CopyrightToolArgumentsTest {
+
+    /** Test the constructor. */
+    @Test public void testConstructor() {
+        CopyrightToolArguments args;
+
+        try {
+            args = new CopyrightToolArguments(null);
+            fail("Expected RuntimeException");
+        } catch (RuntimeException e) { }
+
+        try {
+            args = new CopyrightToolArguments(new String[] {});
+            fail("Expected RuntimeException");
+        } catch (RuntimeException e) { }
+
+        try {
+            args = new CopyrightToolArguments(new String[] { "one",  });
+            fail("Expected RuntimeException");
+        } catch (RuntimeException e) { }
+
+        try {
+            args = new CopyrightToolArguments(new String[] { "one", "two", });
+            fail("Expected RuntimeException");
+        } catch (RuntimeException e) { }
+
+        try {
+            args = new CopyrightToolArguments(new String[] { "one", "two", "three", });
+            fail("Expected RuntimeException");
+        } catch (RuntimeException e) { }
+
+        args = new CopyrightToolArguments(new String[] { "one", "two", "three", "four" });
+        assertEquals("one", args.getMercurial());
+        assertEquals("two", args.getRepository());
+        assertEquals("three", args.getLicensePattern().pattern());
+        assertEquals(1, args.getPatterns().size());
+        assertEquals("four", args.getPatterns().get(0).pattern());
+
+        args = new CopyrightToolArguments(new String[] { "one", "two", "three", "four", "five", });
+        assertEquals("one", args.getMercurial());
+        assertEquals("two", args.getRepository());
+        assertEquals("three", args.getLicensePattern().pattern());
+        assertEquals(2, args.getPatterns().size());
+        assertEquals("four", args.getPatterns().get(0).pattern());
+        assertEquals("five", args.getPatterns().get(1).pattern());
+        assertEquals(false, args.isSinglePass());
+
+        try {
+            args = new CopyrightToolArguments(new String[] { "--single-pass", "one", "two", "three", });
+            fail("Expected RuntimeException");
+        } catch (RuntimeException e) { }
+
+        args = new CopyrightToolArguments(new String[] { "--single-pass", "one", "two", "three", "four" });
+        assertEquals("one", args.getMercurial());
+        assertEquals("two", args.getRepository());
+        assertEquals("three", args.getLicensePattern().pattern());
+        assertEquals(1, args.getPatterns().size());
+        assertEquals("four", args.getPatterns().get(0).pattern());
+        assertEquals(true, args.isSinglePass());
+        assertEquals(1, args.getParallelism());
+        assertEquals(false, args.isCheck());
+
+        args = new CopyrightToolArguments(new String[] { "one", "two", "--check", "three", "four" });
+        assertEquals("one", args.getMercurial());
+        assertEquals("two", args.getRepository());
+        assertEquals("three", args.getLicensePattern().pattern());
+        assertEquals(1, args.getPatterns().size());
+        assertEquals("four", args.getPatterns().get(0).pattern());
+        assertEquals(true, args.isCheck());
+
+        args = new CopyrightToolArguments(new String[] { "one", "--parallelism", "8", "two", "three", "four" });
+        assertEquals("one", args.getMercurial());
+        assertEquals("two", args.getRepository());
+        assertEquals("three", args.getLicensePattern().pattern());
+        assertEquals(1, args.getPatterns().size());
+        assertEquals("four", args.getPatterns().get(0).pattern());
+        assertEquals(false, args.isSinglePass());
+        assertEquals(8, args.getParallelism());
+        assertEquals(null, args.getCacheFile());
+        assertEquals("hg", args.getVcs());
+
+        args = new CopyrightToolArguments(new String[] { "one", "two", "--cache", "five", "three", "four" });
+        assertEquals("one", args.getMercurial());
+        assertEquals("two", args.getRepository());
+        assertEquals("three", args.getLicensePattern().pattern());
+        assertEquals(1, args.getPatterns().size());
+        assertEquals("four", args.getPatterns().get(0).pattern());
+        assertEquals("five", args.getCacheFile());
+
+        args = new CopyrightToolArguments(new String[] { "--vcs", "git", "one", "two", "three", "four" });
+        assertEquals("git", args.getVcs());
+        assertEquals("one", args.getMercurial());
+        assertEquals("two", args.getRepository());
+        assertEquals("three", args.getLicensePattern().pattern());
+        assertEquals(1, args.getPatterns().size());
+        assertEquals("four", args.getPatterns().get(0).pattern());
+
+        try {
+            args = new CopyrightToolArguments(new String[] { "--vcs", "svn", "one", "two", "three", "four" });
+            fail("Expected RuntimeException");
+        } catch (RuntimeException e) { }
+
+        try {
+            args = new CopyrightToolArguments(new String[] { "--vcs", "git", "--cache", "five", "one", "two", "three", "four" });
+            fail("Expected RuntimeException");
+        } catch (RuntimeException e) { }
+
+        try {
+            args = new CopyrightToolArguments(new String[] { "one", "two", "three", "four", "--cache", });
+            fail("Expected RuntimeException");
+        } catch (RuntimeException e) { }
+
+        try {
+            args = new CopyrightToolArguments(new String[] { "--parallelism", "0", "one", "two", "three", "four" });
+            fail("Expected RuntimeException");
+        } catch (RuntimeException e) { }
+
+        try {
+            args = new CopyrightToolArguments(new String[] { "--parallelism", "bogus", "one", "two", "three", "four" });
+            fail("Expected RuntimeException");
+        } catch (RuntimeException e) { }
+
+        try {
+            args = new CopyrightToolArguments(new String[] { "one", "two", "three", "four", "--parallelism", });
+            fail("Expected RuntimeException");
+        } catch (RuntimeException e) { }
+    }
+
+}
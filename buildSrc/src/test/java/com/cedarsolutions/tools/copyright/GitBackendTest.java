@@ -0,0 +1,105 @@
+/* * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ *
+ *              C E D A R
+ *          S O L U T I O N S       "Software done right."
+ *           S O F T W A R E
+ *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ *
+ * Copyright (c) 2026 Kenneth J. Pronovici.
+ * All rights reserved.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the Apache License, Version 2.0.
+ * See LICENSE for more information about the licensing terms.
+ *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ *
+ * Author   : Kenneth J. Pronovici <pronovic@ieee.org>
+ * Language : Java 6
+ * Project  : Common Java Functionality
+ *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * */
+package com.cedarsolutions.tools.copyright;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.FileInputStream;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+
+import com.cedarsolutions.util.FilesystemUtils;
+
+/**
+ * Unit tests for GitBackend.
+ * @author Kenneth J. Pronovici <pronovic@ieee.org>
+ */
+public class GitBackendTest {
+
+    /** Directory that this test lives in. */
+    private static final String PACKAGE_DIR = "src/test/java/com/cedarsolutions/tools/copyright";
+
+    /** Test addChangesets() against a history that includes a copy and a rename. */
+    @Test public void testAddChangesets() throws Exception {
+        List<String> trackedFiles = new ArrayList<String>();
+        trackedFiles.add("file.java");
+        trackedFiles.add("copy.java");
+        trackedFiles.add("renamed.java");
+        trackedFiles.add("unchanged.java");
+
+        HistoryIndex index = new HistoryIndex(trackedFiles);
+
+        InputStream stream = new FileInputStream(FilesystemUtils.join(PACKAGE_DIR, "gitlog.txt"));
+        try {
+            GitBackend.addChangesets(index, stream);
+        } finally {
+            stream.close();
+        }
+
+        Map<String, YearSet> map = index.getFileYearsMap();
+        assertEquals(4, map.size());
+        assertEquals(createList(2012, 2014), map.get("file.java").toList());
+        assertEquals(createList(2012, 2014, 2016), map.get("copy.java").toList());  // a copy follows the history of its source
+        assertEquals(createList(2011, 2013, 2015), map.get("renamed.java").toList());
+        assertEquals(createList(), map.get("unchanged.java").toList());
+    }
+
+    /** Test readNulTerminated(). */
+    @Test public void testReadNulTerminated() throws Exception {
+        byte[] bytes = "a.java\0sub/b.java\0caf\u00e9.java\0".getBytes("UTF-8");
+        List<String> result = GitBackend.readNulTerminated(new ByteArrayInputStream(bytes));
+        assertEquals(3, result.size());
+        assertEquals("a.java", result.get(0));
+        assertEquals("sub/b.java", result.get(1));
+        assertEquals("caf\u00e9.java", result.get(2));
+
+        result = GitBackend.readNulTerminated(new ByteArrayInputStream(new byte[0]));
+        assertEquals(0, result.size());
+    }
+
+    /** Test unquote(). */
+    @Test public void testUnquote() throws Exception {
+        assertEquals("a.java", GitBackend.unquote("a.java"));
+        assertEquals("sub/a b.java", GitBackend.unquote("sub/a b.java"));
+        assertEquals("a\"b.java", GitBackend.unquote("\"a\\\"b.java\""));
+        assertEquals("a\tb.java", GitBackend.unquote("\"a\\tb.java\""));
+        assertEquals("caf\u00e9.java", GitBackend.unquote("\"caf\\303\\251.java\""));
+    }
+
+    /** Create a list based on an array of items. */
+    private List<Integer> createList(Integer ... items) {
+        List<Integer> list = new ArrayList<Integer>();
+
+        for (Integer item : items) {
+            list.add(item);
+        }
+
+        return list;
+    }
+
+}
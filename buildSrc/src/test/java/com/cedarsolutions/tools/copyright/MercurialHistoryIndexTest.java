@@ -0,0 +1,82 @@
+/* * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ *
+ *              C E D A R
+ *          S O L U T I O N S       "Software done right."
+ *           S O F T W A R E
+ *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ *
+ * Copyright (c) 2026 Kenneth J. Pronovici.
+ * All rights reserved.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the Apache License, Version 2.0.
+ * See LICENSE for more information about the licensing terms.
+ *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ *
+ * Author   : Kenneth J. Pronovici <pronovic@ieee.org>
+ * Language : Java 6
+ * Project  : Common Java Functionality
+ *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * */
+package com.cedarsolutions.tools.copyright;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.FileInputStream;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+
+import com.cedarsolutions.util.FilesystemUtils;
+
+/**
+ * Unit tests for MercurialHistoryIndex.
+ * @author Kenneth J. Pronovici <pronovic@ieee.org>
+ */
+public class MercurialHistoryIndexTest {
+
+    /** Directory that this test lives in. */
+    private static final String PACKAGE_DIR = "src/test/java/com/cedarsolutions/tools/copyright";
+
+    /** Test the index against a history that includes a copy and a rename. */
+    @Test public void testIndex() throws Exception {
+        List<String> trackedFiles = new ArrayList<String>();
+        trackedFiles.add("file.java");
+        trackedFiles.add("copy.java");
+        trackedFiles.add("renamed.java");
+        trackedFiles.add("unchanged.java");
+
+        MercurialHistoryIndex index = new MercurialHistoryIndex(trackedFiles);
+
+        InputStream stream = new FileInputStream(FilesystemUtils.join(PACKAGE_DIR, "history.xml"));
+        try {
+            CopyrightTool.addLogentries(index, stream);
+        } finally {
+            stream.close();
+        }
+
+        Map<String, YearSet> map = index.getFileYearsMap();
+        assertEquals(4, map.size());
+        assertEquals(createList(2012, 2014), map.get("file.java").toList());
+        assertEquals(createList(2012, 2014, 2016), map.get("copy.java").toList());  // a copy follows the history of its source
+        assertEquals(createList(2011, 2013, 2015), map.get("renamed.java").toList());
+        assertEquals(createList(), map.get("unchanged.java").toList());
+    }
+
+    /** Create a list based on an array of items. */
+    private List<Integer> createList(Integer ... items) {
+        List<Integer> list = new ArrayList<Integer>();
+
+        for (Integer item : items) {
+            list.add(item);
+        }
+
+        return list;
+    }
+
+}
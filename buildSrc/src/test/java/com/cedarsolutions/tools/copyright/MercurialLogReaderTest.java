@@ -0,0 +1,95 @@
+/* * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ *
+ *              C E D A R
+ *          S O L U T I O N S       "Software done right."
+ *           S O F T W A R E
+ *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ *
+ * Copyright (c) 2026 Kenneth J. Pronovici.
+ * All rights reserved.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the Apache License, Version 2.0.
+ * See LICENSE for more information about the licensing terms.
+ *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ *
+ * Author   : Kenneth J. Pronovici <pronovic@ieee.org>
+ * Language : Java 6
+ * Project  : Common Java Functionality
+ *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * */
+package com.cedarsolutions.tools.copyright;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.FileInputStream;
+import java.io.InputStream;
+
+import org.junit.Test;
+
+import com.cedarsolutions.util.FilesystemUtils;
+import com.cedarsolutions.util.StringUtils;
+import com.cedarsolutions.xml.bindings.hg.log.Logentry;
+
+/**
+ * Unit tests for MercurialLogReader.
+ * @author Kenneth J. Pronovici <pronovic@ieee.org>
+ */
+public class MercurialLogReaderTest {
+
+    /** Directory that this test lives in. */
+    private static final String PACKAGE_DIR = "src/test/java/com/cedarsolutions/tools/copyright";
+
+    /** Test next() for a log with several entries. */
+    @Test public void testNext() throws Exception {
+        InputStream stream = new FileInputStream(FilesystemUtils.join(PACKAGE_DIR, "history.xml"));
+        try {
+            MercurialLogReader reader = new MercurialLogReader(stream);
+
+            Logentry logentry = reader.next();
+            assertEquals("6", logentry.getRevision().toString());
+            assertEquals("8f2b5e0c9d7a4c1e3b6f0a2d5c8e1b4f7a0d3c6e", logentry.getNode());
+            assertEquals("2016-02-11T09:14:51-06:00", logentry.getDate());
+            assertEquals(1, logentry.getPaths().getPath().size());
+            assertEquals("copy.java", logentry.getPaths().getPath().get(0).getContent());
+            assertEquals(1, logentry.getCopies().getCopy().size());
+            assertEquals("file.java", logentry.getCopies().getCopy().get(0).getSource());
+            assertEquals("copy.java", logentry.getCopies().getCopy().get(0).getValue());
+
+            logentry = reader.next();
+            assertEquals("5", logentry.getRevision().toString());
+            assertEquals(2, logentry.getPaths().getPath().size());
+            assertEquals("A", logentry.getPaths().getPath().get(0).getAction());
+            assertEquals("renamed.java", logentry.getPaths().getPath().get(0).getContent());
+            assertEquals("R", logentry.getPaths().getPath().get(1).getAction());
+            assertEquals("original.java", logentry.getPaths().getPath().get(1).getContent());
+
+            logentry = reader.next();
+            assertEquals("4", logentry.getRevision().toString());
+            assertNull(logentry.getCopies());
+
+            assertEquals("3", reader.next().getRevision().toString());
+            assertEquals("2", reader.next().getRevision().toString());
+            assertEquals("1", reader.next().getRevision().toString());
+            assertNull(reader.next());
+            assertNull(reader.next());
+
+            reader.close();
+        } finally {
+            stream.close();
+        }
+    }
+
+    /** Test next() for a log with no entries. */
+    @Test public void testNextEmpty() {
+        String xml = "<?xml version=\"1.0\"?>\n<log>\n</log>\n";
+        MercurialLogReader reader = new MercurialLogReader(new ByteArrayInputStream(StringUtils.getBytes(xml)));
+        assertNull(reader.next());
+        reader.close();
+    }
+
+}
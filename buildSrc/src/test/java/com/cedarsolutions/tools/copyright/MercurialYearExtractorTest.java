@@ -0,0 +1,96 @@
+/* * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ *
+ *              C E D A R
+ *          S O L U T I O N S       "Software done right."
+ *           S O F T W A R E
+ *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ *
+ * Copyright (c) 2026 Kenneth J. Pronovici.
+ * All rights reserved.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the Apache License, Version 2.0.
+ * See LICENSE for more information about the licensing terms.
+ *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ *
+ * Author   : Kenneth J. Pronovici <pronovic@ieee.org>
+ * Language : Java 6
+ * Project  : Common Java Functionality
+ *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * */
+package com.cedarsolutions.tools.copyright;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.FileInputStream;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.cedarsolutions.util.FilesystemUtils;
+import com.cedarsolutions.util.StringUtils;
+
+/**
+ * Unit tests for MercurialYearExtractor.
+ * @author Kenneth J. Pronovici <pronovic@ieee.org>
+ */
+public class MercurialYearExtractorTest {
+
+    /** Directory that this test lives in. */
+    private static final String PACKAGE_DIR = "src/test/java/com/cedarsolutions/tools/copyright";
+
+    /** Test extractYears() for a log with several entries. */
+    @Test public void testExtractYears() throws Exception {
+        InputStream stream = new FileInputStream(FilesystemUtils.join(PACKAGE_DIR, "history.xml"));
+        try {
+            YearSet years = MercurialYearExtractor.extractYears(stream);
+            assertEquals(createList(2011, 2012, 2013, 2014, 2015, 2016), years.toList());
+        } finally {
+            stream.close();
+        }
+    }
+
+    /** Test extractYears() for duplicate and invalid dates. */
+    @Test public void testExtractYearsDuplicates() {
+        String xml = "<?xml version=\"1.0\"?>\n" +
+                     "<log>\n" +
+                     "<logentry revision=\"2\" node=\"c\"><date>2013-01-01T00:00:00-06:00</date></logentry>\n" +
+                     "<logentry revision=\"1\" node=\"b\"><date>bogus</date></logentry>\n" +
+                     "<logentry revision=\"0\" node=\"a\"><date>2013-12-31T00:00:00-06:00</date></logentry>\n" +
+                     "</log>\n";
+        YearSet years = MercurialYearExtractor.extractYears(new ByteArrayInputStream(StringUtils.getBytes(xml)));
+        assertEquals(createList(2013), years.toList());
+    }
+
+    /** Test extractYears() for empty output. */
+    @Test public void testExtractYearsEmpty() {
+        YearSet years = MercurialYearExtractor.extractYears(new ByteArrayInputStream(new byte[0]));
+        assertEquals(createList(), years.toList());
+    }
+
+    /** Test extractYears() for invalid output. */
+    @Test public void testExtractYearsInvalid() {
+        try {
+            MercurialYearExtractor.extractYears(new ByteArrayInputStream(StringUtils.getBytes("abort: no repository found")));
+            fail("Expected RuntimeException");
+        } catch (RuntimeException e) { }
+    }
+
+    /** Create a list based on an array of items. */
+    private List<Integer> createList(Integer ... items) {
+        List<Integer> list = new ArrayList<Integer>();
+
+        for (Integer item : items) {
+            list.add(item);
+        }
+
+        return list;
+    }
+
+}
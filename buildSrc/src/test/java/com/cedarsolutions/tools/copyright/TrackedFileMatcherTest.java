@@ -0,0 +1,163 @@
+/* * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ *
+ *              C E D A R
+ *          S O L U T I O N S       "Software done right."
+ *           S O F T W A R E
+ *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ *
+ * Copyright (c) 2026 Kenneth J. Pronovici.
+ * All rights reserved.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the Apache License, Version 2.0.
+ * See LICENSE for more information about the licensing terms.
+ *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ *
+ * Author   : Kenneth J. Pronovici <pronovic@ieee.org>
+ * Language : Java 6
+ * Project  : Common Java Functionality
+ *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * */
+package com.cedarsolutions.tools.copyright;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import org.junit.Test;
+
+import com.cedarsolutions.util.StringUtils;
+
+/**
+ * Unit tests for TrackedFileMatcher.
+ * @author Kenneth J. Pronovici <pronovic@ieee.org>
+ */
+public class TrackedFileMatcherTest {
+
+    /** Test getLiteralPrefix(). */
+    @Test public void testGetLiteralPrefix() {
+        assertEquals("", TrackedFileMatcher.getLiteralPrefix("^.*\\.java$"));
+        assertEquals("src/main/", TrackedFileMatcher.getLiteralPrefix("^src/main/.*$"));
+        assertEquals("src/main/", TrackedFileMatcher.getLiteralPrefix("src/main/.*"));
+        assertEquals("a.b", TrackedFileMatcher.getLiteralPrefix("^a\\.b[0-9]"));
+        assertEquals("a", TrackedFileMatcher.getLiteralPrefix("^ab*c"));
+        assertEquals("a", TrackedFileMatcher.getLiteralPrefix("^ab{2}c"));
+        assertEquals("", TrackedFileMatcher.getLiteralPrefix("\\d+"));
+        assertEquals("a\\", TrackedFileMatcher.getLiteralPrefix("a\\\\\\d"));
+    }
+
+    /** Test getLiteralSuffix(). */
+    @Test public void testGetLiteralSuffix() {
+        assertEquals(".java", TrackedFileMatcher.getLiteralSuffix("^.*\\.java$"));
+        assertEquals("LICENSE", TrackedFileMatcher.getLiteralSuffix("^.*LICENSE$"));
+        assertEquals(".rb", TrackedFileMatcher.getLiteralSuffix(".*\\.rb"));
+        assertEquals("", TrackedFileMatcher.getLiteralSuffix("^src/.*"));
+        assertEquals("", TrackedFileMatcher.getLiteralSuffix("^.*ab?$"));
+        assertEquals("c", TrackedFileMatcher.getLiteralSuffix("^ab{2}c$"));
+        assertEquals("$", TrackedFileMatcher.getLiteralSuffix("^.*\\$"));
+        assertEquals("", TrackedFileMatcher.getLiteralSuffix("^.*\\d"));
+        assertEquals("\\d", TrackedFileMatcher.getLiteralSuffix("^.*\\\\d"));
+        assertEquals("java", TrackedFileMatcher.getLiteralSuffix("^.*\\x2ejava$"));
+        assertEquals("java", TrackedFileMatcher.getLiteralSuffix("^.*\\x{2e}java$"));
+        assertEquals("", TrackedFileMatcher.getLiteralSuffix("^.*\\u0041$"));
+        assertEquals("", TrackedFileMatcher.getLiteralSuffix("^src/.*\\0101$"));
+        assertEquals("", TrackedFileMatcher.getLiteralSuffix(".*\\cA"));
+        assertEquals("", TrackedFileMatcher.getLiteralSuffix("^.*\\p{Alpha}$"));
+        assertEquals("", TrackedFileMatcher.getLiteralSuffix("^.*\\pL$"));
+        assertEquals("", TrackedFileMatcher.getLiteralSuffix("^.*\\Q.java\\E$"));
+        assertEquals(".java", TrackedFileMatcher.getLiteralSuffix("^\\w+\\.java$"));
+    }
+
+    /** Test that escapes made of several characters never cause a matching path to be rejected. */
+    @Test public void testMultiCharacterEscapes() {
+        assertSameAsRegex("^.*\\x2ejava$", "src/Foo.java", "src/Foo.jav", "src/Foo2ejava");
+        assertSameAsRegex("^.*\\x{2e}java$", "src/Foo.java", "src/Foo.txt");
+        assertSameAsRegex("^.*\\u0041$", "src/A", "src/0041", "src/B");
+        assertSameAsRegex("^src/.*\\0101$", "src/A", "src/101", "src/B");
+        assertSameAsRegex(".*\\cA", "src/\u0001", "src/A", "src/cA");
+        assertSameAsRegex("^.*\\p{Upper}$", "src/A", "src/a", "src/Upper}");
+        assertSameAsRegex("^.*\\pLx$", "src/ax", "src/Lx", "src/1x");
+        assertSameAsRegex("^(a)\\1\\.java$", "aa.java", "a1.java");
+    }
+
+    /** Test that literals are not extracted from patterns that aren't simple. */
+    @Test public void testNotSimple() {
+        TrackedFileMatcher matcher = new TrackedFileMatcher(createPatterns("^.*\\.java$", "^a.*|^b.*$", "(?i)^.*\\.TXT$"));
+        assertEquals(".java", matcher.getSuffixes()[0]);
+        assertEquals("", matcher.getPrefixes()[1]);
+        assertEquals("", matcher.getSuffixes()[1]);
+        assertEquals("", matcher.getSuffixes()[2]);
+        assertTrue(matcher.matches("readme.txt"));
+        assertTrue(matcher.matches("b.txt"));
+        assertFalse(matcher.matches("c.txx"));
+
+        matcher = new TrackedFileMatcher(Arrays.asList(Pattern.compile("^.*\\.java$"), Pattern.compile("^.*\\.TXT$", Pattern.CASE_INSENSITIVE)));
+        assertFalse(matcher.isCombined());
+        assertTrue(matcher.matches("readme.txt"));
+        assertTrue(matcher.matches("a.java"));
+        assertFalse(matcher.matches("a.rb"));
+
+        matcher = new TrackedFileMatcher(createPatterns("^(a)\\1\\.java$"));
+        assertFalse(matcher.isCombined());
+        assertTrue(matcher.matches("aa.java"));
+    }
+
+    /** Test that the matcher gives the same answer as checking each pattern individually. */
+    @Test public void testEquivalence() {
+        List<Pattern> patterns = createPatterns("^.*\\.java$", "^.*\\.rb$", "^.*\\.feature$", "^.*LICENSE$",
+                                                "^src/main/resources/.*\\.xml$", "^doc/[a-z]+\\.txt$");
+        List<String> paths = Arrays.asList("a.java", "sub/b.java", "b.jav", "java", ".java", "x.rb", "x.rbx",
+                                           "LICENSE", "sub/LICENSE", "LICENSE.txt", "src/main/resources/a.xml",
+                                           "src/main/resources/a.xsd", "src/test/resources/a.xml", "doc/readme.txt",
+                                           "doc/Readme.txt", "doc/sub/readme.txt", "file.feature", "", "a.java/");
+
+        TrackedFileMatcher matcher = new TrackedFileMatcher(patterns);
+        assertTrue(matcher.isCombined());
+        for (String path : paths) {
+            boolean expected = false;
+            for (Pattern pattern : patterns) {
+                expected |= StringUtils.matches(path, pattern);
+            }
+
+            assertEquals(path, expected, matcher.matches(path));
+        }
+
+        assertFalse(matcher.matches(null));
+        assertFalse(new TrackedFileMatcher(new ArrayList<Pattern>()).matches("a.java"));
+    }
+
+    /** Test filter(). */
+    @Test public void testFilter() {
+        TrackedFileMatcher matcher = new TrackedFileMatcher(createPatterns("^.*\\.java$", "^.*LICENSE$"));
+        List<String> result = matcher.filter(Arrays.asList("b.java", "README", "LICENSE", "a.java"));
+        assertEquals(Arrays.asList("b.java", "LICENSE", "a.java"), result);
+    }
+
+    /** Create a list of patterns. */
+    private static List<Pattern> createPatterns(String ... regexes) {
+        List<Pattern> patterns = new ArrayList<Pattern>();
+
+        for (String regex : regexes) {
+            patterns.add(Pattern.compile(regex));
+        }
+
+        return patterns;
+    }
+
+    /** Check that a single-pattern matcher agrees with the plain regular expression for some paths. */
+    private static void assertSameAsRegex(String regex, String ... paths) {
+        Pattern pattern = Pattern.compile(regex);
+        TrackedFileMatcher matcher = new TrackedFileMatcher(Arrays.asList(pattern));
+        for (String path : paths) {
+            assertEquals(regex + " vs " + path, StringUtils.matches(path, pattern), matcher.matches(path));
+        }
+    }
+
+}
@@ -0,0 +1,129 @@
+/* * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ *
+ *              C E D A R
+ *          S O L U T I O N S       "Software done right."
+ *           S O F T W A R E
+ *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ *
+ * Copyright (c) 2026 Kenneth J. Pronovici.
+ * All rights reserved.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the Apache License, Version 2.0.
+ * See LICENSE for more information about the licensing terms.
+ *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ *
+ * Author   : Kenneth J. Pronovici <pronovic@ieee.org>
+ * Language : Java 6
+ * Project  : Common Java Functionality
+ *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * */
+package com.cedarsolutions.tools.copyright;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for YearSet.
+ * @author Kenneth J. Pronovici <pronovic@ieee.org>
+ */
+public class YearSetTest {
+
+    /** Test add(), contains(), size() and isEmpty(). */
+    @Test public void testAdd() {
+        YearSet years = new YearSet();
+        assertTrue(years.isEmpty());
+        assertEquals(0, years.size());
+        assertFalse(years.contains(2012));
+
+        assertTrue(years.add(2012));
+        assertFalse(years.add(2012));
+        assertTrue(years.add(1900));
+        assertTrue(years.add(2100));  // forces the word array to grow
+        assertFalse(years.isEmpty());
+        assertEquals(3, years.size());
+        assertTrue(years.contains(1900));
+        assertTrue(years.contains(2012));
+        assertTrue(years.contains(2100));
+        assertFalse(years.contains(2011));
+        assertFalse(years.contains(1899));
+        assertFalse(years.contains(3000));
+
+        try {
+            years.add(1899);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException e) { }
+    }
+
+    /** Test the constructors and of(). */
+    @Test public void testConstructors() {
+        assertEquals(new YearSet(), new YearSet(null));
+
+        List<Integer> list = new ArrayList<Integer>();
+        list.add(2014);
+        list.add(null);
+        list.add(2012);
+        list.add(2014);
+        assertEquals(YearSet.of(2012, 2014), new YearSet(list));
+    }
+
+    /** Test addAll(). */
+    @Test public void testAddAll() {
+        YearSet years = YearSet.of(2011, 2013);
+        assertEquals(years, years.addAll(null));
+        assertEquals(years, years.addAll(new YearSet()));
+        assertEquals(YearSet.of(2011, 2012, 2013, 2100), years.addAll(YearSet.of(2012, 2100)));
+        assertEquals(YearSet.of(2011, 2012, 2013, 2100, 2005), new YearSet().addAll(YearSet.of(2005)).addAll(years));
+    }
+
+    /** Test toList() and iterator(). */
+    @Test public void testToList() {
+        assertEquals(new ArrayList<Integer>(), new YearSet().toList());
+        assertEquals(Arrays.asList(1900, 1963, 1964, 2012, 2100), YearSet.of(2100, 2012, 1964, 1963, 1900).toList());
+
+        Iterator<Integer> iterator = YearSet.of(2012).iterator();
+        assertTrue(iterator.hasNext());
+        assertEquals(Integer.valueOf(2012), iterator.next());
+        assertFalse(iterator.hasNext());
+    }
+
+    /** Test toRange(). */
+    @Test public void testToRange() {
+        assertEquals("", new YearSet().toRange());
+        assertEquals("2011", YearSet.of(2011).toRange());
+        assertEquals("2011-2012", YearSet.of(2011, 2012).toRange());
+        assertEquals("2011-2012,2014", YearSet.of(2011, 2012, 2014).toRange());
+        assertEquals("2011-2012,2014,2016-2018", YearSet.of(2018, 2012, 2014, 2011, 2017, 2016).toRange());
+        assertEquals("1962-1965", YearSet.of(1962, 1963, 1964, 1965).toRange());  // crosses a word boundary
+    }
+
+    /** Test equals() and hashCode(). */
+    @Test public void testEquals() {
+        YearSet left = YearSet.of(2012, 2014);
+        YearSet right = YearSet.of(2014, 2012);
+        assertEquals(left, right);
+        assertEquals(left.hashCode(), right.hashCode());
+        assertFalse(left.equals(YearSet.of(2012)));
+        assertFalse(left.equals(null));
+        assertFalse(left.equals("2012,2014"));
+
+        YearSet grown = YearSet.of(2100, 2012, 2014);
+        YearSet other = YearSet.of(2012, 2014);
+        other.add(2100);
+        assertEquals(grown, other);
+        assertEquals(grown.hashCode(), other.hashCode());
+        assertEquals("[2012, 2014]", left.toString());
+    }
+
+}
@@ -0,0 +1,176 @@
+/* * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ *
+ *              C E D A R
+ *          S O L U T I O N S       "Software done right."
+ *           S O F T W A R E
+ *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ *
+ * Copyright (c) 2026 Kenneth J. Pronovici.
+ * All rights reserved.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the Apache License, Version 2.0.
+ * See LICENSE for more information about the licensing terms.
+ *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ *
+ * Author   : Kenneth J. Pronovici <pronovic@ieee.org>
+ * Language : Java 6
+ * Project  : Common Java Functionality
+ *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * */
+package com.cedarsolutions.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.Arrays;
+import java.util.Set;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.cedarsolutions.util.AtomicFileWriter.LineEnding;
+
+/**
+ * Unit tests for AtomicFileWriter.
+ * @author Kenneth J. Pronovici <pronovic@ieee.org>
+ */
+public class AtomicFileWriterTest {
+
+    /** UTF-8 character set. */
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    /** Setup before all tests. */
+    @BeforeClass public static void prepare() {
+        if (FilesystemUtils.dirExists("target/working")) {
+            FilesystemUtils.removeDir("target/working", true);
+        }
+
+        FilesystemUtils.createDir("target/working");
+    }
+
+    /** Cleanup after all tests. */
+    @AfterClass public static void cleanup() {
+        if (FilesystemUtils.dirExists("target")) {
+            FilesystemUtils.removeDir("target", true);
+        }
+    }
+
+    /** Test writing with explicit line endings and character set. */
+    @Test public void testWrite() {
+        String path = "target/working/write.txt";
+
+        assertTrue(new AtomicFileWriter(path).charset(UTF_8).lineEnding(LineEnding.LF).writeLine("caf\u00e9").writeLine(null).commit());
+        assertEquals("caf\u00e9\n\n", FilesystemUtils.getFileContentsAsString(path, UTF_8));
+
+        assertTrue(new AtomicFileWriter(path).lineEnding(LineEnding.CRLF).writeLines(Arrays.asList("a", "b")).write("c").commit());
+        assertEquals("a\r\nb\r\nc", FilesystemUtils.getFileContentsAsString(path));
+
+        byte[] bytes = new byte[] { 'x', 'y', 'z', };
+        assertTrue(new AtomicFileWriter(path).bufferSize(1).write("w").write(bytes, 1, 2).commit());
+        assertEquals("wyz", FilesystemUtils.getFileContentsAsString(path));
+
+        assertEquals(Arrays.asList("write.txt"), Arrays.asList(new File("target/working").list()));  // no temporary files left behind
+        FilesystemUtils.removeFile(path);
+    }
+
+    /** Test that nothing is changed unless the writer is committed. */
+    @Test public void testAbort() {
+        String path = "target/working/abort.txt";
+        FilesystemUtils.writeFileContents(path, "original");
+
+        AtomicFileWriter writer = new AtomicFileWriter(path);
+        writer.write("replacement");
+        writer.close();
+        assertEquals("original", FilesystemUtils.getFileContentsAsString(path));
+        assertEquals(1, new File("target/working").list().length);
+
+        try {
+            writer.write("more");
+            fail("Expected RuntimeException");
+        } catch (RuntimeException e) { }
+
+        writer = new AtomicFileWriter(path);
+        try {
+            writer.write("x").charset(UTF_8);
+            fail("Expected IllegalStateException");
+        } catch (IllegalStateException e) {
+        } finally {
+            writer.close();
+        }
+
+        try {
+            new AtomicFileWriter("target/working/missing/file.txt").write("x").commit();
+            fail("Expected RuntimeException");
+        } catch (RuntimeException e) { }
+
+        FilesystemUtils.removeFile(path);
+    }
+
+    /** Test only-if-changed mode. */
+    @Test public void testOnlyIfChanged() {
+        String path = "target/working/changed.txt";
+        StringBuffer buffer = new StringBuffer();
+        for (int i = 0; i < 5000; i++) {
+            buffer.append("line ").append(i).append("\n");
+        }
+        String contents = buffer.toString();
+
+        assertTrue(new AtomicFileWriter(path).onlyIfChanged(true).write(contents).commit());
+        File file = new File(path);
+        file.setLastModified(file.lastModified() - 60000);
+        long modified = file.lastModified();
+
+        // identical contents leave the file alone
+        assertFalse(new AtomicFileWriter(path).onlyIfChanged(true).bufferSize(100).write(contents).commit());
+        assertEquals(modified, file.lastModified());
+
+        // differences at the end, in the middle, and in length are all written
+        String[] variants = new String[] {
+            contents.substring(0, contents.length() - 1) + "!",
+            contents.replace("line 2500\n", "line 2500 changed\n"),
+            contents.substring(0, 10000),
+            contents + "extra\n",
+            "",
+        };
+
+        for (String variant : variants) {
+            assertTrue(new AtomicFileWriter(path).onlyIfChanged(true).bufferSize(100).write(variant).commit());
+            assertEquals(variant, FilesystemUtils.getFileContentsAsString(path));
+        }
+
+        assertEquals(1, new File("target/working").list().length);
+        FilesystemUtils.removeFile(path);
+    }
+
+    /** Test that permissions are preserved when a file is replaced. */
+    @Test public void testPermissions() throws Exception {
+        String path = "target/working/permissions.txt";
+        FilesystemUtils.writeFileContents(path, "original");
+
+        Set<PosixFilePermission> permissions;
+        try {
+            permissions = PosixFilePermissions.fromString("rwxr-x---");
+            Files.setPosixFilePermissions(new File(path).toPath(), permissions);
+        } catch (UnsupportedOperationException e) {
+            FilesystemUtils.removeFile(path);
+            return;  // not a POSIX filesystem
+        }
+
+        new AtomicFileWriter(path).write("replacement").commit();
+        assertEquals("replacement", FilesystemUtils.getFileContentsAsString(path));
+        assertEquals(permissions, Files.getPosixFilePermissions(new File(path).toPath()));
+        FilesystemUtils.removeFile(path);
+    }
+
+}
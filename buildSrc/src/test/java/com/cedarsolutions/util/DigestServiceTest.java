@@ -0,0 +1,159 @@
+/* * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ *
+ *              C E D A R
+ *          S O L U T I O N S       "Software done right."
+ *           S O F T W A R E
+ *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ *
+ * Copyright (c) 2026 Kenneth J. Pronovici.
+ * All rights reserved.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the Apache License, Version 2.0.
+ * See LICENSE for more information about the licensing terms.
+ *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ *
+ * Author   : Kenneth J. Pronovici <pronovic@ieee.org>
+ * Language : Java 6
+ * Project  : Common Java Functionality
+ *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * */
+package com.cedarsolutions.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.util.SortedMap;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * Unit tests for DigestService.
+ * @author Kenneth J. Pronovici <pronovic@ieee.org>
+ */
+public class DigestServiceTest {
+
+    /** SHA-256 digest of "hello". */
+    private static final String HELLO = "2cf24dba5fb0a30e26e83b2ac5b9e29e1b161e5c1fa7425e73043362938b9824";
+
+    /** Setup before all tests. */
+    @BeforeClass public static void prepare() {
+        if (FilesystemUtils.dirExists("target/working")) {
+            FilesystemUtils.removeDir("target/working", true);
+        }
+
+        FilesystemUtils.createDir("target/working");
+    }
+
+    /** Cleanup after all tests. */
+    @AfterClass public static void cleanup() {
+        if (FilesystemUtils.dirExists("target")) {
+            FilesystemUtils.removeDir("target", true);
+        }
+    }
+
+    /** Test file digests and the persistent cache. */
+    @Test public void testFileDigest() {
+        String path = "target/working/digest/file.txt";
+        String cache = "target/working/digest/cache/digests.txt";
+        FilesystemUtils.createDir("target/working/digest");
+        writeOld(path, "hello");
+
+        DigestService service = new DigestService(cache);
+        assertEquals(HELLO, service.getFileDigest(path));
+
+        // same size and modification time, so the cached digest is used without reading the file
+        long modified = new File(path).lastModified();
+        writeOld(path, "jello");
+        new File(path).setLastModified(modified);
+        assertEquals(HELLO, service.getFileDigest(path));
+
+        // the cache is persisted and reloaded
+        service.save();
+        assertTrue(FilesystemUtils.fileExists(cache));
+        assertEquals(HELLO, new DigestService(cache).getFileDigest(path));
+
+        // a changed modification time means the file is re-read
+        new File(path).setLastModified(modified - 10000);
+        assertFalse(HELLO.equals(new DigestService(cache).getFileDigest(path)));
+
+        // a corrupt cache is ignored
+        FilesystemUtils.writeFileContents(cache, "garbage\tgarbage");
+        assertFalse(HELLO.equals(new DigestService(cache).getFileDigest(path)));
+
+        try {
+            service.getFileDigest("target/working/digest/missing");
+            fail("Expected RuntimeException");
+        } catch (RuntimeException e) { }
+
+        FilesystemUtils.removeDir("target/working/digest", true);
+    }
+
+    /** Test that recently modified files are not cached. */
+    @Test public void testRacyFile() {
+        String path = "target/working/racy.txt";
+        FilesystemUtils.writeFileContents(path, "hello");
+
+        DigestService service = new DigestService();
+        assertEquals(HELLO, service.getFileDigest(path));
+
+        long modified = new File(path).lastModified();
+        FilesystemUtils.writeFileContents(path, "jello");
+        new File(path).setLastModified(modified);
+        assertFalse(HELLO.equals(service.getFileDigest(path)));
+
+        FilesystemUtils.removeFile(path);
+    }
+
+    /** Test tree digests and fingerprints. */
+    @Test public void testTree() {
+        String root = "target/working/tree";
+        FilesystemUtils.createDir(root + "/subdir");
+        FilesystemUtils.createDir(root + "/empty");
+        writeOld(root + "/file1.txt", "hello");
+        for (int i = 0; i < 20; i++) {
+            writeOld(root + "/subdir/file" + i + ".txt", "contents " + i);
+        }
+
+        DigestService service = new DigestService().parallelism(4);
+        SortedMap<String, String> digests = service.getTreeDigests(root);
+        assertEquals(23, digests.size());
+        assertEquals(HELLO, digests.get("file1.txt"));
+        assertEquals("", digests.get("empty"));
+        assertEquals(digests, new DigestService().parallelism(1).getTreeDigests(root));
+
+        String fingerprint = service.getTreeFingerprint(root);
+        assertEquals(fingerprint, service.getTreeFingerprint(root));
+        assertEquals(fingerprint, new DigestService().getTreeFingerprint(root));
+
+        writeOld(root + "/subdir/file3.txt", "changed");
+        String changed = service.getTreeFingerprint(root);
+        assertFalse(fingerprint.equals(changed));
+
+        new File(root + "/subdir/file3.txt").renameTo(new File(root + "/subdir/file3a.txt"));
+        String renamed = service.getTreeFingerprint(root);
+        assertFalse(changed.equals(renamed));
+
+        FilesystemUtils.removeEmptyDir(root + "/empty");
+        assertFalse(renamed.equals(service.getTreeFingerprint(root)));
+
+        assertEquals(service.getTreeFingerprint(new DirectoryWalker(root).include("file1.txt")),
+                     new DigestService().getTreeFingerprint(new DirectoryWalker(root).exclude("subdir")));
+
+        FilesystemUtils.removeDir(root, true);
+    }
+
+    /** Write a file, giving it a modification time far enough in the past to be cached. */
+    private static void writeOld(String path, String contents) {
+        FilesystemUtils.writeFileContents(path, contents);
+        new File(path).setLastModified(System.currentTimeMillis() - 60000);
+    }
+
+}
@@ -0,0 +1,164 @@
+/* * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ *
+ *              C E D A R
+ *          S O L U T I O N S       "Software done right."
+ *           S O F T W A R E
+ *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ *
+ * Copyright (c) 2026 Kenneth J. Pronovici.
+ * All rights reserved.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the Apache License, Version 2.0.
+ * See LICENSE for more information about the licensing terms.
+ *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ *
+ * Author   : Kenneth J. Pronovici <pronovic@ieee.org>
+ * Language : Java 6
+ * Project  : Common Java Functionality
+ *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * */
+package com.cedarsolutions.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * Unit tests for DirectoryWalker.
+ * @author Kenneth J. Pronovici <pronovic@ieee.org>
+ */
+public class DirectoryWalkerTest {
+
+    /** Directory that is walked by the tests. */
+    private static final String ROOT = "target/working/walker";
+
+    /** Setup before all tests. */
+    @BeforeClass public static void prepare() {
+        if (FilesystemUtils.dirExists("target/working")) {
+            FilesystemUtils.removeDir("target/working", true);
+        }
+
+        FilesystemUtils.createDir(ROOT);
+        FilesystemUtils.createDir(ROOT + "/src");
+        FilesystemUtils.createDir(ROOT + "/src/main");
+        FilesystemUtils.createDir(ROOT + "/build");
+        FilesystemUtils.createFile(ROOT + "/README");
+        FilesystemUtils.createFile(ROOT + "/src/One.java");
+        FilesystemUtils.createFile(ROOT + "/src/main/Two.java");
+        FilesystemUtils.createFile(ROOT + "/src/main/three.txt");
+        FilesystemUtils.createFile(ROOT + "/build/Four.java");
+    }
+
+    /** Cleanup after all tests. */
+    @AfterClass public static void cleanup() {
+        if (FilesystemUtils.dirExists("target")) {
+            FilesystemUtils.removeDir("target", true);
+        }
+    }
+
+    /** Test a walk with no filters. */
+    @Test public void testWalkAll() {
+        List<String> paths = new DirectoryWalker(ROOT).getPaths();
+        assertEquals(8, paths.size());
+        assertTrue(paths.containsAll(Arrays.asList("README", "src", "src/One.java", "src/main", "src/main/Two.java",
+                                                   "src/main/three.txt", "build", "build/Four.java")));
+        assertTrue(paths.indexOf("src") < paths.indexOf("src/main"));
+        assertTrue(paths.indexOf("src/main") < paths.indexOf("src/main/Two.java"));
+    }
+
+    /** Test the depth limit. */
+    @Test public void testMaxDepth() {
+        List<String> paths = new DirectoryWalker(ROOT).maxDepth(1).getPaths();
+        assertEquals(3, paths.size());
+        assertTrue(paths.containsAll(Arrays.asList("README", "src", "build")));
+
+        paths = new DirectoryWalker(ROOT).maxDepth(2).getPaths();
+        assertEquals(6, paths.size());
+        assertTrue(paths.containsAll(Arrays.asList("README", "src", "src/One.java", "src/main", "build", "build/Four.java")));
+
+        try {
+            new DirectoryWalker(ROOT).maxDepth(0);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException e) { }
+    }
+
+    /** Test include and exclude globs. */
+    @Test public void testGlobs() {
+        List<String> paths = new DirectoryWalker(ROOT).include("**.java").getPaths();
+        assertEquals(3, paths.size());
+        assertTrue(paths.containsAll(Arrays.asList("src/One.java", "src/main/Two.java", "build/Four.java")));
+
+        paths = new DirectoryWalker(ROOT).include("**.java").exclude("build").getPaths();
+        assertEquals(2, paths.size());
+        assertTrue(paths.containsAll(Arrays.asList("src/One.java", "src/main/Two.java")));
+
+        paths = new DirectoryWalker(ROOT).include("**.java").include("*").exclude("src/main").getPaths();
+        assertEquals(5, paths.size());
+        assertTrue(paths.containsAll(Arrays.asList("README", "src", "build", "src/One.java", "build/Four.java")));
+    }
+
+    /** Test that a visitor can stop the walk early. */
+    @Test public void testStopWalk() {
+        final List<String> paths = new ArrayList<String>();
+        new DirectoryWalker(ROOT).walk(new DirectoryWalker.Visitor() {
+            public boolean visit(String path, BasicFileAttributes attributes) {
+                paths.add(path);
+                return paths.size() < 2;
+            }
+        });
+        assertEquals(2, paths.size());
+    }
+
+    /** Test the handling of symbolic links. */
+    @Test public void testSymlinks() throws Exception {
+        String link = ROOT + "/link";
+        try {
+            try {
+                Files.createSymbolicLink(Paths.get(link), new File(ROOT + "/src").getAbsoluteFile().toPath());
+            } catch (Exception e) {
+                return;  // symbolic links are not always available, i.e. on Windows
+            }
+
+            List<String> paths = new DirectoryWalker(ROOT).getPaths();
+            assertEquals(9, paths.size());
+            assertTrue(paths.contains("link"));
+            assertFalse(paths.contains("link/One.java"));
+
+            paths = new DirectoryWalker(ROOT).skipSymlinks(true).getPaths();
+            assertEquals(8, paths.size());
+            assertFalse(paths.contains("link"));
+        } finally {
+            new File(link).delete();
+        }
+    }
+
+    /** Test a directory that does not exist. */
+    @Test public void testMissingDirectory() {
+        try {
+            new DirectoryWalker(ROOT + "/missing").getPaths();
+            fail("Expected RuntimeException");
+        } catch (RuntimeException e) { }
+
+        try {
+            new DirectoryWalker(ROOT + "/README").getPaths();
+            fail("Expected RuntimeException");
+        } catch (RuntimeException e) { }
+    }
+
+}
@@ -0,0 +1,152 @@
+/* * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ *
+ *              C E D A R
+ *          S O L U T I O N S       "Software done right."
+ *           S O F T W A R E
+ *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ *
+ * Copyright (c) 2026 Kenneth J. Pronovici.
+ * All rights reserved.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the Apache License, Version 2.0.
+ * See LICENSE for more information about the licensing terms.
+ *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ *
+ * Author   : Kenneth J. Pronovici <pronovic@ieee.org>
+ * Language : Java 6
+ * Project  : Common Java Functionality
+ *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * */
+package com.cedarsolutions.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * Unit tests for DirectoryWatcher.
+ * @author Kenneth J. Pronovici <pronovic@ieee.org>
+ */
+public class DirectoryWatcherTest {
+
+    /** Setup before all tests. */
+    @BeforeClass public static void prepare() {
+        if (FilesystemUtils.dirExists("target/working")) {
+            FilesystemUtils.removeDir("target/working", true);
+        }
+
+        FilesystemUtils.createDir("target/working");
+    }
+
+    /** Cleanup after all tests. */
+    @AfterClass public static void cleanup() {
+        if (FilesystemUtils.dirExists("target")) {
+            FilesystemUtils.removeDir("target", true);
+        }
+    }
+
+    /** Test waiting for a set of files to change, including in a new subdirectory. */
+    @Test public void testWatchFor() throws Exception {
+        FilesystemUtils.createDir("target/working/watch/existing");
+
+        DirectoryWatcher watcher = new DirectoryWatcher("target/working/watch");
+        try {
+            Future<Set<String>> future = watcher.watchFor(DirectoryWatcher.allOf("one.txt", "existing/two.txt", "new/sub/three.txt"));
+            watcher.start();
+
+            FilesystemUtils.writeFileContents("target/working/watch/one.txt", "one");
+            FilesystemUtils.writeFileContents("target/working/watch/existing/two.txt", "two");
+            try {
+                future.get(500, TimeUnit.MILLISECONDS);
+                fail("Expected TimeoutException");
+            } catch (TimeoutException e) { }
+
+            FilesystemUtils.createDir("target/working/watch/new/sub");
+            FilesystemUtils.writeFileContents("target/working/watch/new/sub/three.txt", "three");
+            Set<String> changed = future.get(10, TimeUnit.SECONDS);
+            assertTrue(future.isDone());
+            assertTrue(changed.contains("one.txt"));
+            assertTrue(changed.contains("existing/two.txt"));
+            assertTrue(changed.contains("new/sub/three.txt"));
+        } finally {
+            watcher.close();
+            FilesystemUtils.removeDir("target/working/watch", true);
+        }
+    }
+
+    /** Test that a listener receives debounced batches. */
+    @Test public void testListener() throws Exception {
+        FilesystemUtils.createDir("target/working/listen");
+
+        final Set<String> received = Collections.synchronizedSet(new TreeSet<String>());
+        final int[] batches = new int[] { 0, };
+        DirectoryWatcher watcher = new DirectoryWatcher("target/working/listen").recursive(false).debounce(500);
+        try {
+            watcher.addListener(new DirectoryWatcher.Listener() {
+                public void changed(Set<String> changed) {
+                    received.addAll(changed);
+                    synchronized (batches) {
+                        batches[0]++;
+                    }
+                }
+            });
+
+            Future<Set<String>> future = watcher.watchFor(DirectoryWatcher.allOf("file4"));
+            watcher.start();
+            for (int i = 0; i < 5; i++) {
+                FilesystemUtils.writeFileContents("target/working/listen/file" + i, "contents");
+            }
+
+            future.get(10, TimeUnit.SECONDS);
+            for (int i = 0; i < 5; i++) {
+                assertTrue(received.contains("file" + i));
+            }
+            synchronized (batches) {
+                assertEquals(1, batches[0]);
+            }
+        } finally {
+            watcher.close();
+            FilesystemUtils.removeDir("target/working/listen", true);
+        }
+    }
+
+    /** Test that closing the watcher cancels outstanding futures. */
+    @Test public void testClose() throws Exception {
+        FilesystemUtils.createDir("target/working/close");
+
+        DirectoryWatcher watcher = new DirectoryWatcher("target/working/close").start();
+        Future<Set<String>> future = watcher.watchFor(DirectoryWatcher.allOf("never"));
+        watcher.close();
+
+        assertTrue(future.isCancelled());
+        try {
+            future.get();
+            fail("Expected CancellationException");
+        } catch (CancellationException e) { }
+
+        try {
+            new DirectoryWatcher("target/working/missing").start();
+            fail("Expected RuntimeException");
+        } catch (RuntimeException e) { }
+
+        assertFalse(future.cancel(true));
+        FilesystemUtils.removeDir("target/working/close", true);
+    }
+
+}
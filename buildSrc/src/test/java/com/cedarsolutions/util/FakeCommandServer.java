@@ -0,0 +1,146 @@
+/* * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ *
+ *              C E D A R
+ *          S O L U T I O N S       "Software done right."
+ *           S O F T W A R E
+ *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ *
+ * Copyright (c) 2026 Kenneth J. Pronovici.
+ * All rights reserved.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the Apache License, Version 2.0.
+ * See LICENSE for more information about the licensing terms.
+ *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ *
+ * Author   : Kenneth J. Pronovici <pronovic@ieee.org>
+ * Language : Java 6
+ * Project  : Common Java Functionality
+ *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * */
+package com.cedarsolutions.util;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+
+/**
+ * Fake Mercurial command server, used to test the pipe protocol framing.
+ *
+ * <p>
+ * This speaks just enough of the protocol to exercise MercurialCommandServer.
+ * It understands a handful of made-up commands: "echo" writes its arguments,
+ * "big" writes a large amount of output split across frames with debug frames
+ * in between, "error" writes to the error channel and fails, and "prompt"
+ * requests a line of input before answering.
+ * </p>
+ *
+ * @author Kenneth J. Pronovici <pronovic@ieee.org>
+ */
+public class FakeCommandServer {
+
+    /** Frames written to the client. */
+    private static DataOutputStream OUTPUT;
+
+    /** Java entry point. */
+    public static void main(String[] args) throws Exception {
+        DataInputStream input = new DataInputStream(new BufferedInputStream(System.in));
+        OUTPUT = new DataOutputStream(new BufferedOutputStream(System.out));
+
+        writeFrame('o', "capabilities: getencoding runcommand\nencoding: UTF-8\npid: 42");
+        OUTPUT.flush();
+
+        try {
+            while (true) {
+                String request = readLine(input);
+                if (!"runcommand".equals(request)) {
+                    throw new IllegalStateException("Unexpected request: " + request);
+                }
+
+                byte[] data = new byte[input.readInt()];
+                input.readFully(data);
+                String[] command = new String(data, "UTF-8").split("\0");
+
+                if ("echo".equals(command[0])) {
+                    StringBuffer buffer = new StringBuffer();
+                    for (int i = 1; i < command.length; i++) {
+                        buffer.append(i > 1 ? " " : "").append(command[i]);
+                    }
+                    writeFrame('o', buffer.toString() + "\n");
+                    writeResult(0);
+                } else if ("big".equals(command[0])) {
+                    int remaining = Integer.parseInt(command[1]);
+                    while (remaining > 0) {
+                        int length = Math.min(remaining, 1000);
+                        writeFrame('o', repeat('x', length));
+                        writeFrame('d', "debug");
+                        remaining -= length;
+                    }
+                    writeResult(0);
+                } else if ("error".equals(command[0])) {
+                    writeFrame('e', "abort: oops\n");
+                    writeResult(255);
+                } else if ("prompt".equals(command[0])) {
+                    OUTPUT.write('L');
+                    OUTPUT.writeInt(4096);
+                    OUTPUT.flush();
+                    byte[] answer = new byte[input.readInt()];
+                    input.readFully(answer);
+                    writeFrame('o', "answer length " + answer.length + "\n");
+                    writeResult(0);
+                } else {
+                    writeFrame('e', "unknown command " + command[0] + "\n");
+                    writeResult(255);
+                }
+
+                OUTPUT.flush();
+            }
+        } catch (EOFException e) {
+            // the client closed our input, so we're done
+        }
+    }
+
+    /** Write a frame containing text. */
+    private static void writeFrame(char channel, String text) throws Exception {
+        byte[] data = text.getBytes("UTF-8");
+        OUTPUT.write(channel);
+        OUTPUT.writeInt(data.length);
+        OUTPUT.write(data);
+    }
+
+    /** Write the result frame for a command. */
+    private static void writeResult(int exitCode) throws Exception {
+        OUTPUT.write('r');
+        OUTPUT.writeInt(4);
+        OUTPUT.writeInt(exitCode);
+    }
+
+    /** Read a newline-terminated request line. */
+    private static String readLine(DataInputStream input) throws Exception {
+        StringBuffer buffer = new StringBuffer();
+
+        int c = input.readUnsignedByte();
+        while (c != '\n') {
+            buffer.append((char) c);
+            c = input.readUnsignedByte();
+        }
+
+        return buffer.toString();
+    }
+
+    /** Create a string by repeating a character. */
+    private static String repeat(char c, int count) {
+        StringBuffer buffer = new StringBuffer();
+
+        for (int i = 0; i < count; i++) {
+            buffer.append(c);
+        }
+
+        return buffer.toString();
+    }
+
+}
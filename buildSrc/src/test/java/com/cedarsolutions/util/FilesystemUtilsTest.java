@@ -1,466 +1,719 @@
-/* * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
- *
- *              C E D A R
- *          S O L U T I O N S       "Software done right."
- *           S O F T W A R E
- *
- * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
- *
- * Copyright (c) 2013 Kenneth J. Pronovici.
- * All rights reserved.
- *
- * This program is free software; you can redistribute it and/or
- * modify it under the terms of the Apache License, Version 2.0.
- * See LICENSE for more information about the licensing terms.
- *
- * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
- *
- * Author   : Kenneth J. Pronovici <pronovic@ieee.org>
- * Language : Java 6
- * Project  : Common Java Functionality
- *
- * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * */
-package com.cedarsolutions.util;
-
-import static org.junit.Assert.assertEquals;
-import static org.junit.Assert.assertFalse;
-import static org.junit.Assert.assertNotNull;
-import static org.junit.Assert.assertTrue;
-import static org.junit.Assert.fail;
-
-import java.io.File;
-import java.io.FileOutputStream;
-import java.util.ArrayList;
-import java.util.List;
-
-import org.junit.AfterClass;
-import org.junit.BeforeClass;
-import org.junit.Test;
-
-/**
- * Unit test for FilesystemUtils.
- * @author Kenneth J. Pronovici <pronovic@ieee.org>
- */
-public class FilesystemUtilsTest {
-
-    /** Setup before all tests. */
-    @BeforeClass public static void prepare() {
-        if (FilesystemUtils.dirExists("target/working")) {
-            FilesystemUtils.removeDir("target/working", true);
-        }
-        FilesystemUtils.createDir("target/working");
-    }
-
-    /** Cleanup after all tests. */
-    @AfterClass public static void cleanup() {
-        if (FilesystemUtils.dirExists("target")) {
-            FilesystemUtils.removeDir("target", true);
-        }
-    }
-
-    /** Test the normalize() method. */
-    @Test public void testNormalize() {
-        assertEquals(null, FilesystemUtils.normalize(null));
-        assertEquals("", FilesystemUtils.normalize(""));
-        assertEquals("path", FilesystemUtils.normalize("path"));
-        assertEquals("one/two", FilesystemUtils.normalize("one/two"));
-        assertEquals("/one/two", FilesystemUtils.normalize("/one/two"));
-        assertEquals("/one/two", FilesystemUtils.normalize("\\one\\two"));
-        assertEquals("/one/two", FilesystemUtils.normalize("\\one/two"));
-    }
-
-    /** Test the join() method. */
-    @Test public void testJoin() {
-        assertEquals("", FilesystemUtils.join());
-        assertEquals("element", FilesystemUtils.join("element"));
-        assertEquals("element1/element2", FilesystemUtils.join("element1", "element2"));
-        assertEquals("1/2/3/4/5/6/7", FilesystemUtils.join("1", "2", "3", "4", "5", "6", "7"));
-        assertEquals("element1/element2", FilesystemUtils.join(null, "element1", "element2"));
-    }
-
-    /** Test the getBasename() method. */
-    @Test public void testGetBasename() {
-        assertEquals(null, FilesystemUtils.getBasename(null));
-        assertEquals(null, FilesystemUtils.getBasename(""));
-        assertEquals("a.txt", FilesystemUtils.getBasename("a.txt"));
-        assertEquals("a.txt", FilesystemUtils.getBasename("dir/a.txt"));
-        assertEquals("a.txt", FilesystemUtils.getBasename("c:/dir/a.txt"));
-        assertEquals("a.txt", FilesystemUtils.getBasename("c:/path/to/dir/a.txt"));
-        assertEquals("a.txt", FilesystemUtils.getBasename("/path/to/dir/a.txt"));
-    }
-
-    /** Test the getDirname() method. */
-    @Test public void testGetDirname() {
-        assertEquals(null, FilesystemUtils.getDirname(null));
-        assertEquals(null, FilesystemUtils.getDirname(""));
-        assertEquals(null, FilesystemUtils.getDirname("a.txt"));
-        assertEquals("dir", FilesystemUtils.getDirname("dir/a.txt"));
-        assertEquals("c:/dir", FilesystemUtils.getDirname("c:/dir/a.txt"));
-        assertEquals("c:/path/to/dir", FilesystemUtils.getDirname("c:/path/to/dir/a.txt"));
-        assertEquals("/path/to/dir", FilesystemUtils.getDirname("/path/to/dir/a.txt"));
-    }
-
-    /** Test the directory methods. */
-    @Test public void testCreateRemoveDir() throws Exception {
-        File targetDir = new File("target");
-        File firstSubdir = new File("target/working/subdir");
-        File secondSubdir = new File("target/working/subdir/subdir2");
-        File thirdSubdir = new File("target/working/subdir/subdir3");
-
-        assertTrue(targetDir.exists());
-        assertFalse(firstSubdir.exists());
-        assertFalse(secondSubdir.exists());
-        assertFalse(thirdSubdir.exists());
-
-        assertTrue(FilesystemUtils.dirExists("target"));
-        assertFalse(FilesystemUtils.dirExists("target/working/subdir"));
-        assertFalse(FilesystemUtils.dirExists("target/working/subdir/subdir2"));
-
-        FilesystemUtils.createDir("target/working/subdir/subdir2");
-
-        assertTrue(targetDir.exists());
-        assertTrue(firstSubdir.exists());
-        assertTrue(secondSubdir.exists());
-
-        assertTrue(FilesystemUtils.dirExists("target"));
-        assertTrue(FilesystemUtils.dirExists("target/working/subdir"));
-        assertTrue(FilesystemUtils.dirExists("target/working/subdir/subdir2"));
-
-        FilesystemUtils.createDir("target/working/subdir/subdir2");
-
-        assertTrue(targetDir.exists());
-        assertTrue(firstSubdir.exists());
-        assertTrue(secondSubdir.exists());
-
-        assertTrue(FilesystemUtils.dirExists("target"));
-        assertTrue(FilesystemUtils.dirExists("target/working/subdir"));
-        assertTrue(FilesystemUtils.dirExists("target/working/subdir/subdir2"));
-
-        FilesystemUtils.removeEmptyDir("target/working/subdir/subdir2");
-
-        assertTrue(targetDir.exists());
-        assertTrue(firstSubdir.exists());
-        assertFalse(secondSubdir.exists());
-
-        assertTrue(FilesystemUtils.dirExists("target"));
-        assertTrue(FilesystemUtils.dirExists("target/working/subdir"));
-        assertFalse(FilesystemUtils.dirExists("target/working/subdir/subdir2"));
-
-        FilesystemUtils.removeEmptyDir("target/working/subdir/subdir2");  // not there, but it shouldn't matter
-
-        assertTrue(targetDir.exists());
-        assertTrue(firstSubdir.exists());
-        assertFalse(secondSubdir.exists());
-
-        assertTrue(FilesystemUtils.dirExists("target"));
-        assertTrue(FilesystemUtils.dirExists("target/working/subdir"));
-        assertFalse(FilesystemUtils.dirExists("target/working/subdir/subdir2"));
-
-        FilesystemUtils.removeEmptyDir("target/working/subdir");
-
-        assertTrue(targetDir.exists());
-        assertFalse(firstSubdir.exists());
-        assertFalse(secondSubdir.exists());
-
-        assertTrue(FilesystemUtils.dirExists("target"));
-        assertFalse(FilesystemUtils.dirExists("target/working/subdir"));
-        assertFalse(FilesystemUtils.dirExists("target/working/subdir/subdir2"));
-
-        FilesystemUtils.createDir("target/working/subdir/subdir2");
-        FilesystemUtils.createDir("target/working/subdir/subdir3");
-
-        assertTrue(targetDir.exists());
-        assertTrue(firstSubdir.exists());
-        assertTrue(secondSubdir.exists());
-        assertTrue(thirdSubdir.exists());
-
-        assertTrue(FilesystemUtils.dirExists("target"));
-        assertTrue(FilesystemUtils.dirExists("target/working/subdir"));
-        assertTrue(FilesystemUtils.dirExists("target/working/subdir/subdir2"));
-        assertTrue(FilesystemUtils.dirExists("target/working/subdir/subdir3"));
-
-        FilesystemUtils.removeDir("target/working/subdir", true);
-
-        assertTrue(targetDir.exists());
-        assertFalse(firstSubdir.exists());
-        assertFalse(secondSubdir.exists());
-        assertFalse(thirdSubdir.exists());
-
-        assertTrue(FilesystemUtils.dirExists("target"));
-        assertFalse(FilesystemUtils.dirExists("target/working/subdir"));
-        assertFalse(FilesystemUtils.dirExists("target/working/subdir/subdir2"));
-        assertFalse(FilesystemUtils.dirExists("target/working/subdir/subdir3"));
-    }
-
-    /** Test the createFile() and removeFile() methods. */
-    @Test public void testCreateRemoveFile() throws Exception {
-        File targetDir = new File("target");
-        File targetFile = new File("target/working/file.txt");
-
-        assertTrue(targetDir.exists());
-        assertFalse(targetFile.exists());
-        assertFalse(FilesystemUtils.fileExists("target/working/file.txt"));
-
-        FilesystemUtils.removeFile("target/working/file.txt");
-
-        assertTrue(targetDir.exists());
-        assertFalse(targetFile.exists());
-        assertFalse(FilesystemUtils.fileExists("target/working/file.txt"));
-
-        FilesystemUtils.createFile("target/working/file.txt");
-
-        assertTrue(targetDir.exists());
-        assertTrue(targetFile.exists());
-        assertTrue(FilesystemUtils.fileExists("target/working/file.txt"));
-
-        FilesystemUtils.removeFile("target/working/file.txt");
-
-        assertTrue(targetDir.exists());
-        assertFalse(targetFile.exists());
-        assertFalse(FilesystemUtils.fileExists("target/working/file.txt"));
-    }
-
-    /** Test the getFileContents() method. */
-    @Test public void testGetFileContents() throws Exception {
-        try {
-            File targetDir = new File("target");
-            File targetFile = new File("target/working/file.txt");
-
-            assertTrue(targetDir.exists());
-
-            FileOutputStream stream = new FileOutputStream("target/working/file.txt");
-            stream.write(StringUtils.getBytes("LINE1\n"));
-            stream.write(StringUtils.getBytes("LINE2\n"));
-            stream.write(StringUtils.getBytes("LINE3\n"));
-            stream.write(StringUtils.getBytes("LINE4\n"));
-            stream.close();
-
-            assertTrue(targetDir.exists());
-            assertTrue(targetFile.exists());
-
-            List<String> lines = FilesystemUtils.getFileContents("target/working/file.txt");
-            assertNotNull(lines);
-            assertEquals(4, lines.size());
-            assertEquals("LINE1", lines.get(0));
-            assertEquals("LINE2", lines.get(1));
-            assertEquals("LINE3", lines.get(2));
-            assertEquals("LINE4", lines.get(3));
-        } finally {
-            FilesystemUtils.removeFile("target/working/file.txt");
-        }
-    }
-
-    /** Test the getFileContentsAsString() method, with a trailing newline. */
-    @Test public void testGetFileContentsAsString1() throws Exception {
-        try {
-            File targetDir = new File("target");
-            File targetFile = new File("target/working/file.txt");
-
-            assertTrue(targetDir.exists());
-
-            FileOutputStream stream = new FileOutputStream("target/working/file.txt");
-            stream.write(StringUtils.getBytes("LINE1\n"));
-            stream.write(StringUtils.getBytes("LINE2\n"));
-            stream.write(StringUtils.getBytes("LINE3\n"));
-            stream.write(StringUtils.getBytes("LINE4\n"));
-            stream.close();
-
-            assertTrue(targetDir.exists());
-            assertTrue(targetFile.exists());
-
-            String result = FilesystemUtils.getFileContentsAsString("target/working/file.txt");
-            assertNotNull(result);
-            assertEquals("LINE1\nLINE2\nLINE3\nLINE4\n", result);
-        } finally {
-            FilesystemUtils.removeFile("target/working/file.txt");
-        }
-    }
-
-    /** Test the getFileContentsAsString() method, without a trailing newline. */
-    @Test public void testGetFileContentsAsString2() throws Exception {
-        try {
-            File targetDir = new File("target");
-            File targetFile = new File("target/working/file.txt");
-
-            assertTrue(targetDir.exists());
-
-            FileOutputStream stream = new FileOutputStream("target/working/file.txt");
-            stream.write(StringUtils.getBytes("LINE1\n"));
-            stream.write(StringUtils.getBytes("LINE2\n"));
-            stream.write(StringUtils.getBytes("LINE3\n"));
-            stream.write(StringUtils.getBytes("LINE4"));
-            stream.close();
-
-            assertTrue(targetDir.exists());
-            assertTrue(targetFile.exists());
-
-            String result = FilesystemUtils.getFileContentsAsString("target/working/file.txt");
-            assertNotNull(result);
-            assertEquals("LINE1\nLINE2\nLINE3\nLINE4", result);
-        } finally {
-            FilesystemUtils.removeFile("target/working/file.txt");
-        }
-    }
-
-    /** Test writeFileContents(). */
-    @Test public void testWriteFileContentsString() throws Exception {
-        assertFalse(FilesystemUtils.fileExists("target/working/file.txt"));
-
-        String source = "LINE1\nLINE2\nLINE3\nLINE4\n";
-
-        FilesystemUtils.writeFileContents("target/working/file.txt", source);
-
-        List<String> resultLines = FilesystemUtils.getFileContents("target/working/file.txt");
-        assertNotNull(resultLines);
-        assertEquals(4, resultLines.size());
-        assertEquals("LINE1", resultLines.get(0));
-        assertEquals("LINE2", resultLines.get(1));
-        assertEquals("LINE3", resultLines.get(2));
-        assertEquals("LINE4", resultLines.get(3));
-
-        FilesystemUtils.removeFile("target/working/file.txt");
-    }
-
-    /** Test writeFileContents(). */
-    @Test public void testWriteFileContentsList() throws Exception {
-        assertFalse(FilesystemUtils.fileExists("target/working/file.txt"));
-
-        List<String> sourceLines = new ArrayList<String>();
-        sourceLines.add("LINE1");
-        sourceLines.add("LINE2");
-        sourceLines.add("LINE3");
-        sourceLines.add("LINE4");
-
-        FilesystemUtils.writeFileContents("target/working/file.txt", sourceLines);
-
-        List<String> resultLines = FilesystemUtils.getFileContents("target/working/file.txt");
-        assertNotNull(resultLines);
-        assertEquals(4, resultLines.size());
-        assertEquals("LINE1", resultLines.get(0));
-        assertEquals("LINE2", resultLines.get(1));
-        assertEquals("LINE3", resultLines.get(2));
-        assertEquals("LINE4", resultLines.get(3));
-
-        FilesystemUtils.removeFile("target/working/file.txt");
-    }
-
-    /** Test the copyFile() method. */
-    @Test public void testCopyFile() throws Exception {
-        assertFalse(FilesystemUtils.fileExists("target/working/file.txt"));
-        assertFalse(FilesystemUtils.fileExists("target/working/copy.txt"));
-
-        List<String> sourceLines = new ArrayList<String>();
-        sourceLines.add("LINE1");
-        sourceLines.add("LINE2");
-        sourceLines.add("LINE3");
-        sourceLines.add("LINE4");
-
-        FilesystemUtils.writeFileContents("target/working/file.txt", sourceLines);
-        FilesystemUtils.copyFile("target/working/file.txt", "target/working/copy.txt");
-
-        assertTrue(FilesystemUtils.fileExists("target/working/copy.txt"));
-
-        List<String> resultLines = FilesystemUtils.getFileContents("target/working/copy.txt");
-        assertNotNull(resultLines);
-        assertEquals(4, resultLines.size());
-        assertEquals("LINE1", resultLines.get(0));
-        assertEquals("LINE2", resultLines.get(1));
-        assertEquals("LINE3", resultLines.get(2));
-        assertEquals("LINE4", resultLines.get(3));
-
-        FilesystemUtils.removeFile("target/working/file.txt");
-        FilesystemUtils.removeFile("target/working/copy.txt");
-    }
-
-    /** Test the copyFileToDir() method. */
-    @Test public void testCopyFileToDir() throws Exception {
-        assertFalse(FilesystemUtils.fileExists("target/working/file.txt"));
-        assertFalse(FilesystemUtils.dirExists("target/working/newdir"));
-        assertFalse(FilesystemUtils.fileExists("target/working/newdir/file.txt"));
-
-        FilesystemUtils.createDir("target/working/newdir");
-
-        List<String> sourceLines = new ArrayList<String>();
-        sourceLines.add("LINE1");
-        sourceLines.add("LINE2");
-        sourceLines.add("LINE3");
-        sourceLines.add("LINE4");
-
-        FilesystemUtils.writeFileContents("target/working/file.txt", sourceLines);
-        FilesystemUtils.copyFileToDir("target/working/file.txt", "target/working/newdir");
-
-        assertTrue(FilesystemUtils.fileExists("target/working/newdir/file.txt"));
-
-        List<String> resultLines = FilesystemUtils.getFileContents("target/working/newdir/file.txt");
-        assertNotNull(resultLines);
-        assertEquals(4, resultLines.size());
-        assertEquals("LINE1", resultLines.get(0));
-        assertEquals("LINE2", resultLines.get(1));
-        assertEquals("LINE3", resultLines.get(2));
-        assertEquals("LINE4", resultLines.get(3));
-
-        FilesystemUtils.removeFile("target/working/newdir/file.txt");
-        FilesystemUtils.removeFile("target/working/file.txt");
-        FilesystemUtils.removeEmptyDir("target/working/newdir");
-    }
-
-    /** Test getDirContents(). */
-    @Test public void testGetDirContents() throws Exception {
-        try {
-            assertFalse(FilesystemUtils.dirExists("target/working/contents"));
-
-            try {
-                FilesystemUtils.getDirContents("target/working/contents");
-                fail("Expected RuntimeException");
-            } catch (RuntimeException e) { }
-
-            FilesystemUtils.createDir("target/working/contents");
-            FilesystemUtils.createDir("target/working/contents/subdir1");
-            FilesystemUtils.createDir("target/working/contents/subdir2");
-            FilesystemUtils.createDir("target/working/contents/subdir3");
-            FilesystemUtils.createFile("target/working/contents/file1");
-            FilesystemUtils.createFile("target/working/contents/file2");
-            FilesystemUtils.createFile("target/working/contents/subdir1/file3");
-
-            List<String> contents = FilesystemUtils.getDirContents("target/working/contents");
-            assertEquals(5, contents.size());
-            assertTrue(contents.contains("subdir1"));
-            assertTrue(contents.contains("subdir2"));
-            assertTrue(contents.contains("subdir3"));
-            assertTrue(contents.contains("file1"));
-            assertTrue(contents.contains("file2"));
-
-            contents = FilesystemUtils.getDirContents("target/working/contents/subdir1");
-            assertEquals(1, contents.size());
-            assertTrue(contents.contains("file3"));
-
-            contents = FilesystemUtils.getDirContents("target/working/contents/subdir2");
-            assertTrue(contents.isEmpty());
-
-            contents = FilesystemUtils.getDirContents("target/working/contents/subdir3");
-            assertTrue(contents.isEmpty());
-
-            try {
-                FilesystemUtils.getDirContents("target/working/contents/file1");
-                fail("Expected RuntimeException");
-            } catch (RuntimeException e) { }
-        } finally {
-            FilesystemUtils.removeDir("target/working/contents", true);
-        }
-    }
-
-    /** Test unzip(). */
-    @Test public void testUnzip() {
-        FilesystemUtils.copyFile("src/test/java/com/cedarsolutions/util/test.zip", "target/working/test.zip");
-        FilesystemUtils.createDir("target/working/unzip");
-        FilesystemUtils.unzip("target/working/test.zip", "target/working/unzip");
-        List<String> contents = FilesystemUtils.getDirContents("target/working/unzip", true);
-        assertEquals(6, contents.size());
-        assertTrue(contents.contains("test"));
-        assertTrue(contents.contains("test/file1.txt"));
-        assertTrue(contents.contains("test/folder1"));
-        assertTrue(contents.contains("test/folder1/file2.txt"));
-        assertTrue(contents.contains("test/folder2"));
-        assertTrue(contents.contains("test/folder2/file3.txt"));
-    }
-}
+/* * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ *
+ *              C E D A R
+ *          S O L U T I O N S       "Software done right."
+ *           S O F T W A R E
+ *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ *
+ * Copyright (c) 2013 Kenneth J. Pronovici.
+ * All rights reserved.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the Apache License, Version 2.0.
+ * See LICENSE for more information about the licensing terms.
+ *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ *
+ * Author   : Kenneth J. Pronovici <pronovic@ieee.org>
+ * Language : Java 6
+ * Project  : Common Java Functionality
+ *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * */
+package com.cedarsolutions.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.nio.charset.Charset;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * Unit test for FilesystemUtils.
+ * @author Kenneth J. Pronovici <pronovic@ieee.org>
+ */
+public class FilesystemUtilsTest {
+
+    /** UTF-8 character set. */
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    /** ISO-8859-1 character set. */
+    private static final Charset ISO_8859_1 = Charset.forName("ISO-8859-1");
+
+    /** Setup before all tests. */
+    @BeforeClass public static void prepare() {
+        if (FilesystemUtils.dirExists("target/working")) {
+            FilesystemUtils.removeDir("target/working", true);
+        }
+        FilesystemUtils.createDir("target/working");
+    }
+
+    /** Cleanup after all tests. */
+    @AfterClass public static void cleanup() {
+        if (FilesystemUtils.dirExists("target")) {
+            FilesystemUtils.removeDir("target", true);
+        }
+    }
+
+    /** Test the normalize() method. */
+    @Test public void testNormalize() {
+        assertEquals(null, FilesystemUtils.normalize(null));
+        assertEquals("", FilesystemUtils.normalize(""));
+        assertEquals("path", FilesystemUtils.normalize("path"));
+        assertEquals("one/two", FilesystemUtils.normalize("one/two"));
+        assertEquals("/one/two", FilesystemUtils.normalize("/one/two"));
+        assertEquals("/one/two", FilesystemUtils.normalize("\\one\\two"));
+        assertEquals("/one/two", FilesystemUtils.normalize("\\one/two"));
+    }
+
+    /** Test the join() method. */
+    @Test public void testJoin() {
+        assertEquals("", FilesystemUtils.join());
+        assertEquals("element", FilesystemUtils.join("element"));
+        assertEquals("element1/element2", FilesystemUtils.join("element1", "element2"));
+        assertEquals("1/2/3/4/5/6/7", FilesystemUtils.join("1", "2", "3", "4", "5", "6", "7"));
+        assertEquals("element1/element2", FilesystemUtils.join(null, "element1", "element2"));
+    }
+
+    /** Test the getBasename() method. */
+    @Test public void testGetBasename() {
+        assertEquals(null, FilesystemUtils.getBasename(null));
+        assertEquals(null, FilesystemUtils.getBasename(""));
+        assertEquals("a.txt", FilesystemUtils.getBasename("a.txt"));
+        assertEquals("a.txt", FilesystemUtils.getBasename("dir/a.txt"));
+        assertEquals("a.txt", FilesystemUtils.getBasename("c:/dir/a.txt"));
+        assertEquals("a.txt", FilesystemUtils.getBasename("c:/path/to/dir/a.txt"));
+        assertEquals("a.txt", FilesystemUtils.getBasename("/path/to/dir/a.txt"));
+    }
+
+    /** Test the getDirname() method. */
+    @Test public void testGetDirname() {
+        assertEquals(null, FilesystemUtils.getDirname(null));
+        assertEquals(null, FilesystemUtils.getDirname(""));
+        assertEquals(null, FilesystemUtils.getDirname("a.txt"));
+        assertEquals("dir", FilesystemUtils.getDirname("dir/a.txt"));
+        assertEquals("c:/dir", FilesystemUtils.getDirname("c:/dir/a.txt"));
+        assertEquals("c:/path/to/dir", FilesystemUtils.getDirname("c:/path/to/dir/a.txt"));
+        assertEquals("/path/to/dir", FilesystemUtils.getDirname("/path/to/dir/a.txt"));
+    }
+
+    /** Test the directory methods. */
+    @Test public void testCreateRemoveDir() throws Exception {
+        File targetDir = new File("target");
+        File firstSubdir = new File("target/working/subdir");
+        File secondSubdir = new File("target/working/subdir/subdir2");
+        File thirdSubdir = new File("target/working/subdir/subdir3");
+
+        assertTrue(targetDir.exists());
+        assertFalse(firstSubdir.exists());
+        assertFalse(secondSubdir.exists());
+        assertFalse(thirdSubdir.exists());
+
+        assertTrue(FilesystemUtils.dirExists("target"));
+        assertFalse(FilesystemUtils.dirExists("target/working/subdir"));
+        assertFalse(FilesystemUtils.dirExists("target/working/subdir/subdir2"));
+
+        FilesystemUtils.createDir("target/working/subdir/subdir2");
+
+        assertTrue(targetDir.exists());
+        assertTrue(firstSubdir.exists());
+        assertTrue(secondSubdir.exists());
+
+        assertTrue(FilesystemUtils.dirExists("target"));
+        assertTrue(FilesystemUtils.dirExists("target/working/subdir"));
+        assertTrue(FilesystemUtils.dirExists("target/working/subdir/subdir2"));
+
+        FilesystemUtils.createDir("target/working/subdir/subdir2");
+
+        assertTrue(targetDir.exists());
+        assertTrue(firstSubdir.exists());
+        assertTrue(secondSubdir.exists());
+
+        assertTrue(FilesystemUtils.dirExists("target"));
+        assertTrue(FilesystemUtils.dirExists("target/working/subdir"));
+        assertTrue(FilesystemUtils.dirExists("target/working/subdir/subdir2"));
+
+        FilesystemUtils.removeEmptyDir("target/working/subdir/subdir2");
+
+        assertTrue(targetDir.exists());
+        assertTrue(firstSubdir.exists());
+        assertFalse(secondSubdir.exists());
+
+        assertTrue(FilesystemUtils.dirExists("target"));
+        assertTrue(FilesystemUtils.dirExists("target/working/subdir"));
+        assertFalse(FilesystemUtils.dirExists("target/working/subdir/subdir2"));
+
+        FilesystemUtils.removeEmptyDir("target/working/subdir/subdir2");  // not there, but it shouldn't matter
+
+        assertTrue(targetDir.exists());
+        assertTrue(firstSubdir.exists());
+        assertFalse(secondSubdir.exists());
+
+        assertTrue(FilesystemUtils.dirExists("target"));
+        assertTrue(FilesystemUtils.dirExists("target/working/subdir"));
+        assertFalse(FilesystemUtils.dirExists("target/working/subdir/subdir2"));
+
+        FilesystemUtils.removeEmptyDir("target/working/subdir");
+
+        assertTrue(targetDir.exists());
+        assertFalse(firstSubdir.exists());
+        assertFalse(secondSubdir.exists());
+
+        assertTrue(FilesystemUtils.dirExists("target"));
+        assertFalse(FilesystemUtils.dirExists("target/working/subdir"));
+        assertFalse(FilesystemUtils.dirExists("target/working/subdir/subdir2"));
+
+        FilesystemUtils.createDir("target/working/subdir/subdir2");
+        FilesystemUtils.createDir("target/working/subdir/subdir3");
+
+        assertTrue(targetDir.exists());
+        assertTrue(firstSubdir.exists());
+        assertTrue(secondSubdir.exists());
+        assertTrue(thirdSubdir.exists());
+
+        assertTrue(FilesystemUtils.dirExists("target"));
+        assertTrue(FilesystemUtils.dirExists("target/working/subdir"));
+        assertTrue(FilesystemUtils.dirExists("target/working/subdir/subdir2"));
+        assertTrue(FilesystemUtils.dirExists("target/working/subdir/subdir3"));
+
+        FilesystemUtils.removeDir("target/working/subdir", true);
+
+        assertTrue(targetDir.exists());
+        assertFalse(firstSubdir.exists());
+        assertFalse(secondSubdir.exists());
+        assertFalse(thirdSubdir.exists());
+
+        assertTrue(FilesystemUtils.dirExists("target"));
+        assertFalse(FilesystemUtils.dirExists("target/working/subdir"));
+        assertFalse(FilesystemUtils.dirExists("target/working/subdir/subdir2"));
+        assertFalse(FilesystemUtils.dirExists("target/working/subdir/subdir3"));
+    }
+
+    /** Test the createFile() and removeFile() methods. */
+    @Test public void testCreateRemoveFile() throws Exception {
+        File targetDir = new File("target");
+        File targetFile = new File("target/working/file.txt");
+
+        assertTrue(targetDir.exists());
+        assertFalse(targetFile.exists());
+        assertFalse(FilesystemUtils.fileExists("target/working/file.txt"));
+
+        FilesystemUtils.removeFile("target/working/file.txt");
+
+        assertTrue(targetDir.exists());
+        assertFalse(targetFile.exists());
+        assertFalse(FilesystemUtils.fileExists("target/working/file.txt"));
+
+        FilesystemUtils.createFile("target/working/file.txt");
+
+        assertTrue(targetDir.exists());
+        assertTrue(targetFile.exists());
+        assertTrue(FilesystemUtils.fileExists("target/working/file.txt"));
+
+        FilesystemUtils.removeFile("target/working/file.txt");
+
+        assertTrue(targetDir.exists());
+        assertFalse(targetFile.exists());
+        assertFalse(FilesystemUtils.fileExists("target/working/file.txt"));
+    }
+
+    /** Test the getFileContents() method. */
+    @Test public void testGetFileContents() throws Exception {
+        try {
+            File targetDir = new File("target");
+            File targetFile = new File("target/working/file.txt");
+
+            assertTrue(targetDir.exists());
+
+            FileOutputStream stream = new FileOutputStream("target/working/file.txt");
+            stream.write(StringUtils.getBytes("LINE1\n"));
+            stream.write(StringUtils.getBytes("LINE2\n"));
+            stream.write(StringUtils.getBytes("LINE3\n"));
+            stream.write(StringUtils.getBytes("LINE4\n"));
+            stream.close();
+
+            assertTrue(targetDir.exists());
+            assertTrue(targetFile.exists());
+
+            List<String> lines = FilesystemUtils.getFileContents("target/working/file.txt");
+            assertNotNull(lines);
+            assertEquals(4, lines.size());
+            assertEquals("LINE1", lines.get(0));
+            assertEquals("LINE2", lines.get(1));
+            assertEquals("LINE3", lines.get(2));
+            assertEquals("LINE4", lines.get(3));
+        } finally {
+            FilesystemUtils.removeFile("target/working/file.txt");
+        }
+    }
+
+    /** Test the getFileContentsAsString() method, with a trailing newline. */
+    @Test public void testGetFileContentsAsString1() throws Exception {
+        try {
+            File targetDir = new File("target");
+            File targetFile = new File("target/working/file.txt");
+
+            assertTrue(targetDir.exists());
+
+            FileOutputStream stream = new FileOutputStream("target/working/file.txt");
+            stream.write(StringUtils.getBytes("LINE1\n"));
+            stream.write(StringUtils.getBytes("LINE2\n"));
+            stream.write(StringUtils.getBytes("LINE3\n"));
+            stream.write(StringUtils.getBytes("LINE4\n"));
+            stream.close();
+
+            assertTrue(targetDir.exists());
+            assertTrue(targetFile.exists());
+
+            String result = FilesystemUtils.getFileContentsAsString("target/working/file.txt");
+            assertNotNull(result);
+            assertEquals("LINE1\nLINE2\nLINE3\nLINE4\n", result);
+        } finally {
+            FilesystemUtils.removeFile("target/working/file.txt");
+        }
+    }
+
+    /** Test the getFileContentsAsString() method, without a trailing newline. */
+    @Test public void testGetFileContentsAsString2() throws Exception {
+        try {
+            File targetDir = new File("target");
+            File targetFile = new File("target/working/file.txt");
+
+            assertTrue(targetDir.exists());
+
+            FileOutputStream stream = new FileOutputStream("target/working/file.txt");
+            stream.write(StringUtils.getBytes("LINE1\n"));
+            stream.write(StringUtils.getBytes("LINE2\n"));
+            stream.write(StringUtils.getBytes("LINE3\n"));
+            stream.write(StringUtils.getBytes("LINE4"));
+            stream.close();
+
+            assertTrue(targetDir.exists());
+            assertTrue(targetFile.exists());
+
+            String result = FilesystemUtils.getFileContentsAsString("target/working/file.txt");
+            assertNotNull(result);
+            assertEquals("LINE1\nLINE2\nLINE3\nLINE4", result);
+        } finally {
+            FilesystemUtils.removeFile("target/working/file.txt");
+        }
+    }
+
+    /** Test getFileContentsAsString() with an explicit character set, both read and memory-mapped. */
+    @Test public void testGetFileContentsAsStringCharset() throws Exception {
+        try {
+            FileOutputStream stream = new FileOutputStream("target/working/file.txt");
+            stream.write("caf\u00e9\r\nna\u00efve\n".getBytes("UTF-8"));
+            stream.close();
+
+            assertEquals("caf\u00e9\r\nna\u00efve\n", FilesystemUtils.getFileContentsAsString("target/working/file.txt", UTF_8));
+            assertEquals("caf\u00e9\r\nna\u00efve\n", FilesystemUtils.getFileContentsAsString("target/working/file.txt", UTF_8, 1));
+            assertEquals("caf\u00c3\u00a9\r\nna\u00c3\u00afve\n", FilesystemUtils.getFileContentsAsString("target/working/file.txt", ISO_8859_1, 1));
+
+            FilesystemUtils.writeFileContents("target/working/file.txt", "");
+            assertEquals("", FilesystemUtils.getFileContentsAsString("target/working/file.txt", UTF_8));
+            assertEquals("", FilesystemUtils.getFileContentsAsString("target/working/file.txt", UTF_8, 0));
+
+            try {
+                FilesystemUtils.getFileContentsAsString("target/working/missing.txt", UTF_8);
+                fail("Expected RuntimeException");
+            } catch (RuntimeException e) { }
+        } finally {
+            FilesystemUtils.removeFile("target/working/file.txt");
+        }
+    }
+
+    /** Test getFileContentsAsBytes(). */
+    @Test public void testGetFileContentsAsBytes() throws Exception {
+        try {
+            byte[] bytes = new byte[100000];
+            for (int i = 0; i < bytes.length; i++) {
+                bytes[i] = (byte) i;
+            }
+
+            FileOutputStream stream = new FileOutputStream("target/working/file.bin");
+            stream.write(bytes);
+            stream.close();
+
+            assertTrue(Arrays.equals(bytes, FilesystemUtils.getFileContentsAsBytes("target/working/file.bin")));
+
+            FilesystemUtils.writeFileContents("target/working/file.bin", "");
+            assertEquals(0, FilesystemUtils.getFileContentsAsBytes("target/working/file.bin").length);
+        } finally {
+            FilesystemUtils.removeFile("target/working/file.bin");
+        }
+    }
+
+    /** Test getFileLines() and getFileContents() with mixed line endings. */
+    @Test public void testGetFileLines() throws Exception {
+        try {
+            FileOutputStream stream = new FileOutputStream("target/working/file.txt");
+            stream.write("LINE1\nLINE2\r\nLINE3\rna\u00efve".getBytes("UTF-8"));
+            stream.close();
+
+            List<String> expected = Arrays.asList("LINE1", "LINE2", "LINE3", "na\u00efve");
+            assertEquals(expected, FilesystemUtils.getFileContents("target/working/file.txt", UTF_8));
+
+            List<String> lines = new ArrayList<String>();
+            FileLines fileLines = FilesystemUtils.getFileLines("target/working/file.txt", UTF_8);
+            for (String line : fileLines) {
+                lines.add(line);
+            }
+            assertEquals(expected, lines);
+            assertFalse(fileLines.hasNext());
+
+            fileLines = FilesystemUtils.getFileLines("target/working/file.txt", UTF_8);
+            try {
+                assertTrue(fileLines.hasNext());
+                assertTrue(fileLines.hasNext());  // doesn't consume a line
+                assertEquals("LINE1", fileLines.next());
+            } finally {
+                fileLines.close();
+                fileLines.close();  // safe to close twice
+            }
+            assertFalse(fileLines.hasNext());
+
+            try {
+                fileLines.next();
+                fail("Expected NoSuchElementException");
+            } catch (NoSuchElementException e) { }
+
+            try {
+                FilesystemUtils.getFileLines("target/working/missing.txt");
+                fail("Expected RuntimeException");
+            } catch (RuntimeException e) { }
+        } finally {
+            FilesystemUtils.removeFile("target/working/file.txt");
+        }
+    }
+
+    /** Test writeFileContents(). */
+    @Test public void testWriteFileContentsString() throws Exception {
+        assertFalse(FilesystemUtils.fileExists("target/working/file.txt"));
+
+        String source = "LINE1\nLINE2\nLINE3\nLINE4\n";
+
+        FilesystemUtils.writeFileContents("target/working/file.txt", source);
+
+        List<String> resultLines = FilesystemUtils.getFileContents("target/working/file.txt");
+        assertNotNull(resultLines);
+        assertEquals(4, resultLines.size());
+        assertEquals("LINE1", resultLines.get(0));
+        assertEquals("LINE2", resultLines.get(1));
+        assertEquals("LINE3", resultLines.get(2));
+        assertEquals("LINE4", resultLines.get(3));
+
+        FilesystemUtils.removeFile("target/working/file.txt");
+    }
+
+    /** Test writeFileContents(). */
+    @Test public void testWriteFileContentsList() throws Exception {
+        assertFalse(FilesystemUtils.fileExists("target/working/file.txt"));
+
+        List<String> sourceLines = new ArrayList<String>();
+        sourceLines.add("LINE1");
+        sourceLines.add("LINE2");
+        sourceLines.add("LINE3");
+        sourceLines.add("LINE4");
+
+        FilesystemUtils.writeFileContents("target/working/file.txt", sourceLines);
+
+        List<String> resultLines = FilesystemUtils.getFileContents("target/working/file.txt");
+        assertNotNull(resultLines);
+        assertEquals(4, resultLines.size());
+        assertEquals("LINE1", resultLines.get(0));
+        assertEquals("LINE2", resultLines.get(1));
+        assertEquals("LINE3", resultLines.get(2));
+        assertEquals("LINE4", resultLines.get(3));
+
+        FilesystemUtils.removeFile("target/working/file.txt");
+    }
+
+    /** Test that writeFileContents() leaves no temporary file behind when it fails. */
+    @Test public void testWriteFileContentsFailure() throws Exception {
+        FilesystemUtils.createDir("target/working/failure");
+
+        // the second line can't be produced, so the write fails partway through
+        List<String> lines = new AbstractList<String>() {
+            @Override
+            public String get(int index) {
+                if (index > 0) {
+                    throw new IllegalStateException("Hello");
+                }
+
+                return "LINE1";
+            }
+
+            @Override
+            public int size() {
+                return 2;
+            }
+        };
+
+        try {
+            FilesystemUtils.writeFileContents("target/working/failure/file.txt", lines);
+            fail("Expected RuntimeException");
+        } catch (RuntimeException e) { }
+
+        assertEquals(0, new File("target/working/failure").list().length);
+        FilesystemUtils.removeEmptyDir("target/working/failure");
+    }
+
+    /** Test the copyFile() method. */
+    @Test public void testCopyFile() throws Exception {
+        assertFalse(FilesystemUtils.fileExists("target/working/file.txt"));
+        assertFalse(FilesystemUtils.fileExists("target/working/copy.txt"));
+
+        List<String> sourceLines = new ArrayList<String>();
+        sourceLines.add("LINE1");
+        sourceLines.add("LINE2");
+        sourceLines.add("LINE3");
+        sourceLines.add("LINE4");
+
+        FilesystemUtils.writeFileContents("target/working/file.txt", sourceLines);
+        FilesystemUtils.copyFile("target/working/file.txt", "target/working/copy.txt");
+
+        assertTrue(FilesystemUtils.fileExists("target/working/copy.txt"));
+
+        List<String> resultLines = FilesystemUtils.getFileContents("target/working/copy.txt");
+        assertNotNull(resultLines);
+        assertEquals(4, resultLines.size());
+        assertEquals("LINE1", resultLines.get(0));
+        assertEquals("LINE2", resultLines.get(1));
+        assertEquals("LINE3", resultLines.get(2));
+        assertEquals("LINE4", resultLines.get(3));
+
+        FilesystemUtils.removeFile("target/working/file.txt");
+        FilesystemUtils.removeFile("target/working/copy.txt");
+    }
+
+    /** Test the copyFile() method with a file larger than one transfer chunk. */
+    @Test public void testCopyFileLarge() throws Exception {
+        byte[] contents = new byte[9 * 1024 * 1024];
+        for (int i = 0; i < contents.length; i++) {
+            contents[i] = (byte) (i % 251);
+        }
+
+        FileOutputStream stream = new FileOutputStream("target/working/large.bin");
+        try {
+            stream.write(contents);
+        } finally {
+            stream.close();
+        }
+
+        FilesystemUtils.copyFile("target/working/large.bin", "target/working/large-copy.bin");
+        assertTrue(Arrays.equals(contents, FilesystemUtils.getFileContentsAsBytes("target/working/large-copy.bin")));
+
+        FilesystemUtils.removeFile("target/working/large.bin");
+        FilesystemUtils.removeFile("target/working/large-copy.bin");
+    }
+
+    /** Test the copyFileToDir() method. */
+    @Test public void testCopyFileToDir() throws Exception {
+        assertFalse(FilesystemUtils.fileExists("target/working/file.txt"));
+        assertFalse(FilesystemUtils.dirExists("target/working/newdir"));
+        assertFalse(FilesystemUtils.fileExists("target/working/newdir/file.txt"));
+
+        FilesystemUtils.createDir("target/working/newdir");
+
+        List<String> sourceLines = new ArrayList<String>();
+        sourceLines.add("LINE1");
+        sourceLines.add("LINE2");
+        sourceLines.add("LINE3");
+        sourceLines.add("LINE4");
+
+        FilesystemUtils.writeFileContents("target/working/file.txt", sourceLines);
+        FilesystemUtils.copyFileToDir("target/working/file.txt", "target/working/newdir");
+
+        assertTrue(FilesystemUtils.fileExists("target/working/newdir/file.txt"));
+
+        List<String> resultLines = FilesystemUtils.getFileContents("target/working/newdir/file.txt");
+        assertNotNull(resultLines);
+        assertEquals(4, resultLines.size());
+        assertEquals("LINE1", resultLines.get(0));
+        assertEquals("LINE2", resultLines.get(1));
+        assertEquals("LINE3", resultLines.get(2));
+        assertEquals("LINE4", resultLines.get(3));
+
+        FilesystemUtils.removeFile("target/working/newdir/file.txt");
+        FilesystemUtils.removeFile("target/working/file.txt");
+        FilesystemUtils.removeEmptyDir("target/working/newdir");
+    }
+
+    /** Test getDirContents(). */
+    @Test public void testGetDirContents() throws Exception {
+        try {
+            assertFalse(FilesystemUtils.dirExists("target/working/contents"));
+
+            try {
+                FilesystemUtils.getDirContents("target/working/contents");
+                fail("Expected RuntimeException");
+            } catch (RuntimeException e) { }
+
+            FilesystemUtils.createDir("target/working/contents");
+            FilesystemUtils.createDir("target/working/contents/subdir1");
+            FilesystemUtils.createDir("target/working/contents/subdir2");
+            FilesystemUtils.createDir("target/working/contents/subdir3");
+            FilesystemUtils.createFile("target/working/contents/file1");
+            FilesystemUtils.createFile("target/working/contents/file2");
+            FilesystemUtils.createFile("target/working/contents/subdir1/file3");
+
+            List<String> contents = FilesystemUtils.getDirContents("target/working/contents");
+            assertEquals(5, contents.size());
+            assertTrue(contents.contains("subdir1"));
+            assertTrue(contents.contains("subdir2"));
+            assertTrue(contents.contains("subdir3"));
+            assertTrue(contents.contains("file1"));
+            assertTrue(contents.contains("file2"));
+
+            contents = FilesystemUtils.getDirContents("target/working/contents/subdir1");
+            assertEquals(1, contents.size());
+            assertTrue(contents.contains("file3"));
+
+            contents = FilesystemUtils.getDirContents("target/working/contents/subdir2");
+            assertTrue(contents.isEmpty());
+
+            contents = FilesystemUtils.getDirContents("target/working/contents/subdir3");
+            assertTrue(contents.isEmpty());
+
+            try {
+                FilesystemUtils.getDirContents("target/working/contents/file1");
+                fail("Expected RuntimeException");
+            } catch (RuntimeException e) { }
+        } finally {
+            FilesystemUtils.removeDir("target/working/contents", true);
+        }
+    }
+
+    /** Test mirrorDir(). */
+    @Test public void testMirrorDir() throws Exception {
+        try {
+            FilesystemUtils.createDir("target/working/mirror/source/subdir");
+            FilesystemUtils.writeFileContents("target/working/mirror/source/file1", "one");
+            FilesystemUtils.writeFileContents("target/working/mirror/source/subdir/file2", "two");
+
+            try {
+                FilesystemUtils.mirrorDir("target/working/mirror/missing", "target/working/mirror/target", false);
+                fail("Expected RuntimeException");
+            } catch (RuntimeException e) { }
+
+            // everything is created the first time
+            assertEquals(4, FilesystemUtils.mirrorDir("target/working/mirror/source", "target/working/mirror/target", false));
+            assertEquals("one", FilesystemUtils.getFileContentsAsString("target/working/mirror/target/file1"));
+            assertEquals("two", FilesystemUtils.getFileContentsAsString("target/working/mirror/target/subdir/file2"));
+
+            // nothing has changed the second time
+            assertEquals(0, FilesystemUtils.mirrorDir("target/working/mirror/source", "target/working/mirror/target", false));
+
+            // changed files are copied and stale ones are deleted
+            FilesystemUtils.writeFileContents("target/working/mirror/source/file1", "uno");
+            FilesystemUtils.removeFile("target/working/mirror/source/subdir/file2");
+            FilesystemUtils.createDir("target/working/mirror/target/stale");
+            FilesystemUtils.createFile("target/working/mirror/target/stale/file3");
+            assertEquals(4, FilesystemUtils.mirrorDir("target/working/mirror/source", "target/working/mirror/target", false));
+            assertEquals("uno", FilesystemUtils.getFileContentsAsString("target/working/mirror/target/file1"));
+            List<String> contents = FilesystemUtils.getDirContents("target/working/mirror/target", true);
+            assertEquals(2, contents.size());
+            assertTrue(contents.contains("file1"));
+            assertTrue(contents.contains("subdir"));
+
+            // a file with a new modification time is only copied if its contents differ
+            File source = new File("target/working/mirror/source/file1");
+            source.setLastModified(source.lastModified() - 60000);
+            assertEquals(0, FilesystemUtils.mirrorDir("target/working/mirror/source", "target/working/mirror/target", true));
+            assertEquals(source.lastModified(), new File("target/working/mirror/target/file1").lastModified());
+            source.setLastModified(source.lastModified() - 60000);
+            assertEquals(1, FilesystemUtils.mirrorDir("target/working/mirror/source", "target/working/mirror/target", false));
+
+            // a directory can replace a file, and vice versa
+            FilesystemUtils.removeFile("target/working/mirror/source/file1");
+            FilesystemUtils.createDir("target/working/mirror/source/file1");
+            FilesystemUtils.removeDir("target/working/mirror/source/subdir", true);
+            FilesystemUtils.writeFileContents("target/working/mirror/source/subdir", "three");
+            assertEquals(2, FilesystemUtils.mirrorDir("target/working/mirror/source", "target/working/mirror/target", false));
+            assertTrue(FilesystemUtils.dirExists("target/working/mirror/target/file1"));
+            assertEquals("three", FilesystemUtils.getFileContentsAsString("target/working/mirror/target/subdir"));
+        } finally {
+            FilesystemUtils.removeDir("target/working/mirror", true);
+        }
+    }
+
+    /** Test unzip(). */
+    @Test public void testUnzip() {
+        FilesystemUtils.copyFile("src/test/java/com/cedarsolutions/util/test.zip", "target/working/test.zip");
+        FilesystemUtils.createDir("target/working/unzip");
+        FilesystemUtils.unzip("target/working/test.zip", "target/working/unzip");
+        List<String> contents = FilesystemUtils.getDirContents("target/working/unzip", true);
+        assertEquals(6, contents.size());
+        assertTrue(contents.contains("test"));
+        assertTrue(contents.contains("test/file1.txt"));
+        assertTrue(contents.contains("test/folder1"));
+        assertTrue(contents.contains("test/folder1/file2.txt"));
+        assertTrue(contents.contains("test/folder2"));
+        assertTrue(contents.contains("test/folder2/file3.txt"));
+    }
+
+    /** Test unzip() in parallel. */
+    @Test public void testUnzipParallel() throws Exception {
+        ZipOutputStream zip = new ZipOutputStream(new FileOutputStream("target/working/parallel.zip"));
+        try {
+            zip.putNextEntry(new ZipEntry("empty/"));
+            for (int i = 0; i < 50; i++) {
+                zip.putNextEntry(new ZipEntry("dir" + (i % 5) + "/sub/file" + i + ".txt"));
+                zip.write(("contents " + i).getBytes("UTF-8"));
+            }
+            zip.putNextEntry(new ZipEntry("large.bin"));
+            zip.write(new byte[3 * 1024 * 1024]);
+        } finally {
+            zip.close();
+        }
+
+        FilesystemUtils.unzip("target/working/parallel.zip", "target/working/parallel", 4);
+        List<String> contents = FilesystemUtils.getDirContents("target/working/parallel", true);
+        assertEquals(1 + 5 + 5 + 50 + 1, contents.size());
+        assertTrue(contents.contains("empty"));
+        assertEquals("contents 17", FilesystemUtils.getFileContentsAsString("target/working/parallel/dir2/sub/file17.txt"));
+        assertEquals(3 * 1024 * 1024, FilesystemUtils.getFileContentsAsBytes("target/working/parallel/large.bin").length);
+
+        FilesystemUtils.removeDir("target/working/parallel", true);
+        FilesystemUtils.removeFile("target/working/parallel.zip");
+    }
+
+    /** Test that unzip() rejects entries outside the target directory. */
+    @Test public void testUnzipOutsideTarget() throws Exception {
+        ZipOutputStream zip = new ZipOutputStream(new FileOutputStream("target/working/slip.zip"));
+        try {
+            zip.putNextEntry(new ZipEntry("good.txt"));
+            zip.putNextEntry(new ZipEntry("../evil.txt"));
+        } finally {
+            zip.close();
+        }
+
+        for (int parallelism : new int[] { 1, 4, }) {
+            try {
+                FilesystemUtils.unzip("target/working/slip.zip", "target/working/slip", parallelism);
+                fail("Expected RuntimeException");
+            } catch (RuntimeException e) { }
+
+            assertFalse(FilesystemUtils.fileExists("target/working/evil.txt"));
+            assertFalse(FilesystemUtils.fileExists("target/working/slip/good.txt"));
+        }
+
+        FilesystemUtils.removeFile("target/working/slip.zip");
+    }
+}
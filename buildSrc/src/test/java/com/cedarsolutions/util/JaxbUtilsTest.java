@@ -1,85 +1,170 @@
-/* * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
- *
- *              C E D A R
- *          S O L U T I O N S       "Software done right."
- *           S O F T W A R E
- *
- * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
- *
- * Copyright (c) 2013 Kenneth J. Pronovici.
- * All rights reserved.
- *
- * This program is free software; you can redistribute it and/or
- * modify it under the terms of the Apache License, Version 2.0.
- * See LICENSE for more information about the licensing terms.
- *
- * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
- *
- * Author   : Kenneth J. Pronovici <pronovic@ieee.org>
- * Language : Java 6
- * Project  : Common Java Functionality
- *
- * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * */
-package com.cedarsolutions.util;
-
-import static org.junit.Assert.assertEquals;
-import static org.junit.Assert.assertNotNull;
-import static org.junit.Assert.assertSame;
-
-import java.util.ArrayList;
-import java.util.Date;
-import java.util.List;
-
-import javax.xml.bind.JAXBContext;
-
-import org.junit.Test;
-
-/**
- * Unit tests for JaxbUtils.
- * @author Kenneth J. Pronovici <pronovic@ieee.org>
- */
-public class JaxbUtilsTest {
-
-    /** Test getJaxbContext(). */
-    @Test public void testGetJaxbContext() {
-        JAXBContext context1 = JaxbUtils.getInstance().getJaxbContext(TestClass.class);
-        assertNotNull(context1);
-
-        JAXBContext context2 = JaxbUtils.getInstance().getJaxbContext(TestClass.class.getName());
-        assertSame(context1, context2);  // because the instance should be cached
-
-        try {
-            JaxbUtils.getInstance().getJaxbContext("bogus");
-        } catch (RuntimeException e) { }
-    }
-
-    /** Test a round-trip. */
-    @Test public void testRoundTrip() {
-        String string = "1";
-        Date date = new Date();
-        Integer integer = new Integer(111);
-        Long longinteger = new Long(222);
-        List<String> list = new ArrayList<String>();
-        list.add("one");
-        list.add("two");
-
-        TestClass input = new TestClass(string, date, integer, longinteger, list);
-        assertNotNull(input);
-        assertEquals(string, input.getString());
-        assertEquals(date, input.getDate());
-        assertEquals(integer, input.getInteger());
-        assertEquals(longinteger, input.getLonginteger());
-
-        String serialized = JaxbUtils.getInstance().marshalDocument(input);
-        assertNotNull(serialized);
-
-        TestClass result = JaxbUtils.getInstance().unmarshalDocument(TestClass.class, serialized);
-        assertNotNull(result);
-        assertEquals(string, result.getString());
-        assertEquals(date, result.getDate());
-        assertEquals(integer, result.getInteger());
-        assertEquals(longinteger, result.getLonginteger());
-        assertEquals(list, result.getList());
-    }
-
-}
+/* * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ *
+ *              C E D A R
+ *          S O L U T I O N S       "Software done right."
+ *           S O F T W A R E
+ *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ *
+ * Copyright (c) 2013 Kenneth J. Pronovici.
+ * All rights reserved.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the Apache License, Version 2.0.
+ * See LICENSE for more information about the licensing terms.
+ *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ *
+ * Author   : Kenneth J. Pronovici <pronovic@ieee.org>
+ * Language : Java 6
+ * Project  : Common Java Functionality
+ *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * */
+package com.cedarsolutions.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import javax.xml.bind.JAXBContext;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for JaxbUtils.
+ * @author Kenneth J. Pronovici <pronovic@ieee.org>
+ */
+public class JaxbUtilsTest {
+
+    /** Test getJaxbContext(). */
+    @Test public void testGetJaxbContext() {
+        JAXBContext context1 = JaxbUtils.getInstance().getJaxbContext(TestClass.class);
+        assertNotNull(context1);
+
+        JAXBContext context2 = JaxbUtils.getInstance().getJaxbContext(TestClass.class.getName());
+        assertSame(context1, context2);  // because the instance should be cached
+
+        try {
+            JaxbUtils.getInstance().getJaxbContext("bogus");
+        } catch (RuntimeException e) { }
+    }
+
+    /** Test a round-trip. */
+    @Test public void testRoundTrip() {
+        String string = "1";
+        Date date = new Date();
+        Integer integer = new Integer(111);
+        Long longinteger = new Long(222);
+        List<String> list = new ArrayList<String>();
+        list.add("one");
+        list.add("two");
+
+        TestClass input = new TestClass(string, date, integer, longinteger, list);
+        assertNotNull(input);
+        assertEquals(string, input.getString());
+        assertEquals(date, input.getDate());
+        assertEquals(integer, input.getInteger());
+        assertEquals(longinteger, input.getLonginteger());
+
+        String serialized = JaxbUtils.getInstance().marshalDocument(input);
+        assertNotNull(serialized);
+
+        TestClass result = JaxbUtils.getInstance().unmarshalDocument(TestClass.class, serialized);
+        assertNotNull(result);
+        assertEquals(string, result.getString());
+        assertEquals(date, result.getDate());
+        assertEquals(integer, result.getInteger());
+        assertEquals(longinteger, result.getLonginteger());
+        assertEquals(list, result.getList());
+    }
+
+    /** Test the metrics for context and (un)marshaller reuse. */
+    @Test public void testMetrics() {
+        JaxbUtils jaxbUtils = JaxbUtils.getInstance();
+        TestClass input = createInput(1);
+
+        // Warm up, so the context and one of each (un)marshaller are certainly pooled
+        jaxbUtils.unmarshalDocument(TestClass.class, jaxbUtils.marshalDocument(input));
+
+        long contextBuilds = jaxbUtils.getContextBuilds();
+        long contextReuses = jaxbUtils.getContextReuses();
+        long marshallerCreates = jaxbUtils.getMarshallerCreates();
+        long unmarshallerCreates = jaxbUtils.getUnmarshallerCreates();
+
+        for (int i = 0; i < 5; i++) {
+            String xml = jaxbUtils.marshalDocument(input);
+            assertEquals(input.getString(), jaxbUtils.unmarshalDocument(TestClass.class, xml).getString());
+        }
+
+        assertEquals(contextBuilds, jaxbUtils.getContextBuilds());
+        assertTrue(jaxbUtils.getContextReuses() >= contextReuses + 10);
+        assertEquals(marshallerCreates, jaxbUtils.getMarshallerCreates());
+        assertEquals(unmarshallerCreates, jaxbUtils.getUnmarshallerCreates());
+    }
+
+    /** Test that validation errors are still reported when unmarshallers are reused. */
+    @Test public void testValidationWithReuse() {
+        JaxbUtils jaxbUtils = JaxbUtils.getInstance();
+        String xml = jaxbUtils.marshalDocument(createInput(1));
+        String invalid = xml.replaceFirst("<integer>[^<]*</integer>", "<integer>bogus</integer>");
+
+        try {
+            jaxbUtils.unmarshalDocument(TestClass.class, invalid);
+            fail("Expected RuntimeException");
+        } catch (RuntimeException e) {
+            assertTrue(e.getMessage().startsWith("Error unmarshalling XML: found validation error(s)"));
+        }
+
+        assertNotNull(jaxbUtils.unmarshalDocument(TestClass.class, invalid, false));
+        assertEquals("1", jaxbUtils.unmarshalDocument(TestClass.class, xml).getString());
+
+        try {
+            jaxbUtils.unmarshalDocument(TestClass.class, invalid);
+            fail("Expected RuntimeException");
+        } catch (RuntimeException e) {
+            assertTrue(e.getMessage().startsWith("Error unmarshalling XML: found validation error(s)"));
+        }
+    }
+
+    /** Test round-trips from many threads at once. */
+    @Test public void testConcurrentRoundTrip() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<String>> futures = new ArrayList<Future<String>>();
+            for (int i = 0; i < 50; i++) {
+                final TestClass input = createInput(i);
+                futures.add(executor.submit(new Callable<String>() {
+                    @Override
+                    public String call() {
+                        JaxbUtils jaxbUtils = JaxbUtils.getInstance();
+                        return jaxbUtils.unmarshalDocument(TestClass.class, jaxbUtils.marshalDocument(input)).getString();
+                    }
+                }));
+            }
+
+            for (int i = 0; i < futures.size(); i++) {
+                assertEquals(String.valueOf(i), futures.get(i).get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /** Create test input. */
+    private static TestClass createInput(int index) {
+        List<String> list = new ArrayList<String>();
+        list.add("item" + index);
+        return new TestClass(String.valueOf(index), new Date(), new Integer(index), new Long(index), list);
+    }
+
+}
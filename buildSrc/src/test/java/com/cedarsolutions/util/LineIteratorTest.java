@@ -0,0 +1,209 @@
+/* * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ *
+ *              C E D A R
+ *          S O L U T I O N S       "Software done right."
+ *           S O F T W A R E
+ *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ *
+ * Copyright (c) 2026 Kenneth J. Pronovici.
+ * All rights reserved.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the Apache License, Version 2.0.
+ * See LICENSE for more information about the licensing terms.
+ *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ *
+ * Author   : Kenneth J. Pronovici <pronovic@ieee.org>
+ * Language : Java 6
+ * Project  : Common Java Functionality
+ *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * */
+package com.cedarsolutions.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for LineIterator.
+ * @author Kenneth J. Pronovici <pronovic@ieee.org>
+ */
+public class LineIteratorTest {
+
+    /** UTF-8 character set. */
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    /** ISO-8859-1 character set. */
+    private static final Charset ISO_8859_1 = Charset.forName("ISO-8859-1");
+
+    /** US-ASCII character set. */
+    private static final Charset US_ASCII = Charset.forName("US-ASCII");
+
+    /** Inputs and the lines expected for each, shared by all sources. */
+    private static final Object[][] CASES = new Object[][] {
+        { "", new String[] { } },
+        { "blech", new String[] { "blech", } },
+        { "one\n", new String[] { "one", } },
+        { "one\r\ntwo", new String[] { "one", "two", } },
+        { "one\rtwo\r", new String[] { "one", "two", } },
+        { "\n\r\n\r", new String[] { "", "", "", } },
+        { "one\r\ntwo\nthree\rfour\r\nfive", new String[] { "one", "two", "three", "four", "five", } },
+        { "one\rtwo\r\nthree\nfour\rfive", new String[] { "one", "two", "three", "four", "five", } },
+        { "one\r\rtwo\n\nthree", new String[] { "one", "", "two", "", "three", } },
+    };
+
+    /** Test iterating over a character sequence. */
+    @Test public void testForChars() {
+        for (Object[] test : CASES) {
+            assertEquals(Arrays.asList((String[]) test[1]), collect(LineIterator.forChars((String) test[0])));
+        }
+
+        assertEquals(new ArrayList<String>(), collect(LineIterator.forChars(null)));
+
+        // lines are views, so they see changes to the underlying sequence
+        StringBuilder builder = new StringBuilder("abc\ndef");
+        LineIterator iterator = LineIterator.forChars(builder);
+        CharSequence first = iterator.next();
+        builder.setCharAt(1, 'X');
+        assertEquals("aXc", first.toString());
+        assertEquals("def", iterator.next().toString());
+        assertFalse(iterator.hasNext());
+    }
+
+    /** Test iterating over bytes. */
+    @Test public void testForBytes() throws Exception {
+        for (Object[] test : CASES) {
+            byte[] bytes = ((String) test[0]).getBytes(ISO_8859_1);
+            assertEquals(Arrays.asList((String[]) test[1]), collect(LineIterator.forBytes(bytes, ISO_8859_1)));
+            assertEquals(Arrays.asList((String[]) test[1]), collect(LineIterator.forBytes(bytes, UTF_8)));
+        }
+
+        byte[] bytes = "caf\u00e9\r\nna\u00efve".getBytes(UTF_8);
+        assertEquals(Arrays.asList("caf\u00e9", "na\u00efve"), collect(LineIterator.forBytes(bytes, UTF_8)));
+
+        bytes = "caf\u00e9\r\nna\u00efve".getBytes(ISO_8859_1);
+        LineIterator iterator = LineIterator.forBytes(bytes, ISO_8859_1);
+        CharSequence line = iterator.next();
+        assertEquals(4, line.length());
+        assertEquals('\u00e9', line.charAt(3));
+        assertEquals("af", line.subSequence(1, 3).toString());
+        assertEquals("na\u00efve", iterator.next().toString());
+
+        // only the remaining bytes are used, and the buffer itself is not consumed
+        ByteBuffer buffer = ByteBuffer.wrap("skip\none\ntwo\nignored".getBytes(ISO_8859_1));
+        buffer.position(5);
+        buffer.limit(11);
+        assertEquals(Arrays.asList("one", "tw"), collect(LineIterator.forBytes(buffer, ISO_8859_1)));
+        assertEquals(5, buffer.position());
+
+        ByteBuffer direct = ByteBuffer.allocateDirect(7);
+        direct.put("one\ntwo".getBytes(ISO_8859_1));
+        direct.flip();
+        assertEquals(Arrays.asList("one", "two"), collect(LineIterator.forBytes(direct, ISO_8859_1)));
+    }
+
+    /** Test that US-ASCII bytes outside the character set decode the same way as Charset.decode(). */
+    @Test public void testForBytesNonAscii() {
+        byte[] bytes = new byte[] { 'c', 'a', 'f', (byte) 0xE9, '\r', '\n', (byte) 0x80, 'x', };
+        String decoded = US_ASCII.decode(ByteBuffer.wrap(bytes)).toString();
+        assertEquals("caf\ufffd\r\n\ufffdx", decoded);
+        assertEquals(Arrays.asList("caf\ufffd", "\ufffdx"), collect(LineIterator.forBytes(bytes, US_ASCII)));
+
+        LineIterator iterator = LineIterator.forBytes(bytes, US_ASCII);
+        CharSequence line = iterator.next();
+        assertEquals(4, line.length());
+        assertEquals('\ufffd', line.charAt(3));
+        assertEquals("f\ufffd", line.subSequence(2, 4).toString());
+        assertEquals('\ufffd', line.subSequence(2, 4).charAt(1));
+
+        ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length);
+        direct.put(bytes);
+        direct.flip();
+        assertEquals(Arrays.asList("caf\ufffd", "\ufffdx"), collect(LineIterator.forBytes(direct, US_ASCII)));
+
+        // ISO-8859-1 still maps every byte directly
+        assertEquals(Arrays.asList("caf\u00e9", "\u0080x"), collect(LineIterator.forBytes(bytes, ISO_8859_1)));
+    }
+
+    /** Test iterating over a reader. */
+    @Test public void testForReader() {
+        for (Object[] test : CASES) {
+            assertEquals(Arrays.asList((String[]) test[1]), collect(LineIterator.forReader(new StringReader((String) test[0]))));
+            assertEquals(Arrays.asList((String[]) test[1]), collect(LineIterator.forReader(new TrickleReader((String) test[0]))));
+        }
+
+        // a line longer than the buffer, with a CRLF split across reads
+        StringBuffer longLine = new StringBuffer();
+        for (int i = 0; i < 20000; i++) {
+            longLine.append((char) ('a' + (i % 26)));
+        }
+
+        String input = "short\r\n" + longLine + "\r\nend";
+        assertEquals(Arrays.asList("short", longLine.toString(), "end"), collect(LineIterator.forReader(new TrickleReader(input))));
+        assertEquals(Arrays.asList("short", longLine.toString(), "end"), collect(LineIterator.forReader(new StringReader(input))));
+    }
+
+    /** Test the iterator contract. */
+    @Test public void testIterator() {
+        LineIterator iterator = LineIterator.forChars("one");
+        try {
+            iterator.remove();
+            fail("Expected UnsupportedOperationException");
+        } catch (UnsupportedOperationException e) { }
+
+        assertEquals("one", iterator.next().toString());
+        assertFalse(iterator.hasNext());
+
+        try {
+            iterator.next();
+            fail("Expected NoSuchElementException");
+        } catch (NoSuchElementException e) { }
+    }
+
+    /** Collect the lines from an iterator as strings. */
+    private static List<String> collect(LineIterator iterator) {
+        List<String> lines = new ArrayList<String>();
+        for (CharSequence line : iterator) {
+            lines.add(line.toString());
+        }
+
+        return lines;
+    }
+
+    /** Reader that returns at most three characters at a time, to exercise buffer boundaries. */
+    private static class TrickleReader extends Reader {
+
+        /** Underlying reader. */
+        private Reader reader;
+
+        /** Create a reader. */
+        public TrickleReader(String value) {
+            this.reader = new StringReader(value);
+        }
+
+        @Override
+        public int read(char[] buffer, int offset, int length) throws IOException {
+            return this.reader.read(buffer, offset, Math.min(3, length));
+        }
+
+        @Override
+        public void close() throws IOException {
+            this.reader.close();
+        }
+    }
+
+}
@@ -0,0 +1,177 @@
+/* * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ *
+ *              C E D A R
+ *          S O L U T I O N S       "Software done right."
+ *           S O F T W A R E
+ *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ *
+ * Copyright (c) 2026 Kenneth J. Pronovici.
+ * All rights reserved.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the Apache License, Version 2.0.
+ * See LICENSE for more information about the licensing terms.
+ *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ *
+ * Author   : Kenneth J. Pronovici <pronovic@ieee.org>
+ * Language : Java 6
+ * Project  : Common Java Functionality
+ *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * */
+package com.cedarsolutions.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for MercurialCommandServer.
+ * @author Kenneth J. Pronovici <pronovic@ieee.org>
+ */
+public class MercurialCommandServerTest {
+
+    /** Test the protocol against a fake command server. */
+    @Test public void testRunCommand() {
+        MercurialCommandServer server = new MercurialCommandServer(createFakeServerCommand(), null);
+        try {
+            assertEquals("UTF-8", server.getEncoding());
+
+            CommandLineResult result = server.runCommand(Arrays.asList("echo", "hello", "world"));
+            assertEquals(0, result.getExitCode());
+            assertEquals("hello world\n", result.getOutput());
+
+            result = server.runCommand(Arrays.asList("error"));
+            assertEquals(255, result.getExitCode());
+            assertEquals("abort: oops\n", result.getOutput());
+
+            result = server.runCommand(Arrays.asList("prompt"));
+            assertEquals(0, result.getExitCode());
+            assertEquals("answer length 0\n", result.getOutput());
+
+            // the server is still usable after all of that
+            result = server.runCommand(Arrays.asList("echo", "again"));
+            assertEquals(0, result.getExitCode());
+            assertEquals("again\n", result.getOutput());
+        } finally {
+            server.close();
+        }
+    }
+
+    /** Test streaming output that is split across many frames. */
+    @Test public void testRunCommandHandler() {
+        MercurialCommandServer server = new MercurialCommandServer(createFakeServerCommand(), null);
+        try {
+            final int[] count = new int[1];
+            CommandLineResult result = server.runCommand(Arrays.asList("big", "25000"), new CommandLineOutputHandler() {
+                public void handleOutput(InputStream stream) throws Exception {
+                    while (stream.read() != -1) {
+                        count[0] += 1;
+                    }
+                }
+            });
+            assertEquals(0, result.getExitCode());
+            assertEquals("", result.getOutput());
+            assertEquals(25000, count[0]);
+
+            // a handler that stops early doesn't leave the protocol out of sync
+            result = server.runCommand(Arrays.asList("big", "25000"), new CommandLineOutputHandler() {
+                public void handleOutput(InputStream stream) throws Exception {
+                    stream.read(new byte[10]);
+                }
+            });
+            assertEquals(0, result.getExitCode());
+
+            result = server.runCommand(Arrays.asList("echo", "done"));
+            assertEquals("done\n", result.getOutput());
+        } finally {
+            server.close();
+        }
+    }
+
+    /** Test behavior when the server can't be started. */
+    @Test public void testUnavailable() {
+        CommandLine command = new CommandLine(getJava(), "-cp", System.getProperty("java.class.path"), "com.cedarsolutions.Bogus");
+        try {
+            new MercurialCommandServer(command, null);
+            fail("Expected RuntimeException");
+        } catch (RuntimeException e) { }
+
+        String bogus = new File("target/bogus-hg").getAbsolutePath();
+        assertNull(MercurialCommandServer.getServer(bogus, "."));
+        assertNull(MercurialCommandServer.getServer(bogus, "."));
+        MercurialCommandServer.close(bogus, ".");
+    }
+
+    /** Test that unavailability is only remembered until the repository's server is closed. */
+    @Test public void testUnavailableForgotten() {
+        String mercurial = new File("target/unavailable-hg").getAbsolutePath();
+        CommandLine bogus = new CommandLine(getJava(), "-cp", System.getProperty("java.class.path"), "com.cedarsolutions.Bogus");
+
+        try {
+            assertNull(MercurialCommandServer.getServer(mercurial, ".", bogus));
+            assertNull(MercurialCommandServer.getServer(mercurial, ".", createFakeServerCommand()));
+
+            MercurialCommandServer.close(mercurial, ".");
+            MercurialCommandServer server = MercurialCommandServer.getServer(mercurial, ".", createFakeServerCommand());
+            assertNotNull(server);
+            assertEquals(0, server.runCommand(Arrays.asList("echo", "hello")).getExitCode());
+        } finally {
+            MercurialCommandServer.close(mercurial, ".");
+        }
+    }
+
+    /** Test that a shared server which fails is replaced rather than handed out again. */
+    @Test public void testFailedServerReplaced() {
+        String mercurial = new File("target/failing-hg").getAbsolutePath();
+
+        try {
+            MercurialCommandServer server = MercurialCommandServer.getServer(mercurial, ".", createFakeServerCommand());
+            assertNotNull(server);
+            assertSame(server, MercurialCommandServer.getServer(mercurial, ".", createFakeServerCommand()));
+
+            try {
+                server.runCommand(Arrays.asList("echo", "hello"), new CommandLineOutputHandler() {
+                    public void handleOutput(InputStream stream) throws Exception {
+                        throw new IOException("Handler failed");
+                    }
+                });
+                fail("Expected RuntimeException");
+            } catch (RuntimeException e) { }
+
+            assertTrue(server.isClosed());
+
+            MercurialCommandServer replacement = MercurialCommandServer.getServer(mercurial, ".", createFakeServerCommand());
+            assertNotNull(replacement);
+            assertNotSame(server, replacement);
+            assertFalse(replacement.isClosed());
+            assertEquals("hello\n", replacement.runCommand(Arrays.asList("echo", "hello")).getOutput());
+        } finally {
+            MercurialCommandServer.close(mercurial, ".");
+        }
+    }
+
+    /** Create a command line that starts the fake command server. */
+    private static CommandLine createFakeServerCommand() {
+        return new CommandLine(getJava(), "-cp", System.getProperty("java.class.path"), FakeCommandServer.class.getName());
+    }
+
+    /** Get the path to the Java executable for the running JVM. */
+    private static String getJava() {
+        return FilesystemUtils.join(System.getProperty("java.home"), "bin", "java");
+    }
+
+}
@@ -0,0 +1,108 @@
+/* * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ *
+ *              C E D A R
+ *          S O L U T I O N S       "Software done right."
+ *           S O F T W A R E
+ *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ *
+ * Copyright (c) 2026 Kenneth J. Pronovici.
+ * All rights reserved.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the Apache License, Version 2.0.
+ * See LICENSE for more information about the licensing terms.
+ *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ *
+ * Author   : Kenneth J. Pronovici <pronovic@ieee.org>
+ * Language : Java 6
+ * Project  : Common Java Functionality
+ *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * */
+package com.cedarsolutions.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for PatternCache.
+ * @author Kenneth J. Pronovici <pronovic@ieee.org>
+ */
+public class PatternCacheTest {
+
+    /** Test the constructor. */
+    @Test public void testConstructor() {
+        assertEquals(PatternCache.DEFAULT_MAX_SIZE, new PatternCache().getMaxSize());
+        assertEquals(5, new PatternCache(5).getMaxSize());
+
+        try {
+            new PatternCache(0);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException e) { }
+    }
+
+    /** Test get() and the statistics. */
+    @Test public void testGet() {
+        PatternCache cache = new PatternCache(5);
+        assertEquals(0, cache.getSize());
+        assertEquals(0, cache.getHits());
+        assertEquals(0, cache.getMisses());
+        assertEquals(0.0, cache.getHitRate(), 0.0);
+
+        Pattern first = cache.get("A+");
+        assertEquals("A+", first.pattern());
+        assertEquals(1, cache.getSize());
+        assertEquals(0, cache.getHits());
+        assertEquals(1, cache.getMisses());
+
+        assertSame(first, cache.get("A+"));
+        assertSame(first, cache.get("A+"));
+        assertEquals(1, cache.getSize());
+        assertEquals(2, cache.getHits());
+        assertEquals(1, cache.getMisses());
+        assertEquals(2.0 / 3.0, cache.getHitRate(), 0.0001);
+
+        cache.clear();
+        assertEquals(0, cache.getSize());
+        assertEquals(0, cache.getHits());
+        assertEquals(0, cache.getMisses());
+        assertNotSame(first, cache.get("A+"));
+    }
+
+    /** Test that the least recently used pattern is evicted. */
+    @Test public void testEviction() {
+        PatternCache cache = new PatternCache(2);
+
+        Pattern a = cache.get("A");
+        Pattern b = cache.get("B");
+        assertSame(a, cache.get("A"));  // B is now least recently used
+        cache.get("C");
+
+        assertEquals(2, cache.getSize());
+        assertSame(a, cache.get("A"));
+        assertNotSame(b, cache.get("B"));
+        assertEquals(2, cache.getSize());
+    }
+
+    /** Test get() with an invalid expression. */
+    @Test public void testGetInvalid() {
+        PatternCache cache = new PatternCache();
+
+        try {
+            cache.get("[");
+            fail("Expected PatternSyntaxException");
+        } catch (PatternSyntaxException e) { }
+
+        assertEquals(0, cache.getSize());
+        assertEquals(0, cache.getMisses());
+    }
+
+}
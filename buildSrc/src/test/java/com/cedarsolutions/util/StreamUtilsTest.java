@@ -0,0 +1,177 @@
+/* * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ *
+ *              C E D A R
+ *          S O L U T I O N S       "Software done right."
+ *           S O F T W A R E
+ *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ *
+ * Copyright (c) 2026 Kenneth J. Pronovici.
+ * All rights reserved.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the Apache License, Version 2.0.
+ * See LICENSE for more information about the licensing terms.
+ *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ *
+ * Author   : Kenneth J. Pronovici <pronovic@ieee.org>
+ * Language : Java 6
+ * Project  : Common Java Functionality
+ *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * */
+package com.cedarsolutions.util;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for StreamUtils.
+ * @author Kenneth J. Pronovici <pronovic@ieee.org>
+ */
+public class StreamUtilsTest {
+
+    /** UTF-8 character set. */
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    /** Test readBytes(). */
+    @Test public void testReadBytes() {
+        byte[] data = createData(100000);
+
+        assertArrayEquals(new byte[0], StreamUtils.readBytes(null, 0, StreamUtils.UNLIMITED));
+        assertArrayEquals(new byte[0], StreamUtils.readBytes(stream(new byte[0]), 0, StreamUtils.UNLIMITED));
+        assertArrayEquals(data, StreamUtils.readBytes(stream(data), 0, StreamUtils.UNLIMITED));
+        assertArrayEquals(data, StreamUtils.readBytes(stream(data), data.length, StreamUtils.UNLIMITED));
+        assertArrayEquals(data, StreamUtils.readBytes(stream(data), 10, StreamUtils.UNLIMITED));
+        assertArrayEquals(data, StreamUtils.readBytes(stream(data), 500000, StreamUtils.UNLIMITED));
+        assertArrayEquals(data, StreamUtils.readBytes(stream(data), 0, data.length));
+        assertArrayEquals(data, StreamUtils.readBytes(trickle(data), 0, data.length));
+    }
+
+    /** Test readBytes() with a large stream, no size hint and no maximum size. */
+    @Test public void testReadBytesLarge() {
+        byte[] data = createData(8 * 1024 * 1024);
+
+        long start = System.currentTimeMillis();
+        assertArrayEquals(data, StreamUtils.readBytes(stream(data), 0, StreamUtils.UNLIMITED));
+        assertArrayEquals(data, StreamUtils.readBytes(trickle(data, 65536), 0, StreamUtils.UNLIMITED));
+        assertEquals(data.length, StreamUtils.readChars(stream(data), Charset.forName("ISO-8859-1"), 0, StreamUtils.UNLIMITED).length());
+        long elapsed = System.currentTimeMillis() - start;
+
+        // the buffer should grow by doubling, so this is fast; growing a byte at a time would take minutes
+        assertTrue("Reading took " + elapsed + "ms", elapsed < 10000);
+    }
+
+    /** Test readBytes() when the stream is larger than allowed. */
+    @Test public void testReadBytesMaxSize() {
+        byte[] data = createData(100000);
+
+        try {
+            StreamUtils.readBytes(stream(data), 0, data.length - 1);
+            fail("Expected RuntimeException");
+        } catch (RuntimeException e) { }
+
+        try {
+            StreamUtils.readBytes(stream(data), data.length, data.length - 1);
+            fail("Expected RuntimeException");
+        } catch (RuntimeException e) { }
+
+        try {
+            StreamUtils.readBytes(stream(new byte[1]), 0, 0);
+            fail("Expected RuntimeException");
+        } catch (RuntimeException e) { }
+
+        assertArrayEquals(new byte[0], StreamUtils.readBytes(stream(new byte[0]), 0, 0));
+    }
+
+    /** Test readBytes() when the stream fails. */
+    @Test public void testReadBytesFailure() {
+        InputStream stream = new InputStream() {
+            @Override
+            public int read() throws IOException {
+                throw new IOException("Hello");
+            }
+        };
+
+        try {
+            StreamUtils.readBytes(stream, 0, StreamUtils.UNLIMITED);
+            fail("Expected RuntimeException");
+        } catch (RuntimeException e) {
+            assertEquals("Failed to read stream: Hello", e.getMessage());
+        }
+    }
+
+    /** Test readString(). */
+    @Test public void testReadString() {
+        String value = "caf\u00e9 \u4e2d\u6587 \ud83d\ude00\nline two\r\n";
+        byte[] data = value.getBytes(UTF_8);
+
+        assertEquals("", StreamUtils.readString(null, UTF_8, 0, StreamUtils.UNLIMITED));
+        assertEquals(value, StreamUtils.readString(stream(data), UTF_8, 0, StreamUtils.UNLIMITED));
+        assertEquals(value, StreamUtils.readString(stream(data), UTF_8, data.length, data.length));
+        assertEquals("\ufffd", StreamUtils.readString(stream(new byte[] { (byte) 0xC3 }), UTF_8, 0, StreamUtils.UNLIMITED));
+    }
+
+    /** Test readChars(). */
+    @Test public void testReadChars() {
+        String value = "caf\u00e9 \u4e2d\u6587 \ud83d\ude00\nline two\r\n";
+        byte[] data = value.getBytes(UTF_8);
+        Charset latin1 = Charset.forName("ISO-8859-1");
+
+        assertEquals("", StreamUtils.readChars(null, UTF_8, 0, StreamUtils.UNLIMITED).toString());
+        assertEquals(value, StreamUtils.readChars(stream(data), UTF_8, 0, StreamUtils.UNLIMITED).toString());
+        assertEquals(value.length(), StreamUtils.readChars(stream(data), UTF_8, 0, StreamUtils.UNLIMITED).length());
+        assertEquals(new String(data, latin1), StreamUtils.readChars(stream(data), latin1, 0, StreamUtils.UNLIMITED).toString());
+        assertEquals("a\ufffdb", StreamUtils.readChars(stream(new byte[] { 'a', (byte) 0xFF, 'b' }), UTF_8, 0, StreamUtils.UNLIMITED).toString());
+
+        // the decoder is reused, so make sure state from one call does not leak into the next
+        assertEquals("\ufffd", StreamUtils.readChars(stream(new byte[] { (byte) 0xE4, (byte) 0xB8 }), UTF_8, 0, StreamUtils.UNLIMITED).toString());
+        assertEquals("abc", StreamUtils.readChars(stream(new byte[] { 'a', 'b', 'c' }), UTF_8, 0, StreamUtils.UNLIMITED).toString());
+
+        try {
+            StreamUtils.readChars(stream(data), UTF_8, 0, data.length - 1);
+            fail("Expected RuntimeException");
+        } catch (RuntimeException e) { }
+    }
+
+    /** Create test data with a recognizable pattern. */
+    private static byte[] createData(int length) {
+        byte[] data = new byte[length];
+        for (int i = 0; i < length; i++) {
+            data[i] = (byte) (i % 251);
+        }
+
+        return data;
+    }
+
+    /** Create a stream over some data. */
+    private static InputStream stream(byte[] data) {
+        return new ByteArrayInputStream(data);
+    }
+
+    /** Create a stream that returns at most a few bytes per read. */
+    private static InputStream trickle(byte[] data) {
+        return trickle(data, 7);
+    }
+
+    /** Create a stream that returns at most a certain number of bytes per read. */
+    private static InputStream trickle(byte[] data, final int chunk) {
+        return new FilterInputStream(new ByteArrayInputStream(data)) {
+            @Override
+            public int read(byte[] b, int off, int len) throws IOException {
+                return super.read(b, off, Math.min(len, chunk));
+            }
+        };
+    }
+
+}
@@ -0,0 +1,120 @@
+/* * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ *
+ *              C E D A R
+ *          S O L U T I O N S       "Software done right."
+ *           S O F T W A R E
+ *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ *
+ * Copyright (c) 2026 Kenneth J. Pronovici.
+ * All rights reserved.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the Apache License, Version 2.0.
+ * See LICENSE for more information about the licensing terms.
+ *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ *
+ * Author   : Kenneth J. Pronovici <pronovic@ieee.org>
+ * Language : Java 6
+ * Project  : Common Java Functionality
+ *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * */
+package com.cedarsolutions.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.util.List;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * Unit tests for TreeDeleter.
+ * @author Kenneth J. Pronovici <pronovic@ieee.org>
+ */
+public class TreeDeleterTest {
+
+    /** Setup before all tests. */
+    @BeforeClass public static void prepare() {
+        if (FilesystemUtils.dirExists("target/working")) {
+            FilesystemUtils.removeDir("target/working", true);
+        }
+
+        FilesystemUtils.createDir("target/working");
+    }
+
+    /** Cleanup after all tests. */
+    @AfterClass public static void cleanup() {
+        if (FilesystemUtils.dirExists("target")) {
+            FilesystemUtils.removeDir("target", true);
+        }
+    }
+
+    /** Test deleting a large tree. */
+    @Test public void testDelete() {
+        FilesystemUtils.createDir("target/working/delete/tree");
+        for (int i = 0; i < 10; i++) {
+            FilesystemUtils.createDir("target/working/delete/tree/dir" + i);
+            for (int j = 0; j < 100; j++) {
+                FilesystemUtils.createFile("target/working/delete/tree/dir" + i + "/file" + j);
+            }
+        }
+
+        TreeDeleter deleter = new TreeDeleter(4);
+        try {
+            deleter.delete("target/working/delete/tree");
+            assertFalse(FilesystemUtils.dirExists("target/working/delete/tree"));
+
+            FilesystemUtils.createDir("target/working/delete/tree");  // the path is free right away
+            assertTrue(FilesystemUtils.dirExists("target/working/delete/tree"));
+
+            deleter.await();
+            List<String> contents = FilesystemUtils.getDirContents("target/working/delete");
+            assertEquals(1, contents.size());
+            assertEquals("tree", contents.get(0));
+        } finally {
+            deleter.shutdown();
+        }
+    }
+
+    /** Test deleting a tree that does not exist, and a single file. */
+    @Test public void testDeleteMissing() {
+        FilesystemUtils.createDir("target/working/missing");
+        FilesystemUtils.createFile("target/working/missing/file");
+
+        TreeDeleter deleter = new TreeDeleter();
+        try {
+            deleter.delete("target/working/missing/tree");
+            deleter.delete("target/working/missing/file");
+            deleter.await();
+            assertTrue(FilesystemUtils.getDirContents("target/working/missing").isEmpty());
+        } finally {
+            deleter.shutdown();
+        }
+    }
+
+    /** Test that trash left behind by an earlier process is swept up. */
+    @Test public void testLeftoverTrash() {
+        FilesystemUtils.createDir("target/working/leftover/.tree.trash-12345/subdir");
+        FilesystemUtils.createFile("target/working/leftover/.tree.trash-12345/subdir/file");
+        FilesystemUtils.createDir("target/working/leftover/.other.trash-12345");
+
+        TreeDeleter deleter = new TreeDeleter(2);
+        try {
+            deleter.delete("target/working/leftover/tree");
+            deleter.await();
+            List<String> contents = FilesystemUtils.getDirContents("target/working/leftover");
+            assertEquals(1, contents.size());
+            assertEquals(".other.trash-12345", contents.get(0));
+            assertFalse(new File("target/working/leftover/.tree.trash-12345").exists());
+        } finally {
+            deleter.shutdown();
+        }
+    }
+
+}